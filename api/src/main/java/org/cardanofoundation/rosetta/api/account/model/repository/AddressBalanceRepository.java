@@ -0,0 +1,22 @@
+package org.cardanofoundation.rosetta.api.account.model.repository;
+
+import java.util.List;
+
+import org.cardanofoundation.rosetta.api.account.model.domain.AddressBalance;
+
+/**
+ * Repository interface for computing address balances.
+ * Provides database-specific implementations, PostgreSQL sums the amounts in the database.
+ */
+public interface AddressBalanceRepository {
+
+    /**
+     * Sums the amounts of all outputs of an address that are unspent at the given block.
+     *
+     * @param address The address to search for
+     * @param number The block number at which the balance is computed
+     * @return One balance per unit (lovelace and native assets)
+     */
+    List<AddressBalance> findBalanceByAddressAndBlock(String address, long number);
+
+}
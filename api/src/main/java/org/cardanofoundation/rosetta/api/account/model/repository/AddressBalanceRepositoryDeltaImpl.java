@@ -0,0 +1,69 @@
+package org.cardanofoundation.rosetta.api.account.model.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cardanofoundation.rosetta.api.account.model.domain.AddressBalance;
+import org.jooq.*;
+import org.jooq.impl.DSL;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * AddressBalanceRepository backed by the address_balance_delta table of the indexer.
+ * Every row holds the running balance of an (address, unit) pair after a block, so the balance
+ * at a block is the latest row at or below it, one index lookup per unit. Takes precedence over
+ * the database-specific implementations when the indexer store is enabled.
+ */
+@Slf4j
+@Primary
+@Repository
+@ConditionalOnProperty(name = "cardano.rosetta.BALANCE_DELTA_STORE_ENABLED", havingValue = "true")
+@RequiredArgsConstructor
+public class AddressBalanceRepositoryDeltaImpl implements AddressBalanceRepository {
+
+    private static final Table<Record> ADDRESS_BALANCE_DELTA = DSL.table(DSL.name("address_balance_delta"));
+
+    private static final Field<String> ADDRESS = DSL.field(DSL.name("address"), String.class);
+    private static final Field<String> UNIT = DSL.field(DSL.name("unit"), String.class);
+    private static final Field<Long> BLOCK_NUMBER = DSL.field(DSL.name("block_number"), Long.class);
+
+    private static final Field<String> DELTA_ADDRESS = DSL.field(DSL.name("d", "address"), String.class);
+    private static final Field<String> DELTA_UNIT = DSL.field(DSL.name("d", "unit"), String.class);
+    private static final Field<Long> DELTA_BLOCK_NUMBER = DSL.field(DSL.name("d", "block_number"), Long.class);
+    private static final Field<BigDecimal> DELTA_BALANCE = DSL.field(DSL.name("d", "balance"), BigDecimal.class);
+
+    private final DSLContext dsl;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AddressBalance> findBalanceByAddressAndBlock(String address, long number) {
+        log.debug("Looking up balance for address: {} at block: {} from balance deltas", address, number);
+
+        Table<Record2<String, Long>> latest = dsl.select(UNIT, DSL.max(BLOCK_NUMBER).as(BLOCK_NUMBER.getName()))
+                .from(ADDRESS_BALANCE_DELTA)
+                .where(ADDRESS.eq(address))
+                .and(BLOCK_NUMBER.le(number))
+                .groupBy(UNIT)
+                .asTable("latest");
+
+        return dsl.select(DELTA_UNIT, DELTA_BALANCE)
+                .from(ADDRESS_BALANCE_DELTA.as("d"))
+                .join(latest)
+                .on(DELTA_UNIT.eq(latest.field(UNIT))
+                    .and(DELTA_BLOCK_NUMBER.eq(latest.field(BLOCK_NUMBER))))
+                .where(DELTA_ADDRESS.eq(address))
+                .and(DELTA_BALANCE.ne(BigDecimal.ZERO))
+                .fetch(record -> AddressBalance.builder()
+                        .address(address)
+                        .unit(record.value1())
+                        .number(number)
+                        .quantity(record.value2().toBigInteger())
+                        .build());
+    }
+
+}
@@ -0,0 +1,44 @@
+package org.cardanofoundation.rosetta.api.account.model.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.cardanofoundation.rosetta.api.account.model.repository.AddressTxTable.*;
+
+/**
+ * AddressHistoryRepository backed by the address_tx table of the indexer.
+ * Payment and stake addresses are looked up separately, each one is a range scan on its own index
+ * instead of joining address_utxo with tx_input. Takes precedence over the database-specific
+ * implementations when the indexer store is enabled.
+ */
+@Slf4j
+@Primary
+@Repository
+@ConditionalOnProperty(name = "cardano.rosetta.ADDRESS_TX_STORE_ENABLED", havingValue = "true")
+@RequiredArgsConstructor
+public class AddressHistoryRepositoryAddressTxImpl implements AddressHistoryRepository {
+
+    private final DSLContext dsl;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findCompleteTransactionHistoryByAddress(String address) {
+        log.debug("Looking up transaction history for address: {} from address_tx", address);
+
+        return dsl.select(TX_HASH)
+                .from(ADDRESS_TX)
+                .where(ADDRESS.eq(address))
+                .union(dsl.select(TX_HASH)
+                        .from(ADDRESS_TX)
+                        .where(STAKE_ADDRESS.eq(address)))
+                .fetch(record -> record.value1());
+    }
+
+}
@@ -0,0 +1,27 @@
+package org.cardanofoundation.rosetta.api.account.model.repository;
+
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+/**
+ * The address_tx table of the indexer. Its migration always runs, but the table is only populated
+ * when ADDRESS_TX_STORE_ENABLED is set. It is declared here because the generated jOOQ schema
+ * predates it.
+ */
+public final class AddressTxTable {
+
+    public static final Table<Record> ADDRESS_TX = DSL.table(DSL.name("address_tx"));
+
+    public static final Field<String> ADDRESS = DSL.field(DSL.name("address_tx", "address"), String.class);
+    public static final Field<String> STAKE_ADDRESS = DSL.field(DSL.name("address_tx", "stake_address"), String.class);
+    public static final Field<String> TX_HASH = DSL.field(DSL.name("address_tx", "tx_hash"), String.class);
+    public static final Field<Long> SLOT = DSL.field(DSL.name("address_tx", "slot"), Long.class);
+    public static final Field<Integer> TX_INDEX = DSL.field(DSL.name("address_tx", "tx_index"), Integer.class);
+    public static final Field<Long> BLOCK_NUMBER = DSL.field(DSL.name("address_tx", "block_number"), Long.class);
+
+    private AddressTxTable() {
+    }
+
+}
@@ -2,6 +2,8 @@ package org.cardanofoundation.rosetta.api.account.model.repository;
 
 import org.cardanofoundation.rosetta.api.account.model.entity.AddressUtxoEntity;
 import org.cardanofoundation.rosetta.api.account.model.entity.UtxoId;
+import org.cardanofoundation.rosetta.common.util.TxHashArrays;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -29,6 +31,28 @@ public interface AddressUtxoRepository extends JpaRepository<AddressUtxoEntity,
       """)
   List<AddressUtxoEntity> findunspentUtxosByAddress(@Param("address") String address);
 
+  /**
+   * Finds the next page of unspent outputs of an address, ordered by (txHash, outputIndex) and
+   * starting after the given output.
+   */
+  @Query(value =
+      """
+      SELECT a FROM AddressUtxoEntity a
+      WHERE a.ownerAddr = :address
+      AND (a.txHash > :txHash OR (a.txHash = :txHash AND a.outputIndex > :outputIndex))
+      AND NOT EXISTS (
+        SELECT 1
+        FROM TxInputEntity i
+        WHERE a.txHash = i.txHash
+          AND a.outputIndex = i.outputIndex
+      )
+      ORDER BY a.txHash, a.outputIndex
+      """)
+  List<AddressUtxoEntity> findUnspentUtxosByAddressAfter(@Param("address") String address,
+                                                         @Param("txHash") String txHash,
+                                                         @Param("outputIndex") int outputIndex,
+                                                         Limit limit);
+
   @Query(value =
       """
       SELECT a.txHash FROM AddressUtxoEntity a
@@ -46,7 +70,12 @@ public interface AddressUtxoRepository extends JpaRepository<AddressUtxoEntity,
       """)
   List<AddressUtxoEntity> findUnspentUtxosByAddressAndBlock(@Param("address") String address, @Param("block") long block);
 
-  List<AddressUtxoEntity> findByTxHashIn(List<String> utxHashes);
+  default List<AddressUtxoEntity> findByTxHashIn(List<String> utxHashes) {
+    return TxHashArrays.fetch(utxHashes, this::findByTxHashAny);
+  }
+
+  @Query(value = "SELECT * FROM address_utxo WHERE tx_hash = ANY(:txHashes)", nativeQuery = true)
+  List<AddressUtxoEntity> findByTxHashAny(@Param("txHashes") String[] txHashes);
 
   /**
    * Find all transaction hashes where the address received outputs.
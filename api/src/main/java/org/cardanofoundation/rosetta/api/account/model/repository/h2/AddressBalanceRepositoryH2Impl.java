@@ -0,0 +1,50 @@
+package org.cardanofoundation.rosetta.api.account.model.repository.h2;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cardanofoundation.rosetta.api.account.model.domain.AddressBalance;
+import org.cardanofoundation.rosetta.api.account.model.entity.AddressUtxoEntity;
+import org.cardanofoundation.rosetta.api.account.model.repository.AddressBalanceRepository;
+import org.cardanofoundation.rosetta.api.account.model.repository.AddressUtxoRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * H2-specific implementation of AddressBalanceRepository.
+ * H2 stores the amounts as plain text, so the unspent outputs are loaded and summed in Java.
+ */
+@Slf4j
+@Repository
+@Profile({"h2", "test-integration"})
+@RequiredArgsConstructor
+public class AddressBalanceRepositoryH2Impl implements AddressBalanceRepository {
+
+    private final AddressUtxoRepository addressUtxoRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AddressBalance> findBalanceByAddressAndBlock(String address, long number) {
+        log.debug("Aggregating balance for address: {} at block: {} in H2", address, number);
+
+        Map<String, BigInteger> quantities = new LinkedHashMap<>();
+        for (AddressUtxoEntity utxo : addressUtxoRepository.findUnspentUtxosByAddressAndBlock(address, number)) {
+            utxo.getAmounts().forEach(amt -> quantities.merge(amt.getUnit(), amt.getQuantity(), BigInteger::add));
+        }
+
+        return quantities.entrySet().stream()
+                .map(entry -> AddressBalance.builder()
+                        .address(address)
+                        .unit(entry.getKey())
+                        .number(number)
+                        .quantity(entry.getValue())
+                        .build())
+                .toList();
+    }
+
+}
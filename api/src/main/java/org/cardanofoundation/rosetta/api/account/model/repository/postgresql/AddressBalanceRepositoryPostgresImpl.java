@@ -0,0 +1,60 @@
+package org.cardanofoundation.rosetta.api.account.model.repository.postgresql;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cardanofoundation.rosetta.api.account.model.domain.AddressBalance;
+import org.cardanofoundation.rosetta.api.account.model.repository.AddressBalanceRepository;
+import org.jooq.*;
+import org.jooq.impl.DSL;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.cardanofoundation.rosetta.api.jooq.Tables.*;
+
+/**
+ * PostgreSQL-specific implementation of AddressBalanceRepository using JOOQ.
+ * Expands the amounts of the unspent outputs with jsonb_array_elements and sums them per unit,
+ * so only one row per unit is transferred instead of every output with its full amounts list.
+ */
+@Slf4j
+@Repository
+@Profile({"!h2 & !test-integration"})
+@RequiredArgsConstructor
+public class AddressBalanceRepositoryPostgresImpl implements AddressBalanceRepository {
+
+    private static final Field<String> UNIT = DSL.field("amt.value ->> 'unit'", String.class);
+    private static final Field<BigDecimal> QUANTITY = DSL.field("(amt.value ->> 'quantity')::numeric", BigDecimal.class);
+
+    private final DSLContext dsl;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AddressBalance> findBalanceByAddressAndBlock(String address, long number) {
+        log.debug("Aggregating balance for address: {} at block: {} in PostgreSQL", address, number);
+
+        return dsl.select(UNIT, DSL.sum(QUANTITY))
+                .from(ADDRESS_UTXO)
+                .crossJoin(DSL.table("jsonb_array_elements({0}::jsonb) AS amt(value)", ADDRESS_UTXO.AMOUNTS))
+                .where(ADDRESS_UTXO.OWNER_ADDR.eq(address))
+                .and(ADDRESS_UTXO.BLOCK.le(number))
+                .andNotExists(
+                    dsl.selectOne()
+                       .from(TX_INPUT)
+                       .where(TX_INPUT.TX_HASH.eq(ADDRESS_UTXO.TX_HASH))
+                       .and(TX_INPUT.OUTPUT_INDEX.eq(ADDRESS_UTXO.OUTPUT_INDEX))
+                       .and(TX_INPUT.SPENT_AT_BLOCK.le(number))
+                )
+                .groupBy(UNIT)
+                .fetch(record -> AddressBalance.builder()
+                        .address(address)
+                        .unit(record.value1())
+                        .number(number)
+                        .quantity(record.value2().toBigInteger())
+                        .build());
+    }
+
+}
@@ -1,16 +1,22 @@
 package org.cardanofoundation.rosetta.api.account.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.openapitools.client.model.*;
 
 import org.cardanofoundation.rosetta.api.account.mapper.AccountMapper;
@@ -25,6 +31,7 @@ import org.cardanofoundation.rosetta.api.block.service.LedgerBlockService;
 import org.cardanofoundation.rosetta.client.YaciHttpGateway;
 import org.cardanofoundation.rosetta.client.model.domain.StakeAccountInfo;
 import org.cardanofoundation.rosetta.common.exception.ExceptionFactory;
+import org.cardanofoundation.rosetta.common.spring.StreamingJson;
 import org.cardanofoundation.rosetta.common.util.CardanoAddressUtils;
 import org.cardanofoundation.rosetta.common.util.Constants;
 
@@ -42,6 +49,9 @@ public class AccountServiceImpl implements AccountService {
           "^[0-9a-fA-F]{0," + Constants.ASSET_NAME_LENGTH + "}$");
   private static final Pattern POLICY_ID_VALIDATION = Pattern.compile(
           "^[0-9a-fA-F]{" + Constants.POLICY_ID_LENGTH + "}$");
+  private static final Pattern COIN_CURSOR_VALIDATION = Pattern.compile("^([0-9a-fA-F]{64}):(\\d{1,9})$");
+  static final int COINS_STREAM_CHUNK_SIZE = 500;
+  static final String NEXT_CURSOR = "next_cursor";
 
   private final LedgerAccountService ledgerAccountService;
   private final LedgerBlockService ledgerBlockService;
@@ -49,6 +59,13 @@ public class AccountServiceImpl implements AccountService {
   private final YaciHttpGateway yaciHttpGateway;
   private final AddressBalanceMapper balanceMapper;
   private final TokenRegistryService tokenRegistryService;
+  private final ObjectMapper objectMapper;
+
+  @Value("${cardano.rosetta.ACCOUNT_COINS_LIMIT:10000}")
+  long coinsLimit;
+
+  @Value("${cardano.rosetta.ACCOUNT_COINS_STREAMING_ENABLED:false}")
+  boolean coinsStreamingEnabled;
 
   @Override
   public AccountBalanceResponse getAccountBalance(AccountBalanceRequest accountBalanceRequest) {
@@ -86,6 +103,16 @@ public class AccountServiceImpl implements AccountService {
     log.debug("[accountCoins] Filter currency is {}", currenciesRequested);
     BlockIdentifierExtended latestBlock = ledgerBlockService.findLatestBlockIdentifier();
     log.debug("[accountCoins] Latest block is {}", latestBlock);
+
+    AccountCoinsRequestMetadata page = accountCoinsRequest.getMetadata();
+    if (Objects.nonNull(page) && (Objects.nonNull(page.getLimit()) || Objects.nonNull(page.getCursor()))) {
+      return findAccountCoinsPage(accountAddress, currenciesRequested, latestBlock, page);
+    }
+    if (coinsStreamingEnabled) {
+      return new StreamingAccountCoinsResponse(outputStream ->
+          writeAccountCoins(outputStream, accountAddress, currenciesRequested, latestBlock));
+    }
+
     List<Utxo> utxos = ledgerAccountService.findUtxoByAddressAndCurrency(accountAddress,
             currenciesRequested);
     log.debug("[accountCoins] found {} Utxos for Address {}", utxos.size(), accountAddress);
@@ -96,6 +123,81 @@ public class AccountServiceImpl implements AccountService {
     return accountMapper.mapToAccountCoinsResponse(latestBlock, utxos, metadataMap);
   }
 
+  private AccountCoinsResponse findAccountCoinsPage(String address,
+                                                    List<CurrencyRequest> currencies,
+                                                    BlockIdentifierExtended latestBlock,
+                                                    AccountCoinsRequestMetadata page) {
+    long limit = Optional.ofNullable(page.getLimit()).orElse(coinsLimit);
+    if (limit > coinsLimit) {
+      throw ExceptionFactory.invalidLimitSize(limit, coinsLimit);
+    }
+
+    String afterTxHash = "";
+    int afterOutputIndex = -1;
+    if (Objects.nonNull(page.getCursor())) {
+      Matcher cursor = COIN_CURSOR_VALIDATION.matcher(page.getCursor());
+      if (!cursor.matches()) {
+        throw ExceptionFactory.invalidCoinCursor(page.getCursor());
+      }
+      afterTxHash = cursor.group(1).toLowerCase();
+      afterOutputIndex = Integer.parseInt(cursor.group(2));
+    }
+
+    List<Utxo> utxos = ledgerAccountService.findUtxoPageByAddressAndCurrency(address, currencies,
+            afterTxHash, afterOutputIndex, (int) limit);
+    log.debug("[accountCoins] found {} Utxos for Address {} after {}", utxos.size(), address, page.getCursor());
+
+    Map<AssetFingerprint, TokenRegistryCurrencyData> metadataMap = tokenRegistryService.fetchMetadataForUtxos(utxos);
+    AccountCoinsResponse response = accountMapper.mapToAccountCoinsResponse(latestBlock, utxos, metadataMap);
+    if (utxos.size() == limit) {
+      Utxo last = utxos.getLast();
+      response.setMetadata(Map.<String, Object>of(NEXT_CURSOR, "%s:%d".formatted(last.getTxHash(), last.getOutputIndex())));
+    }
+
+    return response;
+  }
+
+  /**
+   * Writes the coins chunk by chunk, token metadata is fetched per chunk, so memory use does not
+   * depend on the number of unspent outputs. Each chunk is a keyset page read in its own short
+   * transaction, so a slow client does not hold a pool connection while the body is written.
+   */
+  private void writeAccountCoins(OutputStream outputStream,
+                                 String address,
+                                 List<CurrencyRequest> currencies,
+                                 BlockIdentifierExtended latestBlock) throws IOException {
+    try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+      generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+      generator.writeStartObject();
+      generator.writePOJOField("block_identifier", BlockIdentifier.builder()
+          .hash(latestBlock.getHash())
+          .index(latestBlock.getNumber())
+          .build());
+      generator.writeArrayFieldStart("coins");
+
+      String afterTxHash = "";
+      int afterOutputIndex = -1;
+      List<Utxo> utxos;
+      do {
+        utxos = ledgerAccountService.findUtxoPageByAddressAndCurrency(address, currencies,
+                afterTxHash, afterOutputIndex, COINS_STREAM_CHUNK_SIZE);
+        if (utxos.isEmpty()) {
+          break;
+        }
+        Map<AssetFingerprint, TokenRegistryCurrencyData> metadataMap = tokenRegistryService.fetchMetadataForUtxos(utxos);
+        for (Coin coin : accountMapper.mapToAccountCoinsResponse(latestBlock, utxos, metadataMap).getCoins()) {
+          generator.writePOJO(coin);
+        }
+        Utxo last = utxos.getLast();
+        afterTxHash = last.getTxHash();
+        afterOutputIndex = last.getOutputIndex();
+      } while (utxos.size() == COINS_STREAM_CHUNK_SIZE);
+
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+  }
+
   private AccountBalanceResponse findBalanceDataByAddressAndBlock(String address,
                                                                   Long number,
                                                                   String hash,
@@ -173,4 +275,22 @@ public class AccountServiceImpl implements AccountService {
     return isAdaAbsent ? currencies : Collections.emptyList();
   }
 
+  /**
+   * Account coins response that is rendered while it is written to the client.
+   */
+  static class StreamingAccountCoinsResponse extends AccountCoinsResponse implements StreamingJson {
+
+    private final StreamingJson body;
+
+    StreamingAccountCoinsResponse(StreamingJson body) {
+      this.body = body;
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+      body.writeTo(outputStream);
+    }
+
+  }
+
 }
@@ -3,8 +3,10 @@ package org.cardanofoundation.rosetta.api.account.service;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.cardanofoundation.rosetta.api.account.model.repository.AddressHistoryRepository;
 import org.cardanofoundation.rosetta.api.account.model.repository.AddressUtxoRepository;
 import org.cardanofoundation.rosetta.common.exception.ExceptionFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,7 +26,8 @@ import java.util.concurrent.TimeoutException;
  * Uses JPA queries with server-side union via LinkedHashSet.
  * 
  * This implementation is activated when address-history.implementation=hibernate
- * or when JOOQ is not available.
+ * or when JOOQ is not available. When the indexer maintains the address_tx table the lookup is
+ * served from it instead of the two address_utxo queries.
  */
 @Slf4j
 @Service
@@ -33,8 +36,12 @@ import java.util.concurrent.TimeoutException;
 public class AddressHistoryServiceHibernate implements AddressHistoryService {
 
     private final AddressUtxoRepository addressUtxoRepository;
+    private final AddressHistoryRepository addressHistoryRepository;
     private final Clock clock;
 
+    @Value("${cardano.rosetta.ADDRESS_TX_STORE_ENABLED:false}")
+    private boolean addressTxStoreEnabled;
+
     private int addressHistoryApiTimeoutSecs = 5 * 60;
 
     @PostConstruct
@@ -45,6 +52,10 @@ public class AddressHistoryServiceHibernate implements AddressHistoryService {
     @Override
     @Transactional(readOnly = true)
     public List<String> findCompleteTransactionHistoryByAddress(String address) {
+        if (addressTxStoreEnabled) {
+            return addressHistoryRepository.findCompleteTransactionHistoryByAddress(address);
+        }
+
         log.debug("Finding complete transaction history for address: {} using Hibernate with parallel fork-join", address);
 
         try (ShutdownOnFailure scope = new ShutdownOnFailure()) {
@@ -17,4 +17,11 @@ public interface LedgerAccountService {
 
   List<Utxo> findUtxoByAddressAndCurrency(String address, List<CurrencyRequest> currencies);
 
+  /**
+   * Returns at most {@code limit} unspent outputs ordered by (txHash, outputIndex), starting after
+   * the given output. Pass an empty hash and -1 to start from the beginning.
+   */
+  List<Utxo> findUtxoPageByAddressAndCurrency(String address, List<CurrencyRequest> currencies,
+      String afterTxHash, int afterOutputIndex, int limit);
+
 }
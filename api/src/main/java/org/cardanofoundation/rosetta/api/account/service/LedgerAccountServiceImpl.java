@@ -1,13 +1,11 @@
 package org.cardanofoundation.rosetta.api.account.service;
 
-import java.math.BigInteger;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.openapitools.client.model.CurrencyRequest;
@@ -17,6 +15,7 @@ import org.cardanofoundation.rosetta.api.account.model.domain.AddressBalance;
 import org.cardanofoundation.rosetta.api.account.model.domain.Amt;
 import org.cardanofoundation.rosetta.api.account.model.domain.Utxo;
 import org.cardanofoundation.rosetta.api.account.model.entity.AddressUtxoEntity;
+import org.cardanofoundation.rosetta.api.account.model.repository.AddressBalanceRepository;
 import org.cardanofoundation.rosetta.api.account.model.repository.AddressUtxoRepository;
 import org.cardanofoundation.rosetta.common.util.Formatters;
 
@@ -27,32 +26,14 @@ import org.cardanofoundation.rosetta.common.util.Formatters;
 public class LedgerAccountServiceImpl implements LedgerAccountService {
 
   private final AddressUtxoRepository addressUtxoRepository;
+  private final AddressBalanceRepository addressBalanceRepository;
   private final AddressUtxoEntityToUtxo addressUtxoEntityToUtxo;
 
   @Override
   public List<AddressBalance> findBalanceByAddressAndBlock(String address, Long number) {
     log.debug("Finding balance for address {} at block {}", address, number);
-    List<AddressUtxoEntity> unspendUtxosByAddressAndBlock = addressUtxoRepository.findUnspentUtxosByAddressAndBlock(
-        address, number);
-    return mapAndGroupAddressUtxoEntityToAddressBalance(unspendUtxosByAddressAndBlock);
-  }
 
-  private static List<AddressBalance> mapAndGroupAddressUtxoEntityToAddressBalance(
-      List<AddressUtxoEntity> unspendUtxosByAddressAndBlock) {
-    Map<String, AddressBalance> map = new HashMap<>();
-    unspendUtxosByAddressAndBlock.forEach(addressUtxoEntity -> addressUtxoEntity.getAmounts().forEach(amt -> {
-      BigInteger quantity = amt.getQuantity();
-      if(map.containsKey(amt.getUnit())) {
-        quantity = quantity.add(map.get(amt.getUnit()).quantity());
-      }
-      map.put(amt.getUnit(), AddressBalance.builder()
-                      .address(addressUtxoEntity.getOwnerAddr())
-                      .unit(amt.getUnit())
-                      .number(addressUtxoEntity.getBlockNumber())
-                      .quantity(quantity)
-              .build());
-    }));
-    return map.values().stream().toList();
+    return addressBalanceRepository.findBalanceByAddressAndBlock(address, number);
   }
 
   @Override
@@ -64,6 +45,17 @@ public class LedgerAccountServiceImpl implements LedgerAccountService {
         .toList();
   }
 
+  @Override
+  public List<Utxo> findUtxoPageByAddressAndCurrency(String address, List<CurrencyRequest> currencies,
+                                                     String afterTxHash, int afterOutputIndex, int limit) {
+    log.debug("Finding {} UTXOs for address {} after {}:{}", limit, address, afterTxHash, afterOutputIndex);
+
+    return addressUtxoRepository.findUnspentUtxosByAddressAfter(address, afterTxHash, afterOutputIndex, Limit.of(limit))
+        .stream()
+        .map(entity -> createUtxoModel(currencies, entity))
+        .toList();
+  }
+
   private Utxo createUtxoModel(List<CurrencyRequest> currencies, AddressUtxoEntity entity) {
     Utxo utxo = addressUtxoEntityToUtxo.toDto(entity);
     utxo.setAmounts(getAmts(currencies, entity));
@@ -15,11 +15,14 @@ import org.openapitools.client.model.*;
 import org.cardanofoundation.rosetta.api.block.mapper.BlockMapper;
 import org.cardanofoundation.rosetta.api.block.model.domain.Block;
 import org.cardanofoundation.rosetta.api.block.model.domain.BlockTx;
+import org.cardanofoundation.rosetta.api.block.service.BlockResponseCache;
+import org.cardanofoundation.rosetta.api.block.service.BlockSegmentStore;
 import org.cardanofoundation.rosetta.api.block.service.BlockService;
 import org.cardanofoundation.rosetta.api.network.service.NetworkService;
 import org.cardanofoundation.rosetta.common.exception.ExceptionFactory;
 
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -28,6 +31,8 @@ public class BlockApiImpl implements BlockApi {
   private final BlockService blockService;
   private final NetworkService networkService;
   private final TokenRegistryService tokenRegistryService;
+  private final BlockResponseCache blockResponseCache;
+  private final Optional<BlockSegmentStore> blockSegmentStore;
 
   private final BlockMapper mapper;
 
@@ -50,13 +55,27 @@ public class BlockApiImpl implements BlockApi {
     String hash = bid.getHash();
     Long index = bid.getIndex();
 
+    Optional<BlockResponse> cachedResponse = blockResponseCache.get(index, hash)
+        .or(() -> blockSegmentStore.flatMap(store -> store.get(index, hash)));
+    if (cachedResponse.isPresent()) {
+      return ResponseEntity.ok(cachedResponse.get());
+    }
+
     Block block = blockService.findBlock(index, hash);
 
     // Make single batch call to fetch all token metadata for all transactions in this block (empty map if no native tokens)
     Map<AssetFingerprint, TokenRegistryCurrencyData> metadataMap = tokenRegistryService.fetchMetadataForBlockTxList(block.getTransactions());
 
     // Always use metadata version - downstream code won't lookup from empty map if no native tokens
-    return ResponseEntity.ok(mapper.mapToBlockResponseWithMetadata(block, metadataMap));
+    BlockResponse blockResponse = mapper.mapToBlockResponseWithMetadata(block, metadataMap);
+
+    // Metadata the registry did not deliver in time must not be cached with the block
+    if (TokenRegistryCurrencyData.anyDegraded(metadataMap.values())) {
+      return ResponseEntity.ok(blockResponse);
+    }
+
+    // Immutable blocks are kept serialized, so later requests skip the database and the mapping
+    return ResponseEntity.ok(blockResponseCache.offer(blockResponse));
   }
 
   @Override
@@ -2,7 +2,10 @@ package org.cardanofoundation.rosetta.api.block.model.repository;
 
 import org.cardanofoundation.rosetta.api.block.model.entity.DrepVoteDelegationEntity;
 import org.cardanofoundation.rosetta.api.block.model.entity.DrepVoteDelegationId;
+import org.cardanofoundation.rosetta.common.util.TxHashArrays;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,6 +13,11 @@ import java.util.List;
 @Repository
 public interface DrepVoteDelegationRepository extends JpaRepository<DrepVoteDelegationEntity, DrepVoteDelegationId> {
 
-  List<DrepVoteDelegationEntity> findByTxHashIn(List<String> txHashes);
+  default List<DrepVoteDelegationEntity> findByTxHashIn(List<String> txHashes) {
+    return TxHashArrays.fetch(txHashes, this::findByTxHashAny);
+  }
+
+  @Query(value = "SELECT * FROM delegation_vote WHERE tx_hash = ANY(:txHashes)", nativeQuery = true)
+  List<DrepVoteDelegationEntity> findByTxHashAny(@Param("txHashes") String[] txHashes);
 
 }
@@ -3,13 +3,21 @@ package org.cardanofoundation.rosetta.api.block.model.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import org.cardanofoundation.rosetta.api.block.model.entity.InvalidTransactionEntity;
+import org.cardanofoundation.rosetta.common.util.TxHashArrays;
 
 @Repository
 public interface InvalidTransactionRepository extends JpaRepository<InvalidTransactionEntity, String> {
 
-  List<InvalidTransactionEntity> findByTxHashIn(List<String> txHashes);
+  default List<InvalidTransactionEntity> findByTxHashIn(List<String> txHashes) {
+    return TxHashArrays.fetch(txHashes, this::findByTxHashAny);
+  }
+
+  @Query(value = "SELECT * FROM invalid_transaction WHERE tx_hash = ANY(:txHashes)", nativeQuery = true)
+  List<InvalidTransactionEntity> findByTxHashAny(@Param("txHashes") String[] txHashes);
 
 }
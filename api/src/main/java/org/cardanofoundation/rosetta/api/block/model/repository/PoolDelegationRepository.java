@@ -3,14 +3,22 @@ package org.cardanofoundation.rosetta.api.block.model.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import org.cardanofoundation.rosetta.api.block.model.entity.PoolDelegationEntity;
 import org.cardanofoundation.rosetta.api.block.model.entity.PoolDelegationId;
+import org.cardanofoundation.rosetta.common.util.TxHashArrays;
 
 @Repository
 public interface PoolDelegationRepository extends JpaRepository<PoolDelegationEntity, PoolDelegationId> {
 
-  List<PoolDelegationEntity> findByTxHashIn(List<String> txHashes);
+  default List<PoolDelegationEntity> findByTxHashIn(List<String> txHashes) {
+    return TxHashArrays.fetch(txHashes, this::findByTxHashAny);
+  }
+
+  @Query(value = "SELECT * FROM delegation WHERE tx_hash = ANY(:txHashes)", nativeQuery = true)
+  List<PoolDelegationEntity> findByTxHashAny(@Param("txHashes") String[] txHashes);
 
 }
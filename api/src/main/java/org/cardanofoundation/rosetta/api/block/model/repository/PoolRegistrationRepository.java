@@ -3,15 +3,23 @@ package org.cardanofoundation.rosetta.api.block.model.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import org.cardanofoundation.rosetta.api.block.model.entity.PoolRegistrationEntity;
 import org.cardanofoundation.rosetta.api.block.model.entity.PoolRegistrationId;
+import org.cardanofoundation.rosetta.common.util.TxHashArrays;
 
 @Repository
 public interface PoolRegistrationRepository extends
     JpaRepository<PoolRegistrationEntity, PoolRegistrationId> {
 
-  List<PoolRegistrationEntity> findByTxHashIn(List<String> txHashes);
+  default List<PoolRegistrationEntity> findByTxHashIn(List<String> txHashes) {
+    return TxHashArrays.fetch(txHashes, this::findByTxHashAny);
+  }
+
+  @Query(value = "SELECT * FROM pool_registration WHERE tx_hash = ANY(:txHashes)", nativeQuery = true)
+  List<PoolRegistrationEntity> findByTxHashAny(@Param("txHashes") String[] txHashes);
 
 }
@@ -3,12 +3,20 @@ package org.cardanofoundation.rosetta.api.block.model.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import org.cardanofoundation.rosetta.api.block.model.entity.PoolRetirementEntity;
 import org.cardanofoundation.rosetta.api.block.model.entity.PoolRetirementId;
+import org.cardanofoundation.rosetta.common.util.TxHashArrays;
 
 public interface PoolRetirementRepository extends
     JpaRepository<PoolRetirementEntity, PoolRetirementId> {
 
-  List<PoolRetirementEntity> findByTxHashIn(List<String> txHashes);
+  default List<PoolRetirementEntity> findByTxHashIn(List<String> txHashes) {
+    return TxHashArrays.fetch(txHashes, this::findByTxHashAny);
+  }
+
+  @Query(value = "SELECT * FROM pool_retirement WHERE tx_hash = ANY(:txHashes)", nativeQuery = true)
+  List<PoolRetirementEntity> findByTxHashAny(@Param("txHashes") String[] txHashes);
 }
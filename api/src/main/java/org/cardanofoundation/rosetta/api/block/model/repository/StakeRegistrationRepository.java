@@ -3,12 +3,20 @@ package org.cardanofoundation.rosetta.api.block.model.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import org.cardanofoundation.rosetta.api.block.model.entity.StakeRegistrationEntity;
 import org.cardanofoundation.rosetta.api.block.model.entity.StakeRegistrationId;
+import org.cardanofoundation.rosetta.common.util.TxHashArrays;
 
 public interface StakeRegistrationRepository extends
     JpaRepository<StakeRegistrationEntity, StakeRegistrationId> {
 
-  List<StakeRegistrationEntity> findByTxHashIn(List<String> txHashes);
+  default List<StakeRegistrationEntity> findByTxHashIn(List<String> txHashes) {
+    return TxHashArrays.fetch(txHashes, this::findByTxHashAny);
+  }
+
+  @Query(value = "SELECT * FROM stake_registration WHERE tx_hash = ANY(:txHashes)", nativeQuery = true)
+  List<StakeRegistrationEntity> findByTxHashAny(@Param("txHashes") String[] txHashes);
 }
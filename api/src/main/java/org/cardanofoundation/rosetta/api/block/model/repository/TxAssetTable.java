@@ -0,0 +1,26 @@
+package org.cardanofoundation.rosetta.api.block.model.repository;
+
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+/**
+ * The tx_asset table of the indexer. Its migration always runs, but the table is only populated
+ * when TX_ASSET_STORE_ENABLED is set. It is declared here because the generated jOOQ schema
+ * predates it.
+ */
+public final class TxAssetTable {
+
+    public static final Table<Record> TX_ASSET = DSL.table(DSL.name("tx_asset"));
+
+    public static final Field<String> TX_HASH = DSL.field(DSL.name("tx_asset", "tx_hash"), String.class);
+    public static final Field<String> POLICY_ID = DSL.field(DSL.name("tx_asset", "policy_id"), String.class);
+    public static final Field<String> ASSET_NAME = DSL.field(DSL.name("tx_asset", "asset_name"), String.class);
+    public static final Field<Long> SLOT = DSL.field(DSL.name("tx_asset", "slot"), Long.class);
+    public static final Field<Integer> TX_INDEX = DSL.field(DSL.name("tx_asset", "tx_index"), Integer.class);
+
+    private TxAssetTable() {
+    }
+
+}
@@ -0,0 +1,44 @@
+package org.cardanofoundation.rosetta.api.block.model.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.cardanofoundation.rosetta.api.account.model.entity.AddressUtxoEntity;
+import org.cardanofoundation.rosetta.api.block.model.entity.DrepVoteDelegationEntity;
+import org.cardanofoundation.rosetta.api.block.model.entity.InvalidTransactionEntity;
+import org.cardanofoundation.rosetta.api.block.model.entity.PoolDelegationEntity;
+import org.cardanofoundation.rosetta.api.block.model.entity.PoolRegistrationEntity;
+import org.cardanofoundation.rosetta.api.block.model.entity.PoolRetirementEntity;
+import org.cardanofoundation.rosetta.api.block.model.entity.StakeRegistrationEntity;
+import org.cardanofoundation.rosetta.api.block.model.entity.VotingProcedureEntity;
+import org.cardanofoundation.rosetta.api.block.model.entity.WithdrawalEntity;
+
+/**
+ * Repository interface for fetching all enrichment data of a set of transactions
+ * (UTXOs, certificates, withdrawals, SPO votes and invalid transaction markers) in a single
+ * database round trip on a single connection.
+ * It is an alternative to forking one repository call per enrichment kind.
+ */
+public interface TxEnrichmentRepository {
+
+    /**
+     * Fetches every enrichment kind for the given transactions in one statement.
+     *
+     * @param txHashes     hashes of the transactions being enriched
+     * @param utxoTxHashes hashes of the transactions that created the inputs and outputs to resolve
+     * @return all enrichment rows, grouped by kind
+     */
+    TxEnrichment findByTxHashes(Collection<String> txHashes, Collection<String> utxoTxHashes);
+
+    record TxEnrichment(List<AddressUtxoEntity> utxos,
+                        List<StakeRegistrationEntity> stakeRegistrations,
+                        List<PoolDelegationEntity> poolDelegations,
+                        List<DrepVoteDelegationEntity> drepDelegations,
+                        List<VotingProcedureEntity> spoVotes,
+                        List<PoolRegistrationEntity> poolRegistrations,
+                        List<PoolRetirementEntity> poolRetirements,
+                        List<WithdrawalEntity> withdrawals,
+                        List<InvalidTransactionEntity> invalidTransactions) {
+    }
+
+}
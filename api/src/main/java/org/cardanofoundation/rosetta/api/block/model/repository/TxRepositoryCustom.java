@@ -1,18 +1,44 @@
 package org.cardanofoundation.rosetta.api.block.model.repository;
 
 import org.cardanofoundation.rosetta.api.block.model.entity.TxnEntity;
+import org.cardanofoundation.rosetta.api.search.model.CountMode;
 import org.cardanofoundation.rosetta.api.search.model.Currency;
+import org.cardanofoundation.rosetta.api.search.model.TxCursor;
 import org.cardanofoundation.rosetta.common.spring.OffsetBasedPageRequest;
 import org.springframework.data.domain.Page;
 
 import javax.annotation.Nullable;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 public interface TxRepositoryCustom {
 
   List<TxnEntity> findTransactionsByBlockHash(String blockHash);
 
+  Optional<TxnEntity> findTransactionByBlockAndHash(@Nullable Long blockNumber,
+                                                    @Nullable String blockHash,
+                                                    String txHash);
+
+  default Page<TxnEntity> searchTxnEntitiesAND(Set<String> txHashes,
+                                               Set<String> addressHashes,
+                                               @Nullable String blockHash,
+                                               @Nullable Long blockNumber,
+                                               @Nullable Long maxBlock,
+                                               @Nullable Boolean isSuccess,
+                                               @Nullable Currency currency,
+                                               OffsetBasedPageRequest offsetBasedPageRequest) {
+    return searchTxnEntitiesAND(txHashes, addressHashes, blockHash, blockNumber, maxBlock, isSuccess, currency,
+        null, CountMode.EXACT, offsetBasedPageRequest);
+  }
+
+  /**
+   * Searches transactions, newest first.
+   *
+   * @param before optional keyset cursor, the page starts strictly before this position
+   * @param countMode how the total of the returned page is computed
+   * @param offsetBasedPageRequest offset and limit, applied after the cursor
+   */
   Page<TxnEntity> searchTxnEntitiesAND(Set<String> txHashes,
                                        Set<String> addressHashes,
                                        @Nullable String blockHash,
@@ -20,8 +46,29 @@ public interface TxRepositoryCustom {
                                        @Nullable Long maxBlock,
                                        @Nullable Boolean isSuccess,
                                        @Nullable Currency currency,
+                                       @Nullable TxCursor before,
+                                       CountMode countMode,
                                        OffsetBasedPageRequest offsetBasedPageRequest);
 
+  default Page<TxnEntity> searchTxnEntitiesOR(Set<String> txHashes,
+                                              Set<String> addressHashes,
+                                              @Nullable String blockHash,
+                                              @Nullable Long blockNumber,
+                                              @Nullable Long maxBlock,
+                                              @Nullable Boolean isSuccess,
+                                              @Nullable Currency currency,
+                                              OffsetBasedPageRequest offsetBasedPageRequest) {
+    return searchTxnEntitiesOR(txHashes, addressHashes, blockHash, blockNumber, maxBlock, isSuccess, currency,
+        null, CountMode.EXACT, offsetBasedPageRequest);
+  }
+
+  /**
+   * Searches transactions, newest first.
+   *
+   * @param before optional keyset cursor, the page starts strictly before this position
+   * @param countMode how the total of the returned page is computed
+   * @param offsetBasedPageRequest offset and limit, applied after the cursor
+   */
   Page<TxnEntity> searchTxnEntitiesOR(Set<String> txHashes,
                                       Set<String> addressHashes,
                                       @Nullable String blockHash,
@@ -29,5 +76,32 @@ public interface TxRepositoryCustom {
                                       @Nullable Long maxBlock,
                                       @Nullable Boolean isSuccess,
                                       @Nullable Currency currency,
+                                      @Nullable TxCursor before,
+                                      CountMode countMode,
                                       OffsetBasedPageRequest offsetBasedPageRequest);
-}
\ No newline at end of file
+
+  /**
+   * Finds the transactions in which the address received outputs or spent them, newest first.
+   * The address history is joined to the transactions in the database and every branch is cut
+   * to the requested window, so the page cost depends on offset and limit instead of the size
+   * of the address history.
+   *
+   * @param address payment or stake address
+   * @param maxBlock optional highest block number to include
+   * @param before optional keyset cursor, the page starts strictly before this position
+   * @param countMode how the total of the returned page is computed
+   * @param offsetBasedPageRequest offset and limit, applied after the cursor
+   */
+  Page<TxnEntity> findTransactionsByAddress(String address,
+                                            @Nullable Long maxBlock,
+                                            @Nullable TxCursor before,
+                                            CountMode countMode,
+                                            OffsetBasedPageRequest offsetBasedPageRequest);
+
+  default Page<TxnEntity> findTransactionsByAddress(String address,
+                                                    @Nullable Long maxBlock,
+                                                    @Nullable TxCursor before,
+                                                    OffsetBasedPageRequest offsetBasedPageRequest) {
+    return findTransactionsByAddress(address, maxBlock, before, CountMode.EXACT, offsetBasedPageRequest);
+  }
+}
@@ -2,21 +2,32 @@ package org.cardanofoundation.rosetta.api.block.model.repository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.cardanofoundation.rosetta.api.account.model.repository.AddressTxTable;
 import org.cardanofoundation.rosetta.api.block.model.entity.TxnEntity;
 import org.cardanofoundation.rosetta.api.block.model.repository.util.TxRepositoryQueryBuilder;
+import org.cardanofoundation.rosetta.api.search.model.CountMode;
 import org.cardanofoundation.rosetta.api.search.model.Currency;
+import org.cardanofoundation.rosetta.api.search.model.TxCursor;
+import org.cardanofoundation.rosetta.api.search.model.TxPage;
 import org.cardanofoundation.rosetta.common.spring.OffsetBasedPageRequest;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Select;
 import org.jooq.SelectJoinStep;
+import org.jooq.SelectLimitStep;
+import org.jooq.Table;
 import org.jooq.impl.DSL;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.cardanofoundation.rosetta.api.jooq.Tables.*;
 
@@ -27,13 +38,27 @@ public abstract class TxRepositoryCustomBase implements TxRepositoryCustom {
     protected final DSLContext dsl;
     protected final TxRepositoryQueryBuilder queryBuilder;
 
+    @Value("${cardano.rosetta.ADDRESS_TX_STORE_ENABLED:false}")
+    protected boolean addressTxStoreEnabled;
+
+    @Value("${cardano.rosetta.SEARCH_COUNT_CAP:10000}")
+    protected int countCap;
+
     protected abstract TxRepositoryQueryBuilder.CurrencyConditionBuilder getCurrencyConditionBuilder();
     
     /**
      * Base class for currency condition builders that handles common logic.
+     * With the tx_asset index enabled native assets are matched there, only lovelace still
+     * goes through the database-specific amounts condition.
      */
     protected abstract static class BaseCurrencyConditionBuilder implements TxRepositoryQueryBuilder.CurrencyConditionBuilder {
-        
+
+        private final boolean txAssetStoreEnabled;
+
+        protected BaseCurrencyConditionBuilder(boolean txAssetStoreEnabled) {
+            this.txAssetStoreEnabled = txAssetStoreEnabled;
+        }
+
         @Override
         public final Condition buildCurrencyCondition(Currency currency) {
             String policyId = currency.getPolicyId();
@@ -44,16 +69,25 @@ public abstract class TxRepositoryCustomBase implements TxRepositoryCustom {
 
                 if (symbol != null && !symbol.trim().isEmpty() &&
                         !"lovelace".equalsIgnoreCase(symbol) && !"ada".equalsIgnoreCase(symbol)) {
+                    if (txAssetStoreEnabled) {
+                        return hasTxAsset(TxAssetTable.POLICY_ID.eq(policyId.trim())
+                                .and(TxAssetTable.ASSET_NAME.eq(symbol.trim())));
+                    }
                     String escapedSymbol = symbol.trim().replace("\"", "\\\"");
                     return buildPolicyIdAndSymbolCondition(escapedPolicyId, escapedSymbol);
                 }
 
+                if (txAssetStoreEnabled) {
+                    return hasTxAsset(TxAssetTable.POLICY_ID.eq(policyId.trim()));
+                }
                 return buildPolicyIdOnlyCondition(escapedPolicyId);
             }
 
             if (symbol != null && !symbol.trim().isEmpty()) {
                 if ("lovelace".equalsIgnoreCase(symbol) || "ada".equalsIgnoreCase(symbol)) {
                     return buildLovelaceCondition();
+                } else if (txAssetStoreEnabled) {
+                    return hasTxAsset(TxAssetTable.ASSET_NAME.eq(symbol.trim()));
                 } else {
                     String escapedSymbol = symbol.trim().replace("\"", "\\\"");
                     return buildSymbolOnlyCondition(escapedSymbol);
@@ -62,6 +96,13 @@ public abstract class TxRepositoryCustomBase implements TxRepositoryCustom {
 
             return DSL.falseCondition();
         }
+
+        private static Condition hasTxAsset(Condition assetCondition) {
+            return DSL.exists(DSL.selectOne()
+                    .from(TxAssetTable.TX_ASSET)
+                    .where(TxAssetTable.TX_HASH.eq(TRANSACTION.TX_HASH))
+                    .and(assetCondition));
+        }
         
         // Template methods for database-specific implementations
         protected abstract Condition buildPolicyIdAndSymbolCondition(String escapedPolicyId, String escapedSymbol);
@@ -73,12 +114,12 @@ public abstract class TxRepositoryCustomBase implements TxRepositoryCustom {
     /**
      * Builds a base query with common JOINs.
      * Currency filtering uses EXISTS subqueries, so no currency JOIN is ever needed.
-     * Always includes all JOINs for consistency between count and results queries.
+     * Block filters use the block columns of the transaction table, the block JOIN only provides
+     * the block of the returned rows.
      */
     protected SelectJoinStep<?> buildBaseResultsQuery(@Nullable Boolean isSuccess) {
         var baseQuery = queryBuilder.buildTransactionSelectQuery(dsl);
         
-        // Always include block JOIN for consistency with count queries
         baseQuery = baseQuery.leftJoin(BLOCK).on(TRANSACTION.BLOCK_HASH.eq(BLOCK.HASH));
         
         if (isSuccess != null) {
@@ -91,14 +132,11 @@ public abstract class TxRepositoryCustomBase implements TxRepositoryCustom {
     /**
      * Builds a count query with necessary JOINs.
      * Currency filtering uses EXISTS subqueries, so no currency JOIN is ever needed.
-     * Always includes block JOIN for consistency with results queries.
+     * Block filters use the block columns of the transaction table, so no block JOIN is needed either.
      */
     protected SelectJoinStep<org.jooq.Record1<Integer>> buildBaseCountQuery(@Nullable Boolean isSuccess) {
         var countQuery = dsl.selectCount().from(TRANSACTION);
-        
-        // Always include block JOIN for consistency with results queries
-        countQuery = countQuery.leftJoin(BLOCK).on(TRANSACTION.BLOCK_HASH.eq(BLOCK.HASH));
-        
+
         if (isSuccess != null) {
             countQuery = countQuery.leftJoin(INVALID_TRANSACTION).on(TRANSACTION.TX_HASH.eq(INVALID_TRANSACTION.TX_HASH));
         }
@@ -107,15 +145,106 @@ public abstract class TxRepositoryCustomBase implements TxRepositoryCustom {
     }
     
     /**
-     * Creates a page result using separate count and results queries.
-     * This is the only supported approach - window functions are not used.
+     * Runs the count and the results query of a search, the count only when the mode asks for it.
+     * A cursor restricts the results to the transactions strictly before it, which the
+     * (slot, tx_index) index serves as a range scan instead of skipping offset rows. The count
+     * always covers the whole search.
+     */
+    protected Page<TxnEntity> executeSearch(Condition conditions,
+                                            @Nullable Boolean isSuccess,
+                                            @Nullable TxCursor before,
+                                            CountMode countMode,
+                                            OffsetBasedPageRequest offsetBasedPageRequest) {
+        Condition pageConditions = before == null
+                ? conditions
+                : conditions.and(DSL.row(TRANSACTION.SLOT, TRANSACTION.TX_INDEX).lt(before.slot(), before.txIndex()));
+
+        return fetchPage(
+                () -> switch (countMode) {
+                    case EXACT -> executeCountQuery(conditions, isSuccess);
+                    case CAPPED -> executeCappedCountQuery(conditions, isSuccess);
+                    case NONE -> null;
+                },
+                () -> executeResultsQuery(pageConditions, isSuccess, offsetBasedPageRequest),
+                countMode,
+                offsetBasedPageRequest);
+    }
+
+    /**
+     * Runs both queries on the calling thread, so they share the connection of the surrounding
+     * transaction and one search never holds more than a single pool connection.
      */
-    protected Page<TxnEntity> createPageFromSeparateQueries(int totalCount, List<? extends org.jooq.Record> results, OffsetBasedPageRequest pageable) {
-        return queryBuilder.createPageFromSeparateQueries(results, totalCount, pageable);
+    private Page<TxnEntity> fetchPage(Supplier<Integer> count,
+                                      Supplier<List<? extends org.jooq.Record>> results,
+                                      CountMode countMode,
+                                      OffsetBasedPageRequest offsetBasedPageRequest) {
+        Integer totalCount = countMode == CountMode.NONE ? null : count.get();
+
+        return createSearchPage(totalCount, results.get(), offsetBasedPageRequest);
+    }
+
+    /**
+     * Creates a page from results fetched with one row more than the page size. The extra row
+     * only tells whether another page follows, it is dropped and the last returned row becomes
+     * the cursor of the next page. Without an exact count the total is the lowest count
+     * consistent with what was fetched.
+     */
+    protected Page<TxnEntity> createSearchPage(@Nullable Integer totalCount,
+                                               List<? extends org.jooq.Record> results,
+                                               OffsetBasedPageRequest pageable) {
+        int limit = Math.toIntExact(pageable.getLimit());
+        boolean hasMore = results.size() > limit;
+        List<? extends org.jooq.Record> pageResults = hasMore ? results.subList(0, limit) : results;
+
+        long fetched = pageable.getOffset() + pageResults.size() + (hasMore ? 1 : 0);
+        long total = totalCount == null ? fetched : Math.max(totalCount, fetched);
+
+        TxCursor nextCursor = hasMore ? toCursor(pageResults.getLast()) : null;
+        List<TxnEntity> entities = pageResults.stream()
+                .map(queryBuilder::mapRecordToTxnEntity)
+                .toList();
+
+        return new TxPage<>(entities, pageable, total, nextCursor);
+    }
+
+    @Nullable
+    private static TxCursor toCursor(org.jooq.Record record) {
+        Long slot = record.get(TRANSACTION.SLOT);
+        Integer txIndex = record.get(TRANSACTION.TX_INDEX);
+        if (slot == null || txIndex == null) {
+            return null;
+        }
+
+        return new TxCursor(slot, txIndex, record.get(TRANSACTION.TX_HASH));
     }
 
     @Override
     public List<TxnEntity> findTransactionsByBlockHash(String blockHash) {
+        return selectTransactionsWithBlock()
+                .where(TRANSACTION.BLOCK_HASH.eq(blockHash))
+                .orderBy(TRANSACTION.TX_INDEX.asc())
+                .fetch(queryBuilder::mapRecordToTxnEntity);
+    }
+
+    @Override
+    public Optional<TxnEntity> findTransactionByBlockAndHash(@Nullable Long blockNumber,
+                                                              @Nullable String blockHash,
+                                                              String txHash) {
+        // looks the transaction up by its primary key and only checks that it belongs to the requested block
+        Condition condition = TRANSACTION.TX_HASH.eq(txHash);
+        if (blockNumber != null) {
+            condition = condition.and(BLOCK.NUMBER.eq(blockNumber));
+        }
+        if (blockHash != null) {
+            condition = condition.and(BLOCK.HASH.eq(blockHash));
+        }
+
+        return selectTransactionsWithBlock()
+                .where(condition)
+                .fetchOptional(queryBuilder::mapRecordToTxnEntity);
+    }
+
+    private SelectJoinStep<?> selectTransactionsWithBlock() {
         return dsl.select(
                         TRANSACTION.TX_HASH,
                         TRANSACTION.BLOCK_HASH,
@@ -132,10 +261,145 @@ public abstract class TxRepositoryCustomBase implements TxRepositoryCustom {
                 )
                 .from(TRANSACTION)
                 .leftJoin(BLOCK).on(TRANSACTION.BLOCK_HASH.eq(BLOCK.HASH))
-                .leftJoin(TRANSACTION_SIZE).on(TRANSACTION.TX_HASH.eq(TRANSACTION_SIZE.TX_HASH))
-                .where(TRANSACTION.BLOCK_HASH.eq(blockHash))
-                .orderBy(TRANSACTION.TX_INDEX.asc())
-                .fetch(queryBuilder::mapRecordToTxnEntity);
+                .leftJoin(TRANSACTION_SIZE).on(TRANSACTION.TX_HASH.eq(TRANSACTION_SIZE.TX_HASH));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TxnEntity> findTransactionsByAddress(String address,
+                                                     @Nullable Long maxBlock,
+                                                     @Nullable TxCursor before,
+                                                     CountMode countMode,
+                                                     OffsetBasedPageRequest offsetBasedPageRequest) {
+        // one row more than the page, to tell whether another page follows
+        int window = Math.toIntExact(offsetBasedPageRequest.getOffset() + offsetBasedPageRequest.getLimit() + 1);
+        Table<?> history;
+        SelectLimitStep<?> allHashes;
+        if (addressTxStoreEnabled) {
+            history = addressTxWindow(address, maxBlock, before, window);
+            allHashes = addressTxHashes(address, maxBlock);
+        } else {
+            history = addressHistoryWindow(address, maxBlock, before, window);
+            allHashes = addressHistoryHashes(address, maxBlock);
+        }
+        Condition inHistory = TRANSACTION.TX_HASH.in(
+                dsl.select(history.field(0, String.class)).from(history));
+
+        return fetchPage(
+                () -> switch (countMode) {
+                    case EXACT -> dsl.fetchCount(allHashes);
+                    case CAPPED -> Math.min(dsl.fetchCount(allHashes.limit(countCap + 1)), countCap);
+                    case NONE -> null;
+                },
+                () -> executeResultsQuery(inHistory, null, offsetBasedPageRequest),
+                countMode,
+                offsetBasedPageRequest);
+    }
+
+    /**
+     * Newest {@code window} transactions of the address before the cursor. Outputs and spent
+     * inputs are cut separately, the union of both windows always contains the overall window.
+     */
+    private Table<?> addressHistoryWindow(String address,
+                                          @Nullable Long maxBlock,
+                                          @Nullable TxCursor before,
+                                          int window) {
+        Condition beforeCursor = before == null
+                ? DSL.trueCondition()
+                : DSL.row(TRANSACTION.SLOT, TRANSACTION.TX_INDEX).lt(before.slot(), before.txIndex());
+
+        Table<?> outputs = dsl.selectDistinct(TRANSACTION.SLOT, TRANSACTION.TX_INDEX, TRANSACTION.TX_HASH)
+                .from(ADDRESS_UTXO)
+                .join(TRANSACTION).on(TRANSACTION.TX_HASH.eq(ADDRESS_UTXO.TX_HASH))
+                .where(ownedBy(address))
+                .and(maxBlock == null ? DSL.trueCondition() : ADDRESS_UTXO.BLOCK.le(maxBlock))
+                .and(beforeCursor)
+                .orderBy(TRANSACTION.SLOT.desc(), TRANSACTION.TX_INDEX.desc())
+                .limit(window)
+                .asTable("address_outputs");
+
+        Table<?> inputs = dsl.selectDistinct(TRANSACTION.SLOT, TRANSACTION.TX_INDEX, TRANSACTION.TX_HASH)
+                .from(TX_INPUT)
+                .join(ADDRESS_UTXO).on(TX_INPUT.TX_HASH.eq(ADDRESS_UTXO.TX_HASH)
+                        .and(TX_INPUT.OUTPUT_INDEX.eq(ADDRESS_UTXO.OUTPUT_INDEX)))
+                .join(TRANSACTION).on(TRANSACTION.TX_HASH.eq(TX_INPUT.SPENT_TX_HASH))
+                .where(ownedBy(address))
+                .and(maxBlock == null ? DSL.trueCondition() : TX_INPUT.SPENT_AT_BLOCK.le(maxBlock))
+                .and(beforeCursor)
+                .orderBy(TRANSACTION.SLOT.desc(), TRANSACTION.TX_INDEX.desc())
+                .limit(window)
+                .asTable("address_inputs");
+
+        Field<String> outputTxHash = outputs.field(TRANSACTION.TX_HASH);
+        Field<String> inputTxHash = inputs.field(TRANSACTION.TX_HASH);
+
+        return dsl.select(outputTxHash).from(outputs)
+                .union(dsl.select(inputTxHash).from(inputs))
+                .asTable("address_history");
+    }
+
+    private SelectLimitStep<?> addressHistoryHashes(String address, @Nullable Long maxBlock) {
+        return dsl.select(ADDRESS_UTXO.TX_HASH)
+                .from(ADDRESS_UTXO)
+                .where(ownedBy(address))
+                .and(maxBlock == null ? DSL.trueCondition() : ADDRESS_UTXO.BLOCK.le(maxBlock))
+                .union(dsl.select(TX_INPUT.SPENT_TX_HASH)
+                        .from(TX_INPUT)
+                        .join(ADDRESS_UTXO).on(TX_INPUT.TX_HASH.eq(ADDRESS_UTXO.TX_HASH)
+                                .and(TX_INPUT.OUTPUT_INDEX.eq(ADDRESS_UTXO.OUTPUT_INDEX)))
+                        .where(ownedBy(address))
+                        .and(maxBlock == null ? DSL.trueCondition() : TX_INPUT.SPENT_AT_BLOCK.le(maxBlock)));
+    }
+
+    /**
+     * Same window as {@link #addressHistoryWindow} read from the address_tx table of the indexer.
+     * Payment and stake address rows are cut separately so each side is a range scan on its
+     * (address, slot, tx_index) index.
+     */
+    private Table<?> addressTxWindow(String address,
+                                     @Nullable Long maxBlock,
+                                     @Nullable TxCursor before,
+                                     int window) {
+        Table<?> byAddress = addressTxBranch(AddressTxTable.ADDRESS.eq(address), maxBlock, before, window)
+                .asTable("address_tx_payment");
+        Table<?> byStakeAddress = addressTxBranch(AddressTxTable.STAKE_ADDRESS.eq(address), maxBlock, before, window)
+                .asTable("address_tx_stake");
+
+        return dsl.select(byAddress.field(AddressTxTable.TX_HASH)).from(byAddress)
+                .union(dsl.select(byStakeAddress.field(AddressTxTable.TX_HASH)).from(byStakeAddress))
+                .asTable("address_history");
+    }
+
+    private Select<?> addressTxBranch(Condition owner,
+                                      @Nullable Long maxBlock,
+                                      @Nullable TxCursor before,
+                                      int window) {
+        return dsl.selectDistinct(AddressTxTable.SLOT, AddressTxTable.TX_INDEX, AddressTxTable.TX_HASH)
+                .from(AddressTxTable.ADDRESS_TX)
+                .where(owner)
+                .and(maxBlock == null ? DSL.trueCondition() : AddressTxTable.BLOCK_NUMBER.le(maxBlock))
+                .and(before == null
+                        ? DSL.trueCondition()
+                        : DSL.row(AddressTxTable.SLOT, AddressTxTable.TX_INDEX).lt(before.slot(), before.txIndex()))
+                .orderBy(AddressTxTable.SLOT.desc(), AddressTxTable.TX_INDEX.desc())
+                .limit(window);
+    }
+
+    private SelectLimitStep<?> addressTxHashes(String address, @Nullable Long maxBlock) {
+        Condition atBlock = maxBlock == null ? DSL.trueCondition() : AddressTxTable.BLOCK_NUMBER.le(maxBlock);
+
+        return dsl.select(AddressTxTable.TX_HASH)
+                .from(AddressTxTable.ADDRESS_TX)
+                .where(AddressTxTable.ADDRESS.eq(address))
+                .and(atBlock)
+                .union(dsl.select(AddressTxTable.TX_HASH)
+                        .from(AddressTxTable.ADDRESS_TX)
+                        .where(AddressTxTable.STAKE_ADDRESS.eq(address))
+                        .and(atBlock));
+    }
+
+    private static Condition ownedBy(String address) {
+        return ADDRESS_UTXO.OWNER_ADDR.eq(address).or(ADDRESS_UTXO.OWNER_STAKE_ADDR.eq(address));
     }
 
     /**
@@ -151,6 +415,8 @@ public abstract class TxRepositoryCustomBase implements TxRepositoryCustom {
                                                         @Nullable Long maxBlock,
                                                         @Nullable Boolean isSuccess,
                                                         @Nullable Currency currency,
+                                                        @Nullable TxCursor before,
+                                                        CountMode countMode,
                                                         OffsetBasedPageRequest offsetBasedPageRequest);
 
     /**
@@ -166,6 +432,8 @@ public abstract class TxRepositoryCustomBase implements TxRepositoryCustom {
                                                        @Nullable Long maxBlock,
                                                        @Nullable Boolean isSuccess,
                                                        @Nullable Currency currency,
+                                                       @Nullable TxCursor before,
+                                                       CountMode countMode,
                                                        OffsetBasedPageRequest offsetBasedPageRequest);
 
     /**
@@ -179,10 +447,25 @@ public abstract class TxRepositoryCustomBase implements TxRepositoryCustom {
                 .fetchOne(0, Integer.class);
     }
 
+    /**
+     * Counts the matches of a search up to the configured cap, so counting stops early on
+     * searches matching a large part of the chain.
+     */
+    protected int executeCappedCountQuery(Condition conditions, @Nullable Boolean isSuccess) {
+        var matches = dsl.selectOne().from(TRANSACTION);
+
+        if (isSuccess != null) {
+            matches = matches.leftJoin(INVALID_TRANSACTION).on(TRANSACTION.TX_HASH.eq(INVALID_TRANSACTION.TX_HASH));
+        }
+
+        return Math.min(dsl.fetchCount(matches.where(conditions).limit(countCap + 1)), countCap);
+    }
+
     /**
      * Generic method to execute a results query with proper JOINs and pagination.
      * Ensures count and results queries use identical conditions and JOINs.
      * Currency conditions use EXISTS subqueries - no JOIN needed.
+     * Fetches one row more than the page, see {@link #createSearchPage}.
      */
     protected List<? extends org.jooq.Record> executeResultsQuery(Condition conditions,
                                                                   @Nullable Boolean isSuccess,
@@ -190,7 +473,7 @@ public abstract class TxRepositoryCustomBase implements TxRepositoryCustom {
         return buildBaseResultsQuery(isSuccess)
                 .where(conditions)
                 .orderBy(TRANSACTION.SLOT.desc(), TRANSACTION.TX_INDEX.desc())
-                .limit(offsetBasedPageRequest.getLimit())
+                .limit(offsetBasedPageRequest.getLimit() + 1)
                 .offset(offsetBasedPageRequest.getOffset())
                 .fetch();
     }
@@ -3,7 +3,10 @@ package org.cardanofoundation.rosetta.api.block.model.repository;
 import org.cardanofoundation.rosetta.api.block.model.entity.VoterType;
 import org.cardanofoundation.rosetta.api.block.model.entity.VotingProcedureEntity;
 import org.cardanofoundation.rosetta.api.block.model.entity.VotingProcedureId;
+import org.cardanofoundation.rosetta.common.util.TxHashArrays;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,7 +24,14 @@ public interface VotingProcedureRepository extends JpaRepository<VotingProcedure
    * @param voterType the type of voter to filter by
    * @return list of SPO voting procedures found in those transactions
    */
-  List<VotingProcedureEntity> findByTxHashInAndVoterType(List<String> txHashes, VoterType voterType);
+  default List<VotingProcedureEntity> findByTxHashInAndVoterType(List<String> txHashes, VoterType voterType) {
+    return TxHashArrays.fetch(txHashes, chunk -> findByTxHashAnyAndVoterType(chunk, voterType.name()));
+  }
+
+  @Query(value = "SELECT * FROM voting_procedure WHERE tx_hash = ANY(:txHashes) AND voter_type = :voterType",
+      nativeQuery = true)
+  List<VotingProcedureEntity> findByTxHashAnyAndVoterType(@Param("txHashes") String[] txHashes,
+                                                          @Param("voterType") String voterType);
 
   /**
    * Find all SPO voting procedures for a specific transaction hash.
@@ -3,14 +3,22 @@ package org.cardanofoundation.rosetta.api.block.model.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import org.cardanofoundation.rosetta.api.block.model.entity.WithdrawalEntity;
 import org.cardanofoundation.rosetta.api.block.model.entity.WithdrawalId;
+import org.cardanofoundation.rosetta.common.util.TxHashArrays;
 
 @Repository
 public interface WithdrawalRepository extends JpaRepository<WithdrawalEntity, WithdrawalId> {
 
-  List<WithdrawalEntity> findByTxHashIn(List<String> txHashes);
+  default List<WithdrawalEntity> findByTxHashIn(List<String> txHashes) {
+    return TxHashArrays.fetch(txHashes, this::findByTxHashAny);
+  }
+
+  @Query(value = "SELECT * FROM withdrawal WHERE tx_hash = ANY(:txHashes)", nativeQuery = true)
+  List<WithdrawalEntity> findByTxHashAny(@Param("txHashes") String[] txHashes);
 
 }
@@ -5,9 +5,12 @@ import org.cardanofoundation.rosetta.api.block.model.entity.TxnEntity;
 import org.cardanofoundation.rosetta.api.block.model.repository.TxRepository;
 import org.cardanofoundation.rosetta.api.block.model.repository.TxRepositoryCustomBase;
 import org.cardanofoundation.rosetta.api.block.model.repository.util.TxRepositoryQueryBuilder;
+import org.cardanofoundation.rosetta.api.search.model.CountMode;
 import org.cardanofoundation.rosetta.api.search.model.Currency;
+import org.cardanofoundation.rosetta.api.search.model.TxCursor;
 import org.jooq.*;
 import org.jooq.impl.DSL;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.cardanofoundation.rosetta.common.spring.OffsetBasedPageRequest;
 import org.springframework.data.domain.Page;
@@ -30,10 +33,11 @@ public class TxRepositoryH2Impl extends TxRepositoryCustomBase implements TxRepo
 
     private static final int H2_IN_CLAUSE_LIMIT = 1000; // H2 can handle smaller batches efficiently
 
-    public TxRepositoryH2Impl(DSLContext dsl, 
-                             TxRepositoryQueryBuilder queryBuilder) {
+    public TxRepositoryH2Impl(DSLContext dsl,
+                             TxRepositoryQueryBuilder queryBuilder,
+                             @Value("${cardano.rosetta.TX_ASSET_STORE_ENABLED:false}") boolean txAssetStoreEnabled) {
         super(dsl, queryBuilder);
-        this.currencyConditionBuilder = new H2CurrencyConditionBuilder();
+        this.currencyConditionBuilder = new H2CurrencyConditionBuilder(txAssetStoreEnabled);
     }
 
     @Override
@@ -54,6 +58,8 @@ public class TxRepositoryH2Impl extends TxRepositoryCustomBase implements TxRepo
                                                @Nullable Long maxBlock,
                                                @Nullable Boolean isSuccess,
                                                @Nullable Currency currency,
+                                               @Nullable TxCursor before,
+                                               CountMode countMode,
                                                OffsetBasedPageRequest pageable) {
         
         log.debug("Using H2 simple approach for AND search with {} tx hashes and {} address hashes", 
@@ -73,11 +79,8 @@ public class TxRepositoryH2Impl extends TxRepositoryCustomBase implements TxRepo
             baseConditions = baseConditions.and(createBatchedInCondition(addressHashes));
         }
 
-        // Execute separate count and results queries for optimal performance
-        int totalCount = executeCountQuery(baseConditions, isSuccess);
-        List<? extends org.jooq.Record> results = executeResultsQuery(baseConditions, isSuccess, pageable);
-
-        return createPageFromSeparateQueries(totalCount, results, pageable);
+        // Count and results run in parallel, the results seek past the cursor when one is given
+        return executeSearch(baseConditions, isSuccess, before, countMode, pageable);
     }
 
     @Override
@@ -89,6 +92,8 @@ public class TxRepositoryH2Impl extends TxRepositoryCustomBase implements TxRepo
                                               @Nullable Long maxBlock,
                                               @Nullable Boolean isSuccess,
                                               @Nullable Currency currency,
+                                              @Nullable TxCursor before,
+                                              CountMode countMode,
                                               OffsetBasedPageRequest pageable) {
         
         log.debug("Using H2 simple approach for OR search with {} tx hashes and {} address hashes", 
@@ -111,17 +116,17 @@ public class TxRepositoryH2Impl extends TxRepositoryCustomBase implements TxRepo
         
         // Add other OR conditions (blockHash, blockNumber, maxBlock, currency)
         if (blockHash != null) {
-            Condition blockHashCondition = BLOCK.HASH.eq(blockHash);
+            Condition blockHashCondition = TRANSACTION.BLOCK_HASH.eq(blockHash);
             orConditions = orConditions == null ? blockHashCondition : orConditions.or(blockHashCondition);
         }
         
         if (blockNumber != null) {
-            Condition blockNumberCondition = BLOCK.NUMBER.eq(blockNumber);
+            Condition blockNumberCondition = TRANSACTION.BLOCK.eq(blockNumber);
             orConditions = orConditions == null ? blockNumberCondition : orConditions.or(blockNumberCondition);
         }
         
         if (maxBlock != null) {
-            Condition maxBlockCondition = BLOCK.NUMBER.le(maxBlock);
+            Condition maxBlockCondition = TRANSACTION.BLOCK.le(maxBlock);
             orConditions = orConditions == null ? maxBlockCondition : orConditions.or(maxBlockCondition);
         }
         
@@ -143,11 +148,8 @@ public class TxRepositoryH2Impl extends TxRepositoryCustomBase implements TxRepo
             orConditions = orConditions.and(successCondition);
         }
 
-        // Execute separate count and results queries for optimal performance
-        int totalCount = executeCountQuery(orConditions, isSuccess);
-        List<? extends org.jooq.Record> results = executeResultsQuery(orConditions, isSuccess, pageable);
-
-        return createPageFromSeparateQueries(totalCount, results, pageable);
+        // Count and results run in parallel, the results seek past the cursor when one is given
+        return executeSearch(orConditions, isSuccess, before, countMode, pageable);
     }
 
     /**
@@ -156,6 +158,10 @@ public class TxRepositoryH2Impl extends TxRepositoryCustomBase implements TxRepo
      */
     private static class H2CurrencyConditionBuilder extends BaseCurrencyConditionBuilder {
 
+        private H2CurrencyConditionBuilder(boolean txAssetStoreEnabled) {
+            super(txAssetStoreEnabled);
+        }
+
         @Override
         protected Condition buildPolicyIdAndSymbolCondition(String escapedPolicyId, String escapedSymbol) {
             // Search for unit field containing policyId+symbol (hex-encoded)
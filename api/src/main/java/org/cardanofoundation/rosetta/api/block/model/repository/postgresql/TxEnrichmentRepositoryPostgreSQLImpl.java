@@ -0,0 +1,379 @@
+package org.cardanofoundation.rosetta.api.block.model.repository.postgresql;
+
+import com.bloxbean.cardano.yaci.core.model.Relay;
+import com.bloxbean.cardano.yaci.core.model.certs.CertificateType;
+import com.bloxbean.cardano.yaci.core.model.certs.StakeCredType;
+import com.bloxbean.cardano.yaci.core.model.governance.DrepType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.cardanofoundation.rosetta.api.account.model.domain.Amt;
+import org.cardanofoundation.rosetta.api.account.model.entity.AddressUtxoEntity;
+import org.cardanofoundation.rosetta.api.block.model.entity.*;
+import org.cardanofoundation.rosetta.api.block.model.repository.TxEnrichmentRepository;
+import org.cardanofoundation.rosetta.common.exception.ExceptionFactory;
+import org.cardanofoundation.rosetta.common.util.TxHashArrays;
+import org.jooq.*;
+import org.jooq.Record;
+import org.jooq.exception.DataAccessException;
+import org.jooq.exception.SQLStateClass;
+import org.jooq.impl.DSL;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.Nullable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.cardanofoundation.rosetta.api.jooq.Tables.*;
+
+/**
+ * PostgreSQL-specific implementation of TxEnrichmentRepository using JOOQ.
+ * All enrichment kinds are fetched with one UNION ALL statement where every branch returns
+ * (kind, tx_hash, payload) and the payload is a jsonb object holding the columns of that kind.
+ * The statement runs on the connection of the surrounding transaction, so a block request
+ * holds a single pooled connection instead of one per enrichment kind. The statement is bounded by
+ * BLOCK_TRANSACTION_API_TIMEOUT_SECS, the same limit the parallel lookup waits for.
+ */
+@Slf4j
+@Repository
+@Profile({"!h2 & !test-integration"})
+@ConditionalOnProperty(name = "cardano.rosetta.BLOCK_ENRICHMENT_MODE", havingValue = "SINGLE_QUERY")
+public class TxEnrichmentRepositoryPostgreSQLImpl implements TxEnrichmentRepository {
+
+    static final String KIND_UTXO = "utxo";
+    static final String KIND_STAKE_REGISTRATION = "stake_registration";
+    static final String KIND_POOL_DELEGATION = "delegation";
+    static final String KIND_DREP_DELEGATION = "delegation_vote";
+    static final String KIND_SPO_VOTE = "voting_procedure";
+    static final String KIND_POOL_REGISTRATION = "pool_registration";
+    static final String KIND_POOL_RETIREMENT = "pool_retirement";
+    static final String KIND_WITHDRAWAL = "withdrawal";
+    static final String KIND_INVALID_TRANSACTION = "invalid_transaction";
+
+    // delegation_vote and voting_procedure are not part of the generated jOOQ schema
+    private static final Table<Record> DELEGATION_VOTE = DSL.table(DSL.name("delegation_vote"));
+    private static final Table<Record> VOTING_PROCEDURE = DSL.table(DSL.name("voting_procedure"));
+
+    private static final TypeReference<List<Amt>> AMOUNTS_TYPE = new TypeReference<>() {};
+    private static final TypeReference<Set<String>> POOL_OWNERS_TYPE = new TypeReference<>() {};
+    private static final TypeReference<List<Relay>> RELAYS_TYPE = new TypeReference<>() {};
+
+    private final DSLContext dsl;
+    private final ObjectMapper objectMapper;
+    private final int queryTimeoutSecs;
+
+    public TxEnrichmentRepositoryPostgreSQLImpl(DSLContext dsl,
+                                                ObjectMapper objectMapper,
+                                                @Value("${cardano.rosetta.BLOCK_TRANSACTION_API_TIMEOUT_SECS:5}") int queryTimeoutSecs) {
+        this.dsl = dsl;
+        this.objectMapper = objectMapper;
+        this.queryTimeoutSecs = queryTimeoutSecs;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TxEnrichment findByTxHashes(Collection<String> txHashes, Collection<String> utxoTxHashes) {
+        log.debug("Fetching enrichment for {} transactions and {} utxo transactions in a single query",
+                txHashes.size(), utxoTxHashes.size());
+
+        try {
+            Result<Record3<String, String, JSONB>> rows = buildEnrichmentQuery(txHashes, utxoTxHashes)
+                    .queryTimeout(queryTimeoutSecs)
+                    .fetch();
+
+            return mapRows(rows);
+        } catch (DataAccessException e) {
+            // the driver cancels the statement once the query timeout elapses
+            if (e.sqlStateClass() == SQLStateClass.C57_OPERATOR_INTERVENTION) {
+                log.error("Error fetching transaction data", e);
+
+                throw ExceptionFactory.timeOut("timeout while fetching transaction data from db.");
+            }
+            throw e;
+        }
+    }
+
+    private Select<Record3<String, String, JSONB>> buildEnrichmentQuery(Collection<String> txHashes,
+                                                                       Collection<String> utxoTxHashes) {
+        return branch(KIND_UTXO, ADDRESS_UTXO, ADDRESS_UTXO.TX_HASH, TxHashArrays.anyOf(ADDRESS_UTXO.TX_HASH, utxoTxHashes),
+                        DSL.jsonEntry("output_index", ADDRESS_UTXO.OUTPUT_INDEX),
+                        DSL.jsonEntry("owner_addr", ADDRESS_UTXO.OWNER_ADDR),
+                        DSL.jsonEntry("owner_stake_addr", ADDRESS_UTXO.OWNER_STAKE_ADDR),
+                        DSL.jsonEntry("amounts", ADDRESS_UTXO.AMOUNTS),
+                        DSL.jsonEntry("block", ADDRESS_UTXO.BLOCK))
+                .unionAll(branch(KIND_STAKE_REGISTRATION, STAKE_REGISTRATION, STAKE_REGISTRATION.TX_HASH,
+                        TxHashArrays.anyOf(STAKE_REGISTRATION.TX_HASH, txHashes),
+                        DSL.jsonEntry("cert_index", STAKE_REGISTRATION.CERT_INDEX),
+                        DSL.jsonEntry("type", STAKE_REGISTRATION.TYPE),
+                        DSL.jsonEntry("address", STAKE_REGISTRATION.ADDRESS)))
+                .unionAll(branch(KIND_POOL_DELEGATION, DELEGATION, DELEGATION.TX_HASH,
+                        TxHashArrays.anyOf(DELEGATION.TX_HASH, txHashes),
+                        DSL.jsonEntry("cert_index", DELEGATION.CERT_INDEX),
+                        DSL.jsonEntry("pool_id", DELEGATION.POOL_ID),
+                        DSL.jsonEntry("address", DELEGATION.ADDRESS)))
+                .unionAll(branch(KIND_DREP_DELEGATION, DELEGATION_VOTE, column(DELEGATION_VOTE, "tx_hash", String.class),
+                        TxHashArrays.anyOf(column(DELEGATION_VOTE, "tx_hash", String.class), txHashes),
+                        jsonColumn(DELEGATION_VOTE, "cert_index"),
+                        jsonColumn(DELEGATION_VOTE, "tx_index"),
+                        jsonColumn(DELEGATION_VOTE, "slot"),
+                        jsonColumn(DELEGATION_VOTE, "block"),
+                        jsonColumn(DELEGATION_VOTE, "block_time"),
+                        jsonColumn(DELEGATION_VOTE, "address"),
+                        jsonColumn(DELEGATION_VOTE, "drep_hash"),
+                        jsonColumn(DELEGATION_VOTE, "drep_id"),
+                        jsonColumn(DELEGATION_VOTE, "drep_type"),
+                        jsonColumn(DELEGATION_VOTE, "credential"),
+                        jsonColumn(DELEGATION_VOTE, "cred_type"),
+                        jsonColumn(DELEGATION_VOTE, "epoch")))
+                .unionAll(branch(KIND_SPO_VOTE, VOTING_PROCEDURE, column(VOTING_PROCEDURE, "tx_hash", String.class),
+                        TxHashArrays.anyOf(column(VOTING_PROCEDURE, "tx_hash", String.class), txHashes)
+                                .and(column(VOTING_PROCEDURE, "voter_type", String.class)
+                                        .eq(VoterType.STAKING_POOL_KEY_HASH.name())),
+                        jsonColumn(VOTING_PROCEDURE, "voter_hash"),
+                        jsonColumn(VOTING_PROCEDURE, "voter_type"),
+                        jsonColumn(VOTING_PROCEDURE, "gov_action_tx_hash"),
+                        jsonColumn(VOTING_PROCEDURE, "gov_action_index"),
+                        jsonColumn(VOTING_PROCEDURE, "idx"),
+                        jsonColumn(VOTING_PROCEDURE, "tx_index"),
+                        jsonColumn(VOTING_PROCEDURE, "vote"),
+                        jsonColumn(VOTING_PROCEDURE, "anchor_url"),
+                        jsonColumn(VOTING_PROCEDURE, "anchor_hash"),
+                        jsonColumn(VOTING_PROCEDURE, "epoch"),
+                        jsonColumn(VOTING_PROCEDURE, "slot"),
+                        jsonColumn(VOTING_PROCEDURE, "block"),
+                        jsonColumn(VOTING_PROCEDURE, "block_time")))
+                .unionAll(branch(KIND_POOL_REGISTRATION, POOL_REGISTRATION, POOL_REGISTRATION.TX_HASH,
+                        TxHashArrays.anyOf(POOL_REGISTRATION.TX_HASH, txHashes),
+                        DSL.jsonEntry("cert_index", POOL_REGISTRATION.CERT_INDEX),
+                        DSL.jsonEntry("pool_id", POOL_REGISTRATION.POOL_ID),
+                        DSL.jsonEntry("vrf_key", POOL_REGISTRATION.VRF_KEY),
+                        DSL.jsonEntry("pledge", POOL_REGISTRATION.PLEDGE),
+                        DSL.jsonEntry("cost", POOL_REGISTRATION.COST),
+                        DSL.jsonEntry("margin", POOL_REGISTRATION.MARGIN),
+                        DSL.jsonEntry("reward_account", POOL_REGISTRATION.REWARD_ACCOUNT),
+                        DSL.jsonEntry("pool_owners", POOL_REGISTRATION.POOL_OWNERS),
+                        DSL.jsonEntry("relays", POOL_REGISTRATION.RELAYS)))
+                .unionAll(branch(KIND_POOL_RETIREMENT, POOL_RETIREMENT, POOL_RETIREMENT.TX_HASH,
+                        TxHashArrays.anyOf(POOL_RETIREMENT.TX_HASH, txHashes),
+                        DSL.jsonEntry("cert_index", POOL_RETIREMENT.CERT_INDEX),
+                        DSL.jsonEntry("pool_id", POOL_RETIREMENT.POOL_ID),
+                        DSL.jsonEntry("epoch", POOL_RETIREMENT.EPOCH)))
+                .unionAll(branch(KIND_WITHDRAWAL, WITHDRAWAL, WITHDRAWAL.TX_HASH,
+                        TxHashArrays.anyOf(WITHDRAWAL.TX_HASH, txHashes),
+                        DSL.jsonEntry("address", WITHDRAWAL.ADDRESS),
+                        DSL.jsonEntry("amount", WITHDRAWAL.AMOUNT)))
+                .unionAll(branch(KIND_INVALID_TRANSACTION, INVALID_TRANSACTION, INVALID_TRANSACTION.TX_HASH,
+                        TxHashArrays.anyOf(INVALID_TRANSACTION.TX_HASH, txHashes),
+                        DSL.jsonEntry("slot", INVALID_TRANSACTION.SLOT),
+                        DSL.jsonEntry("block_hash", INVALID_TRANSACTION.BLOCK_HASH)));
+    }
+
+    private SelectConditionStep<Record3<String, String, JSONB>> branch(String kind,
+                                                                      Table<?> table,
+                                                                      Field<String> txHash,
+                                                                      Condition condition,
+                                                                      JSONEntry<?>... payload) {
+        return dsl.select(
+                        DSL.inline(kind).as("kind"),
+                        txHash.as("tx_hash"),
+                        DSL.jsonbObject(payload).as("payload"))
+                .from(table)
+                .where(condition);
+    }
+
+    private static <T> Field<T> column(Table<?> table, String name, Class<T> type) {
+        return DSL.field(DSL.name(table.getName(), name), type);
+    }
+
+    private static JSONEntry<Object> jsonColumn(Table<?> table, String name) {
+        return DSL.jsonEntry(name, DSL.field(DSL.name(table.getName(), name)));
+    }
+
+    TxEnrichment mapRows(Result<Record3<String, String, JSONB>> rows) {
+        List<AddressUtxoEntity> utxos = new ArrayList<>();
+        List<StakeRegistrationEntity> stakeRegistrations = new ArrayList<>();
+        List<PoolDelegationEntity> poolDelegations = new ArrayList<>();
+        List<DrepVoteDelegationEntity> drepDelegations = new ArrayList<>();
+        List<VotingProcedureEntity> spoVotes = new ArrayList<>();
+        List<PoolRegistrationEntity> poolRegistrations = new ArrayList<>();
+        List<PoolRetirementEntity> poolRetirements = new ArrayList<>();
+        List<WithdrawalEntity> withdrawals = new ArrayList<>();
+        List<InvalidTransactionEntity> invalidTransactions = new ArrayList<>();
+
+        for (Record3<String, String, JSONB> row : rows) {
+            String txHash = row.value2();
+            JsonNode payload = readPayload(row.value3());
+
+            switch (row.value1()) {
+                case KIND_UTXO -> utxos.add(toAddressUtxo(txHash, payload));
+                case KIND_STAKE_REGISTRATION -> stakeRegistrations.add(toStakeRegistration(txHash, payload));
+                case KIND_POOL_DELEGATION -> poolDelegations.add(toPoolDelegation(txHash, payload));
+                case KIND_DREP_DELEGATION -> drepDelegations.add(toDrepDelegation(txHash, payload));
+                case KIND_SPO_VOTE -> spoVotes.add(toVotingProcedure(txHash, payload));
+                case KIND_POOL_REGISTRATION -> poolRegistrations.add(toPoolRegistration(txHash, payload));
+                case KIND_POOL_RETIREMENT -> poolRetirements.add(toPoolRetirement(txHash, payload));
+                case KIND_WITHDRAWAL -> withdrawals.add(toWithdrawal(txHash, payload));
+                case KIND_INVALID_TRANSACTION -> invalidTransactions.add(toInvalidTransaction(txHash, payload));
+                default -> log.warn("Ignoring unknown enrichment kind: {}", row.value1());
+            }
+        }
+
+        return new TxEnrichment(utxos, stakeRegistrations, poolDelegations, drepDelegations, spoVotes,
+                poolRegistrations, poolRetirements, withdrawals, invalidTransactions);
+    }
+
+    private JsonNode readPayload(JSONB payload) {
+        try {
+            return objectMapper.readTree(payload.data());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read enrichment payload", e);
+        }
+    }
+
+    private AddressUtxoEntity toAddressUtxo(String txHash, JsonNode payload) {
+        return new AddressUtxoEntity(
+                txHash,
+                intValue(payload, "output_index"),
+                text(payload, "owner_addr"),
+                text(payload, "owner_stake_addr"),
+                convert(payload, "amounts", AMOUNTS_TYPE),
+                longValue(payload, "block"));
+    }
+
+    private static StakeRegistrationEntity toStakeRegistration(String txHash, JsonNode payload) {
+        StakeRegistrationEntity entity = new StakeRegistrationEntity();
+        entity.setTxHash(txHash);
+        entity.setCertIndex(payload.path("cert_index").asLong());
+        entity.setType(enumValue(CertificateType.class, text(payload, "type")));
+        entity.setAddress(text(payload, "address"));
+
+        return entity;
+    }
+
+    private static PoolDelegationEntity toPoolDelegation(String txHash, JsonNode payload) {
+        PoolDelegationEntity entity = new PoolDelegationEntity();
+        entity.setTxHash(txHash);
+        entity.setCertIndex(payload.path("cert_index").asLong());
+        entity.setPoolId(text(payload, "pool_id"));
+        entity.setAddress(text(payload, "address"));
+
+        return entity;
+    }
+
+    private static DrepVoteDelegationEntity toDrepDelegation(String txHash, JsonNode payload) {
+        DrepVoteDelegationEntity entity = new DrepVoteDelegationEntity();
+        entity.setTxHash(txHash);
+        entity.setCertIndex(payload.path("cert_index").asLong());
+        entity.setTxIndex(payload.path("tx_index").asInt());
+        entity.setSlot(longValue(payload, "slot"));
+        entity.setBlockNumber(longValue(payload, "block"));
+        entity.setBlockTime(longValue(payload, "block_time"));
+        entity.setAddress(text(payload, "address"));
+        entity.setDrepHash(text(payload, "drep_hash"));
+        entity.setDrepId(text(payload, "drep_id"));
+        entity.setDrepType(enumValue(DrepType.class, text(payload, "drep_type")));
+        entity.setCredential(text(payload, "credential"));
+        entity.setCredType(enumValue(StakeCredType.class, text(payload, "cred_type")));
+        entity.setEpoch(intValue(payload, "epoch"));
+
+        return entity;
+    }
+
+    private static VotingProcedureEntity toVotingProcedure(String txHash, JsonNode payload) {
+        VotingProcedureEntity entity = new VotingProcedureEntity();
+        entity.setTxHash(txHash);
+        entity.setVoterHash(text(payload, "voter_hash"));
+        entity.setVoterType(enumValue(VoterType.class, text(payload, "voter_type")));
+        entity.setGovActionTxHash(text(payload, "gov_action_tx_hash"));
+        entity.setGovActionIndex(intValue(payload, "gov_action_index"));
+        entity.setIdx(intValue(payload, "idx"));
+        entity.setTxIndex(intValue(payload, "tx_index"));
+        entity.setVote(enumValue(Vote.class, text(payload, "vote")));
+        entity.setAnchorUrl(text(payload, "anchor_url"));
+        entity.setAnchorHash(text(payload, "anchor_hash"));
+        entity.setEpoch(intValue(payload, "epoch"));
+        entity.setSlot(longValue(payload, "slot"));
+        entity.setBlockNumber(longValue(payload, "block"));
+        entity.setBlockTime(longValue(payload, "block_time"));
+
+        return entity;
+    }
+
+    private PoolRegistrationEntity toPoolRegistration(String txHash, JsonNode payload) {
+        PoolRegistrationEntity entity = new PoolRegistrationEntity();
+        entity.setTxHash(txHash);
+        entity.setCertIndex(payload.path("cert_index").asInt());
+        entity.setPoolId(text(payload, "pool_id"));
+        entity.setVrfKeyHash(text(payload, "vrf_key"));
+        entity.setPledge(bigIntegerValue(payload, "pledge"));
+        entity.setCost(bigIntegerValue(payload, "cost"));
+        entity.setMargin(payload.hasNonNull("margin") ? payload.get("margin").asDouble() : null);
+        entity.setRewardAccount(text(payload, "reward_account"));
+        entity.setPoolOwners(convert(payload, "pool_owners", POOL_OWNERS_TYPE));
+        entity.setRelays(convert(payload, "relays", RELAYS_TYPE));
+
+        return entity;
+    }
+
+    private static PoolRetirementEntity toPoolRetirement(String txHash, JsonNode payload) {
+        PoolRetirementEntity entity = new PoolRetirementEntity();
+        entity.setTxHash(txHash);
+        entity.setCertIndex(payload.path("cert_index").asInt());
+        entity.setPoolId(text(payload, "pool_id"));
+        entity.setEpoch(intValue(payload, "epoch"));
+
+        return entity;
+    }
+
+    private static WithdrawalEntity toWithdrawal(String txHash, JsonNode payload) {
+        return new WithdrawalEntity(text(payload, "address"), txHash, bigIntegerValue(payload, "amount"));
+    }
+
+    private static InvalidTransactionEntity toInvalidTransaction(String txHash, JsonNode payload) {
+        return InvalidTransactionEntity.builder()
+                .txHash(txHash)
+                .slot(longValue(payload, "slot"))
+                .blockHash(text(payload, "block_hash"))
+                .build();
+    }
+
+    @Nullable
+    private <T> T convert(JsonNode payload, String field, TypeReference<T> type) {
+        return payload.hasNonNull(field) ? objectMapper.convertValue(payload.get(field), type) : null;
+    }
+
+    @Nullable
+    private static String text(JsonNode payload, String field) {
+        return payload.hasNonNull(field) ? payload.get(field).asText() : null;
+    }
+
+    @Nullable
+    private static Integer intValue(JsonNode payload, String field) {
+        return payload.hasNonNull(field) ? payload.get(field).asInt() : null;
+    }
+
+    @Nullable
+    private static Long longValue(JsonNode payload, String field) {
+        return payload.hasNonNull(field) ? payload.get(field).asLong() : null;
+    }
+
+    @Nullable
+    private static BigInteger bigIntegerValue(JsonNode payload, String field) {
+        return payload.hasNonNull(field) ? payload.get(field).bigIntegerValue() : null;
+    }
+
+    @Nullable
+    private static <E extends Enum<E>> E enumValue(Class<E> type, @Nullable String value) {
+        return value == null ? null : Enum.valueOf(type, value);
+    }
+
+}
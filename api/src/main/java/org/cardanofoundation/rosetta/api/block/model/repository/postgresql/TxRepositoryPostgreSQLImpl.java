@@ -5,11 +5,15 @@ import org.cardanofoundation.rosetta.api.block.model.entity.TxnEntity;
 import org.cardanofoundation.rosetta.api.block.model.repository.TxRepository;
 import org.cardanofoundation.rosetta.api.block.model.repository.TxRepositoryCustomBase;
 import org.cardanofoundation.rosetta.api.block.model.repository.util.TxRepositoryQueryBuilder;
+import org.cardanofoundation.rosetta.api.search.model.CountMode;
 import org.cardanofoundation.rosetta.api.search.model.Currency;
+import org.cardanofoundation.rosetta.api.search.model.TxCursor;
 import org.cardanofoundation.rosetta.common.spring.OffsetBasedPageRequest;
+import org.cardanofoundation.rosetta.common.util.TxHashArrays;
 import org.jooq.*;
 import org.jooq.Record;
 import org.jooq.impl.DSL;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -30,9 +34,10 @@ public class TxRepositoryPostgreSQLImpl extends TxRepositoryCustomBase implement
     private final PostgreSQLCurrencyConditionBuilder currencyConditionBuilder;
 
     public TxRepositoryPostgreSQLImpl(DSLContext dsl,
-                                     TxRepositoryQueryBuilder queryBuilder) {
+                                     TxRepositoryQueryBuilder queryBuilder,
+                                     @Value("${cardano.rosetta.TX_ASSET_STORE_ENABLED:false}") boolean txAssetStoreEnabled) {
         super(dsl, queryBuilder);
-        this.currencyConditionBuilder = new PostgreSQLCurrencyConditionBuilder();
+        this.currencyConditionBuilder = new PostgreSQLCurrencyConditionBuilder(txAssetStoreEnabled);
     }
 
     @Override
@@ -41,7 +46,7 @@ public class TxRepositoryPostgreSQLImpl extends TxRepositoryCustomBase implement
     }
 
     /**
-     * PostgreSQL always uses VALUES table approach for all hash set sizes.
+     * PostgreSQL always binds hash sets as one array parameter, whatever their size.
      * This provides consistent performance and eliminates threshold complexity.
      */
     @Override
@@ -53,30 +58,29 @@ public class TxRepositoryPostgreSQLImpl extends TxRepositoryCustomBase implement
                                                @Nullable Long maxBlock,
                                                @Nullable Boolean isSuccess,
                                                @Nullable Currency currency,
+                                               @Nullable TxCursor before,
+                                               CountMode countMode,
                                                OffsetBasedPageRequest offsetBasedPageRequest) {
         
-        log.debug("Using PostgreSQL VALUES approach for AND search with {} tx hashes and {} address hashes",
+        log.debug("Using PostgreSQL array binding for AND search with {} tx hashes and {} address hashes",
                  plainTxHashes != null ? plainTxHashes.size() : 0,
                  addressHashes != null ? addressHashes.size() : 0);
 
         // Build base conditions without hash filters
         Condition baseConditions = queryBuilder.buildAndConditions(null, null, blockHash, blockNumber, maxBlock, isSuccess, currency, getCurrencyConditionBuilder());
         
-        // Add plainTxHashes condition if present using VALUES table
+        // Add plainTxHashes condition if present using a bound array
         if (plainTxHashes != null && !plainTxHashes.isEmpty()) {
             baseConditions = baseConditions.and(createHashCondition(plainTxHashes));
         }
         
-        // Add addressHashes condition if present using VALUES table
+        // Add addressHashes condition if present using a bound array
         if (addressHashes != null && !addressHashes.isEmpty()) {
             baseConditions = baseConditions.and(createHashCondition(addressHashes));
         }
         
-        // Execute separate count and results queries for optimal performance
-        int totalCount = executeCountQuery(baseConditions, isSuccess);
-        List<? extends org.jooq.Record> results = executeResultsQuery(baseConditions, isSuccess, offsetBasedPageRequest);
-
-        return createPageFromSeparateQueries(totalCount, results, offsetBasedPageRequest);
+        // Count and results run in parallel, the results seek past the cursor when one is given
+        return executeSearch(baseConditions, isSuccess, before, countMode, offsetBasedPageRequest);
     }
 
     @Override
@@ -88,21 +92,23 @@ public class TxRepositoryPostgreSQLImpl extends TxRepositoryCustomBase implement
                                               @Nullable Long maxBlock,
                                               @Nullable Boolean isSuccess,
                                               @Nullable Currency currency,
+                                              @Nullable TxCursor before,
+                                              CountMode countMode,
                                               OffsetBasedPageRequest offsetBasedPageRequest) {
         
-        log.debug("Using PostgreSQL VALUES approach for OR search with {} tx hashes and {} address hashes",
+        log.debug("Using PostgreSQL array binding for OR search with {} tx hashes and {} address hashes",
                  plainTxHashes != null ? plainTxHashes.size() : 0,
                  addressHashes != null ? addressHashes.size() : 0);
 
         // Start with null and build OR conditions properly
         Condition orConditions = null;
         
-        // Add plainTxHashes as OR condition if present using VALUES table
+        // Add plainTxHashes as OR condition if present using a bound array
         if (plainTxHashes != null && !plainTxHashes.isEmpty()) {
             orConditions = createHashCondition(plainTxHashes);
         }
         
-        // Add addressHashes as OR condition if present using VALUES table
+        // Add addressHashes as OR condition if present using a bound array
         if (addressHashes != null && !addressHashes.isEmpty()) {
             Condition addressCondition = createHashCondition(addressHashes);
             orConditions = orConditions == null ? addressCondition : orConditions.or(addressCondition);
@@ -110,17 +116,17 @@ public class TxRepositoryPostgreSQLImpl extends TxRepositoryCustomBase implement
         
         // Add other OR conditions (blockHash, blockNumber, maxBlock, currency)
         if (blockHash != null) {
-            Condition blockHashCondition = BLOCK.HASH.eq(blockHash);
+            Condition blockHashCondition = TRANSACTION.BLOCK_HASH.eq(blockHash);
             orConditions = orConditions == null ? blockHashCondition : orConditions.or(blockHashCondition);
         }
         
         if (blockNumber != null) {
-            Condition blockNumberCondition = BLOCK.NUMBER.eq(blockNumber);
+            Condition blockNumberCondition = TRANSACTION.BLOCK.eq(blockNumber);
             orConditions = orConditions == null ? blockNumberCondition : orConditions.or(blockNumberCondition);
         }
         
         if (maxBlock != null) {
-            Condition maxBlockCondition = BLOCK.NUMBER.le(maxBlock);
+            Condition maxBlockCondition = TRANSACTION.BLOCK.le(maxBlock);
             orConditions = orConditions == null ? maxBlockCondition : orConditions.or(maxBlockCondition);
         }
         
@@ -142,51 +148,23 @@ public class TxRepositoryPostgreSQLImpl extends TxRepositoryCustomBase implement
             orConditions = orConditions.and(successCondition);
         }
 
-        // Execute separate count and results queries for optimal performance
-        int totalCount = executeCountQuery(orConditions, isSuccess);
-        List<? extends org.jooq.Record> results = executeResultsQuery(orConditions, isSuccess, offsetBasedPageRequest);
-
-        return createPageFromSeparateQueries(totalCount, results, offsetBasedPageRequest);
+        // Count and results run in parallel, the results seek past the cursor when one is given
+        return executeSearch(orConditions, isSuccess, before, countMode, offsetBasedPageRequest);
     }
     /**
-     * Creates a hash condition using VALUES table approach.
-     * Used for all hash set sizes in PostgreSQL for consistency and performance.
-     * 
+     * Creates a hash condition binding all hashes as one array parameter.
+     * The statement text does not depend on the number of hashes, so PostgreSQL plans it once
+     * and the driver can reuse its server-side prepared statement.
+     *
      * @param hashes Set of transaction hashes
-     * @return Condition using EXISTS with VALUES table
+     * @return Condition using = ANY with a bound array
      */
     private Condition createHashCondition(Set<String> hashes) {
         if (hashes == null || hashes.isEmpty()) {
             return DSL.trueCondition();
         }
-        
-        Table<?> valuesTable = createValuesTable(hashes);
-        return DSL.exists(
-            DSL.select(DSL.one())
-               .from(valuesTable)
-               .where(TRANSACTION.TX_HASH.eq(valuesTable.field("hash", String.class)))
-        );
-    }
-
-    /**
-     * Creates a VALUES table for efficient operations with any hash set size.
-     * This approach provides consistent performance characteristics.
-     * 
-     * @param hashes Set of transaction hashes
-     * @return Table representing the VALUES clause
-     */
-    private Table<?> createValuesTable(Set<String> hashes) {
-        if (hashes.isEmpty()) {
-            throw new IllegalArgumentException("Hash set cannot be empty");
-        }
 
-        // Build VALUES rows
-        Row1<String>[] rows = hashes.stream()
-                .map(DSL::row)
-                .toArray(Row1[]::new);
-
-        // Create VALUES table with alias
-        return DSL.values(rows).as("hash_values", "hash");
+        return TxHashArrays.anyOf(TRANSACTION.TX_HASH, hashes);
     }
 
     /**
@@ -194,6 +172,10 @@ public class TxRepositoryPostgreSQLImpl extends TxRepositoryCustomBase implement
      */
     private static class PostgreSQLCurrencyConditionBuilder extends BaseCurrencyConditionBuilder {
 
+        private PostgreSQLCurrencyConditionBuilder(boolean txAssetStoreEnabled) {
+            super(txAssetStoreEnabled);
+        }
+
         @Override
         protected Condition buildPolicyIdAndSymbolCondition(String escapedPolicyId, String escapedSymbol) {
             // Search for unit field containing policyId+symbol (hex-encoded)
@@ -73,15 +73,15 @@ public class TxRepositoryQueryBuilder {
         }
 
         if (maxBlock != null) {
-            condition = condition.and(BLOCK.NUMBER.le(maxBlock));
+            condition = condition.and(TRANSACTION.BLOCK.le(maxBlock));
         }
 
         if (blockHash != null) {
-            condition = condition.and(BLOCK.HASH.eq(blockHash));
+            condition = condition.and(TRANSACTION.BLOCK_HASH.eq(blockHash));
         }
 
         if (blockNumber != null) {
-            condition = condition.and(BLOCK.NUMBER.eq(blockNumber));
+            condition = condition.and(TRANSACTION.BLOCK.eq(blockNumber));
         }
 
         if (isSuccess != null) {
@@ -121,15 +121,15 @@ public class TxRepositoryQueryBuilder {
         }
 
         if (maxBlock != null) {
-            orCondition = orCondition == null ? BLOCK.NUMBER.le(maxBlock) : orCondition.or(BLOCK.NUMBER.le(maxBlock));
+            orCondition = orCondition == null ? TRANSACTION.BLOCK.le(maxBlock) : orCondition.or(TRANSACTION.BLOCK.le(maxBlock));
         }
 
         if (blockHash != null) {
-            orCondition = orCondition == null ? BLOCK.HASH.eq(blockHash) : orCondition.or(BLOCK.HASH.eq(blockHash));
+            orCondition = orCondition == null ? TRANSACTION.BLOCK_HASH.eq(blockHash) : orCondition.or(TRANSACTION.BLOCK_HASH.eq(blockHash));
         }
 
         if (blockNumber != null) {
-            orCondition = orCondition == null ? BLOCK.NUMBER.eq(blockNumber) : orCondition.or(BLOCK.NUMBER.eq(blockNumber));
+            orCondition = orCondition == null ? TRANSACTION.BLOCK.eq(blockNumber) : orCondition.or(TRANSACTION.BLOCK.eq(blockNumber));
         }
 
         if (currency != null) {
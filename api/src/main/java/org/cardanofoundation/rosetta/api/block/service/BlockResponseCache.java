@@ -0,0 +1,181 @@
+package org.cardanofoundation.rosetta.api.block.service;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.openapitools.client.model.BlockResponse;
+
+import org.cardanofoundation.rosetta.common.spring.PreSerializedJson;
+
+import static java.util.concurrent.TimeUnit.HOURS;
+
+/**
+ * Bounded cache of serialized /block responses for immutable blocks.
+ * Blocks deeper than the security parameter can no longer be rolled back, so their final JSON is
+ * kept and written straight to the response on a hit. Entries are keyed by block number with a
+ * secondary hash to number index and the cache is weighted by the size of the serialized bytes.
+ */
+@Slf4j
+@Component
+public class BlockResponseCache {
+
+  static final String CACHE_NAME = "blockResponseCache";
+
+  private final LedgerBlockService ledgerBlockService;
+  private final ObjectMapper objectMapper;
+
+  private final boolean enabled;
+  private final long immutableDepth;
+
+  private final Cache<Long, CachedBlockResponse> responsesByNumber;
+  private final Cache<String, Long> numbersByHash;
+  private final AtomicLong cachedBytes = new AtomicLong();
+
+  // highest tip seen so far, used to admit deep blocks without querying the tip every time
+  private final AtomicLong knownTipNumber = new AtomicLong(-1);
+
+  public BlockResponseCache(LedgerBlockService ledgerBlockService,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${cardano.rosetta.BLOCK_RESPONSE_CACHE_ENABLED:false}") boolean enabled,
+                            @Value("${cardano.rosetta.BLOCK_RESPONSE_CACHE_MAX_SIZE_MB:128}") long maxSizeMb,
+                            @Value("${cardano.rosetta.BLOCK_RESPONSE_CACHE_TTL_HOURS:12}") long ttlHours,
+                            @Value("${cardano.rosetta.BLOCK_RESPONSE_CACHE_IMMUTABLE_DEPTH:2160}") long immutableDepth) {
+    this.ledgerBlockService = ledgerBlockService;
+    this.objectMapper = objectMapper;
+    this.enabled = enabled;
+    this.immutableDepth = immutableDepth;
+
+    this.responsesByNumber = CacheBuilder.newBuilder()
+        .maximumWeight(maxSizeMb * 1024 * 1024)
+        .weigher((Long number, CachedBlockResponse response) -> response.getJsonBytes().length)
+        // token registry metadata is embedded in the response, so it must be refreshed eventually
+        .expireAfterWrite(ttlHours, HOURS)
+        .removalListener((RemovalListener<Long, CachedBlockResponse>) notification ->
+            cachedBytes.addAndGet(-notification.getValue().getJsonBytes().length))
+        .recordStats()
+        .build();
+    this.numbersByHash = CacheBuilder.newBuilder()
+        .maximumSize(100_000)
+        .expireAfterWrite(ttlHours, HOURS)
+        .build();
+
+    GuavaCacheMetrics.monitor(meterRegistry, responsesByNumber, CACHE_NAME);
+    Gauge.builder("rosetta.block.response.cache.bytes", cachedBytes, AtomicLong::get)
+        .description("Size of the serialized block responses held in the cache")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+
+    log.info("BlockResponseCache initialized with enabled: {}, maxSizeMb: {}, ttlHours: {}, immutableDepth: {}",
+        enabled, maxSizeMb, ttlHours, immutableDepth);
+  }
+
+  /**
+   * Returns the cached response for the given block identifier.
+   * Requests without index and hash ask for the latest block and are never served from the cache.
+   *
+   * @param index block number, may be null
+   * @param hash  block hash, may be null
+   * @return the cached response if present
+   */
+  public Optional<BlockResponse> get(@Nullable Long index, @Nullable String hash) {
+    if (!enabled || (index == null && hash == null)) {
+      return Optional.empty();
+    }
+
+    Long number = index != null ? index : numbersByHash.getIfPresent(hash);
+    if (number == null) {
+      return Optional.empty();
+    }
+
+    CachedBlockResponse response = responsesByNumber.getIfPresent(number);
+    if (response == null || (hash != null && !hash.equals(response.getBlockHash()))) {
+      return Optional.empty();
+    }
+
+    return Optional.of(response);
+  }
+
+  /**
+   * Serializes and stores the response if its block is deeper than the immutability depth.
+   *
+   * @param response the freshly built block response
+   * @return the serialized response if it was admitted, so that it is not serialized twice,
+   * otherwise the given response
+   */
+  public BlockResponse offer(BlockResponse response) {
+    if (!enabled || response.getBlock() == null) {
+      return response;
+    }
+
+    long number = response.getBlock().getBlockIdentifier().getIndex();
+    String hash = response.getBlock().getBlockIdentifier().getHash();
+    if (!isImmutable(number)) {
+      return response;
+    }
+
+    try {
+      byte[] json = objectMapper.writeValueAsBytes(response);
+      CachedBlockResponse cached = new CachedBlockResponse(hash, json);
+
+      cachedBytes.addAndGet(json.length);
+      responsesByNumber.put(number, cached);
+      numbersByHash.put(hash, number);
+
+      return cached;
+    } catch (JsonProcessingException e) {
+      log.warn("Unable to serialize block {} for the response cache: {}", number, e.getMessage());
+
+      return response;
+    }
+  }
+
+  private boolean isImmutable(long number) {
+    if (number <= knownTipNumber.get() - immutableDepth) {
+      return true;
+    }
+
+    long tipNumber = ledgerBlockService.findLatestBlockIdentifier().getNumber();
+    knownTipNumber.accumulateAndGet(tipNumber, Math::max);
+
+    return number <= tipNumber - immutableDepth;
+  }
+
+  /**
+   * Block response whose JSON has already been rendered.
+   */
+  static class CachedBlockResponse extends BlockResponse implements PreSerializedJson {
+
+    private final String blockHash;
+    private final byte[] jsonBytes;
+
+    CachedBlockResponse(String blockHash, byte[] jsonBytes) {
+      this.blockHash = blockHash;
+      this.jsonBytes = jsonBytes;
+    }
+
+    String getBlockHash() {
+      return blockHash;
+    }
+
+    @Override
+    public byte[] getJsonBytes() {
+      return jsonBytes;
+    }
+
+  }
+
+}
@@ -0,0 +1,199 @@
+package org.cardanofoundation.rosetta.api.block.service;
+
+import java.time.Duration;
+import java.util.Map;
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openapitools.client.model.BlockResponse;
+
+import org.cardanofoundation.rosetta.api.block.mapper.BlockMapper;
+import org.cardanofoundation.rosetta.api.block.model.domain.Block;
+import org.cardanofoundation.rosetta.api.block.model.domain.BlockIdentifierExtended;
+import org.cardanofoundation.rosetta.api.common.model.AssetFingerprint;
+import org.cardanofoundation.rosetta.api.common.model.TokenRegistryCurrencyData;
+import org.cardanofoundation.rosetta.api.common.service.TokenRegistryService;
+
+/**
+ * Back-populates the {@link BlockSegmentStore} with immutable blocks.
+ * Runs on its own virtual thread from the lowest missing full block up to the tip minus the
+ * immutability depth, renders every block exactly like the /block endpoint and then keeps
+ * following the tip. After a version change the store is empty and this regenerates it.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cardano.rosetta.BLOCK_SEGMENT_STORE_ENABLED", havingValue = "true")
+public class BlockSegmentFiller {
+
+  private final BlockSegmentStore blockSegmentStore;
+  private final BlockService blockService;
+  private final LedgerBlockService ledgerBlockService;
+  private final TokenRegistryService tokenRegistryService;
+  private final BlockMapper mapper;
+  private final ObjectMapper objectMapper;
+
+  private final long immutableDepth;
+  private final Duration fillInterval;
+  private final boolean removeSpentUtxos;
+
+  // lowest block that can be rendered completely and the tip it was looked up for
+  private long horizon;
+  private long horizonTip = -1;
+
+  private Thread worker;
+
+  public BlockSegmentFiller(BlockSegmentStore blockSegmentStore,
+                            BlockService blockService,
+                            LedgerBlockService ledgerBlockService,
+                            TokenRegistryService tokenRegistryService,
+                            BlockMapper mapper,
+                            ObjectMapper objectMapper,
+                            @Value("${cardano.rosetta.BLOCK_RESPONSE_CACHE_IMMUTABLE_DEPTH:2160}") long immutableDepth,
+                            @Value("${cardano.rosetta.BLOCK_SEGMENT_STORE_FILL_INTERVAL_SECONDS:60}") long fillIntervalSeconds,
+                            @Value("${cardano.rosetta.REMOVE_SPENT_UTXOS:true}") boolean removeSpentUtxos) {
+    this.blockSegmentStore = blockSegmentStore;
+    this.blockService = blockService;
+    this.ledgerBlockService = ledgerBlockService;
+    this.tokenRegistryService = tokenRegistryService;
+    this.mapper = mapper;
+    this.objectMapper = objectMapper;
+    this.immutableDepth = immutableDepth;
+    this.fillInterval = Duration.ofSeconds(fillIntervalSeconds);
+    this.removeSpentUtxos = removeSpentUtxos;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    worker = Thread.ofVirtual()
+        .name("block-segment-filler")
+        .start(this::run);
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (worker != null) {
+      worker.interrupt();
+    }
+  }
+
+  private void run() {
+    long next = -1;
+
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        next = fillPass(next);
+        Thread.sleep(fillInterval);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (RuntimeException e) {
+        log.warn("Block segment filler failed at block {}: {}", next, e.getMessage());
+        sleepQuietly();
+      }
+    }
+
+    log.info("Block segment filler stopped at block: {}", next);
+  }
+
+  /**
+   * Renders and stores the missing immutable blocks from {@code next}, skipping ahead when the
+   * pruning horizon has moved past it.
+   *
+   * @return the next block number to render
+   */
+  long fillPass(long next) {
+    BlockIdentifierExtended latest = ledgerBlockService.findLatestBlockIdentifier();
+    if (next < horizon(latest)) {
+      next = blockSegmentStore.firstMissing(horizon);
+      log.info("Block segment filler continues from block: {}", next);
+    }
+
+    long target = latest.getNumber() - immutableDepth;
+    while (next <= target && !Thread.currentThread().isInterrupted()) {
+      switch (fill(next)) {
+        case STORED -> next = blockSegmentStore.firstMissing(next + 1);
+        case BELOW_HORIZON -> {
+          // pruning overtook the filler, continue from the horizon fill just looked up
+          next = blockSegmentStore.firstMissing(horizon);
+          log.info("Block segment filler fell behind the pruning horizon, continues from block: {}", next);
+        }
+        case DEGRADED -> {
+          // the block is rendered again on the next pass
+          log.info("Token registry is unavailable for block {}, retrying in {}", next, fillInterval);
+          return next;
+        }
+      }
+    }
+
+    return next;
+  }
+
+  /**
+   * The lowest block that can be rendered completely. Once spent utxos are pruned, older blocks
+   * lose the inputs they spent. The horizon only moves with the tip, so it is looked up again only
+   * when the tip has moved.
+   */
+  private long horizon(BlockIdentifierExtended latest) {
+    if (latest.getNumber() != horizonTip) {
+      horizon = removeSpentUtxos
+          ? ledgerBlockService.findOldestBlockIdentifier(latest).getNumber()
+          : ledgerBlockService.findGenesisBlockIdentifier().getNumber();
+      horizonTip = latest.getNumber();
+    }
+
+    return horizon;
+  }
+
+  /**
+   * Renders and stores one block.
+   */
+  private FillResult fill(long number) {
+    Block block = blockService.findBlock(number, null);
+    // no request is waiting, so the registry gets its full timeout instead of the enrichment deadline
+    Map<AssetFingerprint, TokenRegistryCurrencyData> metadataMap = tokenRegistryService.awaitMetadataForBlockTxList(block.getTransactions());
+    if (TokenRegistryCurrencyData.anyDegraded(metadataMap.values())) {
+      return FillResult.DEGRADED;
+    }
+
+    BlockResponse response = mapper.mapToBlockResponseWithMetadata(block, metadataMap);
+
+    // without pruning the horizon never moves, with pruning a block at or above the current
+    // horizon was complete while it was rendered, the horizon only moves forward
+    if (removeSpentUtxos && number < horizon(ledgerBlockService.findLatestBlockIdentifier())) {
+      log.debug("Block {} fell below the pruning horizon, it is not stored", number);
+      return FillResult.BELOW_HORIZON;
+    }
+
+    try {
+      blockSegmentStore.append(number, block.getHash(), objectMapper.writeValueAsBytes(response));
+    } catch (JsonProcessingException e) {
+      log.warn("Unable to serialize block {} for the segment store: {}", number, e.getMessage());
+    }
+
+    return FillResult.STORED;
+  }
+
+  private enum FillResult {
+    STORED,
+    // the block fell below the pruning horizon while it was rendered
+    BELOW_HORIZON,
+    // the token registry failed or its circuit breaker is open
+    DEGRADED
+  }
+
+  private void sleepQuietly() {
+    try {
+      Thread.sleep(fillInterval);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
@@ -0,0 +1,315 @@
+package org.cardanofoundation.rosetta.api.block.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.openapitools.client.model.BlockResponse;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Persistent store of serialized /block responses for immutable blocks.
+ * Blocks are grouped into segments of {@link #SEGMENT_BLOCKS} consecutive block numbers. Every
+ * segment is an append-only data file holding the rendered JSON and a fixed-size index file with
+ * one entry (offset, length, block hash) per block number. Both are read through memory-mapped
+ * buffers, so a hit is served from the page cache without touching the database.
+ * The store is written by {@link BlockSegmentFiller} and is dropped when the middleware version
+ * changes, because a new release may render blocks differently.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cardano.rosetta.BLOCK_SEGMENT_STORE_ENABLED", havingValue = "true")
+public class BlockSegmentStore {
+
+  static final int SEGMENT_BLOCKS = 5_000;
+  static final String MANIFEST_FILE = "store.properties";
+
+  private static final int HASH_LENGTH = 32;
+  // offset (8 bytes) + length (4 bytes) + block hash (32 bytes), length 0 marks a missing block
+  private static final int ENTRY_SIZE = 8 + 4 + HASH_LENGTH;
+  private static final String VERSION_PROPERTY = "version";
+  // the data file is mapped in steps of this size instead of remapping it for every block
+  static final int DATA_MAPPING_CHUNK = 8 * 1024 * 1024;
+
+  private final Path directory;
+  private final Map<Long, Segment> segments = new ConcurrentHashMap<>();
+
+  public BlockSegmentStore(@Value("${cardano.rosetta.BLOCK_SEGMENT_STORE_PATH}") String directory,
+                           @Value("${cardano.rosetta.middleware-version}") String version,
+                           @Value("${cardano.rosetta.BLOCK_SEGMENT_STORE_REBUILD:false}") boolean rebuild) {
+    this.directory = Path.of(directory);
+
+    try {
+      Files.createDirectories(this.directory);
+      prepare(version, rebuild);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to open block segment store at " + directory, e);
+    }
+
+    log.info("BlockSegmentStore initialized at: {}, version: {}", directory, version);
+  }
+
+  /**
+   * Returns the stored response for the given block.
+   * Only lookups by block number are served, the hash is verified when it is given as well.
+   *
+   * @param index block number, may be null
+   * @param hash  block hash, may be null
+   * @return the stored response if present
+   */
+  public Optional<BlockResponse> get(@Nullable Long index, @Nullable String hash) {
+    if (index == null || index < 0) {
+      return Optional.empty();
+    }
+
+    return segment(index, false)
+        .flatMap(segment -> segment.read(index, hash));
+  }
+
+  public boolean contains(long number) {
+    return segment(number, false)
+        .map(segment -> segment.contains(number))
+        .orElse(false);
+  }
+
+  /**
+   * Appends the rendered response of an immutable block. Blocks that are already stored are kept.
+   *
+   * @param number block number
+   * @param hash   block hash
+   * @param json   serialized block response
+   */
+  public void append(long number, String hash, byte[] json) {
+    byte[] hashBytes = HexFormat.of().parseHex(hash);
+    if (hashBytes.length != HASH_LENGTH) {
+      log.debug("Skipping block {} with unexpected hash length {}", number, hashBytes.length);
+      return;
+    }
+
+    segment(number, true).ifPresent(segment -> segment.append(number, hashBytes, json));
+  }
+
+  /**
+   * Returns the lowest block number at or above the given one that is not stored yet.
+   */
+  public long firstMissing(long from) {
+    long number = from;
+    while (contains(number)) {
+      number++;
+    }
+
+    return number;
+  }
+
+  private Optional<Segment> segment(long number, boolean create) {
+    long start = number - number % SEGMENT_BLOCKS;
+    Segment segment = segments.get(start);
+    if (segment != null) {
+      return Optional.of(segment);
+    }
+
+    Path indexFile = directory.resolve("segment-%012d.idx".formatted(start));
+    if (!create && !Files.exists(indexFile)) {
+      return Optional.empty();
+    }
+
+    return Optional.of(segments.computeIfAbsent(start, s -> Segment.open(s, indexFile,
+        directory.resolve("segment-%012d.dat".formatted(s)))));
+  }
+
+  private void prepare(String version, boolean rebuild) throws IOException {
+    Path manifest = directory.resolve(MANIFEST_FILE);
+    Properties properties = new Properties();
+    if (Files.exists(manifest)) {
+      try (InputStream in = Files.newInputStream(manifest)) {
+        properties.load(in);
+      }
+    }
+
+    String storedVersion = properties.getProperty(VERSION_PROPERTY);
+    if (!rebuild && version.equals(storedVersion)) {
+      return;
+    }
+
+    if (storedVersion != null) {
+      log.info("Dropping block segments rendered by version: {}, rebuild requested: {}", storedVersion, rebuild);
+    }
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : files.filter(f -> f.getFileName().toString().startsWith("segment-")).toList()) {
+        Files.delete(file);
+      }
+    }
+
+    properties.setProperty(VERSION_PROPERTY, version);
+    try (OutputStream out = Files.newOutputStream(manifest)) {
+      properties.store(out, "Rosetta block segment store");
+    }
+  }
+
+  @PreDestroy
+  public void close() {
+    segments.values().forEach(Segment::force);
+  }
+
+  /**
+   * One range of {@link #SEGMENT_BLOCKS} blocks. Index entries are read and written under the
+   * segment lock, the JSON itself is copied from the mapped data outside of it.
+   */
+  private static final class Segment {
+
+    private final long start;
+    private final Path dataFile;
+    private final MappedByteBuffer index;
+
+    private MappedByteBuffer data;
+    // end of the stored data, the file and its mapping extend past it to the next chunk
+    private long dataSize;
+
+    private Segment(long start, Path dataFile, MappedByteBuffer index, MappedByteBuffer data, long dataSize) {
+      this.start = start;
+      this.dataFile = dataFile;
+      this.index = index;
+      this.data = data;
+      this.dataSize = dataSize;
+    }
+
+    static Segment open(long start, Path indexFile, Path dataFile) {
+      try (FileChannel indexChannel = FileChannel.open(indexFile, CREATE, READ, WRITE);
+           FileChannel dataChannel = FileChannel.open(dataFile, CREATE, READ, WRITE)) {
+        MappedByteBuffer index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, (long) SEGMENT_BLOCKS * ENTRY_SIZE);
+        long dataSize = storedDataSize(index, dataChannel.size());
+
+        return new Segment(start, dataFile, index, map(dataChannel, dataSize), dataSize);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Unable to open block segment " + indexFile, e);
+      }
+    }
+
+    boolean contains(long number) {
+      return entry(number) != null;
+    }
+
+    Optional<BlockResponse> read(long number, @Nullable String hash) {
+      Entry entry = entry(number);
+      if (entry == null || (hash != null && !hash.equalsIgnoreCase(entry.hash()))) {
+        return Optional.empty();
+      }
+
+      byte[] json = new byte[entry.length()];
+      entry.data().get((int) entry.offset(), json);
+
+      return Optional.of(new BlockResponseCache.CachedBlockResponse(entry.hash(), json));
+    }
+
+    synchronized void append(long number, byte[] hash, byte[] json) {
+      int position = entryPosition(number);
+      if (index.getInt(position + 8) > 0) {
+        return;
+      }
+
+      try (FileChannel channel = FileChannel.open(dataFile, READ, WRITE)) {
+        long offset = dataSize;
+        if (offset + json.length > Integer.MAX_VALUE) {
+          log.warn("Block segment {} is full, block {} is not stored", start, number);
+          return;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(json);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer, offset + buffer.position());
+        }
+
+        dataSize = offset + json.length;
+        if (dataSize > data.capacity()) {
+          data = map(channel, dataSize);
+        }
+        index.putLong(position, offset);
+        index.put(position + 12, hash);
+        index.putInt(position + 8, json.length);
+      } catch (IOException e) {
+        log.warn("Unable to append block {} to segment {}: {}", number, start, e.getMessage());
+      }
+    }
+
+    synchronized void force() {
+      index.force();
+    }
+
+    @Nullable
+    private synchronized Entry entry(long number) {
+      int position = entryPosition(number);
+      int length = index.getInt(position + 8);
+      long offset = index.getLong(position);
+      // entries pointing past the stored data lost their bytes in a crash
+      if (length <= 0 || offset + length > dataSize) {
+        return null;
+      }
+
+      byte[] hash = new byte[HASH_LENGTH];
+      index.get(position + 12, hash);
+
+      return new Entry(offset, length, HexFormat.of().formatHex(hash), data);
+    }
+
+    private int entryPosition(long number) {
+      return (int) (number - start) * ENTRY_SIZE;
+    }
+
+    /**
+     * Maps the data file up to the chunk boundary after {@code dataSize}, growing the file when needed.
+     */
+    private static MappedByteBuffer map(FileChannel channel, long dataSize) throws IOException {
+      long chunks = dataSize / DATA_MAPPING_CHUNK + 1;
+      long size = Math.min(chunks * DATA_MAPPING_CHUNK, Integer.MAX_VALUE);
+      if (channel.size() < size) {
+        // the read only mapping does not grow the file, so write its last byte first
+        channel.write(ByteBuffer.allocate(1), size - 1);
+      }
+
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+
+    /**
+     * Finds the end of the data referenced by the index, entries past the end of the file lost
+     * their bytes in a crash and are ignored.
+     */
+    private static long storedDataSize(MappedByteBuffer index, long fileSize) {
+      long dataSize = 0;
+      for (int position = 0; position < SEGMENT_BLOCKS * ENTRY_SIZE; position += ENTRY_SIZE) {
+        int length = index.getInt(position + 8);
+        long end = index.getLong(position) + length;
+        if (length > 0 && end <= fileSize) {
+          dataSize = Math.max(dataSize, end);
+        }
+      }
+
+      return dataSize;
+    }
+
+  }
+
+  private record Entry(long offset, int length, String hash, MappedByteBuffer data) {
+  }
+
+}
@@ -0,0 +1,171 @@
+package org.cardanofoundation.rosetta.api.block.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.cardanofoundation.rosetta.api.block.mapper.BlockMapper;
+import org.cardanofoundation.rosetta.api.block.model.domain.BlockIdentifierExtended;
+import org.cardanofoundation.rosetta.api.block.model.repository.BlockRepository;
+
+import static org.cardanofoundation.rosetta.api.jooq.Tables.ROLLBACK;
+
+/**
+ * Keeps the latest block identifier in memory, so the most polled endpoints do not run the
+ * latest block query on every request.
+ * The tip is reloaded on a fixed interval. A new row in the rollback table or a tip that moves
+ * backwards or changes its hash at the same height is reported as a rollback. When the tip has not
+ * been refreshed for several intervals it is considered stale and callers go to the database.
+ */
+@Slf4j
+@Component
+public class ChainTipTracker {
+
+  // number of missed refreshes after which the cached tip is no longer served
+  private static final int MAX_MISSED_REFRESHES = 5;
+  private static final long UNKNOWN_ROLLBACK_ID = -1;
+
+  private final BlockRepository blockRepository;
+  private final BlockMapper blockMapper;
+  private final DSLContext dsl;
+  private final Clock clock;
+
+  private final Duration maxStaleness;
+  private final boolean offlineMode;
+
+  private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+  private final Counter rollbacks;
+
+  private volatile long lastRollbackId = UNKNOWN_ROLLBACK_ID;
+
+  public ChainTipTracker(BlockRepository blockRepository,
+                         BlockMapper blockMapper,
+                         DSLContext dsl,
+                         Clock clock,
+                         MeterRegistry meterRegistry,
+                         @Value("${cardano.rosetta.CHAIN_TIP_REFRESH_INTERVAL_MS:1000}") long refreshIntervalMs,
+                         @Value("${cardano.rosetta.OFFLINE_MODE:false}") boolean offlineMode) {
+    this.blockRepository = blockRepository;
+    this.blockMapper = blockMapper;
+    this.dsl = dsl;
+    this.clock = clock;
+    this.maxStaleness = Duration.ofMillis(refreshIntervalMs * MAX_MISSED_REFRESHES);
+    this.offlineMode = offlineMode;
+
+    this.rollbacks = Counter.builder("rosetta.chain.tip.rollbacks")
+        .description("Rollbacks observed by the chain tip tracker")
+        .register(meterRegistry);
+    Gauge.builder("rosetta.chain.tip.staleness", this, ChainTipTracker::stalenessSeconds)
+        .description("Time since the chain tip was last refreshed from the database")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+
+    log.info("ChainTipTracker initialized with refreshIntervalMs: {}, offlineMode: {}", refreshIntervalMs, offlineMode);
+  }
+
+  /**
+   * Returns the cached tip if it was refreshed recently enough.
+   *
+   * @return the latest block identifier or empty if it is unknown or stale
+   */
+  public Optional<BlockIdentifierExtended> getTip() {
+    Snapshot current = snapshot.get();
+    if (current == null || isStale(current.refreshedAt())) {
+      return Optional.empty();
+    }
+
+    return Optional.of(current.tip());
+  }
+
+  /**
+   * Tells whether data refreshed on the tip refresh interval has missed too many refreshes.
+   *
+   * @param refreshedAt when the data was last refreshed
+   * @return true if it should no longer be served as current
+   */
+  public boolean isStale(Instant refreshedAt) {
+    return Duration.between(refreshedAt, clock.instant()).compareTo(maxStaleness) > 0;
+  }
+
+  @Scheduled(fixedDelayString = "${cardano.rosetta.CHAIN_TIP_REFRESH_INTERVAL_MS:1000}")
+  public void scheduledRefresh() {
+    if (offlineMode) {
+      return;
+    }
+
+    try {
+      refresh();
+    } catch (RuntimeException e) {
+      log.warn("Unable to refresh the chain tip: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Loads the latest block identifier from the database and caches it.
+   *
+   * @return the latest block identifier or empty if there are no blocks yet
+   */
+  public Optional<BlockIdentifierExtended> refresh() {
+    boolean rolledBack = checkRollbackTable();
+
+    Optional<BlockIdentifierExtended> latest = blockRepository.findLatestBlockIdentifier()
+        .map(blockMapper::mapToBlockIdentifierExtended);
+    latest.ifPresent(tip -> {
+      Snapshot previous = snapshot.getAndSet(new Snapshot(tip, clock.instant()));
+      if (rolledBack || (previous != null && isRollback(previous.tip(), tip))) {
+        rollbacks.increment();
+        log.info("Rollback detected, chain tip moved from {} to {}",
+            previous != null ? previous.tip().getNumber() : null, tip.getNumber());
+      }
+    });
+
+    return latest;
+  }
+
+  private boolean checkRollbackTable() {
+    try {
+      Long maxId = dsl.select(DSL.max(ROLLBACK.ID)).from(ROLLBACK).fetchOne(0, Long.class);
+      long rollbackId = maxId != null ? maxId : 0;
+      long previous = lastRollbackId;
+      lastRollbackId = rollbackId;
+
+      return previous != UNKNOWN_ROLLBACK_ID && previous != rollbackId;
+    } catch (DataAccessException | org.jooq.exception.DataAccessException e) {
+      log.debug("Unable to read the rollback table: {}", e.getMessage());
+
+      return false;
+    }
+  }
+
+  private static boolean isRollback(BlockIdentifierExtended previous, BlockIdentifierExtended current) {
+    return current.getNumber() < previous.getNumber()
+        || (current.getNumber().equals(previous.getNumber()) && !current.getHash().equals(previous.getHash()));
+  }
+
+  private double stalenessSeconds() {
+    Snapshot current = snapshot.get();
+    if (current == null) {
+      return Double.NaN;
+    }
+
+    return Duration.between(current.refreshedAt(), clock.instant()).toMillis() / 1000.0;
+  }
+
+  private record Snapshot(BlockIdentifierExtended tip, Instant refreshedAt) {
+  }
+
+}
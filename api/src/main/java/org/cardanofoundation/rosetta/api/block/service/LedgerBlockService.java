@@ -31,6 +31,16 @@ public interface LedgerBlockService {
    */
   List<BlockTx> findTransactionsByBlock(Long number, String hash);
 
+  /**
+   * Returns a single transaction of a block with all its data populated, without loading the
+   * other transactions of the block.
+   * @param number block number
+   * @param hash block hash
+   * @param txHash transaction hash
+   * @return the transaction if it is part of the given block or empty otherwise
+   */
+  Optional<BlockTx> findTransactionByBlock(Long number, String hash, String txHash);
+
   List<BlockTx> mapTxnEntitiesToBlockTxList(List<TxnEntity> txList);
 
   Page<BlockTx> mapTxnEntitiesToBlockTxList(Page<TxnEntity> txList);
@@ -27,10 +27,12 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.StructuredTaskScope;
 import java.util.concurrent.StructuredTaskScope.ShutdownOnFailure;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -52,6 +54,8 @@ public class LedgerBlockServiceImpl implements LedgerBlockService {
   private final WithdrawalRepository withdrawalRepository;
   private final AddressUtxoRepository addressUtxoRepository;
   private final InvalidTransactionRepository invalidTransactionRepository;
+  private final Optional<TxEnrichmentRepository> txEnrichmentRepository;
+  private final ChainTipTracker chainTipTracker;
 
   private final BlockMapper blockMapper;
   private final TransactionMapper transactionMapper;
@@ -74,9 +78,11 @@ public class LedgerBlockServiceImpl implements LedgerBlockService {
     log.info("LedgerBlockServiceImpl initialized with " +
                     "blockFetchTimeoutInSeconds: {}" +
                     ", isRemovalOfSpentUTxOsEnabled: {}" +
-                    ", removeSpentUTxOsLastBlocksGraceCount: {}",
+                    ", removeSpentUTxOsLastBlocksGraceCount: {}" +
+                    ", singleQueryEnrichment: {}",
 
-            blockTransactionApiTimeoutSecs, isRemovalOfSpentUTxOsEnabled, removeSpentUTxOsLastBlocksGraceCount);
+            blockTransactionApiTimeoutSecs, isRemovalOfSpentUTxOsEnabled, removeSpentUTxOsLastBlocksGraceCount,
+            txEnrichmentRepository.isPresent());
   }
 
   @Override
@@ -92,7 +98,7 @@ public class LedgerBlockServiceImpl implements LedgerBlockService {
               .findByNumberAndHash(blockNumber, blockHash)
               .map(this::toModelFrom);
     } else {
-      return blockRepository.findLatestBlock().map(this::toModelFrom);
+      return findLatestBlockEntity().map(this::toModelFrom);
     }
   }
 
@@ -116,10 +122,7 @@ public class LedgerBlockServiceImpl implements LedgerBlockService {
   @NotNull
   private Block toModelFrom(BlockEntity blockEntity) {
     Block model = blockMapper.mapToBlock(blockEntity);
-    List<BlockTx> transactions = model.getTransactions();
-    TransactionInfo fetched = findByTxHash(transactions);
-    Map<UtxoKey, AddressUtxoEntity> utxoMap = getUtxoMapFromEntities(fetched);
-    transactions.forEach(tx -> populateTransaction(tx, fetched, utxoMap));
+    populateTransactions(model.getTransactions());
 
     return model;
   }
@@ -142,13 +145,17 @@ public class LedgerBlockServiceImpl implements LedgerBlockService {
   }
 
   @Override
-  public List<BlockTx> mapTxnEntitiesToBlockTxList(List<TxnEntity> txList) {
-    List<BlockTx> transactions = txList.stream().map(blockMapper::mapToBlockTx).toList();
+  public Optional<BlockTx> findTransactionByBlock(Long blk, String blkHash, String txHash) {
+    log.debug("query blockNumber: {} blockHash: {} txHash: {}", blk, blkHash, txHash);
 
-    TransactionInfo fetched = findByTxHash(transactions);
-    Map<UtxoKey, AddressUtxoEntity> utxoMap = getUtxoMapFromEntities(fetched);
+    return txRepository.findTransactionByBlockAndHash(blk, blkHash, txHash)
+        .map(txnEntity -> mapTxnEntitiesToBlockTxList(List.of(txnEntity)).getFirst());
+  }
 
-    transactions.forEach(tx -> populateTransaction(tx, fetched, utxoMap));
+  @Override
+  public List<BlockTx> mapTxnEntitiesToBlockTxList(List<TxnEntity> txList) {
+    List<BlockTx> transactions = txList.stream().map(blockMapper::mapToBlockTx).toList();
+    populateTransactions(transactions);
 
     return transactions;
   }
@@ -156,11 +163,7 @@ public class LedgerBlockServiceImpl implements LedgerBlockService {
   @Override
   public Page<BlockTx> mapTxnEntitiesToBlockTxList(Page<TxnEntity> txList) {
     Page<BlockTx> transactions = txList.map(blockMapper::mapToBlockTx);
-
-    TransactionInfo fetched = findByTxHash(transactions.getContent());
-    Map<UtxoKey, AddressUtxoEntity> utxoMap = getUtxoMapFromEntities(fetched);
-
-    transactions.forEach(tx -> populateTransaction(tx, fetched, utxoMap));
+    populateTransactions(transactions.getContent());
 
     return transactions;
   }
@@ -168,7 +171,7 @@ public class LedgerBlockServiceImpl implements LedgerBlockService {
   @Override
   public Block findLatestBlock() {
     log.debug("About to look for latest block");
-    BlockEntity latestBlock = blockRepository.findLatestBlock()
+    BlockEntity latestBlock = findLatestBlockEntity()
             .orElseThrow(ExceptionFactory::genesisBlockNotFound);
     log.debug("Returning latest block {}", latestBlock);
     return toModelFrom(latestBlock);
@@ -177,14 +180,21 @@ public class LedgerBlockServiceImpl implements LedgerBlockService {
   @Override
   public BlockIdentifierExtended findLatestBlockIdentifier() {
     log.debug("About to look for latest findLatestBlockIdentifier");
-    BlockIdentifierExtended latestBlock = blockRepository.findLatestBlockIdentifier()
-            .map(blockMapper::mapToBlockIdentifierExtended)
+    BlockIdentifierExtended latestBlock = chainTipTracker.getTip()
+            .or(chainTipTracker::refresh)
             .orElseThrow(ExceptionFactory::genesisBlockNotFound);
     log.debug("Returning latest findLatestBlockIdentifier {}", latestBlock);
 
     return latestBlock;
   }
 
+  private Optional<BlockEntity> findLatestBlockEntity() {
+    // the tracked tip may have been rolled back since the last refresh, fall back to the latest block then
+    return chainTipTracker.getTip()
+            .flatMap(tip -> blockRepository.findByNumberAndHash(tip.getNumber(), tip.getHash()))
+            .or(blockRepository::findLatestBlock);
+  }
+
   @Override
   public BlockIdentifierExtended findGenesisBlockIdentifier() {
     if (cachedGenesisBlock == null) {
@@ -210,7 +220,7 @@ public class LedgerBlockServiceImpl implements LedgerBlockService {
     if (targetBlockNo < 0) {
         log.debug("Oldest block number is less than 0, returning genesis block");
 
-        return cachedGenesisBlock;
+        return findGenesisBlockIdentifier();
     }
 
     BlockIdentifierExtended oldestBlock = blockRepository.findBlockProjectionByNumber(targetBlockNo)
@@ -222,13 +232,36 @@ public class LedgerBlockServiceImpl implements LedgerBlockService {
     return oldestBlock;
   }
 
+  /**
+   * Fetches all enrichment data for the given transactions, groups it by tx hash once and then
+   * attaches it to every transaction in a single pass.
+   */
+  private void populateTransactions(List<BlockTx> transactions) {
+    TransactionInfo fetched = findByTxHash(transactions);
+    TransactionInfoIndex index = fetched.index();
+    Map<UtxoKey, AddressUtxoEntity> utxoMap = getUtxoMapFromEntities(fetched);
+
+    transactions.forEach(tx -> populateTransaction(tx, index, utxoMap));
+  }
+
   private TransactionInfo findByTxHash(List<BlockTx> transactions) {
-    List<String> txHashes = transactions.stream().map(BlockTx::getHash).toList();
+    List<String> txHashes = transactions.stream().map(BlockTx::getHash).distinct().toList();
+    // every output of a transaction carries the same hash, so the raw list repeats most of them
     List<String> utxHashes = transactions.stream()
             .flatMap(t -> Stream.concat(t.getInputs().stream(), t.getOutputs().stream()))
             .map(Utxo::getTxHash)
+            .distinct()
             .toList();
 
+    return txEnrichmentRepository
+            .map(repository -> TransactionInfo.from(repository.findByTxHashes(txHashes, utxHashes)))
+            .orElseGet(() -> findByTxHashInParallel(txHashes, utxHashes));
+  }
+
+  /**
+   * Forks one repository call per enrichment kind, each of them on its own pooled connection.
+   */
+  private TransactionInfo findByTxHashInParallel(List<String> txHashes, List<String> utxHashes) {
     try (ShutdownOnFailure scope = new ShutdownOnFailure()) {
       StructuredTaskScope.Subtask<List<AddressUtxoEntity>> utxos = scope.fork(() -> addressUtxoRepository.findByTxHashIn(utxHashes));
       StructuredTaskScope.Subtask<List<StakeRegistrationEntity>> sReg = scope.fork(() -> stakeRegistrationRepository.findByTxHashIn(txHashes));
@@ -271,12 +304,10 @@ public class LedgerBlockServiceImpl implements LedgerBlockService {
   }
 
   void populateTransaction(BlockTx transaction,
-                           TransactionInfo fetched,
+                           TransactionInfoIndex index,
                            Map<UtxoKey, AddressUtxoEntity> utxoMap) {
-    boolean invalid = fetched.invalidTransactions
-            .stream()
-            .anyMatch(invalidTx -> invalidTx.getTxHash().equals(transaction.getHash()));
-    transaction.setInvalid(invalid);
+    String txHash = transaction.getHash();
+    transaction.setInvalid(index.invalidTxHashes().contains(txHash));
 
     Optional.ofNullable(transaction.getInputs())
             .stream()
@@ -289,54 +320,42 @@ public class LedgerBlockServiceImpl implements LedgerBlockService {
             .forEach(utxo -> populateUtxo(utxo, utxoMap));
 
     transaction.setStakeRegistrations(
-            fetched.stakeRegistrations
-                    .stream()
-                    .filter(tx -> tx.getTxHash().equals(transaction.getHash()))
-                    .map(transactionMapper::mapStakeRegistrationEntityToStakeRegistration)
-                    .toList());
+            mapChildren(index.stakeRegistrations(), txHash,
+                    transactionMapper::mapStakeRegistrationEntityToStakeRegistration));
 
     transaction.setStakePoolDelegations(
-            fetched.poolDelegations
-                    .stream()
-                    .filter(tx -> tx.getTxHash().equals(transaction.getHash()))
-                    .map(transactionMapper::mapPoolDelegationEntityToDelegation)
-                    .toList());
+            mapChildren(index.poolDelegations(), txHash,
+                    transactionMapper::mapPoolDelegationEntityToDelegation));
 
     transaction.setWithdrawals(
-            fetched.withdrawals
-                    .stream()
-                    .filter(tx -> tx.getTxHash().equals(transaction.getHash()))
-                    .map(transactionMapper::mapWithdrawalEntityToWithdrawal)
-                    .toList());
+            mapChildren(index.withdrawals(), txHash,
+                    transactionMapper::mapWithdrawalEntityToWithdrawal));
 
     transaction.setPoolRegistrations(
-            fetched.poolRegistrations
-                    .stream()
-                    .filter(tx -> tx.getTxHash().equals(transaction.getHash()))
-                    .map(transactionMapper::mapEntityToPoolRegistration)
-                    .toList());
+            mapChildren(index.poolRegistrations(), txHash,
+                    transactionMapper::mapEntityToPoolRegistration));
 
     transaction.setPoolRetirements(
-            fetched.poolRetirements
-                    .stream()
-                    .filter(tx -> tx.getTxHash().equals(transaction.getHash()))
-                    .map(transactionMapper::mapEntityToPoolRetirement)
-                    .toList());
+            mapChildren(index.poolRetirements(), txHash,
+                    transactionMapper::mapEntityToPoolRetirement));
 
     transaction.setDRepDelegations(
-            fetched.drepDelegations
-                    .stream()
-                    .filter(tx -> tx.getTxHash().equals(transaction.getHash()))
-                    .map(transactionMapper::mapEntityToDRepDelegation)
-                    .toList());
+            mapChildren(index.drepDelegations(), txHash,
+                    transactionMapper::mapEntityToDRepDelegation));
 
     // Map SPO (Stake Pool Operator) governance votes
     transaction.setGovernancePoolVotes(
-            fetched.spoVotes
-                    .stream()
-                    .filter(vote -> vote.getTxHash().equals(transaction.getHash()))
-                    .map(transactionMapper::mapVotingProcedureEntityToGovernancePoolVote)
-                    .toList());
+            mapChildren(index.spoVotes(), txHash,
+                    transactionMapper::mapVotingProcedureEntityToGovernancePoolVote));
+  }
+
+  private static <E, D> List<D> mapChildren(Map<String, List<E>> childrenByTxHash,
+                                            String txHash,
+                                            Function<E, D> mapper) {
+    return childrenByTxHash.getOrDefault(txHash, List.of())
+            .stream()
+            .map(mapper)
+            .toList();
   }
 
   private void populateUtxo(Utxo utxo, Map<UtxoKey, AddressUtxoEntity> utxoMap) {
@@ -365,6 +384,54 @@ public class LedgerBlockServiceImpl implements LedgerBlockService {
                          List<PoolRetirementEntity> poolRetirements,
                          List<WithdrawalEntity> withdrawals,
                          List<InvalidTransactionEntity> invalidTransactions) {
+
+    static TransactionInfo from(TxEnrichmentRepository.TxEnrichment enrichment) {
+      return new TransactionInfo(
+              enrichment.utxos(),
+              enrichment.stakeRegistrations(),
+              enrichment.poolDelegations(),
+              enrichment.drepDelegations(),
+              enrichment.spoVotes(),
+              enrichment.poolRegistrations(),
+              enrichment.poolRetirements(),
+              enrichment.withdrawals(),
+              enrichment.invalidTransactions()
+      );
+    }
+
+    /**
+     * Groups every child list by tx hash in one pass each, so that attaching children to a
+     * transaction is a map lookup instead of a scan over all rows of the block.
+     */
+    TransactionInfoIndex index() {
+      return new TransactionInfoIndex(
+              groupByTxHash(stakeRegistrations, StakeRegistrationEntity::getTxHash),
+              groupByTxHash(poolDelegations, PoolDelegationEntity::getTxHash),
+              groupByTxHash(drepDelegations, DrepVoteDelegationEntity::getTxHash),
+              groupByTxHash(spoVotes, VotingProcedureEntity::getTxHash),
+              groupByTxHash(poolRegistrations, PoolRegistrationEntity::getTxHash),
+              groupByTxHash(poolRetirements, PoolRetirementEntity::getTxHash),
+              groupByTxHash(withdrawals, WithdrawalEntity::getTxHash),
+              invalidTransactions.stream()
+                      .map(InvalidTransactionEntity::getTxHash)
+                      .collect(Collectors.toUnmodifiableSet())
+      );
+    }
+
+    private static <T> Map<String, List<T>> groupByTxHash(List<T> entities,
+                                                          Function<T, String> txHashExtractor) {
+      return entities.stream().collect(Collectors.groupingBy(txHashExtractor));
+    }
+  }
+
+  record TransactionInfoIndex(Map<String, List<StakeRegistrationEntity>> stakeRegistrations,
+                              Map<String, List<PoolDelegationEntity>> poolDelegations,
+                              Map<String, List<DrepVoteDelegationEntity>> drepDelegations,
+                              Map<String, List<VotingProcedureEntity>> spoVotes,
+                              Map<String, List<PoolRegistrationEntity>> poolRegistrations,
+                              Map<String, List<PoolRetirementEntity>> poolRetirements,
+                              Map<String, List<WithdrawalEntity>> withdrawals,
+                              Set<String> invalidTxHashes) {
   }
 
   record UtxoKey(String txHash, Integer outputIndex) {
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
+import java.util.Collection;
 
 /**
  * Domain object representing token registry currency metadata.
@@ -45,6 +46,16 @@ public class TokenRegistryCurrencyData {
     @Nullable
     private Integer decimals;
 
+    /**
+     * True if the registry could not be queried in time and only the policy id is known.
+     * Responses rendered from degraded metadata must not be cached.
+     */
+    private boolean degraded;
+
+    public static boolean anyDegraded(Collection<TokenRegistryCurrencyData> metadata) {
+        return metadata.stream().anyMatch(TokenRegistryCurrencyData::isDegraded);
+    }
+
     /**
      * Domain object representing logo information.
      */
@@ -0,0 +1,46 @@
+package org.cardanofoundation.rosetta.api.common.model.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mirrored token registry metadata, stored as the JSON of the registry metadata per subject.
+ * Subjects the registry does not know are stored without metadata, so they are not requested
+ * again until they are refreshed.
+ */
+public interface TokenMetadataRepository {
+
+    /**
+     * @param subjects at most one page of subjects, looked up with a single query
+     * @return metadata JSON by subject for the mirrored subjects, null for subjects stored as unknown
+     */
+    Map<String, String> findMetadataBySubjects(Collection<String> subjects);
+
+    /**
+     * Inserts or replaces the metadata of the given subjects.
+     */
+    void upsert(Map<String, String> metadataBySubject, LocalDateTime updatedAt);
+
+    /**
+     * Stores the given subjects as unknown to the registry, subjects that are already mirrored are kept.
+     */
+    void insertUnknown(Collection<String> subjects, LocalDateTime updatedAt);
+
+    /**
+     * Marks the given subjects as up to date without changing their metadata.
+     */
+    void touch(Collection<String> subjects, LocalDateTime updatedAt);
+
+    /**
+     * @return subjects with metadata last updated before the given time, least recently updated first
+     */
+    List<String> findSubjectsUpdatedBefore(LocalDateTime updatedBefore, int limit);
+
+    /**
+     * @return subjects stored as unknown and last updated before the given time, least recently updated first
+     */
+    List<String> findUnknownSubjectsUpdatedBefore(LocalDateTime updatedBefore, int limit);
+
+}
@@ -0,0 +1,116 @@
+package org.cardanofoundation.rosetta.api.common.model.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.cardanofoundation.rosetta.api.common.model.repository.TokenMetadataTable.*;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TokenMetadataRepositoryImpl implements TokenMetadataRepository {
+
+    private final DSLContext dsl;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, String> findMetadataBySubjects(Collection<String> subjects) {
+        if (subjects.isEmpty()) {
+            return Map.of();
+        }
+
+        return dsl.select(SUBJECT, METADATA)
+                .from(TOKEN_METADATA)
+                .where(SUBJECT.eq(DSL.any(subjects.toArray(String[]::new))))
+                .fetchMap(SUBJECT, METADATA);
+    }
+
+    @Override
+    @Transactional
+    public void upsert(Map<String, String> metadataBySubject, LocalDateTime updatedAt) {
+        if (metadataBySubject.isEmpty()) {
+            return;
+        }
+
+        List<Query> upserts = metadataBySubject.entrySet().stream()
+                .<Query>map(entry -> dsl.insertInto(TOKEN_METADATA)
+                        .set(SUBJECT, entry.getKey())
+                        .set(METADATA, entry.getValue())
+                        .set(UPDATED_AT, updatedAt)
+                        .onConflict(SUBJECT)
+                        .doUpdate()
+                        .set(METADATA, entry.getValue())
+                        .set(UPDATED_AT, updatedAt))
+                .toList();
+
+        dsl.batch(upserts).execute();
+        log.debug("Upserted {} token metadata entries", upserts.size());
+    }
+
+    @Override
+    @Transactional
+    public void insertUnknown(Collection<String> subjects, LocalDateTime updatedAt) {
+        if (subjects.isEmpty()) {
+            return;
+        }
+
+        List<Query> inserts = subjects.stream()
+                .<Query>map(subject -> dsl.insertInto(TOKEN_METADATA)
+                        .set(SUBJECT, subject)
+                        .set(METADATA, (String) null)
+                        .set(UPDATED_AT, updatedAt)
+                        .onConflict(SUBJECT)
+                        .doNothing())
+                .toList();
+
+        dsl.batch(inserts).execute();
+        log.debug("Stored {} token metadata entries unknown to the registry", inserts.size());
+    }
+
+    @Override
+    @Transactional
+    public void touch(Collection<String> subjects, LocalDateTime updatedAt) {
+        if (subjects.isEmpty()) {
+            return;
+        }
+
+        dsl.update(TOKEN_METADATA)
+                .set(UPDATED_AT, updatedAt)
+                .where(SUBJECT.eq(DSL.any(subjects.toArray(String[]::new))))
+                .execute();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findSubjectsUpdatedBefore(LocalDateTime updatedBefore, int limit) {
+        return findUpdatedBefore(METADATA.isNotNull(), updatedBefore, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findUnknownSubjectsUpdatedBefore(LocalDateTime updatedBefore, int limit) {
+        return findUpdatedBefore(METADATA.isNull(), updatedBefore, limit);
+    }
+
+    private List<String> findUpdatedBefore(Condition condition, LocalDateTime updatedBefore, int limit) {
+        return dsl.select(SUBJECT)
+                .from(TOKEN_METADATA)
+                .where(condition)
+                .and(UPDATED_AT.lt(updatedBefore))
+                .orderBy(UPDATED_AT.asc())
+                .limit(limit)
+                .fetch(SUBJECT);
+    }
+
+}
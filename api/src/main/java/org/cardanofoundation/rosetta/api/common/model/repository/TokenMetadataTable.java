@@ -0,0 +1,25 @@
+package org.cardanofoundation.rosetta.api.common.model.repository;
+
+import java.time.LocalDateTime;
+
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+/**
+ * The token_metadata table holding the local mirror of the token registry.
+ * It is created by the indexer but only written by the API when TOKEN_REGISTRY_MIRROR_ENABLED is set.
+ */
+public final class TokenMetadataTable {
+
+    public static final Table<Record> TOKEN_METADATA = DSL.table(DSL.name("token_metadata"));
+
+    public static final Field<String> SUBJECT = DSL.field(DSL.name("token_metadata", "subject"), String.class);
+    public static final Field<String> METADATA = DSL.field(DSL.name("token_metadata", "metadata"), String.class);
+    public static final Field<LocalDateTime> UPDATED_AT = DSL.field(DSL.name("token_metadata", "updated_at"), LocalDateTime.class);
+
+    private TokenMetadataTable() {
+    }
+
+}
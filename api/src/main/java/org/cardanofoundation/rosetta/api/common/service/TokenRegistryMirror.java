@@ -0,0 +1,151 @@
+package org.cardanofoundation.rosetta.api.common.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Iterables;
+import lombok.extern.slf4j.Slf4j;
+import org.cardanofoundation.rosetta.api.common.model.repository.TokenMetadataRepository;
+import org.cardanofoundation.rosetta.client.model.domain.TokenSubject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local mirror of the token registry in the token_metadata table.
+ * When enabled, token metadata is read from the database with one indexed query per page of
+ * subjects. Subjects that are not mirrored yet are remembered so that the next
+ * {@link TokenRegistryMirrorSync} run fetches them from the registry. Subjects the registry does not
+ * know are mirrored without metadata, so requests for them do not reach the registry either.
+ */
+@Slf4j
+@Service
+public class TokenRegistryMirror {
+
+    static final int PAGE_SIZE = 1000;
+
+    // bounds the subjects remembered between two sync runs
+    private static final int MAX_PENDING_SUBJECTS = 10_000;
+
+    private final TokenMetadataRepository tokenMetadataRepository;
+    private final Clock clock;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    private final boolean enabled;
+
+    private final Set<String> pendingSubjects = ConcurrentHashMap.newKeySet();
+
+    public TokenRegistryMirror(TokenMetadataRepository tokenMetadataRepository,
+                               Clock clock,
+                               @Value("${cardano.rosetta.TOKEN_REGISTRY_MIRROR_ENABLED:false}") boolean enabled) {
+        this.tokenMetadataRepository = tokenMetadataRepository;
+        this.clock = clock;
+        this.enabled = enabled;
+
+        log.info("TokenRegistryMirror initialized with enabled: {}", enabled);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return mirrored token metadata by subject, empty for subjects the registry does not know,
+     * subjects that are not mirrored are missing
+     */
+    public Map<String, Optional<TokenSubject>> findBySubjects(Set<String> subjects) {
+        Map<String, Optional<TokenSubject>> found = new HashMap<>();
+
+        for (List<String> page : Iterables.partition(subjects, PAGE_SIZE)) {
+            tokenMetadataRepository.findMetadataBySubjects(page).forEach((subject, metadata) -> {
+                if (metadata == null) {
+                    found.put(subject, Optional.empty());
+                    return;
+                }
+
+                try {
+                    found.put(subject, Optional.of(objectMapper.readValue(metadata, TokenSubject.class)));
+                } catch (JsonProcessingException e) {
+                    log.warn("Ignoring unreadable mirrored token metadata for subject: {}", subject);
+                }
+            });
+        }
+
+        return found;
+    }
+
+    /**
+     * Remembers subjects that were requested but are not mirrored yet.
+     */
+    public void markMissing(Set<String> subjects) {
+        if (pendingSubjects.size() >= MAX_PENDING_SUBJECTS) {
+            return;
+        }
+
+        pendingSubjects.addAll(subjects);
+    }
+
+    /**
+     * @return the subjects marked missing since the last call
+     */
+    Set<String> drainPendingSubjects() {
+        Set<String> drained = new HashSet<>(pendingSubjects);
+        pendingSubjects.removeAll(drained);
+
+        return drained;
+    }
+
+    /**
+     * Stores the metadata of the given tokens, replacing what is mirrored for them.
+     */
+    public void save(Collection<TokenSubject> tokenSubjects) {
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        for (List<TokenSubject> page : Iterables.partition(tokenSubjects, PAGE_SIZE)) {
+            Map<String, String> metadataBySubject = new HashMap<>();
+            for (TokenSubject tokenSubject : page) {
+                try {
+                    metadataBySubject.put(tokenSubject.getSubject(), objectMapper.writeValueAsString(tokenSubject));
+                } catch (JsonProcessingException e) {
+                    log.warn("Skipping token metadata that cannot be serialized for subject: {}", tokenSubject.getSubject());
+                }
+            }
+
+            tokenMetadataRepository.upsert(metadataBySubject, now);
+        }
+    }
+
+    /**
+     * Stores subjects the registry does not know, so they are not fetched again before they are refreshed.
+     */
+    public void saveUnknown(Collection<String> subjects) {
+        tokenMetadataRepository.insertUnknown(subjects, LocalDateTime.now(clock));
+    }
+
+    /**
+     * Marks mirrored subjects as up to date when the registry had nothing newer for them.
+     */
+    public void touch(Collection<String> subjects) {
+        tokenMetadataRepository.touch(subjects, LocalDateTime.now(clock));
+    }
+
+    /**
+     * @return mirrored subjects with metadata last updated before the given time, least recently updated first
+     */
+    public List<String> findSubjectsUpdatedBefore(LocalDateTime updatedBefore, int limit) {
+        return tokenMetadataRepository.findSubjectsUpdatedBefore(updatedBefore, limit);
+    }
+
+    /**
+     * @return subjects mirrored as unknown to the registry and last updated before the given time,
+     * least recently updated first
+     */
+    public List<String> findUnknownSubjectsUpdatedBefore(LocalDateTime updatedBefore, int limit) {
+        return tokenMetadataRepository.findUnknownSubjectsUpdatedBefore(updatedBefore, limit);
+    }
+
+}
@@ -0,0 +1,259 @@
+package org.cardanofoundation.rosetta.api.common.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Iterables;
+import lombok.extern.slf4j.Slf4j;
+import org.cardanofoundation.rosetta.client.TokenRegistryHttpGateway;
+import org.cardanofoundation.rosetta.client.model.domain.TokenMetadata;
+import org.cardanofoundation.rosetta.client.model.domain.TokenProperty;
+import org.cardanofoundation.rosetta.client.model.domain.TokenPropertyNumber;
+import org.cardanofoundation.rosetta.client.model.domain.TokenSubject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the token registry mirror up to date.
+ * Every run imports new or changed mapping files from a local copy of the registry, fetches the
+ * subjects that were requested but not mirrored yet and refreshes mirrored subjects that are older
+ * than the mirror refresh interval. Subjects the registry does not know are mirrored as unknown and
+ * checked again after the token registry cache TTL, like misses of the in-memory cache. The remote
+ * registry is only used for these incremental refreshes, requests are served from the mirror.
+ */
+@Slf4j
+@Component
+public class TokenRegistryMirrorSync {
+
+    static final String CIP_26_SOURCE = "CIP_26";
+
+    // subjects per token registry batch request
+    static final int FETCH_BATCH_SIZE = 100;
+
+    // upper bound of mirrored subjects refreshed from the registry in one run
+    private static final int MAX_REFRESHED_SUBJECTS = 10_000;
+
+    private final TokenRegistryMirror tokenRegistryMirror;
+    private final TokenRegistryHttpGateway tokenRegistryHttpGateway;
+    private final Clock clock;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final AtomicBoolean syncInProgress = new AtomicBoolean(false);
+
+    @Nullable
+    private final Path mirrorDirectory;
+    private final int refreshHours;
+    private final int cacheTtlHours;
+    private final boolean logoFetchEnabled;
+
+    private volatile Instant lastImport = Instant.EPOCH;
+
+    public TokenRegistryMirrorSync(TokenRegistryMirror tokenRegistryMirror,
+                                   TokenRegistryHttpGateway tokenRegistryHttpGateway,
+                                   Clock clock,
+                                   @Value("${cardano.rosetta.TOKEN_REGISTRY_MIRROR_DIRECTORY:}") String mirrorDirectory,
+                                   @Value("${cardano.rosetta.TOKEN_REGISTRY_MIRROR_REFRESH_HOURS:168}") int refreshHours,
+                                   @Value("${cardano.rosetta.TOKEN_REGISTRY_CACHE_TTL_HOURS:12}") int cacheTtlHours,
+                                   @Value("${cardano.rosetta.TOKEN_REGISTRY_LOGO_FETCH:false}") boolean logoFetchEnabled) {
+        this.tokenRegistryMirror = tokenRegistryMirror;
+        this.tokenRegistryHttpGateway = tokenRegistryHttpGateway;
+        this.clock = clock;
+        this.mirrorDirectory = mirrorDirectory.isBlank() ? null : Path.of(mirrorDirectory);
+        this.refreshHours = refreshHours;
+        this.cacheTtlHours = cacheTtlHours;
+        this.logoFetchEnabled = logoFetchEnabled;
+    }
+
+    @Scheduled(fixedDelayString = "${cardano.rosetta.TOKEN_REGISTRY_MIRROR_SYNC_INTERVAL_MINUTES:10}",
+            timeUnit = TimeUnit.MINUTES)
+    public void scheduledSync() {
+        if (!tokenRegistryMirror.isEnabled()) {
+            return;
+        }
+
+        // the bulk import can take minutes, keep it off the shared scheduler thread
+        if (syncInProgress.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("token-registry-mirror-sync").start(() -> {
+                try {
+                    sync();
+                } catch (RuntimeException e) {
+                    log.warn("Token registry mirror sync failed: {}", e.getMessage());
+                } finally {
+                    syncInProgress.set(false);
+                }
+            });
+        }
+    }
+
+    void sync() {
+        importDirectory();
+        fetchPending();
+        refreshStale();
+    }
+
+    /**
+     * Imports the CIP-26 mapping files changed since the last import from the registry directory.
+     */
+    void importDirectory() {
+        if (mirrorDirectory == null) {
+            return;
+        }
+
+        Instant importStartedAt = Instant.now(clock);
+        List<TokenSubject> imported = new ArrayList<>();
+        Instant since = lastImport;
+
+        try (Stream<Path> files = Files.walk(mirrorDirectory)) {
+            files.filter(Files::isRegularFile)
+                    .filter(file -> file.getFileName().toString().endsWith(".json"))
+                    .filter(file -> isModifiedSince(file, since))
+                    .forEach(file -> readMapping(file).ifPresent(tokenSubject -> {
+                        imported.add(tokenSubject);
+                        if (imported.size() >= TokenRegistryMirror.PAGE_SIZE) {
+                            tokenRegistryMirror.save(imported);
+                            imported.clear();
+                        }
+                    }));
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Unable to import the token registry directory {}: {}", mirrorDirectory, e.getMessage());
+            return;
+        }
+
+        tokenRegistryMirror.save(imported);
+        lastImport = importStartedAt;
+        log.debug("Imported token registry mappings from {}", mirrorDirectory);
+    }
+
+    /**
+     * Fetches the subjects that were requested but are not mirrored yet. Subjects the registry does
+     * not return are stored as unknown.
+     */
+    void fetchPending() {
+        Set<String> pending = tokenRegistryMirror.drainPendingSubjects();
+
+        for (List<String> batch : Iterables.partition(pending, FETCH_BATCH_SIZE)) {
+            Optional<Map<String, TokenSubject>> fetched = tokenRegistryHttpGateway.fetchTokenMetadataBatch(new HashSet<>(batch));
+            if (fetched.isEmpty()) {
+                // retried on the next request that misses them
+                log.debug("Token registry unavailable, {} pending subjects are not mirrored yet", pending.size());
+                return;
+            }
+
+            Map<String, TokenSubject> found = fetched.get();
+            tokenRegistryMirror.save(found.values());
+            tokenRegistryMirror.saveUnknown(notFound(batch, found));
+        }
+    }
+
+    /**
+     * Refreshes mirrored subjects not updated within the mirror refresh interval and subjects stored
+     * as unknown that were not checked within the cache TTL.
+     */
+    void refreshStale() {
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        refresh(tokenRegistryMirror.findSubjectsUpdatedBefore(now.minusHours(refreshHours), MAX_REFRESHED_SUBJECTS));
+        refresh(tokenRegistryMirror.findUnknownSubjectsUpdatedBefore(now.minusHours(cacheTtlHours), MAX_REFRESHED_SUBJECTS));
+    }
+
+    private void refresh(List<String> stale) {
+        for (List<String> batch : Iterables.partition(stale, FETCH_BATCH_SIZE)) {
+            Optional<Map<String, TokenSubject>> fetched = tokenRegistryHttpGateway.fetchTokenMetadataBatch(new HashSet<>(batch));
+            if (fetched.isEmpty()) {
+                log.debug("Token registry unavailable, stale mirror entries are refreshed on the next run");
+                return;
+            }
+
+            Map<String, TokenSubject> found = fetched.get();
+            tokenRegistryMirror.save(found.values());
+
+            // subjects the registry does not return keep their last metadata, or stay unknown
+            List<String> unchanged = notFound(batch, found);
+            if (!unchanged.isEmpty()) {
+                tokenRegistryMirror.touch(unchanged);
+            }
+        }
+    }
+
+    private static List<String> notFound(List<String> batch, Map<String, TokenSubject> found) {
+        return batch.stream()
+                .filter(subject -> !found.containsKey(subject))
+                .toList();
+    }
+
+    private static boolean isModifiedSince(Path file, Instant since) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isAfter(since);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads a mapping file in the format of the cardano-token-registry repository.
+     */
+    Optional<TokenSubject> readMapping(Path file) {
+        try {
+            JsonNode mapping = objectMapper.readTree(file.toFile());
+
+            String subject = mapping.path("subject").asText(null);
+            TokenProperty name = property(mapping, "name");
+            TokenProperty description = property(mapping, "description");
+            if (subject == null || name == null || description == null) {
+                log.debug("Skipping token registry mapping without subject, name or description: {}", file);
+                return Optional.empty();
+            }
+
+            TokenMetadata metadata = TokenMetadata.builder()
+                    .name(name)
+                    .description(description)
+                    .ticker(property(mapping, "ticker"))
+                    .url(property(mapping, "url"))
+                    .logo(logoFetchEnabled ? property(mapping, "logo") : null)
+                    .decimals(numberProperty(mapping, "decimals"))
+                    .build();
+
+            return Optional.of(TokenSubject.builder()
+                    .subject(subject)
+                    .metadata(metadata)
+                    .build());
+        } catch (IOException e) {
+            log.warn("Skipping unreadable token registry mapping {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Nullable
+    private static TokenProperty property(JsonNode mapping, String name) {
+        JsonNode value = mapping.path(name).path("value");
+        if (!value.isValueNode()) {
+            return null;
+        }
+
+        return new TokenProperty(value.asText(), CIP_26_SOURCE);
+    }
+
+    @Nullable
+    private static TokenPropertyNumber numberProperty(JsonNode mapping, String name) {
+        JsonNode value = mapping.path(name).path("value");
+        if (!value.canConvertToLong()) {
+            return null;
+        }
+
+        return new TokenPropertyNumber(value.asLong(), CIP_26_SOURCE);
+    }
+
+}
@@ -82,6 +82,15 @@ public interface TokenRegistryService {
      */
     Map<AssetFingerprint, TokenRegistryCurrencyData> fetchMetadataForBlockTxList(@NotNull List<BlockTx> blockTxList);
 
+    /**
+     * Like {@link #fetchMetadataForBlockTxList(List)}, but waits for the token registry instead of the enrichment deadline.
+     * Meant for background rendering, metadata is only degraded if the registry failed or its circuit breaker is open.
+     *
+     * @param blockTxList List of BlockTx objects to process
+     * @return Map of Asset -> TokenRegistryCurrencyData with metadata (empty map if no native tokens)
+     */
+    Map<AssetFingerprint, TokenRegistryCurrencyData> awaitMetadataForBlockTxList(@NotNull List<BlockTx> blockTxList);
+
     /**
      * Extract all native token assets from AddressBalance list and fetch metadata in a single batch call
      * @param balances List of address balances potentially containing native tokens
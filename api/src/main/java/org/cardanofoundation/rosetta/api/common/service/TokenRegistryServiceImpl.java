@@ -31,9 +31,18 @@ import static org.cardanofoundation.rosetta.common.util.Constants.LOVELACE;
 public class TokenRegistryServiceImpl implements TokenRegistryService {
 
     private final TokenRegistryHttpGateway tokenRegistryHttpGateway;
+    private final TokenRegistryMirror tokenRegistryMirror;
 
     @Override
     public Map<AssetFingerprint, TokenRegistryCurrencyData> getTokenMetadataBatch(@NotNull Set<AssetFingerprint> assetFingerprints) {
+        return getTokenMetadataBatch(assetFingerprints, false);
+    }
+
+    /**
+     * @param awaitRegistry wait for the registry instead of the enrichment deadline
+     */
+    private Map<AssetFingerprint, TokenRegistryCurrencyData> getTokenMetadataBatch(Set<AssetFingerprint> assetFingerprints,
+                                                                                   boolean awaitRegistry) {
         if (assetFingerprints.isEmpty()) {
             return Map.of();
         }
@@ -43,8 +52,9 @@ public class TokenRegistryServiceImpl implements TokenRegistryService {
                 .map(AssetFingerprint::toSubject)
                 .collect(Collectors.toSet());
 
-        // Make the batch call to the gateway
-        Map<String, Optional<TokenSubject>> tokenSubjectMap = tokenRegistryHttpGateway.getTokenMetadataBatch(subjects);
+        Map<String, Optional<TokenSubject>> tokenSubjectMap = tokenRegistryMirror.isEnabled()
+                ? getMirroredTokenMetadata(subjects, awaitRegistry)
+                : getGatewayTokenMetadata(subjects, awaitRegistry);
 
         // Convert back to Asset -> TokenRegistryCurrencyData mapping
         Map<AssetFingerprint, TokenRegistryCurrencyData> result = new HashMap<>();
@@ -56,14 +66,39 @@ public class TokenRegistryServiceImpl implements TokenRegistryService {
             if (tokenSubject != null && tokenSubject.isPresent()) {
                 result.put(assetFingerprint, extractTokenMetadata(assetFingerprint.getPolicyId(), tokenSubject.get()));
             } else {
-                // Always return fallback metadata with at least policyId
-                result.put(assetFingerprint, createFallbackMetadata(assetFingerprint.getPolicyId()));
+                // Always return fallback metadata with at least policyId, subjects the gateway left out were not resolved in time
+                boolean degraded = tokenSubject == null && tokenRegistryHttpGateway.isEnabled();
+                result.put(assetFingerprint, createFallbackMetadata(assetFingerprint.getPolicyId(), degraded));
             }
         }
 
         return result;
     }
 
+    /**
+     * Reads the subjects from the local mirror. Subjects that are not mirrored yet are fetched
+     * through the gateway and queued for the next mirror sync.
+     */
+    private Map<String, Optional<TokenSubject>> getMirroredTokenMetadata(Set<String> subjects, boolean awaitRegistry) {
+        Map<String, Optional<TokenSubject>> tokenSubjectMap = new HashMap<>(tokenRegistryMirror.findBySubjects(subjects));
+
+        Set<String> missing = subjects.stream()
+                .filter(subject -> !tokenSubjectMap.containsKey(subject))
+                .collect(Collectors.toSet());
+        if (!missing.isEmpty()) {
+            tokenRegistryMirror.markMissing(missing);
+            tokenSubjectMap.putAll(getGatewayTokenMetadata(missing, awaitRegistry));
+        }
+
+        return tokenSubjectMap;
+    }
+
+    private Map<String, Optional<TokenSubject>> getGatewayTokenMetadata(Set<String> subjects, boolean awaitRegistry) {
+        return awaitRegistry
+                ? tokenRegistryHttpGateway.awaitTokenMetadataBatch(subjects)
+                : tokenRegistryHttpGateway.getTokenMetadataBatch(subjects);
+    }
+
     private TokenRegistryCurrencyData extractTokenMetadata(String policyId,
                                                            TokenSubject tokenSubject) {
         TokenRegistryCurrencyData.TokenRegistryCurrencyDataBuilder builder = TokenRegistryCurrencyData.builder()
@@ -217,6 +252,16 @@ public class TokenRegistryServiceImpl implements TokenRegistryService {
 
     @Override
     public Map<AssetFingerprint, TokenRegistryCurrencyData> fetchMetadataForBlockTxList(@NotNull List<BlockTx> blockTxList) {
+        return fetchMetadataForBlockTxList(blockTxList, false);
+    }
+
+    @Override
+    public Map<AssetFingerprint, TokenRegistryCurrencyData> awaitMetadataForBlockTxList(@NotNull List<BlockTx> blockTxList) {
+        return fetchMetadataForBlockTxList(blockTxList, true);
+    }
+
+    private Map<AssetFingerprint, TokenRegistryCurrencyData> fetchMetadataForBlockTxList(List<BlockTx> blockTxList,
+                                                                                         boolean awaitRegistry) {
         if (blockTxList == null || blockTxList.isEmpty()) {
             return Collections.emptyMap();
         }
@@ -230,7 +275,7 @@ public class TokenRegistryServiceImpl implements TokenRegistryService {
 
         // If there are native tokens, make single batch call for metadata
         if (!allAssetFingerprints.isEmpty()) {
-            return getTokenMetadataBatch(allAssetFingerprints);
+            return getTokenMetadataBatch(allAssetFingerprints, awaitRegistry);
         }
 
         return Collections.emptyMap();
@@ -299,9 +344,10 @@ public class TokenRegistryServiceImpl implements TokenRegistryService {
         };
     }
 
-    private TokenRegistryCurrencyData createFallbackMetadata(String policyId) {
+    private TokenRegistryCurrencyData createFallbackMetadata(String policyId, boolean degraded) {
         return TokenRegistryCurrencyData.builder()
                 .policyId(policyId)
+                .degraded(degraded)
                 .build();
     }
 
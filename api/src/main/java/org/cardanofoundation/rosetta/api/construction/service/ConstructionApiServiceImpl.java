@@ -31,7 +31,6 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 
 import static com.bloxbean.cardano.client.util.HexUtil.decodeHexString;
 
@@ -126,8 +125,6 @@ public class ConstructionApiServiceImpl implements ConstructionApiService {
   public ConstructionMetadataResponse constructionMetadataService(
           ConstructionMetadataRequest constructionMetadataRequest) {
 
-    CompletableFuture<ProtocolParams> protocolParamsFuture = CompletableFuture
-            .supplyAsync(protocolParamService::findProtocolParameters);
     ConstructionMetadataRequestOption options = constructionMetadataRequest.getOptions();
 
     int relativeTtl = options.getRelativeTtl().intValue();
@@ -141,7 +138,7 @@ public class ConstructionApiServiceImpl implements ConstructionApiService {
     log.debug("[constructionMetadata] updating tx size from {}", txSize);
     log.debug("[constructionMetadata] updated txSize size is ${updatedTxSize}");
 
-    ProtocolParams protocolParams = protocolParamsFuture.join();
+    ProtocolParams protocolParams = protocolParamService.findProtocolParameters();
     log.debug("[constructionMetadata] received protocol parameters from block-service {}",
             protocolParams);
 
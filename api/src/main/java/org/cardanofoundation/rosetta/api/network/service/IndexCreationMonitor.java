@@ -21,7 +21,8 @@ public interface IndexCreationMonitor {
     /**
      * Retrieves detailed information about required indexes and their status.
      * Returns an empty list if database doesn't support index status monitoring.
-     * For PostgreSQL, returns status information from pg_index system catalog.
+     * For PostgreSQL, returns status information from the pg_index system catalog,
+     * with build progress from pg_stat_progress_create_index for indexes being created concurrently.
      *
      * @return list of index status information
      */
@@ -33,6 +34,7 @@ public interface IndexCreationMonitor {
      * Numeric fields (blocks*, tuples*) are optional and may be null depending on the implementation.
      */
     record IndexCreationProgress(
+        String indexName,
         @Nullable String phase,
         @Nullable Long blocksTotal,
         @Nullable Long blocksDone,
@@ -0,0 +1,169 @@
+package org.cardanofoundation.rosetta.api.network.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.cardanofoundation.rosetta.api.network.service.IndexCreationMonitor.IndexCreationProgress;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Caches the readiness of the required database indexes, so sync status computations never
+ * query the database catalogs.
+ * A background thread polls the {@link IndexCreationMonitor} with an exponential backoff while
+ * indexes are missing or being built. Once all of them are valid and ready the state switches to
+ * READY and is only re-verified on a long interval, which still catches indexes dropped later.
+ */
+@Slf4j
+@Service
+public class IndexReadinessTracker {
+
+    public enum State {
+        UNKNOWN,
+        BUILDING,
+        READY
+    }
+
+    private final IndexCreationMonitor indexCreationMonitor;
+    private final Duration pollInterval;
+    private final Duration maxPollInterval;
+    private final Duration verifyInterval;
+    private final boolean offlineMode;
+
+    private final MultiGauge progressGauge;
+
+    private volatile State state = State.UNKNOWN;
+    private volatile List<IndexCreationProgress> progress = List.of();
+
+    private Thread worker;
+
+    public IndexReadinessTracker(IndexCreationMonitor indexCreationMonitor,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${cardano.rosetta.INDEX_READINESS_POLL_INTERVAL_SECONDS:5}") long pollIntervalSeconds,
+                                 @Value("${cardano.rosetta.INDEX_READINESS_MAX_POLL_INTERVAL_SECONDS:60}") long maxPollIntervalSeconds,
+                                 @Value("${cardano.rosetta.INDEX_READINESS_VERIFY_INTERVAL_SECONDS:600}") long verifyIntervalSeconds,
+                                 @Value("${cardano.rosetta.OFFLINE_MODE:false}") boolean offlineMode) {
+        this.indexCreationMonitor = indexCreationMonitor;
+        this.pollInterval = Duration.ofSeconds(pollIntervalSeconds);
+        this.maxPollInterval = Duration.ofSeconds(Math.max(pollIntervalSeconds, maxPollIntervalSeconds));
+        this.verifyInterval = Duration.ofSeconds(verifyIntervalSeconds);
+        this.offlineMode = offlineMode;
+
+        Gauge.builder("rosetta.index.readiness", this, tracker -> tracker.state == State.READY ? 1 : 0)
+            .description("1 when all required indexes are valid and ready, 0 otherwise")
+            .register(meterRegistry);
+        this.progressGauge = MultiGauge.builder("rosetta.index.creation.progress")
+            .description("Completion of the required indexes that are being built")
+            .baseUnit("percent")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (offlineMode) {
+            return;
+        }
+
+        worker = Thread.ofVirtual()
+            .name("index-readiness-tracker")
+            .start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    /**
+     * Returns the cached readiness. Only the very first call before the background thread has
+     * checked the indexes queries the database.
+     *
+     * @return true if indexes are not ready (missing, not valid, not ready or unknown), false if all are ready
+     */
+    public boolean isCreatingIndexes() {
+        State current = state;
+        if (current == State.UNKNOWN) {
+            current = check();
+        }
+
+        return current != State.READY;
+    }
+
+    /**
+     * Returns the index status captured by the last check, empty once all indexes are ready.
+     *
+     * @return list of index status information
+     */
+    public List<IndexCreationProgress> getIndexCreationProgress() {
+        return progress;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    private void run() {
+        Duration backoff = pollInterval;
+
+        while (!Thread.currentThread().isInterrupted()) {
+            Duration delay;
+            try {
+                if (check() == State.READY) {
+                    delay = verifyInterval;
+                    backoff = pollInterval;
+                } else {
+                    delay = backoff;
+                    backoff = nextBackoff(backoff);
+                }
+            } catch (RuntimeException e) {
+                log.warn("[IndexMonitor] Unable to check index readiness: {}", e.getMessage());
+                delay = backoff;
+            }
+
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    Duration nextBackoff(Duration backoff) {
+        Duration doubled = backoff.multipliedBy(2);
+
+        return doubled.compareTo(maxPollInterval) > 0 ? maxPollInterval : doubled;
+    }
+
+    synchronized State check() {
+        boolean creating = indexCreationMonitor.isCreatingIndexes();
+        List<IndexCreationProgress> latest = creating ? indexCreationMonitor.getIndexCreationProgress() : List.of();
+        State next = creating ? State.BUILDING : State.READY;
+
+        if (next != state) {
+            log.info("[IndexMonitor] Index readiness changed from {} to {}", state, next);
+        }
+        latest.forEach(indexProgress -> log.info("[IndexMonitor] Index {} status: {}",
+            indexProgress.indexName(), indexProgress.phase()));
+
+        progress = latest;
+        progressGauge.register(latest.stream()
+            .filter(indexProgress -> indexProgress.getCompletionPercentage() != null)
+            .map(indexProgress -> MultiGauge.Row.of(Tags.of("index", indexProgress.indexName()),
+                indexProgress.getCompletionPercentage()))
+            .toList(), true);
+        state = next;
+
+        return next;
+    }
+
+}
@@ -14,18 +14,19 @@ import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Service;
 import com.bloxbean.cardano.client.common.model.Network;
 import com.bloxbean.cardano.client.common.model.Networks;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.OpenAPIV3Parser;
 import org.openapitools.client.model.*;
 import org.openapitools.client.model.Error;
 
-import org.cardanofoundation.rosetta.api.block.model.domain.BlockIdentifierExtended;
 import org.cardanofoundation.rosetta.api.block.model.domain.NetworkStatus;
-import org.cardanofoundation.rosetta.api.block.service.LedgerBlockService;
 import org.cardanofoundation.rosetta.api.network.mapper.NetworkMapper;
 import org.cardanofoundation.rosetta.common.enumeration.OperationType;
 import org.cardanofoundation.rosetta.common.enumeration.OperationTypeStatus;
 import org.cardanofoundation.rosetta.common.exception.ExceptionFactory;
+import org.cardanofoundation.rosetta.common.spring.PreSerializedJson;
 import org.cardanofoundation.rosetta.common.time.OfflineSlotService;
 import org.cardanofoundation.rosetta.common.util.Constants;
 import org.cardanofoundation.rosetta.common.util.RosettaConstants;
@@ -37,13 +38,12 @@ import static org.cardanofoundation.rosetta.common.util.Constants.*;
 @RequiredArgsConstructor
 public class NetworkServiceImpl implements NetworkService {
 
-  private final LedgerBlockService ledgerBlockService;
   private final NetworkMapper networkMapper;
-  private final TopologyConfigService topologyConfigService;
   private final ResourceLoader resourceLoader;
   private final GenesisDataProvider genesisDataProvider;
-  private final SyncStatusService syncStatusService;
+  private final NetworkStatusSnapshotService networkStatusSnapshotService;
   private final CallService callService;
+  private final ObjectMapper objectMapper;
 
   @Value("${cardano.rosetta.GENESIS_SHELLEY_PATH}")
   private String genesisShelleyPath;
@@ -54,13 +54,16 @@ public class NetworkServiceImpl implements NetworkService {
   @Value("${cardano.rosetta.middleware-version}")
   private String revision;
 
-  @Value("${cardano.rosetta.REMOVE_SPENT_UTXOS:true}")
-  private boolean isRemovalOfSpentUTxOsEnabled;
+  // does not change while the application runs, so it is built and serialized once
+  private NetworkOptionsResponse networkOptions;
 
   @PostConstruct
   public void init() {
     log.info("NetworkServiceImpl initializing...");
-    log.info("isRemovalOfSpentUTxOsEnabled: {}", isRemovalOfSpentUTxOsEnabled);
+
+    long start = System.nanoTime();
+    networkOptions = preSerialize(buildNetworkOptions());
+    log.info("Network options prepared in {} ms", (System.nanoTime() - start) / 1_000_000);
   }
 
   @Override
@@ -75,6 +78,10 @@ public class NetworkServiceImpl implements NetworkService {
   public NetworkOptionsResponse getNetworkOptions(NetworkRequest networkRequest) {
     log.info("[networkOptions] Looking for networkOptions");
 
+    return networkOptions;
+  }
+
+  private NetworkOptionsResponse buildNetworkOptions() {
     String rosettaVersion = getRosettaVersion();
     OperationStatus success = new OperationStatus().successful(true)
             .status(OperationTypeStatus.SUCCESS.getValue());
@@ -107,6 +114,16 @@ public class NetworkServiceImpl implements NetworkService {
             .build();
   }
 
+  private NetworkOptionsResponse preSerialize(NetworkOptionsResponse response) {
+    try {
+      return new PreSerializedNetworkOptionsResponse(response, objectMapper.writeValueAsBytes(response));
+    } catch (JsonProcessingException e) {
+      log.warn("Unable to pre-serialize network options: {}", e.getMessage());
+
+      return response;
+    }
+  }
+
   private String getRosettaVersion() {
     try {
       InputStream openAPIStream = resourceLoader.getResource(
@@ -123,8 +140,7 @@ public class NetworkServiceImpl implements NetworkService {
   @Override
   public NetworkStatusResponse getNetworkStatus(NetworkRequest networkRequest) {
     log.info("[networkStatus] Request received: {}", networkRequest.toString());
-    log.info("[networkStatus] Looking for latest block");
-    NetworkStatus networkStatus = networkStatus();
+    NetworkStatus networkStatus = networkStatusSnapshotService.getNetworkStatus();
 
     return networkMapper.toNetworkStatusResponse(networkStatus);
   }
@@ -143,35 +159,6 @@ public class NetworkServiceImpl implements NetworkService {
     };
   }
 
-  private NetworkStatus networkStatus() {
-    log.info("[networkStatus] Looking for network status");
-
-    BlockIdentifierExtended latestBlock = ledgerBlockService.findLatestBlockIdentifier();
-    log.debug("[networkStatus] Latest block found {}", latestBlock);
-
-    log.debug("[networkStatus] Looking for genesis block");
-    BlockIdentifierExtended genesisBlock = ledgerBlockService.findGenesisBlockIdentifier();
-
-    log.debug("[networkStatus] Genesis block found {}", genesisBlock);
-
-    List<Peer> peers = topologyConfigService.getPeers();
-
-    NetworkStatus.NetworkStatusBuilder networkStatusBuilder = NetworkStatus.builder()
-            .latestBlock(latestBlock)
-            .genesisBlock(genesisBlock)
-            .peers(peers);
-
-    if (isRemovalOfSpentUTxOsEnabled) {
-      BlockIdentifierExtended oldestBlockIdentifier = ledgerBlockService.findOldestBlockIdentifier(latestBlock);
-
-      networkStatusBuilder.oldestBlock(oldestBlockIdentifier);
-    }
-
-    syncStatusService.calculateSyncStatus(latestBlock).ifPresent(networkStatusBuilder::syncStatus);
-
-    return networkStatusBuilder.build();
-  }
-
   @Override
   public void verifyNetworkRequest(final NetworkIdentifier networkIdentifier) {
     if (networkIdentifier != null) {
@@ -201,4 +188,24 @@ public class NetworkServiceImpl implements NetworkService {
     };
   }
 
+  /**
+   * Network options response whose JSON has already been rendered.
+   */
+  static final class PreSerializedNetworkOptionsResponse extends NetworkOptionsResponse implements PreSerializedJson {
+
+    private final byte[] jsonBytes;
+
+    PreSerializedNetworkOptionsResponse(NetworkOptionsResponse response, byte[] jsonBytes) {
+      setVersion(response.getVersion());
+      setAllow(response.getAllow());
+      this.jsonBytes = jsonBytes;
+    }
+
+    @Override
+    public byte[] getJsonBytes() {
+      return jsonBytes;
+    }
+
+  }
+
 }
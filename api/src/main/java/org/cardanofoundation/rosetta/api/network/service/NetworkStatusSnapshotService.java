@@ -0,0 +1,143 @@
+package org.cardanofoundation.rosetta.api.network.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.openapitools.client.model.Peer;
+
+import org.cardanofoundation.rosetta.api.block.model.domain.BlockIdentifierExtended;
+import org.cardanofoundation.rosetta.api.block.model.domain.NetworkStatus;
+import org.cardanofoundation.rosetta.api.block.service.ChainTipTracker;
+import org.cardanofoundation.rosetta.api.block.service.LedgerBlockService;
+
+/**
+ * Serves a ready /network/status from memory.
+ * The snapshot is rebuilt in the background: block identifiers only when the tip changes, peers
+ * from the cached peer list and the sync status on every refresh because it depends on the current
+ * time and on the index readiness. The request path neither queries the database nor calls
+ * yaci-indexer while the snapshot is fresh. Once the snapshot is stale by the
+ * {@link ChainTipTracker} rule, one caller at a time rebuilds it while the others are served the
+ * stale snapshot, so a slow database is not queried by every request at once.
+ */
+@Slf4j
+@Service
+public class NetworkStatusSnapshotService {
+
+  private final LedgerBlockService ledgerBlockService;
+  private final TopologyConfigService topologyConfigService;
+  private final SyncStatusService syncStatusService;
+  private final ChainTipTracker chainTipTracker;
+  private final Clock clock;
+
+  private final boolean isRemovalOfSpentUTxOsEnabled;
+  private final boolean offlineMode;
+
+  private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+  // set while a caller rebuilds a stale snapshot
+  private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+  public NetworkStatusSnapshotService(LedgerBlockService ledgerBlockService,
+                                      TopologyConfigService topologyConfigService,
+                                      SyncStatusService syncStatusService,
+                                      ChainTipTracker chainTipTracker,
+                                      Clock clock,
+                                      @Value("${cardano.rosetta.REMOVE_SPENT_UTXOS:true}") boolean isRemovalOfSpentUTxOsEnabled,
+                                      @Value("${cardano.rosetta.OFFLINE_MODE:false}") boolean offlineMode) {
+    this.ledgerBlockService = ledgerBlockService;
+    this.topologyConfigService = topologyConfigService;
+    this.syncStatusService = syncStatusService;
+    this.chainTipTracker = chainTipTracker;
+    this.clock = clock;
+    this.isRemovalOfSpentUTxOsEnabled = isRemovalOfSpentUTxOsEnabled;
+    this.offlineMode = offlineMode;
+  }
+
+  /**
+   * Returns the current network status, building it on the caller thread if no snapshot exists
+   * yet. A stale snapshot is rebuilt by a single caller, the others and a failed rebuild are
+   * served the stale snapshot.
+   *
+   * @return the network status
+   */
+  public NetworkStatus getNetworkStatus() {
+    Snapshot current = snapshot.get();
+    if (current == null) {
+      log.debug("[networkStatus] No snapshot yet, building it on request");
+
+      return refreshStatus();
+    }
+
+    if (chainTipTracker.isStale(current.takenAt()) && rebuilding.compareAndSet(false, true)) {
+      try {
+        log.warn("[networkStatus] Snapshot is {} ms old, rebuilding it on request",
+            Duration.between(current.takenAt(), clock.instant()).toMillis());
+
+        return refreshStatus();
+      } catch (RuntimeException e) {
+        log.warn("[networkStatus] Unable to rebuild the stale snapshot, serving it: {}", e.getMessage());
+      } finally {
+        rebuilding.set(false);
+      }
+    }
+
+    return current.status();
+  }
+
+  @Scheduled(fixedDelayString = "${cardano.rosetta.CHAIN_TIP_REFRESH_INTERVAL_MS:1000}")
+  public void scheduledRefresh() {
+    if (offlineMode) {
+      return;
+    }
+
+    try {
+      refreshStatus();
+    } catch (RuntimeException e) {
+      log.warn("[networkStatus] Unable to refresh the network status snapshot: {}", e.getMessage());
+    }
+  }
+
+  NetworkStatus refreshStatus() {
+    BlockIdentifierExtended latestBlock = ledgerBlockService.findLatestBlockIdentifier();
+    // served from the peer cache, refreshed by TopologyConfigServiceImpl in the background
+    List<Peer> peers = topologyConfigService.getPeers();
+    Snapshot previousSnapshot = snapshot.get();
+    NetworkStatus previous = previousSnapshot == null ? null : previousSnapshot.status();
+
+    NetworkStatus.NetworkStatusBuilder networkStatusBuilder = NetworkStatus.builder()
+        .latestBlock(latestBlock)
+        .peers(peers);
+
+    if (previous != null && previous.getLatestBlock().equals(latestBlock)) {
+      networkStatusBuilder
+          .genesisBlock(previous.getGenesisBlock())
+          .oldestBlock(previous.getOldestBlock());
+    } else {
+      log.debug("[networkStatus] Tip changed to {}", latestBlock);
+      networkStatusBuilder.genesisBlock(ledgerBlockService.findGenesisBlockIdentifier());
+
+      if (isRemovalOfSpentUTxOsEnabled) {
+        networkStatusBuilder.oldestBlock(ledgerBlockService.findOldestBlockIdentifier(latestBlock));
+      }
+    }
+
+    syncStatusService.calculateSyncStatus(latestBlock).ifPresent(networkStatusBuilder::syncStatus);
+
+    NetworkStatus networkStatus = networkStatusBuilder.build();
+    snapshot.set(new Snapshot(networkStatus, clock.instant()));
+
+    return networkStatus;
+  }
+
+  private record Snapshot(NetworkStatus status, Instant takenAt) {
+  }
+
+}
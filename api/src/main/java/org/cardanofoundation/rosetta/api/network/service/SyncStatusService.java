@@ -11,7 +11,6 @@ import org.springframework.stereotype.Service;
 
 import javax.annotation.Nullable;
 import javax.annotation.PostConstruct;
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,7 +24,7 @@ public class SyncStatusService {
 
     private final OfflineSlotService offlineSlotService;
     private final SlotRangeChecker slotRangeChecker;
-    private final IndexCreationMonitor indexCreationMonitor;
+    private final IndexReadinessTracker indexReadinessTracker;
 
     @Value("${cardano.rosetta.SYNC_GRACE_SLOTS_COUNT:100}")
     private int allowedSlotsDelta;
@@ -64,8 +63,8 @@ public class SyncStatusService {
                 allowedSlotsDelta
             );
 
-            // Check if required indexes are missing, not valid, or not ready
-            boolean indexesNotReady = indexCreationMonitor.isCreatingIndexes();
+            // Check if required indexes are missing, not valid, or not ready (cached, no database query)
+            boolean indexesNotReady = indexReadinessTracker.isCreatingIndexes();
 
             // Determine sync stage and synced status
             SyncStage stage;
@@ -85,20 +84,13 @@ public class SyncStatusService {
                 // Reached tip but required indexes are missing, not valid, or not ready
                 stage = SyncStage.APPLYING_INDEXES;
                 isSynced = false;
-                log.info(
+                // index status is logged by IndexReadinessTracker whenever it polls
+                log.debug(
                     "[SyncStatus] Stage: APPLYING_INDEXES - Node reached tip but required indexes are not ready. " +
                     "Current slot: {}, Latest block slot: {}",
                     slotBasedOnTime,
                     slotBasedOnLatestBlock
                 );
-
-                // Log index status for visibility
-                List<IndexCreationMonitor.IndexCreationProgress> progressList = indexCreationMonitor.getIndexCreationProgress();
-                if (!progressList.isEmpty()) {
-                    progressList.forEach(progress -> {
-                        log.info("[SyncStatus] Index status: {}", progress.phase());
-                    });
-                }
             } else {
                 // Fully synced and ready
                 stage = SyncStage.LIVE;
@@ -11,14 +11,23 @@ import org.cardanofoundation.rosetta.common.exception.ExceptionFactory;
 import org.cardanofoundation.rosetta.common.util.FileUtils;
 import org.openapitools.client.model.Peer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 
 import javax.annotation.PostConstruct;
 import java.io.IOException;
 import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @Slf4j
@@ -27,28 +36,63 @@ public class TopologyConfigServiceImpl implements TopologyConfigService {
 
   private final YaciHttpGateway yaciHttpGateway;
   private final PeerSnapshotService peerSnapshotService;
+  private final MeterRegistry meterRegistry;
+  private final Clock clock;
 
   @Value("${cardano.rosetta.TOPOLOGY_FILEPATH}")
   private String topologyFilepath;
 
+  @Value("${cardano.rosetta.PEERS_CACHE_TTL_SECONDS:60}")
+  private long peersCacheTtlSeconds = 60;
+
+  @Value("${cardano.rosetta.PEERS_CACHE_MAX_STALENESS_SECONDS:600}")
+  private long peersCacheMaxStalenessSeconds = 600;
+
   private List<Peer> cachedPeers;
 
+  // discovered peers are served stale while a virtual thread revalidates them
+  private final AtomicReference<DiscoveredPeers> discoveredPeers = new AtomicReference<>();
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+
   @PostConstruct
   public void init() {
     TopologyConfig topologyConfig = loadTopologyConfig();
     cachedPeers = getPeerFromConfig(topologyConfig);
     log.info("Peer loaded from topology config json, cachedPeers_size:" + cachedPeers.size());
+
+    Gauge.builder("rosetta.peers.cache.age", this, TopologyConfigServiceImpl::discoveredPeersAgeSeconds)
+        .description("Age of the discovered peers fetched from yaci-indexer")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+    Gauge.builder("rosetta.peers.cache.size", discoveredPeers, ref -> ref.get() != null ? ref.get().peers().size() : 0)
+        .description("Number of cached discovered peers")
+        .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUpDiscoveredPeers() {
+    refreshDiscoveredPeersAsync();
   }
 
+  /**
+   * Returns the cached discovered peers, or the static peers when none were discovered or the cache
+   * is older than the max staleness. Never calls yaci-indexer on the caller thread, a refresh is
+   * started in the background once the cached peers are older than the TTL.
+   */
   @Override
   public List<Peer> getPeers() {
-    List<Peer> discoveredPeers = getDiscoveredPeers();
+    DiscoveredPeers current = discoveredPeers.get();
+    Duration age = current != null ? Duration.between(current.fetchedAt(), clock.instant()) : null;
 
-    if (discoveredPeers.isEmpty()) {
+    if (age == null || age.getSeconds() >= peersCacheTtlSeconds) {
+      refreshDiscoveredPeersAsync();
+    }
+
+    if (age == null || age.getSeconds() > peersCacheMaxStalenessSeconds || current.peers().isEmpty()) {
       return getStaticPeers();
     }
 
-    return discoveredPeers;
+    return current.peers();
   }
 
   @Override
@@ -118,6 +162,42 @@ public class TopologyConfigServiceImpl implements TopologyConfigService {
     }
   }
 
+  private void refreshDiscoveredPeersAsync() {
+    if (!refreshing.compareAndSet(false, true)) {
+      return;
+    }
+
+    Thread.ofVirtual().name("peers-refresher").start(() -> {
+      try {
+        refreshDiscoveredPeers();
+      } finally {
+        refreshing.set(false);
+      }
+    });
+  }
+
+  void refreshDiscoveredPeers() {
+    try {
+      List<Peer> peers = yaciHttpGateway.getDiscoveredPeers().stream()
+          .map(this::mapDiscoveredPeerToPeer)
+          .toList();
+      discoveredPeers.set(new DiscoveredPeers(peers, clock.instant()));
+      log.debug("[refreshDiscoveredPeers] Cached {} discovered peers", peers.size());
+    } catch (Exception e) {
+      // the previous peers stay cached until they exceed the max staleness
+      log.warn("[refreshDiscoveredPeers] Failed to refresh discovered peers: {}", e.getMessage());
+    }
+  }
+
+  private double discoveredPeersAgeSeconds() {
+    DiscoveredPeers current = discoveredPeers.get();
+    if (current == null) {
+      return Double.NaN;
+    }
+
+    return Duration.between(current.fetchedAt(), clock.instant()).toMillis() / 1000.0;
+  }
+
   private Peer mapDiscoveredPeerToPeer(DiscoveredPeer discoveredPeer) {
     String peerAddress = discoveredPeer.getAddress();
     peerAddress = "%s:%d".formatted(peerAddress, discoveredPeer.getPort());
@@ -137,4 +217,7 @@ public class TopologyConfigServiceImpl implements TopologyConfigService {
     }
   }
 
-}
\ No newline at end of file
+  private record DiscoveredPeers(List<Peer> peers, Instant fetchedAt) {
+  }
+
+}
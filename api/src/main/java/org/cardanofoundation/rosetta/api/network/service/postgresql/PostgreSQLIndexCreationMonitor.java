@@ -6,6 +6,7 @@ import org.cardanofoundation.rosetta.api.network.service.IndexCreationMonitor;
 import org.cardanofoundation.rosetta.api.network.service.RosettaIndexConfig;
 import org.jooq.DSLContext;
 import org.jooq.Record3;
+import org.jooq.Record6;
 import org.jooq.Result;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
@@ -21,6 +22,8 @@ import java.util.stream.Collectors;
  * Queries the pg_index system view to check if required indices are valid and ready.
  * Only when ALL required indices exist and are both valid (indisvalid=true) and
  * ready (indisready=true), the indexes are considered fully applied.
+ * Callers should go through {@link org.cardanofoundation.rosetta.api.network.service.IndexReadinessTracker},
+ * which caches the result instead of querying the catalogs on every sync status computation.
  */
 @Slf4j
 @Service
@@ -138,19 +141,37 @@ public class PostgreSQLIndexCreationMonitor implements IndexCreationMonitor {
                 .where(org.jooq.impl.DSL.field("c.relname").in(requiredIndexes))
                 .fetch();
 
+            boolean anyBuilding = result.stream().anyMatch(record -> !record.value2() || !record.value3());
+            Map<String, Record6<String, String, Long, Long, Long, Long>> buildProgress = anyBuilding
+                ? fetchBuildProgress(requiredIndexes)
+                : Collections.emptyMap();
+
             return result.stream()
                 .map(record -> {
                     String indexName = record.value1();
                     boolean isValid = record.value2();
                     boolean isReady = record.value3();
 
-                    // Map to IndexCreationProgress
+                    // Indexes created concurrently report their progress in pg_stat_progress_create_index
+                    Record6<String, String, Long, Long, Long, Long> progress = buildProgress.get(indexName);
+                    if (progress != null) {
+                        return new IndexCreationProgress(
+                            indexName,
+                            progress.value2(),
+                            progress.value3(),
+                            progress.value4(),
+                            progress.value5(),
+                            progress.value6()
+                        );
+                    }
+
                     // Use phase to indicate status
                     String phase = isValid && isReady ? "ready" :
                                   isReady ? "validating" : "building";
 
                     return new IndexCreationProgress(
-                        indexName + " - " + phase,
+                        indexName,
+                        phase,
                         null, // blocks_total not available
                         null, // blocks_done not available
                         null, // tuples_total not available
@@ -164,6 +185,24 @@ public class PostgreSQLIndexCreationMonitor implements IndexCreationMonitor {
         }
     }
 
+    private Map<String, Record6<String, String, Long, Long, Long, Long>> fetchBuildProgress(List<String> requiredIndexes) {
+        return dslContext
+            .select(
+                org.jooq.impl.DSL.field("c.relname", String.class),
+                org.jooq.impl.DSL.field("p.phase", String.class),
+                org.jooq.impl.DSL.field("p.blocks_total", Long.class),
+                org.jooq.impl.DSL.field("p.blocks_done", Long.class),
+                org.jooq.impl.DSL.field("p.tuples_total", Long.class),
+                org.jooq.impl.DSL.field("p.tuples_done", Long.class)
+            )
+            .from("pg_stat_progress_create_index p")
+            .join("pg_class c").on("p.index_relid = c.oid")
+            .where(org.jooq.impl.DSL.field("c.relname").in(requiredIndexes))
+            .fetch()
+            .stream()
+            .collect(Collectors.toMap(record -> record.value1(), record -> record, (first, second) -> first));
+    }
+
     /**
      * Helper record to track index status
      */
@@ -2,8 +2,13 @@ package org.cardanofoundation.rosetta.api.search.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import org.cardanofoundation.rosetta.api.network.service.NetworkService;
 import org.cardanofoundation.rosetta.api.search.mapper.SearchMapper;
+import org.cardanofoundation.rosetta.api.search.model.TxCursor;
+import org.cardanofoundation.rosetta.api.search.model.TxPage;
 import org.cardanofoundation.rosetta.api.search.service.SearchService;
 import org.cardanofoundation.rosetta.common.exception.ExceptionFactory;
 import org.openapitools.client.api.SearchApi;
@@ -12,11 +17,18 @@ import org.openapitools.client.model.SearchTransactionsRequest;
 import org.openapitools.client.model.SearchTransactionsResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,6 +38,7 @@ public class SearchApiImpl implements SearchApi {
   private final NetworkService networkService;
   private final SearchService searchService;
   private final SearchMapper searchMapper;
+  private final ObjectMapper objectMapper;
 
   @Value("${cardano.rosetta.SEARCH_LIMIT}")
   Long LIMIT;
@@ -33,6 +46,9 @@ public class SearchApiImpl implements SearchApi {
   @Value("${cardano.rosetta.OFFLINE_MODE}")
   boolean offlineMode;
 
+  @Value("${cardano.rosetta.SEARCH_EXPORT_BATCH_SIZE:100}")
+  int exportBatchSize;
+
   @Override
   public ResponseEntity<SearchTransactionsResponse> searchTransactions(
           SearchTransactionsRequest searchTransactionsRequest) {
@@ -57,12 +73,56 @@ public class SearchApiImpl implements SearchApi {
     SearchResults searchResults = performSearch(searchTransactionsRequest, limit, offset);
 
     long totalElementsCount = searchResults.blockTransactionsPage().getTotalElements();
-    Optional<Long> nextOffsetM = calculateNextOffset(offset, limit, totalElementsCount);
-    SearchTransactionsResponse searchResponse = searchMapper.mapToSearchTransactionsResponse(searchResults.blockTransactionList(), nextOffsetM.orElse(null), totalElementsCount);
+    // Offsets are relative to the cursor when one is given, so only the cursor is handed back then
+    Optional<Long> nextOffsetM = searchTransactionsRequest.getCursor() == null
+            ? calculateNextOffset(offset, limit, totalElementsCount)
+            : Optional.empty();
+    Optional<String> nextCursorM = calculateNextCursor(searchResults.blockTransactionsPage(), limit);
+    SearchTransactionsResponse searchResponse = searchMapper.mapToSearchTransactionsResponse(searchResults.blockTransactionList(), nextOffsetM.orElse(null), totalElementsCount, nextCursorM.orElse(null));
 
     return ResponseEntity.ok(searchResponse);
   }
 
+  /**
+   * Streams every transaction of a search as newline-delimited JSON, newest first.
+   * The response is written on the request thread one batch at a time, so the next batch is only
+   * fetched once a slow client has taken the previous one and no async request timeout applies.
+   */
+  @PostMapping(value = "/search/transactions/export",
+          consumes = MediaType.APPLICATION_JSON_VALUE,
+          produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public void exportTransactions(@Valid @RequestBody SearchTransactionsRequest searchTransactionsRequest,
+                                 HttpServletResponse response) throws IOException {
+    if (offlineMode) {
+      throw ExceptionFactory.notSupportedInOfflineMode();
+    }
+
+    networkService.verifyNetworkRequest(searchTransactionsRequest.getNetworkIdentifier());
+
+    // validation errors are thrown here, before anything is written to the response
+    try (Stream<List<BlockTransaction>> batches = searchService.exportTransactions(searchTransactionsRequest, exportBatchSize)) {
+      response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+      OutputStream out = response.getOutputStream();
+
+      batches.forEach(batch -> writeLines(out, batch));
+    } catch (UncheckedIOException e) {
+      log.debug("Transaction export aborted by client: {}", e.getMessage());
+      throw e.getCause();
+    }
+  }
+
+  private void writeLines(OutputStream out, List<BlockTransaction> batch) {
+    try {
+      for (BlockTransaction blockTransaction : batch) {
+        out.write(objectMapper.writeValueAsBytes(blockTransaction));
+        out.write('\n');
+      }
+      out.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   SearchResults performSearch(SearchTransactionsRequest searchTransactionsRequest, Long limit, long offset) {
     Page<BlockTransaction> blockTransactionsPage;
     List<BlockTransaction> blockTransactionList;
@@ -96,6 +156,16 @@ public class SearchApiImpl implements SearchApi {
     return Optional.of(nextOffset);
   }
 
+  static Optional<String> calculateNextCursor(Page<BlockTransaction> page, long limit) {
+    // With limit=0 no results are returned, so there is nothing to continue after
+    if (limit == 0 || !(page instanceof TxPage<BlockTransaction> txPage)) {
+      return Optional.empty();
+    }
+
+    return Optional.ofNullable(txPage.getNextCursor())
+            .map(TxCursor::encode);
+  }
+
   record SearchResults(Page<BlockTransaction> blockTransactionsPage, List<BlockTransaction> blockTransactionList) {}
 
 }
@@ -16,8 +16,10 @@ public interface SearchMapper {
   @Mapping(target = "transactions", source = "transactions")
   @Mapping(target = "nextOffset", source = "nextOffset")
   @Mapping(target = "totalCount", source = "totalCount")
+  @Mapping(target = "nextCursor", source = "nextCursor")
   SearchTransactionsResponse mapToSearchTransactionsResponse(List<BlockTransaction> transactions,
                                                              @Nullable Long nextOffset,
-                                                             long totalCount);
+                                                             long totalCount,
+                                                             @Nullable String nextCursor);
 
 }
@@ -0,0 +1,19 @@
+package org.cardanofoundation.rosetta.api.search.model;
+
+/**
+ * How the total count of a transaction search is computed.
+ */
+public enum CountMode {
+    /**
+     * Counts every matching transaction.
+     */
+    EXACT,
+    /**
+     * Stops counting at the configured cap, the total is then a lower bound.
+     */
+    CAPPED,
+    /**
+     * Skips the count, the total only tells whether another page exists.
+     */
+    NONE
+}
@@ -0,0 +1,46 @@
+package org.cardanofoundation.rosetta.api.search.model;
+
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Position of a transaction in the (slot, tx_index) order used by transaction searches.
+ * Keyset pages start strictly before this position. The transaction hash only travels along in
+ * the continuation token, (slot, tx_index) already identifies the position.
+ */
+public record TxCursor(long slot, int txIndex, @Nullable String txHash) {
+
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("^(\\d{1,19}):(\\d{1,9}):([0-9a-fA-F]{64})$");
+
+    public TxCursor(long slot, int txIndex) {
+        this(slot, txIndex, null);
+    }
+
+    /**
+     * Encodes the cursor as an opaque continuation token.
+     */
+    public String encode() {
+        String token = "%d:%d:%s".formatted(slot, txIndex, txHash);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token created by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the token was not created by {@link #encode()}
+     */
+    public static TxCursor decode(String token) {
+        String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        Matcher matcher = TOKEN_PATTERN.matcher(decoded);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Malformed transaction cursor: " + token);
+        }
+
+        return new TxCursor(Long.parseLong(matcher.group(1)), Integer.parseInt(matcher.group(2)), matcher.group(3));
+    }
+
+}
@@ -0,0 +1,34 @@
+package org.cardanofoundation.rosetta.api.search.model;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Page of a transaction search that also carries the keyset cursor of the following page.
+ * The cursor survives {@link #map(Function)}, so it reaches the API layer through the mappings.
+ */
+public class TxPage<T> extends PageImpl<T> {
+
+    @Nullable
+    private final TxCursor nextCursor;
+
+    public TxPage(List<T> content, Pageable pageable, long total, @Nullable TxCursor nextCursor) {
+        super(content, pageable, total);
+        this.nextCursor = nextCursor;
+    }
+
+    @Nullable
+    public TxCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    @Override
+    public <U> TxPage<U> map(Function<? super T, ? extends U> converter) {
+        return new TxPage<>(getConvertedContent(converter), getPageable(), getTotalElements(), nextCursor);
+    }
+
+}
@@ -2,11 +2,15 @@ package org.cardanofoundation.rosetta.api.search.service;
 
 import org.cardanofoundation.rosetta.api.block.model.domain.BlockTx;
 import org.cardanofoundation.rosetta.api.block.model.entity.UtxoKey;
+import org.cardanofoundation.rosetta.api.search.model.CountMode;
 import org.cardanofoundation.rosetta.api.search.model.Currency;
 import org.cardanofoundation.rosetta.api.search.model.Operator;
+import org.cardanofoundation.rosetta.api.search.model.TxCursor;
 import org.springframework.data.domain.Page;
 
 import javax.annotation.Nullable;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface LedgerSearchService {
 
@@ -19,7 +23,26 @@ public interface LedgerSearchService {
                                   @Nullable Long blockIndex,
                                   @Nullable Long maxBlock,
                                   @Nullable Boolean isSuccess,
+                                  @Nullable TxCursor before,
+                                  CountMode countMode,
                                   long offset,
                                   long limit);
 
+  /**
+   * Streams every transaction of a search in batches of {@code batchSize}, newest first.
+   * Batches are fetched lazily with keyset cursors while the stream is consumed, so only one
+   * batch is held at a time.
+   */
+  Stream<List<BlockTx>> exportTransactions(Operator operator,
+                                           @Nullable String txHash,
+                                           @Nullable String address,
+                                           @Nullable UtxoKey utxoKey,
+                                           @Nullable Currency currency,
+                                           @Nullable String blockHash,
+                                           @Nullable Long blockIndex,
+                                           @Nullable Long maxBlock,
+                                           @Nullable Boolean isSuccess,
+                                           @Nullable TxCursor from,
+                                           int batchSize);
+
 }
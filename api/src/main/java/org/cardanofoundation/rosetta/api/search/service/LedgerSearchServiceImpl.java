@@ -9,8 +9,11 @@ import org.cardanofoundation.rosetta.api.block.model.entity.UtxoKey;
 import org.cardanofoundation.rosetta.api.block.model.repository.TxInputRepository;
 import org.cardanofoundation.rosetta.api.block.model.repository.TxRepository;
 import org.cardanofoundation.rosetta.api.block.service.LedgerBlockService;
+import org.cardanofoundation.rosetta.api.search.model.CountMode;
 import org.cardanofoundation.rosetta.api.search.model.Currency;
 import org.cardanofoundation.rosetta.api.search.model.Operator;
+import org.cardanofoundation.rosetta.api.search.model.TxCursor;
+import org.cardanofoundation.rosetta.api.search.model.TxPage;
 import org.cardanofoundation.rosetta.common.spring.OffsetBasedPageRequest;
 import org.cardanofoundation.rosetta.common.spring.SimpleOffsetBasedPageRequest;
 import org.springframework.data.domain.Page;
@@ -19,8 +22,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import javax.annotation.Nullable;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -48,10 +54,74 @@ public class LedgerSearchServiceImpl implements LedgerSearchService {
                                          @Nullable Long blockNo,
                                          @Nullable Long maxBlock,
                                          @Nullable Boolean isSuccess,
+                                         @Nullable TxCursor before,
+                                         CountMode countMode,
                                          long offset,
                                          long limit) {
     OffsetBasedPageRequest pageable = new SimpleOffsetBasedPageRequest(offset, (int) limit);
 
+    // If address was set and there weren't any transactions found, return empty list
+    Optional<TxSearch> search = prepareSearch(operator, txHash, address, utxoKey, currency, blockHash, blockNo, maxBlock, isSuccess);
+    if (search.isEmpty()) {
+      return Page.empty();
+    }
+
+    Page<TxnEntity> txnEntities = search.get().fetch(before, countMode, pageable);
+
+    // this mapping is quite expensive, since it involves multiple database queries
+    // it enriches data from TxnEntity to BlockTx
+    return ledgerBlockService.mapTxnEntitiesToBlockTxList(txnEntities);
+  }
+
+  @Override
+  public Stream<List<BlockTx>> exportTransactions(Operator operator,
+                                                  @Nullable String txHash,
+                                                  @Nullable String address,
+                                                  @Nullable UtxoKey utxoKey,
+                                                  @Nullable Currency currency,
+                                                  @Nullable String blockHash,
+                                                  @Nullable Long blockNo,
+                                                  @Nullable Long maxBlock,
+                                                  @Nullable Boolean isSuccess,
+                                                  @Nullable TxCursor from,
+                                                  int batchSize) {
+    Optional<TxSearch> prepared = prepareSearch(operator, txHash, address, utxoKey, currency, blockHash, blockNo, maxBlock, isSuccess);
+    if (prepared.isEmpty()) {
+      return Stream.empty();
+    }
+
+    // the filters are resolved once, every batch continues from the cursor of the previous one without counting
+    TxSearch search = prepared.get();
+    OffsetBasedPageRequest batch = new SimpleOffsetBasedPageRequest(0, batchSize);
+
+    return Stream.iterate(search.fetch(from, CountMode.NONE, batch),
+            Objects::nonNull,
+            page -> nextCursor(page)
+                .map(cursor -> search.fetch(cursor, CountMode.NONE, batch))
+                .orElse(null))
+        .filter(Page::hasContent)
+        .map(page -> ledgerBlockService.mapTxnEntitiesToBlockTxList(page.getContent()));
+  }
+
+  /**
+   * Resolves the filters of a search that are independent of the requested page, such as the
+   * transaction history of an address. Empty when the search cannot match any transaction.
+   */
+  private Optional<TxSearch> prepareSearch(Operator operator,
+                                           @Nullable String txHash,
+                                           @Nullable String address,
+                                           @Nullable UtxoKey utxoKey,
+                                           @Nullable Currency currency,
+                                           @Nullable String blockHash,
+                                           @Nullable Long blockNo,
+                                           @Nullable Long maxBlock,
+                                           @Nullable Boolean isSuccess) {
+    // the address history is paged in the database, without loading all of its hashes first
+    if (address != null && isAddressOnlySearch(operator, txHash, utxoKey, currency, blockHash, blockNo, maxBlock, isSuccess)) {
+      return Optional.of((before, countMode, pageable) ->
+          txRepository.findTransactionsByAddress(address, maxBlock, before, countMode, pageable));
+    }
+
     // Separate transaction hashes into plain hashes and address-related hashes
     final Set<String> plainTxHashes = new HashSet<>();
     final Set<String> addressRelatedHashes = new HashSet<>();
@@ -65,9 +135,9 @@ public class LedgerSearchServiceImpl implements LedgerSearchService {
       addressRelatedHashes.addAll(addressHistoryService.findCompleteTransactionHistoryByAddress(addr));
     });
 
-    // If address was set and there weren't any transactions found, return empty list
+    // If address was set and there weren't any transactions found, nothing can match
     if (addressOptional.isPresent() && addressRelatedHashes.isEmpty()) {
-      return Page.empty();
+      return Optional.empty();
     }
 
     // Process UTXO-related hashes - these go into plainTxHashes since they're direct lookups
@@ -82,14 +152,48 @@ public class LedgerSearchServiceImpl implements LedgerSearchService {
     final Set<String> finalPlainTxHashes = plainTxHashes.isEmpty() ? Set.of() : plainTxHashes;
     final Set<String> finalAddressRelatedHashes = addressRelatedHashes.isEmpty() ? Set.of() : addressRelatedHashes;
 
-    Page<TxnEntity> txnEntities = switch (operator) {
-      case AND -> txRepository.searchTxnEntitiesAND(finalPlainTxHashes, finalAddressRelatedHashes, blockHash, blockNo, maxBlock, isSuccess, currency, pageable);
-      case OR -> txRepository.searchTxnEntitiesOR(finalPlainTxHashes, finalAddressRelatedHashes, blockHash, blockNo, maxBlock, isSuccess, currency, pageable);
-    };
+    return Optional.of((before, countMode, pageable) -> switch (operator) {
+      case AND -> txRepository.searchTxnEntitiesAND(finalPlainTxHashes, finalAddressRelatedHashes, blockHash, blockNo, maxBlock, isSuccess, currency, before, countMode, pageable);
+      case OR -> txRepository.searchTxnEntitiesOR(finalPlainTxHashes, finalAddressRelatedHashes, blockHash, blockNo, maxBlock, isSuccess, currency, before, countMode, pageable);
+    });
+  }
+
+  private static Optional<TxCursor> nextCursor(Page<TxnEntity> page) {
+    if (page instanceof TxPage<TxnEntity> txPage) {
+      return Optional.ofNullable(txPage.getNextCursor());
+    }
+
+    return Optional.empty();
+  }
+
+  /**
+   * An address combined with maxBlock is only a plain history window when both are ANDed.
+   */
+  private static boolean isAddressOnlySearch(Operator operator,
+                                             @Nullable String txHash,
+                                             @Nullable UtxoKey utxoKey,
+                                             @Nullable Currency currency,
+                                             @Nullable String blockHash,
+                                             @Nullable Long blockNo,
+                                             @Nullable Long maxBlock,
+                                             @Nullable Boolean isSuccess) {
+    return txHash == null
+        && utxoKey == null
+        && currency == null
+        && blockHash == null
+        && blockNo == null
+        && isSuccess == null
+        && (maxBlock == null || operator == Operator.AND);
+  }
+
+  /**
+   * A search with its filters resolved, fetching one page at a time.
+   */
+  @FunctionalInterface
+  private interface TxSearch {
+
+    Page<TxnEntity> fetch(@Nullable TxCursor before, CountMode countMode, OffsetBasedPageRequest pageable);
 
-    // this mapping is quite expensive, since it involves multiple database queries
-    // it enriches data from TxnEntity to BlockTx
-    return ledgerBlockService.mapTxnEntitiesToBlockTxList(txnEntities);
   }
 
 }
@@ -0,0 +1,149 @@
+package org.cardanofoundation.rosetta.api.search.service;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.openapitools.client.model.BlockTransaction;
+
+import org.cardanofoundation.rosetta.api.block.model.entity.UtxoKey;
+import org.cardanofoundation.rosetta.api.block.service.LedgerBlockService;
+import org.cardanofoundation.rosetta.api.search.model.CountMode;
+import org.cardanofoundation.rosetta.api.search.model.Operator;
+import org.cardanofoundation.rosetta.api.search.model.TxCursor;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Short-lived cache of /search/transactions pages for clients that poll the same search many
+ * times per block.
+ * Every page is tagged with the chain tip it was computed at. All pages are dropped as soon as a
+ * new tip is seen, so a hit is always what the database would return for the current tip. The
+ * cache is weighted by the number of operations of the cached transactions, hit and miss counts
+ * are published under {@value #CACHE_NAME}.
+ */
+@Slf4j
+@Component
+public class SearchResultCache {
+
+  static final String CACHE_NAME = "searchResultCache";
+
+  private final LedgerBlockService ledgerBlockService;
+  private final boolean enabled;
+
+  private final Cache<SearchKey, CachedPage> pages;
+
+  // tip the cached pages were computed at
+  private final AtomicReference<String> tipHash = new AtomicReference<>();
+
+  public SearchResultCache(LedgerBlockService ledgerBlockService,
+                           MeterRegistry meterRegistry,
+                           @Value("${cardano.rosetta.SEARCH_CACHE_ENABLED:false}") boolean enabled,
+                           @Value("${cardano.rosetta.SEARCH_CACHE_MAX_OPERATIONS:200000}") long maxOperations,
+                           @Value("${cardano.rosetta.SEARCH_CACHE_TTL_SECONDS:20}") long ttlSeconds) {
+    this.ledgerBlockService = ledgerBlockService;
+    this.enabled = enabled;
+
+    this.pages = CacheBuilder.newBuilder()
+        .maximumWeight(maxOperations)
+        .weigher((SearchKey key, CachedPage page) -> page.weight())
+        // token registry metadata is embedded in the transactions, so it must be refreshed eventually
+        .expireAfterWrite(ttlSeconds, SECONDS)
+        .recordStats()
+        .build();
+
+    GuavaCacheMetrics.monitor(meterRegistry, pages, CACHE_NAME);
+
+    log.info("SearchResultCache initialized with enabled: {}, maxOperations: {}, ttlSeconds: {}",
+        enabled, maxOperations, ttlSeconds);
+  }
+
+  /**
+   * Returns the cached page for the search or runs the search and caches its page, unless the
+   * search marked it as not cacheable.
+   *
+   * @param key    the normalized search
+   * @param search runs the search against the database
+   * @return the page for the current tip
+   */
+  public Page<BlockTransaction> get(SearchKey key, Supplier<SearchResult> search) {
+    if (!enabled) {
+      return search.get().page();
+    }
+
+    String tip = currentTipHash();
+    CachedPage cached = pages.getIfPresent(key);
+    if (cached != null && cached.tipHash().equals(tip)) {
+      return cached.page();
+    }
+
+    // tagged with the tip seen before searching, if the tip moved meanwhile the page is dropped with it
+    SearchResult result = search.get();
+    if (result.cacheable()) {
+      pages.put(key, new CachedPage(tip, result.page(), weigh(result.page())));
+    }
+
+    return result.page();
+  }
+
+  private String currentTipHash() {
+    String tip = ledgerBlockService.findLatestBlockIdentifier().getHash();
+    String previous = tipHash.getAndSet(tip);
+    if (previous != null && !previous.equals(tip)) {
+      log.debug("Chain tip moved to {}, dropping {} cached searches", tip, pages.size());
+      pages.invalidateAll();
+    }
+
+    return tip;
+  }
+
+  private static int weigh(Page<BlockTransaction> page) {
+    return 1 + page.getContent().stream()
+        .mapToInt(tx -> Optional.ofNullable(tx.getTransaction())
+            .map(transaction -> transaction.getOperations() == null ? 0 : transaction.getOperations().size())
+            .orElse(0) + 1)
+        .sum();
+  }
+
+  /**
+   * A search after validation and normalization, every field that changes the returned page is
+   * part of the key.
+   */
+  public record SearchKey(Operator operator,
+                          @Nullable String txHash,
+                          @Nullable String address,
+                          @Nullable UtxoKey utxoKey,
+                          @Nullable String currencySymbol,
+                          @Nullable Integer currencyDecimals,
+                          @Nullable String currencyPolicyId,
+                          @Nullable String blockHash,
+                          @Nullable Long blockIndex,
+                          @Nullable Long maxBlock,
+                          @Nullable Boolean isSuccess,
+                          @Nullable TxCursor before,
+                          CountMode countMode,
+                          long offset,
+                          long limit) {
+  }
+
+  /**
+   * A freshly searched page. Pages rendered from degraded token registry metadata are not
+   * cacheable, they would be served until the tip moves.
+   */
+  public record SearchResult(Page<BlockTransaction> page, boolean cacheable) {
+  }
+
+  private record CachedPage(String tipHash, Page<BlockTransaction> page, int weight) {
+  }
+
+}
@@ -4,10 +4,20 @@ import org.openapitools.client.model.BlockTransaction;
 import org.openapitools.client.model.SearchTransactionsRequest;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 public interface SearchService {
 
   Page<BlockTransaction> searchTransaction(SearchTransactionsRequest searchTransactionsRequest,
                                            Long offset,
                                            Long limit);
 
+  /**
+   * Streams all transactions matching the search in batches, ignoring offset, limit and
+   * count_mode. A cursor in the request is where the export starts.
+   */
+  Stream<List<BlockTransaction>> exportTransactions(SearchTransactionsRequest searchTransactionsRequest,
+                                                    int batchSize);
+
 }
@@ -9,19 +9,24 @@ import org.cardanofoundation.rosetta.api.block.model.entity.UtxoKey;
 import org.cardanofoundation.rosetta.api.common.model.AssetFingerprint;
 import org.cardanofoundation.rosetta.api.common.model.TokenRegistryCurrencyData;
 import org.cardanofoundation.rosetta.api.common.service.TokenRegistryService;
+import org.cardanofoundation.rosetta.api.search.model.CountMode;
 import org.cardanofoundation.rosetta.api.search.model.Operator;
+import org.cardanofoundation.rosetta.api.search.model.TxCursor;
 import org.cardanofoundation.rosetta.common.exception.ExceptionFactory;
 import org.cardanofoundation.rosetta.common.util.Constants;
 import org.cardanofoundation.rosetta.common.util.HexUtils;
 import org.openapitools.client.model.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.annotation.Nullable;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.cardanofoundation.rosetta.common.util.HexUtils.isHexString;
 
@@ -34,6 +39,10 @@ public class SearchServiceImpl implements SearchService {
     private final BlockMapper blockMapper;
     private final LedgerSearchService ledgerSearchService;
     private final TokenRegistryService tokenRegistryService;
+    private final SearchResultCache searchResultCache;
+
+    @Value("${cardano.rosetta.SEARCH_COUNT_MODE:exact}")
+    private String defaultCountMode;
 
     @Override
     @Transactional  // Override class-level readOnly=true for methods that may use temporary tables
@@ -41,7 +50,91 @@ public class SearchServiceImpl implements SearchService {
             SearchTransactionsRequest searchTransactionsRequest,
             Long offset,
             Long limit) {
+        SearchFilters filters = validateAndNormaliseFilters(searchTransactionsRequest);
+
+        CountMode countMode = parseAndValidateCountMode(
+                Optional.ofNullable(searchTransactionsRequest.getCountMode()).orElse(defaultCountMode));
+
+        @Nullable org.cardanofoundation.rosetta.api.search.model.Currency currency = filters.currency();
+
+        SearchResultCache.SearchKey key = new SearchResultCache.SearchKey(
+                filters.operator(),
+                filters.txHash(),
+                filters.address(),
+                filters.utxoKey(),
+                currency == null ? null : currency.getSymbol(),
+                currency == null ? null : currency.getDecimals(),
+                currency == null ? null : currency.getPolicyId(),
+                filters.blockHash(),
+                filters.blockIndex(),
+                filters.maxBlock(),
+                filters.isSuccess(),
+                filters.before(),
+                countMode,
+                offset,
+                limit
+        );
+
+        return searchResultCache.get(key, () -> {
+            Page<BlockTx> blockTxes = ledgerSearchService.searchTransaction(
+                    filters.operator(),
+                    filters.txHash(),
+                    filters.address(),
+                    filters.utxoKey(),
+                    currency,
+                    filters.blockHash(),
+                    filters.blockIndex(),
+                    filters.maxBlock(),
+                    filters.isSuccess(),
+                    filters.before(),
+                    countMode,
+                    offset,
+                    limit
+            );
+
+            Map<AssetFingerprint, TokenRegistryCurrencyData> metadataMap =
+                    tokenRegistryService.fetchMetadataForBlockTxList(blockTxes.getContent());
+
+            // Metadata the registry did not deliver in time must not be cached with the page
+            return new SearchResultCache.SearchResult(blockTxes.map(withMetadata(metadataMap)),
+                    !TokenRegistryCurrencyData.anyDegraded(metadataMap.values()));
+        });
+    }
 
+    @Override
+    public Stream<List<BlockTransaction>> exportTransactions(
+            SearchTransactionsRequest searchTransactionsRequest,
+            int batchSize) {
+        SearchFilters filters = validateAndNormaliseFilters(searchTransactionsRequest);
+
+        return ledgerSearchService.exportTransactions(
+                        filters.operator(),
+                        filters.txHash(),
+                        filters.address(),
+                        filters.utxoKey(),
+                        filters.currency(),
+                        filters.blockHash(),
+                        filters.blockIndex(),
+                        filters.maxBlock(),
+                        filters.isSuccess(),
+                        filters.before(),
+                        batchSize
+                )
+                .map(batch -> batch.stream()
+                        .map(withMetadata(tokenRegistryService.fetchMetadataForBlockTxList(batch)))
+                        .toList());
+    }
+
+    /**
+     * Maps transactions to the API model with the token registry metadata of all their assets,
+     * fetched once for the page or batch (empty map if no native tokens).
+     */
+    private Function<BlockTx, BlockTransaction> withMetadata(Map<AssetFingerprint, TokenRegistryCurrencyData> metadataMap) {
+        // Always use the metadata version (with empty map when no native tokens)
+        return tx -> blockMapper.mapToBlockTransactionWithMetadata(tx, metadataMap);
+    }
+
+    private SearchFilters validateAndNormaliseFilters(SearchTransactionsRequest searchTransactionsRequest) {
         Optional.ofNullable(searchTransactionsRequest.getType()).ifPresent(type -> {
             throw ExceptionFactory.operationTypeSearchNotSupported(type);
         });
@@ -85,27 +178,10 @@ public class SearchServiceImpl implements SearchService {
         BlockIdentifier blockIdentifier = Optional.ofNullable(searchTransactionsRequest.getBlockIdentifier())
                 .orElse(BlockIdentifier.builder().build());
 
-        Page<BlockTx> blockTxes = ledgerSearchService.searchTransaction(
-                operator,
-                txHash,
-                address,
-                utxoKey,
-                currency,
-                blockIdentifier.getHash(),
-                blockIdentifier.getIndex(),
-                maxBlock,
-                isSuccess,
-                offset,
-                limit
-        );
+        @Nullable TxCursor before = parseAndValidateCursor(searchTransactionsRequest.getCursor());
 
-        // Always fetch metadata for all transactions in this page (will be empty map if no native tokens)
-        final Map<AssetFingerprint, TokenRegistryCurrencyData> metadataMap =
-            tokenRegistryService.fetchMetadataForBlockTxList(blockTxes.getContent());
-
-        // Always use the metadata version (with empty map when no native tokens)
-        return blockTxes.map(tx ->
-            blockMapper.mapToBlockTransactionWithMetadata(tx, metadataMap));
+        return new SearchFilters(operator, txHash, address, utxoKey, currency,
+                blockIdentifier.getHash(), blockIdentifier.getIndex(), maxBlock, isSuccess, before);
     }
 
     static Function<CoinIdentifier, Optional<UtxoKey>> extractUTxOFromCoinIdentifier() {
@@ -174,6 +250,33 @@ public class SearchServiceImpl implements SearchService {
         }
     }
 
+    @Nullable
+    private TxCursor parseAndValidateCursor(@Nullable String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return TxCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            String details = String.format("Invalid cursor: '%s'. Use the next_cursor of a previous response", cursor);
+            throw ExceptionFactory.unspecifiedErrorNotRetriable(details);
+        }
+    }
+
+    private CountMode parseAndValidateCountMode(@Nullable String countModeString) {
+        if (countModeString == null || countModeString.isEmpty()) {
+            return CountMode.EXACT;
+        }
+
+        try {
+            return CountMode.valueOf(countModeString.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            String details = String.format("Unknown count_mode: '%s'. Supported values are: 'exact', 'capped', 'none'", countModeString);
+            throw ExceptionFactory.unspecifiedErrorNotRetriable(details);
+        }
+    }
+
     private void validateCurrencySymbolIsHex(CurrencyRequest currencyRequest) {
         String symbol = currencyRequest.getSymbol();
 
@@ -190,4 +293,16 @@ public class SearchServiceImpl implements SearchService {
         }
     }
 
+    private record SearchFilters(Operator operator,
+                                 @Nullable String txHash,
+                                 @Nullable String address,
+                                 @Nullable UtxoKey utxoKey,
+                                 @Nullable org.cardanofoundation.rosetta.api.search.model.Currency currency,
+                                 @Nullable String blockHash,
+                                 @Nullable Long blockIndex,
+                                 @Nullable Long maxBlock,
+                                 @Nullable Boolean isSuccess,
+                                 @Nullable TxCursor before) {
+    }
+
 }
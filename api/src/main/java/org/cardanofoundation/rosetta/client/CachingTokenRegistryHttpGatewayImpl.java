@@ -3,6 +3,9 @@ package org.cardanofoundation.rosetta.client;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Stopwatch;
 import com.google.common.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +14,7 @@ import org.cardanofoundation.rosetta.client.model.domain.TokenCacheEntry;
 import org.cardanofoundation.rosetta.client.model.domain.TokenRegistryBatchRequest;
 import org.cardanofoundation.rosetta.client.model.domain.TokenRegistryBatchResponse;
 import org.cardanofoundation.rosetta.client.model.domain.TokenSubject;
+import org.cardanofoundation.rosetta.config.CacheConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -19,10 +23,18 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 @Service
 @Slf4j
@@ -32,6 +44,11 @@ public class CachingTokenRegistryHttpGatewayImpl implements TokenRegistryHttpGat
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final Cache<String, TokenCacheEntry> tokenMetadataCache;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    // one registry request per subject at a time, concurrent misses wait for it
+    private final ConcurrentMap<String, CompletableFuture<TokenCacheEntry>> inFlightFetches = new ConcurrentHashMap<>();
 
     @Value("${cardano.rosetta.TOKEN_REGISTRY_ENABLED:true}")
     protected boolean enabled;
@@ -45,17 +62,78 @@ public class CachingTokenRegistryHttpGatewayImpl implements TokenRegistryHttpGat
     @Value("${cardano.rosetta.TOKEN_REGISTRY_LOGO_FETCH:false}")
     protected boolean logoFetchEnabled;
 
+    @Value("${cardano.rosetta.TOKEN_REGISTRY_CACHE_TTL_HOURS:12}")
+    protected int cacheTtlHours = 12;
+
+    // how long a request waits for missing metadata before it is served without it, 0 waits for the registry timeout
+    @Value("${cardano.rosetta.TOKEN_REGISTRY_ENRICHMENT_DEADLINE_MS:150}")
+    protected long enrichmentDeadlineMillis;
+
+    @Value("${cardano.rosetta.TOKEN_REGISTRY_CIRCUIT_BREAKER_FAILURE_THRESHOLD:5}")
+    protected int circuitBreakerFailureThreshold = 5;
+
+    @Value("${cardano.rosetta.TOKEN_REGISTRY_CIRCUIT_BREAKER_OPEN_SECONDS:30}")
+    protected int circuitBreakerOpenSeconds = 30;
+
     private String batchEndpointUrl;
 
+    private Counter fetchCounter;
+    private Counter coalescedCounter;
+    private Counter staleCounter;
+    private Counter rejectedCounter;
+
+    private TokenRegistryCircuitBreaker circuitBreaker;
+
     @PostConstruct
     public void init() {
         batchEndpointUrl = tokenRegistryBaseUrl + "/v2/subjects/query";
-        log.info("TokenRegistryHttpGatewayImpl initialized with enabled: {}, batchEndpointUrl: {}, httpRequestTimeoutSeconds: {}", 
-                enabled, batchEndpointUrl, httpRequestTimeoutSeconds);
+        circuitBreaker = new TokenRegistryCircuitBreaker(circuitBreakerFailureThreshold,
+                Duration.ofSeconds(circuitBreakerOpenSeconds), clock);
+        log.info("TokenRegistryHttpGatewayImpl initialized with enabled: {}, batchEndpointUrl: {}, httpRequestTimeoutSeconds: {}, enrichmentDeadlineMillis: {}", 
+                enabled, batchEndpointUrl, httpRequestTimeoutSeconds, enrichmentDeadlineMillis);
+
+        // published next to the GuavaCacheMetrics of the token metadata cache
+        fetchCounter = Counter.builder("cache.fetches")
+                .description("Batch requests sent to the token registry")
+                .tag("cache", CacheConfig.TOKEN_METADATA_CACHE)
+                .register(meterRegistry);
+        coalescedCounter = Counter.builder("cache.coalesced")
+                .description("Cache misses served by a concurrent in-flight token registry request")
+                .tag("cache", CacheConfig.TOKEN_METADATA_CACHE)
+                .register(meterRegistry);
+        staleCounter = Counter.builder("cache.stale")
+                .description("Stale entries served while they are refreshed in the background")
+                .tag("cache", CacheConfig.TOKEN_METADATA_CACHE)
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("cache.rejected")
+                .description("Token registry requests skipped because the circuit breaker is open")
+                .tag("cache", CacheConfig.TOKEN_METADATA_CACHE)
+                .register(meterRegistry);
+        Gauge.builder("cache.circuit.open", () -> circuitBreaker.isOpen() ? 1 : 0)
+                .description("1 while token registry requests are skipped after repeated failures")
+                .tag("cache", CacheConfig.TOKEN_METADATA_CACHE)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
     }
 
     @Override
     public Map<String, Optional<TokenSubject>> getTokenMetadataBatch(@NonNull Set<String> subjects) {
+        return getTokenMetadataBatch(subjects, enrichmentDeadlineMillis);
+    }
+
+    @Override
+    public Map<String, Optional<TokenSubject>> awaitTokenMetadataBatch(@NonNull Set<String> subjects) {
+        return getTokenMetadataBatch(subjects, 0);
+    }
+
+    /**
+     * @param deadlineMillis how long to wait for subjects that are not cached yet, 0 waits for the registry timeout
+     */
+    private Map<String, Optional<TokenSubject>> getTokenMetadataBatch(Set<String> subjects, long deadlineMillis) {
         if (!enabled) {
             log.debug("Token registry is disabled, returning empty map");
             return Collections.emptyMap();
@@ -67,14 +145,19 @@ public class CachingTokenRegistryHttpGatewayImpl implements TokenRegistryHttpGat
 
         // Check cache for existing entries
         Set<String> subjectsToFetch = new HashSet<>();
+        Set<String> staleSubjects = new HashSet<>();
         Map<String, Optional<TokenSubject>> result = new HashMap<>();
+        Instant now = clock.instant();
 
         for (String subject : subjects) {
             TokenCacheEntry cached = tokenMetadataCache.getIfPresent(subject);
 
             if (cached != null) {
-                // We have a cache entry (either found or not found)
+                // We have a cache entry (either found or not found), stale entries are served until refreshed
                 result.put(subject, cached.getTokenSubject());
+                if (cached.isStale(Duration.ofHours(cacheTtlHours), now)) {
+                    staleSubjects.add(subject);
+                }
                 log.debug("Retrieved cached entry for subject: {} (found: {})", subject, cached.isFound());
             } else {
                 // Not in cache at all, need to fetch
@@ -82,13 +165,160 @@ public class CachingTokenRegistryHttpGatewayImpl implements TokenRegistryHttpGat
             }
         }
 
+        if (!staleSubjects.isEmpty()) {
+            staleCounter.increment(staleSubjects.size());
+            refreshAsync(staleSubjects);
+        }
+
         // If we have all subjects cached, return cached results
         if (subjectsToFetch.isEmpty()) {
             log.debug("All subjects found in cache, returning cached results");
             return result;
         }
 
+        // subjects already being fetched by a concurrent request are awaited instead of fetched again
+        Map<String, CompletableFuture<TokenCacheEntry>> awaited = new HashMap<>();
+        Map<String, CompletableFuture<TokenCacheEntry>> owned = claim(subjectsToFetch, awaited);
+        if (!awaited.isEmpty()) {
+            coalescedCounter.increment(awaited.size());
+            log.debug("Joining in-flight token registry requests for {} subjects", awaited.size());
+        }
+
+        if (!owned.isEmpty() && deadlineMillis > 0) {
+            // subjects that miss the deadline are still cached for the next caller
+            Thread.ofVirtual().name("token-registry-fetcher").start(() -> fetchAndCache(owned));
+            awaited.putAll(owned);
+        } else if (!owned.isEmpty()) {
+            fetchAndCache(owned);
+            owned.forEach((subject, fetch) -> Optional.ofNullable(fetch.getNow(null))
+                    .ifPresent(entry -> result.put(subject, entry.getTokenSubject())));
+        }
+
+        awaitInFlight(awaited, result, deadlineMillis);
+
+        return result;
+    }
+
+    @Override
+    public Optional<Map<String, TokenSubject>> fetchTokenMetadataBatch(@NonNull Set<String> subjects) {
+        if (!enabled || subjects.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return fetchBatch(subjects).map(entries -> {
+            Map<String, TokenSubject> found = new HashMap<>();
+            entries.forEach((subject, entry) -> entry.getTokenSubject().ifPresent(tokenSubject -> found.put(subject, tokenSubject)));
+
+            return found;
+        });
+    }
+
+    /**
+     * Registers this request as the fetcher of every subject nobody else is fetching yet.
+     * Subjects that are already in flight are put into {@code awaited}.
+     */
+    private Map<String, CompletableFuture<TokenCacheEntry>> claim(Set<String> subjects,
+                                                                  Map<String, CompletableFuture<TokenCacheEntry>> awaited) {
+        Map<String, CompletableFuture<TokenCacheEntry>> owned = new HashMap<>();
+
+        for (String subject : subjects) {
+            if (subject == null || subject.isBlank()) {
+                continue;
+            }
+
+            CompletableFuture<TokenCacheEntry> fetch = new CompletableFuture<>();
+            CompletableFuture<TokenCacheEntry> inFlight = inFlightFetches.putIfAbsent(subject, fetch);
+            if (inFlight == null) {
+                owned.put(subject, fetch);
+            } else {
+                awaited.put(subject, inFlight);
+            }
+        }
+
+        return owned;
+    }
+
+    private void awaitInFlight(Map<String, CompletableFuture<TokenCacheEntry>> awaited,
+                               Map<String, Optional<TokenSubject>> result,
+                               long deadlineMillis) {
+        Duration timeout = Duration.ofSeconds(httpRequestTimeoutSeconds);
+        if (deadlineMillis > 0 && deadlineMillis < timeout.toMillis()) {
+            timeout = Duration.ofMillis(deadlineMillis);
+        }
+        long deadlineNanos = System.nanoTime() + timeout.toNanos();
+
+        for (Map.Entry<String, CompletableFuture<TokenCacheEntry>> fetch : awaited.entrySet()) {
+            try {
+                TokenCacheEntry entry = fetch.getValue().get(Math.max(0, deadlineNanos - System.nanoTime()), NANOSECONDS);
+                if (entry != null) {
+                    result.put(fetch.getKey(), entry.getTokenSubject());
+                }
+            } catch (TimeoutException | ExecutionException e) {
+                log.debug("In-flight token registry request for subject {} did not complete in time", fetch.getKey());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return; // Return partial results
+            }
+        }
+    }
+
+    /**
+     * Refreshes stale entries on a virtual thread. If the registry fails they stay cached and
+     * are served until they expire from the cache.
+     */
+    private void refreshAsync(Set<String> staleSubjects) {
+        Map<String, CompletableFuture<TokenCacheEntry>> owned = claim(staleSubjects, new HashMap<>());
+        if (owned.isEmpty()) {
+            return;
+        }
+
+        Thread.ofVirtual().name("token-registry-refresher").start(() -> fetchAndCache(owned));
+    }
+
+    /**
+     * Fetches the claimed subjects, caches the results and completes their in-flight futures.
+     * The futures complete with null when the registry could not be reached.
+     */
+    private void fetchAndCache(Map<String, CompletableFuture<TokenCacheEntry>> owned) {
+        try {
+            fetchBatch(owned.keySet()).ifPresent(entries -> owned.forEach((subject, fetch) -> {
+                TokenCacheEntry entry = entries.getOrDefault(subject, TokenCacheEntry.notFound(clock.instant()));
+                tokenMetadataCache.put(subject, entry);
+                fetch.complete(entry);
+            }));
+        } finally {
+            owned.forEach((subject, fetch) -> {
+                fetch.complete(null);
+                inFlightFetches.remove(subject, fetch);
+            });
+        }
+    }
+
+    /**
+     * Sends one batch request to the registry unless the circuit breaker is open.
+     *
+     * @return found subjects by subject, empty if the request failed or was skipped
+     */
+    private Optional<Map<String, TokenCacheEntry>> fetchBatch(Set<String> subjectsToFetch) {
+        if (!circuitBreaker.tryAcquire()) {
+            rejectedCounter.increment();
+            log.debug("Token registry circuit breaker is open, skipping request for {} subjects", subjectsToFetch.size());
+            return Optional.empty();
+        }
+
+        Optional<Map<String, TokenCacheEntry>> entries = sendBatch(subjectsToFetch);
+        if (entries.isPresent()) {
+            circuitBreaker.onSuccess();
+        } else {
+            circuitBreaker.onFailure();
+        }
+
+        return entries;
+    }
+
+    private Optional<Map<String, TokenCacheEntry>> sendBatch(Set<String> subjectsToFetch) {
         log.info("Initiating token registry request for {} subjects", subjectsToFetch.size());
+        fetchCounter.increment();
 
         Stopwatch stopwatch = Stopwatch.createStarted();
 
@@ -118,47 +348,39 @@ public class CachingTokenRegistryHttpGatewayImpl implements TokenRegistryHttpGat
 
             if (response.statusCode() != 200) {
                 log.error("Token registry returned non-200 status: {} for batch request", response.statusCode());
-                return result; // Return partial results from cache
+                return Optional.empty();
             }
 
             // Parse response
             TokenRegistryBatchResponse batchResponse = objectMapper.readValue(response.body(), TokenRegistryBatchResponse.class);
 
+            // Subjects missing from the response are cached as not found by the caller
+            Map<String, TokenCacheEntry> entries = new HashMap<>();
+            Instant fetchedAt = clock.instant();
             if (batchResponse.getSubjects() != null) {
                 for (TokenSubject tokenSubject : batchResponse.getSubjects()) {
-                    // If subject is in response, cache it as found
-                    result.put(tokenSubject.getSubject(), Optional.of(tokenSubject));
-                    tokenMetadataCache.put(tokenSubject.getSubject(), TokenCacheEntry.found(tokenSubject));
+                    entries.put(tokenSubject.getSubject(), TokenCacheEntry.found(tokenSubject, fetchedAt));
                 }
             }
 
-            // Cache empty results for subjects that were requested but not found in the response
-            for (String subjectToFetch : subjectsToFetch) {
-                if (!result.containsKey(subjectToFetch)) {
-                    result.put(subjectToFetch, Optional.empty());
-                    tokenMetadataCache.put(subjectToFetch, TokenCacheEntry.notFound());
-                }
-            }
-
-            int fetchedCount = batchResponse.getSubjects() != null ? batchResponse.getSubjects().size() : 0;
             log.info("Successfully fetched {} token metadata entries out of {} requested subjects",
-                    fetchedCount, subjectsToFetch.size());
+                    entries.size(), subjectsToFetch.size());
 
-            return result;
+            return Optional.of(entries);
 
         } catch (IOException e) {
             long elapsedMillis = stopwatch.elapsed(MILLISECONDS);
             log.error("IO error while fetching token metadata batch after {} ms for {} subjects", elapsedMillis, subjectsToFetch.size(), e);
-            return result; // Return partial results from cache
+            return Optional.empty();
         } catch (InterruptedException e) {
             long elapsedMillis = stopwatch.elapsed(MILLISECONDS);
             log.error("Request interrupted while fetching token metadata batch after {} ms for {} subjects", elapsedMillis, subjectsToFetch.size(), e);
             Thread.currentThread().interrupt();
-            return result; // Return partial results from cache
+            return Optional.empty();
         } catch (Exception e) {
             long elapsedMillis = stopwatch.elapsed(MILLISECONDS);
             log.error("Unexpected error while fetching token metadata batch after {} ms for {} subjects", elapsedMillis, subjectsToFetch.size(), e);
-            return result; // Return partial results from cache
+            return Optional.empty();
         }
     }
 
@@ -0,0 +1,151 @@
+package org.cardanofoundation.rosetta.client;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.google.common.cache.Cache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.cardanofoundation.rosetta.client.model.domain.TokenCacheEntry;
+import org.cardanofoundation.rosetta.client.model.domain.TokenSubject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Persists the token metadata cache to a gzipped JSON file, so a restart does not begin with an
+ * empty cache and a burst of token registry requests.
+ * The snapshot is loaded while the application context starts, before the API reports ready, and
+ * is rewritten periodically and on shutdown. Found and not found entries keep their fetch time,
+ * entries older than the TTL plus the max staleness are neither written nor loaded.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cardano.rosetta.TOKEN_REGISTRY_CACHE_SNAPSHOT_ENABLED", havingValue = "true")
+public class TokenMetadataCacheSnapshot {
+
+    private final Cache<String, TokenCacheEntry> tokenMetadataCache;
+    private final Path snapshotFile;
+    private final Duration maxAge;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    public TokenMetadataCacheSnapshot(Cache<String, TokenCacheEntry> tokenMetadataCache,
+                                      @Value("${cardano.rosetta.TOKEN_REGISTRY_CACHE_SNAPSHOT_PATH:/var/lib/rosetta-java/token-metadata-cache.json.gz}") String snapshotFile,
+                                      @Value("${cardano.rosetta.TOKEN_REGISTRY_CACHE_TTL_HOURS:12}") int cacheTtlHours,
+                                      @Value("${cardano.rosetta.TOKEN_REGISTRY_CACHE_MAX_STALENESS_HOURS:24}") int cacheMaxStalenessHours) {
+        this.tokenMetadataCache = tokenMetadataCache;
+        this.snapshotFile = Path.of(snapshotFile);
+        this.maxAge = Duration.ofHours(cacheTtlHours + cacheMaxStalenessHours);
+
+        log.info("TokenMetadataCacheSnapshot initialized with snapshotFile: {}", snapshotFile);
+    }
+
+    /**
+     * Loads the snapshot into the cache. A missing or unreadable snapshot leaves the cache empty.
+     */
+    @PostConstruct
+    public void load() {
+        if (!Files.exists(snapshotFile)) {
+            log.info("No token metadata cache snapshot found at {}", snapshotFile);
+            return;
+        }
+
+        Instant oldest = Instant.now().minus(maxAge);
+        int loaded = 0;
+        int expired = 0;
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(snapshotFile));
+             MappingIterator<SnapshotEntry> entries = objectMapper.readerFor(SnapshotEntry.class).readValues(in)) {
+            while (entries.hasNextValue()) {
+                SnapshotEntry entry = entries.nextValue();
+                Instant fetchedAt = Instant.ofEpochMilli(entry.fetchedAt());
+                if (fetchedAt.isBefore(oldest)) {
+                    expired++;
+                    continue;
+                }
+
+                tokenMetadataCache.put(entry.subject(), new TokenCacheEntry(
+                        Optional.ofNullable(entry.tokenSubject()), entry.tokenSubject() != null, fetchedAt));
+                loaded++;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable token metadata cache snapshot {}: {}", snapshotFile, e.getMessage());
+            return;
+        }
+
+        log.info("Loaded {} token metadata cache entries from {}, skipped {} expired entries", loaded, snapshotFile, expired);
+    }
+
+    @Scheduled(fixedDelayString = "${cardano.rosetta.TOKEN_REGISTRY_CACHE_SNAPSHOT_INTERVAL_MINUTES:15}",
+            initialDelayString = "${cardano.rosetta.TOKEN_REGISTRY_CACHE_SNAPSHOT_INTERVAL_MINUTES:15}",
+            timeUnit = TimeUnit.MINUTES)
+    public void scheduledSave() {
+        try {
+            save();
+        } catch (IOException e) {
+            log.warn("Unable to write token metadata cache snapshot {}: {}", snapshotFile, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduledSave();
+    }
+
+    /**
+     * Writes the cache to a temporary file and moves it over the previous snapshot.
+     * Entries are written oldest first, so the most recent ones are loaded last and are the last to
+     * be evicted when the snapshot exceeds the cache budget.
+     */
+    void save() throws IOException {
+        Instant oldest = Instant.now().minus(maxAge);
+        List<SnapshotEntry> entries = tokenMetadataCache.asMap().entrySet().stream()
+                .filter(entry -> !entry.getValue().fetchedAt().isBefore(oldest))
+                .sorted(Comparator.comparing(entry -> entry.getValue().fetchedAt()))
+                .map(entry -> new SnapshotEntry(entry.getKey(),
+                        entry.getValue().getTokenSubject().orElse(null),
+                        entry.getValue().fetchedAt().toEpochMilli()))
+                .toList();
+
+        Path parent = snapshotFile.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tempFile = parent.resolve(snapshotFile.getFileName() + ".tmp");
+
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tempFile));
+             SequenceWriter writer = objectMapper.writerFor(SnapshotEntry.class).writeValuesAsArray(out)) {
+            writer.writeAll(entries);
+        }
+        Files.move(tempFile, snapshotFile, REPLACE_EXISTING, ATOMIC_MOVE);
+
+        log.debug("Wrote {} token metadata cache entries to {}", entries.size(), snapshotFile);
+    }
+
+    /**
+     * One cached subject, a missing token subject marks a subject the registry does not know.
+     */
+    record SnapshotEntry(String subject, @Nullable TokenSubject tokenSubject, long fetchedAt) {
+    }
+
+}
@@ -0,0 +1,73 @@
+package org.cardanofoundation.rosetta.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Stops calling the token registry after repeated failures.
+ * The breaker opens after {@code failureThreshold} consecutive failed requests and rejects requests
+ * for {@code openDuration}. Afterwards a single trial request is let through, it closes the breaker
+ * when it succeeds and opens it again when it fails.
+ */
+@Slf4j
+class TokenRegistryCircuitBreaker {
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicReference<Instant> openUntil = new AtomicReference<>();
+    private final AtomicBoolean trialInProgress = new AtomicBoolean(false);
+
+    TokenRegistryCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * @return true if a request may be sent to the registry, its outcome must then be recorded
+     */
+    boolean tryAcquire() {
+        Instant until = openUntil.get();
+        if (until == null) {
+            return true;
+        }
+        if (clock.instant().isBefore(until)) {
+            return false;
+        }
+
+        return trialInProgress.compareAndSet(false, true);
+    }
+
+    void onSuccess() {
+        consecutiveFailures.set(0);
+        if (openUntil.getAndSet(null) != null) {
+            log.info("Token registry is reachable again, closing the circuit breaker");
+        }
+        trialInProgress.set(false);
+    }
+
+    void onFailure() {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openUntil.set(clock.instant().plus(openDuration));
+            log.warn("Token registry failed {} times in a row, skipping it for {} seconds",
+                    consecutiveFailures.get(), openDuration.toSeconds());
+        }
+        trialInProgress.set(false);
+    }
+
+    boolean isOpen() {
+        Instant until = openUntil.get();
+
+        return until != null && clock.instant().isBefore(until);
+    }
+
+}
@@ -14,11 +14,33 @@ import java.util.Set;
  */
 public interface TokenRegistryHttpGateway {
 
+    /**
+     * @return true if metadata is requested from the token registry
+     */
+    boolean isEnabled();
+
     /**
      * Get token metadata for multiple subjects using batch request
      * @param subjects Set of subject identifiers (policy_id + asset_name hex)
-     * @return Map of subject -> Optional<TokenSubject> with metadata
+     * @return Map of subject -> Optional<TokenSubject> with metadata, empty Optional if the registry does not know the subject.
+     * Subjects that could not be resolved in time (registry failure, open circuit breaker or missed enrichment deadline) are left out
      */
     Map<String, Optional<TokenSubject>> getTokenMetadataBatch(@NotNull Set<String> subjects);
 
+    /**
+     * Get token metadata for multiple subjects like {@link #getTokenMetadataBatch(Set)}, but without the enrichment deadline,
+     * meant for background work that can wait for the registry
+     * @param subjects Set of subject identifiers (policy_id + asset_name hex)
+     * @return Map of subject -> Optional<TokenSubject> with metadata, empty Optional if the registry does not know the subject.
+     * Subjects are only left out on a registry failure, an open circuit breaker or when the registry timeout passes
+     */
+    Map<String, Optional<TokenSubject>> awaitTokenMetadataBatch(@NotNull Set<String> subjects);
+
+    /**
+     * Get token metadata for multiple subjects straight from the registry, bypassing the cache
+     * @param subjects Set of subject identifiers (policy_id + asset_name hex)
+     * @return Map of subject -> TokenSubject for the subjects known to the registry, empty if the registry could not be queried
+     */
+    Optional<Map<String, TokenSubject>> fetchTokenMetadataBatch(@NotNull Set<String> subjects);
+
 }
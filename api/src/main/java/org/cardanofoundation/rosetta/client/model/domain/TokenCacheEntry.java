@@ -1,31 +1,40 @@
 package org.cardanofoundation.rosetta.client.model.domain;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Optional;
 
 /**
  * Cache entry wrapper for token registry responses.
  * Allows us to cache both found tokens and "not found" results to avoid repeated registry calls.
  * This prevents unnecessary HTTP requests for tokens that don't exist in the registry.
+ * The fetch time tells when an entry is stale and should be refreshed.
  */
-public record TokenCacheEntry(Optional<TokenSubject> tokenSubject, boolean found) {
+public record TokenCacheEntry(Optional<TokenSubject> tokenSubject, boolean found, Instant fetchedAt) {
+
+    // rough heap size of an object header with its references and primitive fields
+    private static final int OBJECT_OVERHEAD_BYTES = 48;
     
     /**
      * Creates a cache entry for a found token
      * 
      * @param tokenSubject the token metadata found in the registry
+     * @param fetchedAt time the registry returned the token
      * @return cache entry representing a found token
      */
-    public static TokenCacheEntry found(TokenSubject tokenSubject) {
-        return new TokenCacheEntry(Optional.of(tokenSubject), true);
+    public static TokenCacheEntry found(TokenSubject tokenSubject, Instant fetchedAt) {
+        return new TokenCacheEntry(Optional.of(tokenSubject), true, fetchedAt);
     }
     
     /**
      * Creates a cache entry for a token that was not found in the registry
      * 
+     * @param fetchedAt time the registry reported the token as missing
      * @return cache entry representing a token not found in the registry
      */
-    public static TokenCacheEntry notFound() {
-        return new TokenCacheEntry(Optional.empty(), false);
+    public static TokenCacheEntry notFound(Instant fetchedAt) {
+        return new TokenCacheEntry(Optional.empty(), false, fetchedAt);
     }
     
     /**
@@ -45,4 +54,53 @@ public record TokenCacheEntry(Optional<TokenSubject> tokenSubject, boolean found
     public Optional<TokenSubject> getTokenSubject() {
         return tokenSubject;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns true if this entry was fetched longer than the given TTL ago
+     *
+     * @param ttl time after which an entry should be refreshed
+     * @param now current time
+     * @return true if the entry is still served but should be refreshed
+     */
+    public boolean isStale(Duration ttl, Instant now) {
+        return fetchedAt.plus(ttl).isBefore(now);
+    }
+
+    /**
+     * Estimates the heap size of this entry, used to weigh it against the cache byte budget
+     *
+     * @return approximate size in bytes, dominated by the metadata strings such as the logo
+     */
+    public int estimatedSizeBytes() {
+        return OBJECT_OVERHEAD_BYTES + tokenSubject.map(TokenCacheEntry::estimatedSizeBytes).orElse(0);
+    }
+
+    private static int estimatedSizeBytes(TokenSubject tokenSubject) {
+        int size = OBJECT_OVERHEAD_BYTES + estimatedSizeBytes(tokenSubject.getSubject());
+
+        TokenMetadata metadata = tokenSubject.getMetadata();
+        if (metadata == null) {
+            return size;
+        }
+
+        size += OBJECT_OVERHEAD_BYTES;
+        for (TokenProperty property : Arrays.asList(metadata.getName(), metadata.getDescription(),
+                metadata.getTicker(), metadata.getLogo(), metadata.getUrl())) {
+            if (property != null) {
+                size += OBJECT_OVERHEAD_BYTES + estimatedSizeBytes(property.getValue()) + estimatedSizeBytes(property.getSource());
+            }
+        }
+        for (TokenPropertyNumber property : Arrays.asList(metadata.getDecimals(), metadata.getVersion())) {
+            if (property != null) {
+                size += OBJECT_OVERHEAD_BYTES + estimatedSizeBytes(property.getSource());
+            }
+        }
+
+        return size;
+    }
+
+    private static int estimatedSizeBytes(String value) {
+        return value == null ? 0 : OBJECT_OVERHEAD_BYTES + value.length();
+    }
+
+}
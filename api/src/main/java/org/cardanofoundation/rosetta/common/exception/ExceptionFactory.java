@@ -370,6 +370,11 @@ public class ExceptionFactory {
                 Details.builder().message("Requested limit size %d exceeds maximum allowed size %d".formatted(limit, maxLimitSize)).build()));
     }
 
+    public static ApiException invalidCoinCursor(String cursor) {
+        return new ApiException(RosettaErrorType.BAD_FORMED_COIN_ERROR.toRosettaError(false,
+                Details.builder().message("Coin cursor '%s' is not a valid coin identifier".formatted(cursor)).build()));
+    }
+
     public static ApiException bothSuccessAndStatusProvided() {
         return new ApiException(RosettaErrorType.BOTH_SUCCESS_AND_STATUS_PROVIDED.toRosettaError(false));
     }
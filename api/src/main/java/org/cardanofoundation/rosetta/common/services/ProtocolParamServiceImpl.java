@@ -6,17 +6,19 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.jooq.DSLContext;
+import org.jooq.Record2;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.apache.commons.io.IOUtils;
 import org.json.JSONObject;
 
@@ -27,6 +29,15 @@ import org.cardanofoundation.rosetta.api.block.model.repository.EpochParamReposi
 import org.cardanofoundation.rosetta.api.block.model.repository.LocalProtocolParamsRepository;
 import org.cardanofoundation.rosetta.common.mapper.ProtocolParamsMapper;
 
+import static org.cardanofoundation.rosetta.api.jooq.Tables.BLOCK;
+import static org.cardanofoundation.rosetta.api.jooq.Tables.LOCAL_EPOCH_PARAM;
+
+/**
+ * Holds the current protocol parameters in memory.
+ * A scheduled check compares the epoch of the chain tip and the latest local_epoch_param row with
+ * the ones the parameters were loaded for, and reloads them off the request path when either
+ * changed. Requests only wait for the parameters before the first load has completed.
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -47,16 +58,77 @@ public class ProtocolParamServiceImpl implements ProtocolParamService {
   private final LocalProtocolParamsRepository localProtocolParamsRepository;
   private final ProtocolParamsMapper mapperProtocolParams;
   private final EpochParamRepository epochParamRepository;
+  private final DSLContext dsl;
+
+  private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
 
   @Override
-  @Cacheable(value = "protocolParamsCache")
-  @Transactional(readOnly = true)
   public ProtocolParams findProtocolParameters() {
+    Snapshot current = snapshot.get();
+    if (current != null) {
+      return current.protocolParams();
+    }
+
+    synchronized (this) {
+      current = snapshot.get();
+
+      return current != null ? current.protocolParams() : load(currentVersion()).protocolParams();
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${cardano.rosetta.PROTOCOL_PARAMS_REFRESH_INTERVAL_MS:5000}")
+  public void scheduledRefresh() {
+    try {
+      ParamsVersion version = currentVersion();
+      Snapshot current = snapshot.get();
+      if (current == null || !current.version().equals(version)) {
+        synchronized (this) {
+          load(version);
+        }
+      }
+    } catch (RuntimeException e) {
+      log.warn("Unable to refresh the protocol parameters: {}", e.getMessage());
+    }
+  }
+
+  private Snapshot load(ParamsVersion version) {
+    Snapshot loaded = new Snapshot(version, loadProtocolParameters());
+    snapshot.set(loaded);
+    log.info("Protocol parameters loaded for tip epoch: {}, local params epoch: {}", version.tipEpoch(), version.localEpoch());
+
+    return loaded;
+  }
+
+  /**
+   * The chain state the protocol parameters depend on, read with two single row lookups.
+   */
+  private ParamsVersion currentVersion() {
+    if (offlineMode) {
+      return ParamsVersion.OFFLINE;
+    }
+
+    Integer tipEpoch = dsl.select(BLOCK.EPOCH)
+        .from(BLOCK)
+        .orderBy(BLOCK.NUMBER.desc())
+        .limit(1)
+        .fetchOne(BLOCK.EPOCH);
+    Record2<Integer, LocalDateTime> localParams = dsl.select(LOCAL_EPOCH_PARAM.EPOCH, LOCAL_EPOCH_PARAM.UPDATE_DATETIME)
+        .from(LOCAL_EPOCH_PARAM)
+        .orderBy(LOCAL_EPOCH_PARAM.EPOCH.desc())
+        .limit(1)
+        .fetchOne();
+
+    return localParams == null
+        ? new ParamsVersion(tipEpoch, null, null)
+        : new ParamsVersion(tipEpoch, localParams.value1(), localParams.value2());
+  }
+
+  private ProtocolParams loadProtocolParameters() {
     if (!offlineMode) {
       log.info("Fetching protocol parameters from the indexer...");
 
       Optional<LocalProtocolParamsEntity> protocolParams = localProtocolParamsRepository.getLocalProtocolParams();
-      log.debug("Protocol parameters fetched from the indexer: {} \nand saved in cachedProtocolParams", protocolParams);
+      log.debug("Protocol parameters fetched from the indexer: {}", protocolParams);
 
       if (protocolParams.isEmpty()) {
         ProtocolParamsEntity paramsEntity = epochParamRepository.findLatestProtocolParams();
@@ -110,9 +182,15 @@ public class ProtocolParamServiceImpl implements ProtocolParamService {
       return protocolParams;
   }
 
-  @Scheduled(fixedRate = 3600000) // 1 hour
-  @CacheEvict(value = "protocolParamsCache", allEntries = true)
-  public void evictAllCacheValues() {
-    log.info("Evicting all entries from protocolParamsCache");
+  private record ParamsVersion(@Nullable Integer tipEpoch,
+                               @Nullable Integer localEpoch,
+                               @Nullable LocalDateTime localUpdatedAt) {
+
+    // genesis parameters never change
+    static final ParamsVersion OFFLINE = new ParamsVersion(null, null, null);
+  }
+
+  private record Snapshot(ParamsVersion version, ProtocolParams protocolParams) {
   }
+
 }
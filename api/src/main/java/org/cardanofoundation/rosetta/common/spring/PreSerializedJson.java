@@ -0,0 +1,15 @@
+package org.cardanofoundation.rosetta.common.spring;
+
+/**
+ * Marker for response bodies that already carry their final JSON representation.
+ * Such bodies are written as-is by {@link PreSerializedJsonHttpMessageConverter}
+ * instead of being serialized again by Jackson.
+ */
+public interface PreSerializedJson {
+
+    /**
+     * @return the UTF-8 encoded JSON of the response body
+     */
+    byte[] getJsonBytes();
+
+}
@@ -0,0 +1,50 @@
+package org.cardanofoundation.rosetta.common.spring;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.NonNull;
+
+/**
+ * Writes {@link PreSerializedJson} bodies straight to the response without building
+ * a Jackson object graph. It must be registered ahead of the Jackson converter.
+ */
+public class PreSerializedJsonHttpMessageConverter extends AbstractHttpMessageConverter<PreSerializedJson> {
+
+    public PreSerializedJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(@NonNull Class<?> clazz) {
+        return PreSerializedJson.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    @NonNull
+    protected PreSerializedJson readInternal(@NonNull Class<? extends PreSerializedJson> clazz,
+                                             @NonNull HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Pre-serialized JSON bodies are write-only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(@NonNull PreSerializedJson body, MediaType contentType) {
+        return (long) body.getJsonBytes().length;
+    }
+
+    @Override
+    protected void writeInternal(@NonNull PreSerializedJson body,
+                                 @NonNull HttpOutputMessage outputMessage) throws IOException {
+        outputMessage.getBody().write(body.getJsonBytes());
+    }
+
+}
@@ -0,0 +1,20 @@
+package org.cardanofoundation.rosetta.common.spring;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Marker for response bodies that write their JSON incrementally while the response is sent.
+ * Such bodies are written by {@link StreamingJsonHttpMessageConverter} instead of being
+ * serialized by Jackson as a whole.
+ */
+public interface StreamingJson {
+
+    /**
+     * Writes the UTF-8 encoded JSON of the response body. The stream must not be closed.
+     *
+     * @param outputStream the response body
+     */
+    void writeTo(OutputStream outputStream) throws IOException;
+
+}
@@ -0,0 +1,45 @@
+package org.cardanofoundation.rosetta.common.spring;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.NonNull;
+
+/**
+ * Lets {@link StreamingJson} bodies write themselves to the response, so large bodies never have
+ * to be held in memory. It must be registered ahead of the Jackson converter.
+ */
+public class StreamingJsonHttpMessageConverter extends AbstractHttpMessageConverter<StreamingJson> {
+
+    public StreamingJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(@NonNull Class<?> clazz) {
+        return StreamingJson.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    @NonNull
+    protected StreamingJson readInternal(@NonNull Class<? extends StreamingJson> clazz,
+                                         @NonNull HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Streaming JSON bodies are write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(@NonNull StreamingJson body,
+                                 @NonNull HttpOutputMessage outputMessage) throws IOException {
+        body.writeTo(outputMessage.getBody());
+    }
+
+}
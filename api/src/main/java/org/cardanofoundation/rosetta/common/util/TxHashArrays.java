@@ -0,0 +1,75 @@
+package org.cardanofoundation.rosetta.common.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+
+/**
+ * Binds transaction hash lists as one array parameter ({@code tx_hash = ANY(?)}) instead of one
+ * IN list entry per hash. The statement text no longer depends on the number of hashes, so the
+ * database parses and plans it once and the driver can reuse its server-side prepared statement.
+ */
+public final class TxHashArrays {
+
+  /**
+   * Largest array bound to a single repository query, bigger lists are fetched chunk by chunk
+   * with the same statement.
+   */
+  public static final int CHUNK_SIZE = 1000;
+
+  private TxHashArrays() {
+  }
+
+  /**
+   * Deduplicates the hashes, keeping their order, and splits them into arrays of at most
+   * {@link #CHUNK_SIZE} hashes.
+   */
+  public static List<String[]> chunks(Collection<String> txHashes) {
+    List<String> distinct = txHashes.stream()
+        .filter(Objects::nonNull)
+        .distinct()
+        .toList();
+
+    List<String[]> chunks = new ArrayList<>();
+    for (int from = 0; from < distinct.size(); from += CHUNK_SIZE) {
+      chunks.add(distinct.subList(from, Math.min(from + CHUNK_SIZE, distinct.size())).toArray(String[]::new));
+    }
+    return chunks;
+  }
+
+  /**
+   * Runs an array query once per chunk of the deduplicated hashes and concatenates the results.
+   * No query runs for an empty list.
+   */
+  public static <T> List<T> fetch(Collection<String> txHashes, Function<String[], List<T>> query) {
+    List<T> results = new ArrayList<>();
+    for (String[] chunk : chunks(txHashes)) {
+      results.addAll(query.apply(chunk));
+    }
+    return results;
+  }
+
+  /**
+   * Matches the field against all deduplicated hashes with a single bound array. Conditions are
+   * not chunked, ORing one condition per chunk would make the statement text depend on the size
+   * of the list again.
+   */
+  public static Condition anyOf(Field<String> field, Collection<String> txHashes) {
+    String[] distinct = txHashes.stream()
+        .filter(Objects::nonNull)
+        .distinct()
+        .toArray(String[]::new);
+
+    if (distinct.length == 0) {
+      return DSL.falseCondition();
+    }
+    return field.eq(DSL.any(distinct));
+  }
+
+}
@@ -2,33 +2,39 @@ package org.cardanofoundation.rosetta.config;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import org.cardanofoundation.rosetta.client.model.domain.TokenCacheEntry;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import static java.util.concurrent.TimeUnit.HOURS;
 
 @Configuration
-@EnableCaching
 public class CacheConfig {
 
-  @Bean
-  public ConcurrentMapCacheManager cacheManager() {
-    return new ConcurrentMapCacheManager("protocolParamsCache");
-  }
+  public static final String TOKEN_METADATA_CACHE = "tokenMetadataCache";
 
   //a cache for token metadata from token registry
+  //entries older than the TTL are served stale while they are refreshed, until the max staleness
+  //the size is bounded in bytes, entries with logos weigh far more than plain ones
   @Bean
   public Cache<String, TokenCacheEntry> tokenMetadataCache(
-      @Value("${cardano.rosetta.TOKEN_REGISTRY_CACHE_TTL_HOURS:12}") int cacheTtlHours) {
-    return CacheBuilder.newBuilder()
-        .maximumSize(10_000) // Maximum 10k cached entries
-        .expireAfterWrite(cacheTtlHours, HOURS)
+      MeterRegistry meterRegistry,
+      @Value("${cardano.rosetta.TOKEN_REGISTRY_CACHE_TTL_HOURS:12}") int cacheTtlHours,
+      @Value("${cardano.rosetta.TOKEN_REGISTRY_CACHE_MAX_STALENESS_HOURS:24}") int cacheMaxStalenessHours,
+      @Value("${cardano.rosetta.TOKEN_REGISTRY_CACHE_MAX_SIZE_MB:32}") long cacheMaxSizeMb) {
+    Cache<String, TokenCacheEntry> cache = CacheBuilder.newBuilder()
+        .maximumWeight(cacheMaxSizeMb * 1024 * 1024)
+        .weigher((String subject, TokenCacheEntry entry) -> subject.length() + entry.estimatedSizeBytes())
+        .expireAfterWrite(cacheTtlHours + cacheMaxStalenessHours, HOURS)
         .recordStats()
         .build();
+
+    GuavaCacheMetrics.monitor(meterRegistry, cache, TOKEN_METADATA_CACHE);
+
+    return cache;
   }
 
 }
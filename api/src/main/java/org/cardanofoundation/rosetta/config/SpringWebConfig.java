@@ -1,6 +1,7 @@
 package org.cardanofoundation.rosetta.config;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import lombok.RequiredArgsConstructor;
@@ -8,11 +9,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.format.FormatterRegistry;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.lang.NonNull;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.cardanofoundation.rosetta.common.spring.PreSerializedJsonHttpMessageConverter;
+import org.cardanofoundation.rosetta.common.spring.StreamingJsonHttpMessageConverter;
+
 
 @Configuration
 @RequiredArgsConstructor
@@ -44,4 +49,11 @@ public class SpringWebConfig implements WebMvcConfigurer {
       }
     });
   }
+
+  @Override
+  public void extendMessageConverters(final List<HttpMessageConverter<?>> converters) {
+    // must precede the Jackson converter, otherwise cached bodies would be serialized again
+    converters.addFirst(new PreSerializedJsonHttpMessageConverter());
+    converters.addFirst(new StreamingJsonHttpMessageConverter());
+  }
 }
@@ -0,0 +1,72 @@
+package org.cardanofoundation.rosetta.api.account.model.repository;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import org.cardanofoundation.rosetta.api.IntegrationTest;
+import org.cardanofoundation.rosetta.api.account.model.domain.AddressBalance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_METHOD;
+
+@Sql(scripts = "classpath:/testdata/sql/address-balance-delta-test-init.sql", executionPhase = BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:/testdata/sql/address-balance-delta-test-cleanup.sql", executionPhase = AFTER_TEST_METHOD)
+class AddressBalanceRepositoryDeltaImplTest extends IntegrationTest {
+
+  private static final String ADDRESS = "addr_delta";
+
+  @Autowired
+  private DSLContext dsl;
+
+  private AddressBalanceRepositoryDeltaImpl addressBalanceRepository;
+
+  @BeforeEach
+  void setUp() {
+    // the repository is only a bean when the indexer store is enabled
+    addressBalanceRepository = new AddressBalanceRepositoryDeltaImpl(dsl);
+  }
+
+  @Test
+  void findBalanceByAddressAndBlock_returnsLatestBalancePerUnit() {
+    List<AddressBalance> balances = addressBalanceRepository.findBalanceByAddressAndBlock(ADDRESS, 20L);
+
+    assertThat(balances)
+        .extracting(AddressBalance::unit, AddressBalance::quantity, AddressBalance::number)
+        .containsExactlyInAnyOrder(
+            tuple("lovelace", BigInteger.valueOf(8_000_000L), 20L),
+            tuple("policy1token1", BigInteger.valueOf(100L), 20L));
+  }
+
+  @Test
+  void findBalanceByAddressAndBlock_ignoresDeltasAfterBlock() {
+    List<AddressBalance> balances = addressBalanceRepository.findBalanceByAddressAndBlock(ADDRESS, 14L);
+
+    assertThat(balances)
+        .extracting(AddressBalance::unit, AddressBalance::quantity)
+        .containsExactly(tuple("lovelace", BigInteger.valueOf(5_000_000L)));
+  }
+
+  @Test
+  void findBalanceByAddressAndBlock_skipsUnitsWithZeroBalance() {
+    List<AddressBalance> balances = addressBalanceRepository.findBalanceByAddressAndBlock(ADDRESS, 30L);
+
+    assertThat(balances)
+        .extracting(AddressBalance::unit, AddressBalance::quantity)
+        .containsExactly(tuple("lovelace", BigInteger.valueOf(8_000_000L)));
+  }
+
+  @Test
+  void findBalanceByAddressAndBlock_returnsEmptyBeforeFirstDelta() {
+    assertThat(addressBalanceRepository.findBalanceByAddressAndBlock(ADDRESS, 9L)).isEmpty();
+    assertThat(addressBalanceRepository.findBalanceByAddressAndBlock("addr_without_deltas", 30L)).isEmpty();
+  }
+
+}
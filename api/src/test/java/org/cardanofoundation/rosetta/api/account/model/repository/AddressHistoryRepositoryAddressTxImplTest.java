@@ -0,0 +1,47 @@
+package org.cardanofoundation.rosetta.api.account.model.repository;
+
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import org.cardanofoundation.rosetta.api.IntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_METHOD;
+
+@Sql(scripts = "classpath:/testdata/sql/tx-repository-address-tx-test-init.sql", executionPhase = BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:/testdata/sql/tx-repository-address-tx-test-cleanup.sql", executionPhase = AFTER_TEST_METHOD)
+class AddressHistoryRepositoryAddressTxImplTest extends IntegrationTest {
+
+  @Autowired
+  private DSLContext dsl;
+
+  private AddressHistoryRepositoryAddressTxImpl addressHistoryRepository;
+
+  @BeforeEach
+  void setUp() {
+    // the repository is only a bean when the indexer store is enabled
+    addressHistoryRepository = new AddressHistoryRepositoryAddressTxImpl(dsl);
+  }
+
+  @Test
+  void findCompleteTransactionHistoryByAddress_returnsEachTransactionOnce() {
+    assertThat(addressHistoryRepository.findCompleteTransactionHistoryByAddress("addr_tx_history"))
+        .containsExactlyInAnyOrder("addressTxTx1", "addressTxTx2", "addressTxTx3");
+  }
+
+  @Test
+  void findCompleteTransactionHistoryByAddress_matchesStakeAddress() {
+    assertThat(addressHistoryRepository.findCompleteTransactionHistoryByAddress("stake_tx_history"))
+        .containsExactlyInAnyOrder("addressTxTx1", "addressTxTx2", "addressTxTx3", "addressTxTx4");
+  }
+
+  @Test
+  void findCompleteTransactionHistoryByAddress_returnsEmptyForUnknownAddress() {
+    assertThat(addressHistoryRepository.findCompleteTransactionHistoryByAddress("addr_tx_unknown")).isEmpty();
+  }
+
+}
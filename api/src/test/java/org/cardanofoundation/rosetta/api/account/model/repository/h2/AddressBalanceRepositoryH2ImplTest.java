@@ -0,0 +1,66 @@
+package org.cardanofoundation.rosetta.api.account.model.repository.h2;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import org.cardanofoundation.rosetta.api.IntegrationTest;
+import org.cardanofoundation.rosetta.api.account.model.domain.AddressBalance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_METHOD;
+
+@Sql(scripts = "classpath:/testdata/sql/address-balance-h2-test-init.sql", executionPhase = BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:/testdata/sql/address-balance-h2-test-cleanup.sql", executionPhase = AFTER_TEST_METHOD)
+class AddressBalanceRepositoryH2ImplTest extends IntegrationTest {
+
+  private static final String ADDRESS = "addr_balance";
+  private static final String TOKEN_UNIT = "b".repeat(56) + "746f6b656e";
+  private static final String POLICY_ONLY_UNIT = "c".repeat(56);
+
+  @Autowired
+  private AddressBalanceRepositoryH2Impl addressBalanceRepository;
+
+  @Test
+  void findBalanceByAddressAndBlock_sumsMultiAssetOutputsPerUnit() {
+    List<AddressBalance> balances = addressBalanceRepository.findBalanceByAddressAndBlock(ADDRESS, 4003L);
+
+    assertThat(balances)
+        .extracting(AddressBalance::unit, AddressBalance::quantity, AddressBalance::number)
+        .containsExactlyInAnyOrder(
+            tuple("lovelace", BigInteger.valueOf(7_000_000L), 4003L),
+            tuple(TOKEN_UNIT, BigInteger.valueOf(150L), 4003L),
+            tuple(POLICY_ONLY_UNIT, BigInteger.valueOf(7L), 4003L));
+  }
+
+  @Test
+  void findBalanceByAddressAndBlock_excludesOutputsSpentAtOrBeforeBlock() {
+    // balanceTx2#0 is spent at 4003, balanceTx2#1 in the block that created it
+    List<AddressBalance> balances = addressBalanceRepository.findBalanceByAddressAndBlock(ADDRESS, 4002L);
+
+    assertThat(balances)
+        .extracting(AddressBalance::unit, AddressBalance::quantity)
+        .contains(tuple("lovelace", BigInteger.valueOf(8_000_000L)));
+  }
+
+  @Test
+  void findBalanceByAddressAndBlock_ignoresOutputsCreatedAfterBlock() {
+    List<AddressBalance> balances = addressBalanceRepository.findBalanceByAddressAndBlock(ADDRESS, 4005L);
+
+    assertThat(balances)
+        .extracting(AddressBalance::unit, AddressBalance::quantity)
+        .contains(tuple("lovelace", BigInteger.valueOf(16_000_000L)));
+    assertThat(addressBalanceRepository.findBalanceByAddressAndBlock(ADDRESS, 4000L)).isEmpty();
+  }
+
+  @Test
+  void findBalanceByAddressAndBlock_returnsEmptyForAddressWithoutUtxos() {
+    assertThat(addressBalanceRepository.findBalanceByAddressAndBlock("addr_balance_empty", 4005L)).isEmpty();
+  }
+
+}
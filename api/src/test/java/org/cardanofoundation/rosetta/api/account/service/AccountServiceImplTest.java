@@ -1,10 +1,15 @@
 package org.cardanofoundation.rosetta.api.account.service;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigInteger;
 import java.util.*;
+import java.util.stream.IntStream;
 import java.util.Optional;
 import jakarta.validation.constraints.NotNull;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import org.cardanofoundation.rosetta.api.common.model.AssetFingerprint;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -74,7 +79,8 @@ class AccountServiceImplTest {
     dataMapper = new DataMapper(tokenRegistryMapper);
 
     accountMapper = new AccountMapperImpl(new AccountMapperUtil(dataMapper));
-    accountService = new AccountServiceImpl(ledgerAccountService, ledgerBlockService, accountMapper, yaciHttpGateway, addressBalanceMapper, tokenRegistryService);
+    accountService = new AccountServiceImpl(ledgerAccountService, ledgerBlockService, accountMapper, yaciHttpGateway, addressBalanceMapper, tokenRegistryService, new ObjectMapper());
+    accountService.coinsLimit = 100;
   }
 
   @Test
@@ -400,6 +406,120 @@ class AccountServiceImplTest {
     verifyNoMoreInteractions(accountIdentifier);
   }
 
+  @Test
+  void getAccountCoinsPageReturnsNextCursorWhenPageIsFull() {
+    String accountAddress = "Ae2tdPwUPEZGvXJ3ebp4LDgBhbxekAH2oKZgfahKq896fehv8oCJxmGJgLt";
+    String txHash = "a".repeat(64);
+    AccountCoinsRequest accountCoinsRequest = getAccountCoinsRequest(accountAddress,
+            new AccountCoinsRequestMetadata(txHash + ":0", 2L));
+    when(ledgerBlockService.findLatestBlockIdentifier()).thenReturn(getBlock());
+    when(ledgerAccountService.findUtxoPageByAddressAndCurrency(accountAddress, Collections.emptyList(), txHash, 0, 2))
+            .thenReturn(List.of(getUtxo(txHash, 1), getUtxo("b".repeat(64), 0)));
+
+    AccountCoinsResponse actual = accountService.getAccountCoins(accountCoinsRequest);
+
+    assertEquals(2, actual.getCoins().size());
+    assertEquals(txHash + ":1", actual.getCoins().getFirst().getCoinIdentifier().getIdentifier());
+    assertEquals(Map.of(AccountServiceImpl.NEXT_CURSOR, "b".repeat(64) + ":0"), actual.getMetadata());
+    verify(ledgerAccountService, never()).findUtxoByAddressAndCurrency(any(), any());
+  }
+
+  @Test
+  void getAccountCoinsPageOmitsNextCursorOnLastPage() {
+    String accountAddress = "Ae2tdPwUPEZGvXJ3ebp4LDgBhbxekAH2oKZgfahKq896fehv8oCJxmGJgLt";
+    AccountCoinsRequest accountCoinsRequest = getAccountCoinsRequest(accountAddress,
+            new AccountCoinsRequestMetadata(null, 2L));
+    when(ledgerBlockService.findLatestBlockIdentifier()).thenReturn(getBlock());
+    when(ledgerAccountService.findUtxoPageByAddressAndCurrency(accountAddress, Collections.emptyList(), "", -1, 2))
+            .thenReturn(List.of(getUtxo("a".repeat(64), 1)));
+
+    AccountCoinsResponse actual = accountService.getAccountCoins(accountCoinsRequest);
+
+    assertEquals(1, actual.getCoins().size());
+    assertNull(actual.getMetadata());
+  }
+
+  @Test
+  void getAccountCoinsPageRejectsInvalidCursorAndLimit() {
+    String accountAddress = "Ae2tdPwUPEZGvXJ3ebp4LDgBhbxekAH2oKZgfahKq896fehv8oCJxmGJgLt";
+    when(ledgerBlockService.findLatestBlockIdentifier()).thenReturn(getBlock());
+
+    ApiException invalidCursor = assertThrows(ApiException.class, () -> accountService.getAccountCoins(
+            getAccountCoinsRequest(accountAddress, new AccountCoinsRequestMetadata("txHash:1", 2L))));
+    ApiException invalidLimit = assertThrows(ApiException.class, () -> accountService.getAccountCoins(
+            getAccountCoinsRequest(accountAddress, new AccountCoinsRequestMetadata(null, 101L))));
+
+    assertEquals(RosettaErrorType.BAD_FORMED_COIN_ERROR.getCode(), invalidCursor.getError().getCode());
+    assertEquals(RosettaErrorType.INVALID_LIMIT.getCode(), invalidLimit.getError().getCode());
+    verifyNoInteractions(ledgerAccountService);
+  }
+
+  @Test
+  void getAccountCoinsStreamsCoinsChunkByChunk() throws Exception {
+    String accountAddress = "Ae2tdPwUPEZGvXJ3ebp4LDgBhbxekAH2oKZgfahKq896fehv8oCJxmGJgLt";
+    accountService.coinsStreamingEnabled = true;
+    int chunkSize = AccountServiceImpl.COINS_STREAM_CHUNK_SIZE;
+    when(ledgerBlockService.findLatestBlockIdentifier()).thenReturn(getBlock());
+    when(ledgerAccountService.findUtxoPageByAddressAndCurrency(accountAddress, Collections.emptyList(), "", -1, chunkSize))
+            .thenReturn(IntStream.range(0, chunkSize).mapToObj(i -> getUtxo("a".repeat(64), i)).toList());
+    when(ledgerAccountService.findUtxoPageByAddressAndCurrency(accountAddress, Collections.emptyList(),
+            "a".repeat(64), chunkSize - 1, chunkSize))
+            .thenReturn(List.of(getUtxo("b".repeat(64), 0)));
+
+    AccountCoinsResponse actual = accountService.getAccountCoins(getAccountCoinsRequest(accountAddress, null));
+    // nothing is read before the body is written
+    verify(ledgerAccountService, never()).findUtxoPageByAddressAndCurrency(any(), any(), any(), anyInt(), anyInt());
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ((AccountServiceImpl.StreamingAccountCoinsResponse) actual).writeTo(outputStream);
+    JsonNode json = new ObjectMapper().readTree(outputStream.toByteArray());
+
+    assertEquals(HASH, json.get("block_identifier").get("hash").asText());
+    assertEquals(1L, json.get("block_identifier").get("index").asLong());
+    assertEquals(chunkSize + 1, json.get("coins").size());
+    assertEquals("b".repeat(64) + ":0", json.get("coins").get(chunkSize).get("coin_identifier").get("identifier").asText());
+    assertEquals("1000", json.get("coins").get(chunkSize).get("amount").get("value").asText());
+    verify(tokenRegistryService, times(2)).fetchMetadataForUtxos(any());
+    verify(ledgerAccountService, times(2)).findUtxoPageByAddressAndCurrency(any(), any(), any(), anyInt(), anyInt());
+  }
+
+  @Test
+  void getAccountCoinsStreamWritesEmptyCoinsForAddressWithoutOutputs() throws Exception {
+    String accountAddress = "Ae2tdPwUPEZGvXJ3ebp4LDgBhbxekAH2oKZgfahKq896fehv8oCJxmGJgLt";
+    accountService.coinsStreamingEnabled = true;
+    when(ledgerBlockService.findLatestBlockIdentifier()).thenReturn(getBlock());
+    when(ledgerAccountService.findUtxoPageByAddressAndCurrency(accountAddress, Collections.emptyList(), "", -1,
+            AccountServiceImpl.COINS_STREAM_CHUNK_SIZE)).thenReturn(List.of());
+
+    AccountCoinsResponse actual = accountService.getAccountCoins(getAccountCoinsRequest(accountAddress, null));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ((AccountServiceImpl.StreamingAccountCoinsResponse) actual).writeTo(outputStream);
+    JsonNode json = new ObjectMapper().readTree(outputStream.toByteArray());
+
+    assertEquals(0, json.get("coins").size());
+    verify(tokenRegistryService, never()).fetchMetadataForUtxos(any());
+  }
+
+  private static AccountCoinsRequest getAccountCoinsRequest(String accountAddress,
+                                                            AccountCoinsRequestMetadata metadata) {
+    return AccountCoinsRequest.builder()
+            .accountIdentifier(AccountIdentifier.builder().address(accountAddress).build())
+            .metadata(metadata)
+            .build();
+  }
+
+  private BlockIdentifierExtended getBlock() {
+    return BlockIdentifierExtended.builder().number(1L).hash(HASH).build();
+  }
+
+  private static Utxo getUtxo(String txHash, int outputIndex) {
+    return Utxo.builder()
+            .txHash(txHash)
+            .outputIndex(outputIndex)
+            .amounts(List.of(new Amt(LOVELACE, null, BigInteger.valueOf(1000L))))
+            .build();
+  }
+
   private BlockIdentifierExtended getMockedBlockIdentifierExtended() {
     BlockIdentifierExtended blockIdentifier = Mockito.mock(BlockIdentifierExtended.class);
     when(blockIdentifier.getNumber()).thenReturn(1L);
@@ -444,6 +564,7 @@ class AccountServiceImplTest {
     verify(ledgerAccountService).findUtxoByAddressAndCurrency(accountAddress,
             Collections.emptyList());
     verify(accountCoinsRequest).getCurrencies();
+    verify(accountCoinsRequest).getMetadata();
     verifyNoMoreInteractions(ledgerAccountService);
     verifyNoMoreInteractions(accountCoinsRequest);
   }
@@ -2,14 +2,22 @@ package org.cardanofoundation.rosetta.api.block.model.repository;
 
 import org.cardanofoundation.rosetta.api.IntegrationTest;
 import org.cardanofoundation.rosetta.api.block.model.entity.TxnEntity;
+import org.cardanofoundation.rosetta.api.block.model.repository.h2.TxRepositoryH2Impl;
+import org.cardanofoundation.rosetta.api.block.model.repository.util.TxRepositoryQueryBuilder;
+import org.cardanofoundation.rosetta.api.search.model.CountMode;
 import org.cardanofoundation.rosetta.api.search.model.Currency;
+import org.cardanofoundation.rosetta.api.search.model.TxCursor;
+import org.cardanofoundation.rosetta.api.search.model.TxPage;
 import org.cardanofoundation.rosetta.common.spring.SimpleOffsetBasedPageRequest;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Slice;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.HashSet;
 import java.util.Collections;
@@ -900,4 +908,260 @@ public class TxRepositoryCustomImplTest extends IntegrationTest {
         }
     }
 
+    @Nested
+    class TxAssetCurrencyTests {
+
+        private static final String FIRST_POLICY = "ab".repeat(28);
+        private static final String SECOND_POLICY = "cd".repeat(28);
+        private static final String ASSET_ONE = "61737365744f6e65"; // hex-encoded "assetOne"
+
+        @Autowired
+        private DSLContext dsl;
+
+        @Autowired
+        private TxRepositoryQueryBuilder queryBuilder;
+
+        private TxRepositoryH2Impl txAssetRepository;
+        private TxRepositoryH2Impl legacyRepository;
+
+        @BeforeEach
+        void setUp() {
+            txAssetRepository = new TxRepositoryH2Impl(dsl, queryBuilder, true);
+            legacyRepository = new TxRepositoryH2Impl(dsl, queryBuilder, false);
+        }
+
+        @Test
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-tx-asset-test-init.sql", executionPhase = BEFORE_TEST_METHOD)
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-tx-asset-test-cleanup.sql", executionPhase = AFTER_TEST_METHOD)
+        public void testSearchTxnEntities_PolicyIdOnlyMatchesLegacyBranch() {
+            Currency currency = Currency.builder()
+                    .policyId(FIRST_POLICY)
+                    .build();
+
+            assertThat(searchBothBranches(currency)).containsExactly("txAssetTx2", "txAssetTx1");
+        }
+
+        @Test
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-tx-asset-test-init.sql", executionPhase = BEFORE_TEST_METHOD)
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-tx-asset-test-cleanup.sql", executionPhase = AFTER_TEST_METHOD)
+        public void testSearchTxnEntities_SymbolOnlyMatchesLegacyBranch() {
+            Currency currency = Currency.builder()
+                    .symbol(ASSET_ONE)
+                    .build();
+
+            assertThat(searchBothBranches(currency)).containsExactly("txAssetTx2", "txAssetTx1");
+        }
+
+        @Test
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-tx-asset-test-init.sql", executionPhase = BEFORE_TEST_METHOD)
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-tx-asset-test-cleanup.sql", executionPhase = AFTER_TEST_METHOD)
+        public void testSearchTxnEntities_PolicyIdAndSymbolMatchesLegacyBranch() {
+            // txAssetTx2 pays both the policy and the asset name, but in different assets
+            Currency currency = Currency.builder()
+                    .policyId(FIRST_POLICY)
+                    .symbol(ASSET_ONE)
+                    .build();
+
+            assertThat(searchBothBranches(currency)).containsExactly("txAssetTx1");
+        }
+
+        @Test
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-tx-asset-test-init.sql", executionPhase = BEFORE_TEST_METHOD)
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-tx-asset-test-cleanup.sql", executionPhase = AFTER_TEST_METHOD)
+        public void testSearchTxnEntities_SecondPolicyAndSymbolMatchesLegacyBranch() {
+            Currency currency = Currency.builder()
+                    .policyId(SECOND_POLICY)
+                    .symbol(ASSET_ONE)
+                    .build();
+
+            assertThat(searchBothBranches(currency)).containsExactly("txAssetTx2");
+        }
+
+        private List<String> searchBothBranches(Currency currency) {
+            List<String> viaTxAsset = search(txAssetRepository, currency);
+            assertThat(viaTxAsset).containsExactlyElementsOf(search(legacyRepository, currency));
+
+            return viaTxAsset;
+        }
+
+        private static List<String> search(TxRepositoryH2Impl repository, Currency currency) {
+            return repository.searchTxnEntitiesAND(
+                            Collections.emptySet(), Set.of(), null, null, null, null, currency,
+                            new SimpleOffsetBasedPageRequest(0, 100))
+                    .getContent().stream()
+                    .map(TxnEntity::getTxHash)
+                    .toList();
+        }
+    }
+
+    @Nested
+    class CursorPaginationTests {
+
+        @Test
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-ordering-test-init.sql", executionPhase = BEFORE_TEST_METHOD)
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-ordering-test-cleanup.sql", executionPhase = AFTER_TEST_METHOD)
+        public void testSearchTxnEntitiesAND_ResumesFromNextCursor() {
+            Page<TxnEntity> firstPage = txRepository.searchTxnEntitiesAND(
+                    Collections.emptySet(), Set.of(), null, null, null, null, null,
+                    null, CountMode.EXACT, new SimpleOffsetBasedPageRequest(0, 2));
+
+            assertThat(firstPage.getContent()).extracting(TxnEntity::getTxHash).containsExactly("txHash5", "txHash4");
+            assertThat(firstPage.getTotalElements()).isEqualTo(5);
+            assertThat(firstPage).isInstanceOf(TxPage.class);
+            TxCursor nextCursor = ((TxPage<TxnEntity>) firstPage).getNextCursor();
+            assertThat(nextCursor).isEqualTo(new TxCursor(300, 0, "txHash4"));
+
+            Page<TxnEntity> secondPage = txRepository.searchTxnEntitiesAND(
+                    Collections.emptySet(), Set.of(), null, null, null, null, null,
+                    nextCursor, CountMode.EXACT, new SimpleOffsetBasedPageRequest(0, 2));
+
+            assertThat(secondPage.getContent()).extracting(TxnEntity::getTxHash).containsExactly("txHash3", "txHash2");
+            // the count covers the whole search, not only what follows the cursor
+            assertThat(secondPage.getTotalElements()).isEqualTo(5);
+        }
+
+        @Test
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-ordering-test-init.sql", executionPhase = BEFORE_TEST_METHOD)
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-ordering-test-cleanup.sql", executionPhase = AFTER_TEST_METHOD)
+        public void testSearchTxnEntitiesOR_WithoutCountOnlyTellsWhetherMoreFollow() {
+            Page<TxnEntity> firstPage = txRepository.searchTxnEntitiesOR(
+                    Collections.emptySet(), Set.of(), null, null, null, null, null,
+                    null, CountMode.NONE, new SimpleOffsetBasedPageRequest(0, 2));
+            Page<TxnEntity> lastPage = txRepository.searchTxnEntitiesOR(
+                    Collections.emptySet(), Set.of(), null, null, null, null, null,
+                    new TxCursor(100, 1, "txHash2"), CountMode.NONE, new SimpleOffsetBasedPageRequest(0, 2));
+
+            assertThat(firstPage.getTotalElements()).isEqualTo(3);
+            assertThat(((TxPage<TxnEntity>) firstPage).getNextCursor()).isNotNull();
+            assertThat(lastPage.getContent()).extracting(TxnEntity::getTxHash).containsExactly("txHash1");
+            assertThat(lastPage.getTotalElements()).isEqualTo(1);
+            assertThat(((TxPage<TxnEntity>) lastPage).getNextCursor()).isNull();
+        }
+
+        @Test
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-ordering-test-init.sql", executionPhase = BEFORE_TEST_METHOD)
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-ordering-test-cleanup.sql", executionPhase = AFTER_TEST_METHOD)
+        public void testSearchTxnEntitiesAND_CappedCountBelowCapIsExact() {
+            Page<TxnEntity> results = txRepository.searchTxnEntitiesAND(
+                    Collections.emptySet(), Set.of(), null, null, null, null, null,
+                    null, CountMode.CAPPED, new SimpleOffsetBasedPageRequest(0, 1));
+
+            assertThat(results.getContent()).extracting(TxnEntity::getTxHash).containsExactly("txHash5");
+            assertThat(results.getTotalElements()).isEqualTo(5);
+        }
+    }
+
+    @Nested
+    class AddressHistoryTests {
+
+        @Test
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-address-history-test-init.sql", executionPhase = BEFORE_TEST_METHOD)
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-address-history-test-cleanup.sql", executionPhase = AFTER_TEST_METHOD)
+        public void testFindTransactionsByAddress_OutputsAndSpendsNewestFirst() {
+            Page<TxnEntity> results = txRepository.findTransactionsByAddress(
+                    "addr_history", null, null, new SimpleOffsetBasedPageRequest(0, 100));
+
+            assertThat(results.getContent()).extracting(TxnEntity::getTxHash)
+                    .containsExactly("historyTx3", "historyTx2", "historyTx1");
+            assertThat(results.getTotalElements()).isEqualTo(3);
+        }
+
+        @Test
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-address-history-test-init.sql", executionPhase = BEFORE_TEST_METHOD)
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-address-history-test-cleanup.sql", executionPhase = AFTER_TEST_METHOD)
+        public void testFindTransactionsByAddress_ResumesFromCursorAndOffset() {
+            Page<TxnEntity> afterCursor = txRepository.findTransactionsByAddress(
+                    "addr_history", null, new TxCursor(10020, 0), new SimpleOffsetBasedPageRequest(0, 1));
+            Page<TxnEntity> secondPage = txRepository.findTransactionsByAddress(
+                    "addr_history", null, null, new SimpleOffsetBasedPageRequest(1, 1));
+
+            assertThat(afterCursor.getContent()).extracting(TxnEntity::getTxHash).containsExactly("historyTx2");
+            assertThat(secondPage.getContent()).extracting(TxnEntity::getTxHash).containsExactly("historyTx2");
+        }
+
+        @Test
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-address-history-test-init.sql", executionPhase = BEFORE_TEST_METHOD)
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-address-history-test-cleanup.sql", executionPhase = AFTER_TEST_METHOD)
+        public void testFindTransactionsByAddress_RespectsMaxBlock() {
+            Page<TxnEntity> results = txRepository.findTransactionsByAddress(
+                    "addr_history", 1001L, null, new SimpleOffsetBasedPageRequest(0, 100));
+
+            assertThat(results.getContent()).extracting(TxnEntity::getTxHash)
+                    .containsExactly("historyTx2", "historyTx1");
+            assertThat(results.getTotalElements()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    class AddressTxHistoryTests {
+
+        @Autowired
+        private DSLContext dsl;
+
+        @Autowired
+        private TxRepositoryQueryBuilder queryBuilder;
+
+        private TxRepositoryH2Impl addressTxRepository;
+
+        @BeforeEach
+        void setUp() {
+            addressTxRepository = new TxRepositoryH2Impl(dsl, queryBuilder, false);
+            ReflectionTestUtils.setField(addressTxRepository, "addressTxStoreEnabled", true);
+        }
+
+        @Test
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-address-tx-test-init.sql", executionPhase = BEFORE_TEST_METHOD)
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-address-tx-test-cleanup.sql", executionPhase = AFTER_TEST_METHOD)
+        public void testFindTransactionsByAddress_PaymentAddressNewestFirst() {
+            Page<TxnEntity> results = addressTxRepository.findTransactionsByAddress(
+                    "addr_tx_history", null, null, new SimpleOffsetBasedPageRequest(0, 100));
+
+            assertThat(results.getContent()).extracting(TxnEntity::getTxHash)
+                    .containsExactly("addressTxTx3", "addressTxTx2", "addressTxTx1");
+            assertThat(results.getTotalElements()).isEqualTo(3);
+        }
+
+        @Test
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-address-tx-test-init.sql", executionPhase = BEFORE_TEST_METHOD)
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-address-tx-test-cleanup.sql", executionPhase = AFTER_TEST_METHOD)
+        public void testFindTransactionsByAddress_StakeAddressCoversAllItsAddresses() {
+            Page<TxnEntity> results = addressTxRepository.findTransactionsByAddress(
+                    "stake_tx_history", null, null, new SimpleOffsetBasedPageRequest(0, 100));
+
+            assertThat(results.getContent()).extracting(TxnEntity::getTxHash)
+                    .containsExactly("addressTxTx4", "addressTxTx3", "addressTxTx2", "addressTxTx1");
+            assertThat(results.getTotalElements()).isEqualTo(4);
+        }
+
+        @Test
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-address-tx-test-init.sql", executionPhase = BEFORE_TEST_METHOD)
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-address-tx-test-cleanup.sql", executionPhase = AFTER_TEST_METHOD)
+        public void testFindTransactionsByAddress_WalksPagesWithCursor() {
+            TxPage<TxnEntity> firstPage = (TxPage<TxnEntity>) addressTxRepository.findTransactionsByAddress(
+                    "addr_tx_history", null, null, new SimpleOffsetBasedPageRequest(0, 1));
+            TxPage<TxnEntity> secondPage = (TxPage<TxnEntity>) addressTxRepository.findTransactionsByAddress(
+                    "addr_tx_history", null, firstPage.getNextCursor(), new SimpleOffsetBasedPageRequest(0, 1));
+            TxPage<TxnEntity> lastPage = (TxPage<TxnEntity>) addressTxRepository.findTransactionsByAddress(
+                    "addr_tx_history", null, secondPage.getNextCursor(), new SimpleOffsetBasedPageRequest(0, 1));
+
+            assertThat(firstPage.getContent()).extracting(TxnEntity::getTxHash).containsExactly("addressTxTx3");
+            assertThat(firstPage.getNextCursor()).isEqualTo(new TxCursor(20020, 1, "addressTxTx3"));
+            assertThat(secondPage.getContent()).extracting(TxnEntity::getTxHash).containsExactly("addressTxTx2");
+            assertThat(secondPage.getNextCursor()).isEqualTo(new TxCursor(20010, 3, "addressTxTx2"));
+            assertThat(lastPage.getContent()).extracting(TxnEntity::getTxHash).containsExactly("addressTxTx1");
+            assertThat(lastPage.getNextCursor()).isNull();
+        }
+
+        @Test
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-address-tx-test-init.sql", executionPhase = BEFORE_TEST_METHOD)
+        @Sql(scripts = "classpath:/testdata/sql/tx-repository-address-tx-test-cleanup.sql", executionPhase = AFTER_TEST_METHOD)
+        public void testFindTransactionsByAddress_RespectsMaxBlock() {
+            Page<TxnEntity> results = addressTxRepository.findTransactionsByAddress(
+                    "addr_tx_history", 2001L, null, new SimpleOffsetBasedPageRequest(0, 100));
+
+            assertThat(results.getContent()).extracting(TxnEntity::getTxHash)
+                    .containsExactly("addressTxTx2", "addressTxTx1");
+            assertThat(results.getTotalElements()).isEqualTo(2);
+        }
+    }
 }
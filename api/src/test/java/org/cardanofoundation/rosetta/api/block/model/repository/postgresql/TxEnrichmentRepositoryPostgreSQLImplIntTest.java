@@ -0,0 +1,85 @@
+package org.cardanofoundation.rosetta.api.block.model.repository.postgresql;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import com.bloxbean.cardano.yaci.core.model.certs.CertificateType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import org.cardanofoundation.rosetta.api.IntegrationTest;
+import org.cardanofoundation.rosetta.api.account.model.entity.AddressUtxoEntity;
+import org.cardanofoundation.rosetta.api.block.model.repository.TxEnrichmentRepository.TxEnrichment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_METHOD;
+
+/**
+ * Runs the UNION ALL enrichment statement against the integration database, so every branch is
+ * rendered and executed, not only the row mapping.
+ */
+@Sql(scripts = "classpath:/testdata/sql/tx-enrichment-test-init.sql", executionPhase = BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:/testdata/sql/tx-enrichment-test-cleanup.sql", executionPhase = AFTER_TEST_METHOD)
+class TxEnrichmentRepositoryPostgreSQLImplIntTest extends IntegrationTest {
+
+  @Autowired
+  private DSLContext dsl;
+
+  private TxEnrichmentRepositoryPostgreSQLImpl txEnrichmentRepository;
+
+  @BeforeEach
+  void setUp() {
+    // the repository is only a bean when BLOCK_ENRICHMENT_MODE is SINGLE_QUERY
+    txEnrichmentRepository = new TxEnrichmentRepositoryPostgreSQLImpl(dsl, new ObjectMapper(), 5);
+  }
+
+  @Test
+  void findByTxHashes_returnsEveryEnrichmentKindOfTheTransactions() {
+    TxEnrichment enrichment = txEnrichmentRepository.findByTxHashes(
+        List.of("enrichTx1", "enrichTx2"), List.of("enrichUtxoTx"));
+
+    assertThat(enrichment.utxos())
+        .extracting(AddressUtxoEntity::getTxHash, AddressUtxoEntity::getOutputIndex,
+            AddressUtxoEntity::getOwnerAddr, AddressUtxoEntity::getOwnerStakeAddr,
+            AddressUtxoEntity::getBlockNumber)
+        .containsExactlyInAnyOrder(
+            tuple("enrichUtxoTx", 0, "addr_enrich", "stake_enrich", 3001L),
+            tuple("enrichUtxoTx", 1, "addr_enrich_change", null, 3001L));
+
+    assertThat(enrichment.stakeRegistrations()).hasSize(1);
+    assertThat(enrichment.stakeRegistrations().getFirst().getTxHash()).isEqualTo("enrichTx1");
+    assertThat(enrichment.stakeRegistrations().getFirst().getType())
+        .isEqualTo(CertificateType.STAKE_REGISTRATION);
+
+    assertThat(enrichment.withdrawals()).hasSize(1);
+    assertThat(enrichment.withdrawals().getFirst().getAmount()).isEqualTo(BigInteger.valueOf(5000000));
+
+    assertThat(enrichment.invalidTransactions()).hasSize(1);
+    assertThat(enrichment.invalidTransactions().getFirst().getTxHash()).isEqualTo("enrichTx2");
+    assertThat(enrichment.invalidTransactions().getFirst().getSlot()).isEqualTo(30010L);
+
+    assertThat(enrichment.poolDelegations()).isEmpty();
+    assertThat(enrichment.drepDelegations()).isEmpty();
+    assertThat(enrichment.spoVotes()).isEmpty();
+    assertThat(enrichment.poolRegistrations()).isEmpty();
+    assertThat(enrichment.poolRetirements()).isEmpty();
+  }
+
+  @Test
+  void findByTxHashes_withUnknownHashes_returnsNothing() {
+    TxEnrichment enrichment = txEnrichmentRepository.findByTxHashes(
+        List.of("unknownTx"), List.of("unknownUtxoTx"));
+
+    assertThat(enrichment.utxos()).isEmpty();
+    assertThat(enrichment.stakeRegistrations()).isEmpty();
+    assertThat(enrichment.withdrawals()).isEmpty();
+    assertThat(enrichment.invalidTransactions()).isEmpty();
+  }
+
+}
@@ -0,0 +1,115 @@
+package org.cardanofoundation.rosetta.api.block.model.repository.postgresql;
+
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.List;
+
+import com.bloxbean.cardano.yaci.core.model.certs.CertificateType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.Record3;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.junit.jupiter.api.Test;
+
+import org.cardanofoundation.rosetta.api.block.model.entity.Vote;
+import org.cardanofoundation.rosetta.api.block.model.entity.VoterType;
+import org.cardanofoundation.rosetta.api.block.model.repository.TxEnrichmentRepository.TxEnrichment;
+import org.cardanofoundation.rosetta.common.exception.ApiException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TxEnrichmentRepositoryPostgreSQLImplTest {
+
+  private static final Field<String> KIND = DSL.field(DSL.name("kind"), String.class);
+  private static final Field<String> TX_HASH = DSL.field(DSL.name("tx_hash"), String.class);
+  private static final Field<JSONB> PAYLOAD = DSL.field(DSL.name("payload"), JSONB.class);
+
+  private final DSLContext dsl = DSL.using(SQLDialect.POSTGRES);
+
+  private final TxEnrichmentRepositoryPostgreSQLImpl repository =
+      new TxEnrichmentRepositoryPostgreSQLImpl(dsl, new ObjectMapper(), 5);
+
+  @Test
+  void mapRows_groupsRowsByKind() {
+    Result<Record3<String, String, JSONB>> rows = dsl.newResult(KIND, TX_HASH, PAYLOAD);
+    rows.add(row("utxo", "utxoTx",
+        "{\"output_index\": 1, \"owner_addr\": \"addr1\", \"amounts\": "
+            + "[{\"unit\": \"lovelace\", \"quantity\": 10}], \"block\": 5}"));
+    rows.add(row("stake_registration", "tx1",
+        "{\"cert_index\": 0, \"type\": \"STAKE_REGISTRATION\", \"address\": \"stake1\"}"));
+    rows.add(row("withdrawal", "tx1", "{\"address\": \"stake1\", \"amount\": 18446744073709551616}"));
+    rows.add(row("voting_procedure", "tx2",
+        "{\"voter_hash\": \"abcd\", \"voter_type\": \"STAKING_POOL_KEY_HASH\", "
+            + "\"gov_action_tx_hash\": \"govTx\", \"gov_action_index\": 0, \"vote\": \"YES\"}"));
+    rows.add(row("invalid_transaction", "tx2", "{\"slot\": 42, \"block_hash\": null}"));
+
+    TxEnrichment enrichment = repository.mapRows(rows);
+
+    assertThat(enrichment.utxos()).hasSize(1);
+    assertThat(enrichment.utxos().getFirst().getOutputIndex()).isEqualTo(1);
+    assertThat(enrichment.utxos().getFirst().getOwnerStakeAddr()).isNull();
+    assertThat(enrichment.utxos().getFirst().getAmounts().getFirst().getQuantity())
+        .isEqualTo(BigInteger.TEN);
+
+    assertThat(enrichment.stakeRegistrations()).hasSize(1);
+    assertThat(enrichment.stakeRegistrations().getFirst().getType())
+        .isEqualTo(CertificateType.STAKE_REGISTRATION);
+
+    assertThat(enrichment.withdrawals()).hasSize(1);
+    assertThat(enrichment.withdrawals().getFirst().getAmount())
+        .isEqualTo(new BigInteger("18446744073709551616"));
+
+    assertThat(enrichment.spoVotes()).hasSize(1);
+    assertThat(enrichment.spoVotes().getFirst().getVoterType()).isEqualTo(VoterType.STAKING_POOL_KEY_HASH);
+    assertThat(enrichment.spoVotes().getFirst().getVote()).isEqualTo(Vote.YES);
+
+    assertThat(enrichment.invalidTransactions()).hasSize(1);
+    assertThat(enrichment.invalidTransactions().getFirst().getSlot()).isEqualTo(42L);
+
+    assertThat(enrichment.poolDelegations()).isEmpty();
+    assertThat(enrichment.drepDelegations()).isEmpty();
+    assertThat(enrichment.poolRegistrations()).isEmpty();
+    assertThat(enrichment.poolRetirements()).isEmpty();
+  }
+
+  @Test
+  void findByTxHashes_whenStatementIsCancelledByQueryTimeout_throwsTimeout() {
+    DSLContext cancelling = DSL.using(new MockConnection(context -> {
+      throw new SQLException("ERROR: canceling statement due to user request", "57014");
+    }), SQLDialect.POSTGRES);
+    TxEnrichmentRepositoryPostgreSQLImpl timingOut =
+        new TxEnrichmentRepositoryPostgreSQLImpl(cancelling, new ObjectMapper(), 1);
+
+    assertThatThrownBy(() -> timingOut.findByTxHashes(List.of("tx1"), List.of("utxoTx")))
+        .isInstanceOf(ApiException.class)
+        .extracting("error.details.message")
+        .isEqualTo("Timeout, details: timeout while fetching transaction data from db.");
+  }
+
+  @Test
+  void findByTxHashes_whenStatementFailsForOtherReasons_rethrows() {
+    DSLContext failing = DSL.using(new MockConnection(context -> {
+      throw new SQLException("ERROR: relation does not exist", "42P01");
+    }), SQLDialect.POSTGRES);
+    TxEnrichmentRepositoryPostgreSQLImpl broken =
+        new TxEnrichmentRepositoryPostgreSQLImpl(failing, new ObjectMapper(), 1);
+
+    assertThatThrownBy(() -> broken.findByTxHashes(List.of("tx1"), List.of("utxoTx")))
+        .isInstanceOf(DataAccessException.class);
+  }
+
+  private Record3<String, String, JSONB> row(String kind, String txHash, String payload) {
+    Record3<String, String, JSONB> record = dsl.newRecord(KIND, TX_HASH, PAYLOAD);
+    record.values(kind, txHash, JSONB.valueOf(payload));
+
+    return record;
+  }
+
+}
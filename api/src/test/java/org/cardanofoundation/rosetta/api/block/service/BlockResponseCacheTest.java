@@ -0,0 +1,111 @@
+package org.cardanofoundation.rosetta.api.block.service;
+
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openapitools.client.model.BlockIdentifier;
+import org.openapitools.client.model.BlockResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.cardanofoundation.rosetta.api.block.model.domain.BlockIdentifierExtended;
+import org.cardanofoundation.rosetta.common.spring.PreSerializedJson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BlockResponseCacheTest {
+
+  @Mock
+  private LedgerBlockService ledgerBlockService;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private BlockResponseCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new BlockResponseCache(ledgerBlockService, objectMapper, meterRegistry,
+        true, 16, 1, 2160);
+  }
+
+  @Test
+  void offer_admitsBlocksBelowImmutableDepth_andServesThemByNumberAndHash() throws Exception {
+    givenTip(10_000L);
+    BlockResponse response = newBlockResponse(1_000L, "hash1000");
+
+    BlockResponse returned = cache.offer(response);
+
+    assertThat(returned).isInstanceOf(PreSerializedJson.class);
+    assertThat(((PreSerializedJson) returned).getJsonBytes())
+        .isEqualTo(objectMapper.writeValueAsBytes(response));
+    assertThat(cache.get(1_000L, null)).containsSame(returned);
+    assertThat(cache.get(null, "hash1000")).containsSame(returned);
+    assertThat(cache.get(1_000L, "hash1000")).containsSame(returned);
+    assertThat(cache.get(1_000L, "otherHash")).isEmpty();
+    assertThat(meterRegistry.get("rosetta.block.response.cache.bytes").gauge().value())
+        .isEqualTo(((PreSerializedJson) returned).getJsonBytes().length);
+  }
+
+  @Test
+  void offer_doesNotAdmitBlocksWithinImmutableDepth() {
+    givenTip(10_000L);
+    BlockResponse response = newBlockResponse(9_000L, "hash9000");
+
+    BlockResponse returned = cache.offer(response);
+
+    assertThat(returned).isSameAs(response);
+    assertThat(cache.get(9_000L, null)).isEmpty();
+  }
+
+  @Test
+  void offer_reusesKnownTip_forDeepBlocks() {
+    givenTip(10_000L);
+
+    cache.offer(newBlockResponse(9_000L, "hash9000"));
+    cache.offer(newBlockResponse(100L, "hash100"));
+    cache.offer(newBlockResponse(200L, "hash200"));
+
+    verify(ledgerBlockService, times(1)).findLatestBlockIdentifier();
+    assertThat(cache.get(200L, null)).isPresent();
+  }
+
+  @Test
+  void get_neverServesLatestBlockRequests() {
+    assertThat(cache.get(null, null)).isEqualTo(Optional.empty());
+  }
+
+  @Test
+  void disabledCache_passesResponsesThrough() {
+    BlockResponseCache disabled = new BlockResponseCache(ledgerBlockService, objectMapper,
+        new SimpleMeterRegistry(), false, 16, 1, 2160);
+    BlockResponse response = newBlockResponse(1L, "hash1");
+
+    assertThat(disabled.offer(response)).isSameAs(response);
+    assertThat(disabled.get(1L, null)).isEmpty();
+  }
+
+  private void givenTip(long number) {
+    BlockIdentifierExtended tip = new BlockIdentifierExtended();
+    tip.setNumber(number);
+    when(ledgerBlockService.findLatestBlockIdentifier()).thenReturn(tip);
+  }
+
+  private static BlockResponse newBlockResponse(long number, String hash) {
+    return BlockResponse.builder()
+        .block(org.openapitools.client.model.Block.builder()
+            .blockIdentifier(new BlockIdentifier(number, hash))
+            .build())
+        .build();
+  }
+
+}
@@ -0,0 +1,165 @@
+package org.cardanofoundation.rosetta.api.block.service;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openapitools.client.model.BlockResponse;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.cardanofoundation.rosetta.api.block.mapper.BlockMapper;
+import org.cardanofoundation.rosetta.api.block.model.domain.Block;
+import org.cardanofoundation.rosetta.api.block.model.domain.BlockIdentifierExtended;
+import org.cardanofoundation.rosetta.api.common.model.AssetFingerprint;
+import org.cardanofoundation.rosetta.api.common.model.TokenRegistryCurrencyData;
+import org.cardanofoundation.rosetta.api.common.service.TokenRegistryService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BlockSegmentFillerTest {
+
+  private static final String HASH = "a".repeat(64);
+  private static final long IMMUTABLE_DEPTH = 10;
+
+  @Mock
+  private BlockService blockService;
+
+  @Mock
+  private LedgerBlockService ledgerBlockService;
+
+  @Mock
+  private TokenRegistryService tokenRegistryService;
+
+  @Mock
+  private BlockMapper blockMapper;
+
+  @TempDir
+  Path directory;
+
+  private final AtomicLong latestBlock = new AtomicLong(20);
+  private final AtomicLong oldestBlock = new AtomicLong();
+
+  private BlockSegmentStore store;
+
+  @BeforeEach
+  void setUp() {
+    store = new BlockSegmentStore(directory.toString(), "1.0.0", false);
+
+    lenient().when(blockService.findBlock(anyLong(), isNull()))
+        .thenAnswer(invocation -> Block.builder().hash(HASH).transactions(List.of()).build());
+    lenient().when(tokenRegistryService.awaitMetadataForBlockTxList(any())).thenReturn(Map.of());
+    lenient().when(blockMapper.mapToBlockResponseWithMetadata(any(), anyMap())).thenReturn(new BlockResponse());
+    lenient().when(ledgerBlockService.findLatestBlockIdentifier())
+        .thenAnswer(invocation -> block(latestBlock.get()));
+    lenient().when(ledgerBlockService.findGenesisBlockIdentifier()).thenReturn(block(0));
+    lenient().when(ledgerBlockService.findOldestBlockIdentifier(any()))
+        .thenAnswer(invocation -> block(oldestBlock.get()));
+  }
+
+  @Test
+  void fillPass_withoutPruning_startsFromGenesis() {
+    long next = newFiller(false).fillPass(-1);
+
+    assertThat(next).isEqualTo(11L);
+    assertThat(store.firstMissing(0)).isEqualTo(11L);
+    verify(ledgerBlockService, never()).findOldestBlockIdentifier(any());
+  }
+
+  @Test
+  void fillPass_withPruning_continuesFromMovedHorizon() {
+    BlockSegmentFiller filler = newFiller(true);
+    oldestBlock.set(2);
+    assertThat(filler.fillPass(-1)).isEqualTo(11L);
+
+    latestBlock.set(40);
+    oldestBlock.set(25);
+    long next = filler.fillPass(11);
+
+    assertThat(next).isEqualTo(31L);
+    assertThat(store.contains(24)).isFalse();
+    assertThat(store.firstMissing(25)).isEqualTo(31L);
+  }
+
+  @Test
+  void fillPass_doesNotStoreBlockThatFellBelowHorizonWhileRendering() {
+    oldestBlock.set(5);
+    when(blockService.findBlock(anyLong(), isNull())).thenAnswer(invocation -> {
+      // the tip moves and pruning passes block 5 while it is rendered
+      if ((Long) invocation.getArgument(0) == 5L) {
+        latestBlock.set(22);
+        oldestBlock.set(7);
+      }
+
+      return Block.builder().hash(HASH).transactions(List.of()).build();
+    });
+
+    long next = newFiller(true).fillPass(-1);
+
+    assertThat(next).isEqualTo(11L);
+    assertThat(store.contains(5)).isFalse();
+    assertThat(store.contains(6)).isFalse();
+    assertThat(store.firstMissing(7)).isEqualTo(11L);
+  }
+
+  @Test
+  void fillPass_looksUpHorizonOnlyWhenTipMoves() {
+    oldestBlock.set(2);
+
+    newFiller(true).fillPass(-1);
+
+    verify(ledgerBlockService, times(1)).findOldestBlockIdentifier(any());
+  }
+
+  @Test
+  void fillPass_withoutPruning_looksUpGenesisOnce() {
+    newFiller(false).fillPass(-1);
+
+    verify(ledgerBlockService, times(1)).findGenesisBlockIdentifier();
+  }
+
+  @Test
+  void fillPass_withDegradedTokenMetadata_stopsAndRendersBlockAgainLater() {
+    AssetFingerprint asset = AssetFingerprint.of("b".repeat(56), "");
+    when(tokenRegistryService.awaitMetadataForBlockTxList(any()))
+        .thenReturn(Map.of(asset, TokenRegistryCurrencyData.builder().policyId(asset.getPolicyId()).degraded(true).build()))
+        .thenReturn(Map.of());
+
+    BlockSegmentFiller filler = newFiller(false);
+    long next = filler.fillPass(-1);
+
+    assertThat(next).isZero();
+    assertThat(store.contains(0)).isFalse();
+    verify(blockMapper, never()).mapToBlockResponseWithMetadata(any(), anyMap());
+
+    assertThat(filler.fillPass(next)).isEqualTo(11L);
+    assertThat(store.firstMissing(0)).isEqualTo(11L);
+  }
+
+  private BlockSegmentFiller newFiller(boolean removeSpentUtxos) {
+    return new BlockSegmentFiller(store, blockService, ledgerBlockService, tokenRegistryService,
+        blockMapper, new ObjectMapper(), IMMUTABLE_DEPTH, 60, removeSpentUtxos);
+  }
+
+  private static BlockIdentifierExtended block(long number) {
+    return BlockIdentifierExtended.builder().number(number).hash(HASH).build();
+  }
+
+}
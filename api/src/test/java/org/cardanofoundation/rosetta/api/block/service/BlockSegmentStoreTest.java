@@ -0,0 +1,139 @@
+package org.cardanofoundation.rosetta.api.block.service;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.openapitools.client.model.BlockResponse;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.cardanofoundation.rosetta.common.spring.PreSerializedJson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlockSegmentStoreTest {
+
+  private static final String HASH_1 = "a".repeat(64);
+  private static final String HASH_2 = "b".repeat(64);
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void append_storesRenderedBlock_andServesItByNumber() {
+    BlockSegmentStore store = newStore("1.0.0", false);
+
+    store.append(10L, HASH_1, json("block-10"));
+    store.append(11L, HASH_2, json("block-11"));
+
+    assertThat(jsonOf(store, 10L, null)).isEqualTo("block-10");
+    assertThat(jsonOf(store, 11L, HASH_2)).isEqualTo("block-11");
+    assertThat(store.get(10L, HASH_2)).isEmpty();
+    assertThat(store.get(12L, null)).isEmpty();
+    assertThat(store.get(null, HASH_1)).isEmpty();
+  }
+
+  @Test
+  void append_keepsAlreadyStoredBlock() {
+    BlockSegmentStore store = newStore("1.0.0", false);
+
+    store.append(10L, HASH_1, json("block-10"));
+    store.append(10L, HASH_2, json("other"));
+
+    assertThat(jsonOf(store, 10L, HASH_1)).isEqualTo("block-10");
+  }
+
+  @Test
+  void append_spreadsBlocksOverSegments() {
+    BlockSegmentStore store = newStore("1.0.0", false);
+    long nextSegment = BlockSegmentStore.SEGMENT_BLOCKS;
+
+    store.append(nextSegment - 1, HASH_1, json("last"));
+    store.append(nextSegment, HASH_2, json("first"));
+
+    assertThat(jsonOf(store, nextSegment - 1, null)).isEqualTo("last");
+    assertThat(jsonOf(store, nextSegment, null)).isEqualTo("first");
+  }
+
+  @Test
+  void firstMissing_returnsFirstGap() {
+    BlockSegmentStore store = newStore("1.0.0", false);
+
+    store.append(0L, HASH_1, json("block-0"));
+    store.append(1L, HASH_1, json("block-1"));
+    store.append(3L, HASH_1, json("block-3"));
+
+    assertThat(store.firstMissing(0)).isEqualTo(2L);
+    assertThat(store.firstMissing(3)).isEqualTo(4L);
+    assertThat(store.firstMissing(100_000)).isEqualTo(100_000L);
+  }
+
+  @Test
+  void reopen_keepsSegmentsOfSameVersion() {
+    BlockSegmentStore store = newStore("1.0.0", false);
+    store.append(10L, HASH_1, json("block-10"));
+    store.close();
+
+    BlockSegmentStore reopened = newStore("1.0.0", false);
+
+    assertThat(jsonOf(reopened, 10L, HASH_1)).isEqualTo("block-10");
+  }
+
+  @Test
+  void reopen_dropsSegmentsOfOtherVersionOrOnRebuild() {
+    BlockSegmentStore store = newStore("1.0.0", false);
+    store.append(10L, HASH_1, json("block-10"));
+    store.close();
+
+    assertThat(newStore("1.1.0", false).get(10L, null)).isEmpty();
+
+    BlockSegmentStore current = newStore("1.1.0", false);
+    current.append(10L, HASH_1, json("block-10"));
+    current.close();
+
+    assertThat(newStore("1.1.0", true).get(10L, null)).isEmpty();
+  }
+
+  @Test
+  void reopen_appendsAfterStoredData() {
+    BlockSegmentStore store = newStore("1.0.0", false);
+    store.append(10L, HASH_1, json("block-10"));
+    store.close();
+
+    BlockSegmentStore reopened = newStore("1.0.0", false);
+    reopened.append(11L, HASH_2, json("block-11"));
+
+    assertThat(jsonOf(reopened, 10L, HASH_1)).isEqualTo("block-10");
+    assertThat(jsonOf(reopened, 11L, HASH_2)).isEqualTo("block-11");
+  }
+
+  @Test
+  void append_growsDataMappingPastChunk() {
+    BlockSegmentStore store = newStore("1.0.0", false);
+    String large = "x".repeat(BlockSegmentStore.DATA_MAPPING_CHUNK + 10);
+
+    store.append(10L, HASH_1, json("block-10"));
+    store.append(11L, HASH_2, json(large));
+    store.append(12L, HASH_1, json("block-12"));
+
+    assertThat(jsonOf(store, 10L, null)).isEqualTo("block-10");
+    assertThat(jsonOf(store, 11L, null)).isEqualTo(large);
+    assertThat(jsonOf(store, 12L, null)).isEqualTo("block-12");
+  }
+
+  private BlockSegmentStore newStore(String version, boolean rebuild) {
+    return new BlockSegmentStore(directory.toString(), version, rebuild);
+  }
+
+  private static byte[] json(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String jsonOf(BlockSegmentStore store, Long index, String hash) {
+    BlockResponse response = store.get(index, hash).orElseThrow();
+
+    return new String(((PreSerializedJson) response).getJsonBytes(), StandardCharsets.UTF_8);
+  }
+
+}
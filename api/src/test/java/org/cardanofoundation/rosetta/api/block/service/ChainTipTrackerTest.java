@@ -0,0 +1,132 @@
+package org.cardanofoundation.rosetta.api.block.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record1;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.cardanofoundation.rosetta.api.block.mapper.BlockMapper;
+import org.cardanofoundation.rosetta.api.block.model.domain.BlockIdentifierExtended;
+import org.cardanofoundation.rosetta.api.block.model.entity.projection.BlockIdentifierProjection;
+import org.cardanofoundation.rosetta.api.block.model.repository.BlockRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChainTipTrackerTest {
+
+  private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+  @Mock
+  private BlockRepository blockRepository;
+
+  @Mock
+  private BlockMapper blockMapper;
+
+  @Mock
+  private Clock clock;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicLong rollbackId = new AtomicLong();
+
+  private ChainTipTracker tracker;
+
+  @BeforeEach
+  void setUp() {
+    Field<Long> maxId = DSL.field("max", SQLDataType.BIGINT);
+    DSLContext dsl = DSL.using(new MockConnection(ctx -> {
+      DSLContext create = DSL.using(SQLDialect.POSTGRES);
+      Record1<Long> record = create.newRecord(maxId);
+      record.value1(rollbackId.get());
+      Result<Record1<Long>> result = create.newResult(maxId);
+      result.add(record);
+
+      return new MockResult[] {new MockResult(1, result)};
+    }), SQLDialect.POSTGRES);
+
+    lenient().when(clock.instant()).thenReturn(NOW);
+    tracker = new ChainTipTracker(blockRepository, blockMapper, dsl, clock, meterRegistry, 1000, false);
+  }
+
+  @Test
+  void getTip_returnsRefreshedTip() {
+    BlockIdentifierExtended tip = givenLatestBlock(100L, "hash100");
+
+    tracker.scheduledRefresh();
+
+    assertThat(tracker.getTip()).contains(tip);
+    assertThat(meterRegistry.get("rosetta.chain.tip.staleness").gauge().value()).isZero();
+  }
+
+  @Test
+  void getTip_isEmpty_whenNeverRefreshedOrStale() {
+    assertThat(tracker.getTip()).isEmpty();
+
+    givenLatestBlock(100L, "hash100");
+    tracker.scheduledRefresh();
+    when(clock.instant()).thenReturn(NOW.plusSeconds(10));
+
+    assertThat(tracker.getTip()).isEmpty();
+    assertThat(meterRegistry.get("rosetta.chain.tip.staleness").gauge().value()).isEqualTo(10.0);
+  }
+
+  @Test
+  void refresh_countsRollback_whenTipMovesBackOrRollbackTableGrows() {
+    givenLatestBlock(100L, "hash100");
+    tracker.refresh();
+    givenLatestBlock(101L, "hash101");
+    tracker.refresh();
+    assertThat(rollbacks()).isZero();
+
+    givenLatestBlock(99L, "hash99");
+    tracker.refresh();
+    assertThat(rollbacks()).isEqualTo(1.0);
+
+    rollbackId.set(7);
+    givenLatestBlock(100L, "otherHash100");
+    tracker.refresh();
+    assertThat(rollbacks()).isEqualTo(2.0);
+  }
+
+  @Test
+  void refresh_isEmpty_whenThereAreNoBlocks() {
+    when(blockRepository.findLatestBlockIdentifier()).thenReturn(Optional.empty());
+
+    assertThat(tracker.refresh()).isEmpty();
+    assertThat(tracker.getTip()).isEmpty();
+  }
+
+  private BlockIdentifierExtended givenLatestBlock(long number, String hash) {
+    BlockIdentifierProjection projection = mock(BlockIdentifierProjection.class);
+    BlockIdentifierExtended tip = BlockIdentifierExtended.builder().number(number).hash(hash).build();
+    when(blockRepository.findLatestBlockIdentifier()).thenReturn(Optional.of(projection));
+    when(blockMapper.mapToBlockIdentifierExtended(projection)).thenReturn(tip);
+
+    return tip;
+  }
+
+  private double rollbacks() {
+    return meterRegistry.get("rosetta.chain.tip.rollbacks").counter().count();
+  }
+
+}
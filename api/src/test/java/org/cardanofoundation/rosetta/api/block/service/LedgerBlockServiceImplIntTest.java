@@ -156,6 +156,35 @@ class LedgerBlockServiceImplIntTest extends IntegrationTest {
     assertThat(actual.getCertIndex()).isEqualTo(expected.getCertIndex());
   }
 
+  @Test
+  void findTransactionByBlock_Test_pool_delegation_tx() {
+    //given
+    TransactionBlockDetails tx = generatedDataMap.get(POOL_DELEGATION_TRANSACTION.getName());
+    //when
+    Optional<BlockTx> blockTx =
+        ledgerBlockService.findTransactionByBlock(tx.blockNumber(), tx.blockHash(), tx.txHash());
+    //then
+    assertThat(blockTx).isPresent();
+    assertThat(blockTx.get().getHash()).isEqualTo(tx.txHash());
+    assertThat(blockTx.get().getBlockNo()).isEqualTo(tx.blockNumber());
+    assertThat(blockTx.get().getBlockHash()).isEqualTo(tx.blockHash());
+    assertThat(blockTx.get().getStakePoolDelegations()).hasSize(1);
+    assertThat(blockTx.get().getStakePoolDelegations().getFirst().getAddress())
+        .isEqualTo(STAKE_ADDRESS_WITH_EARNED_REWARDS);
+  }
+
+  @Test
+  void findTransactionByBlock_Test_tx_of_other_block() {
+    //given
+    TransactionBlockDetails tx = generatedDataMap.get(POOL_DELEGATION_TRANSACTION.getName());
+    TransactionBlockDetails otherTx = generatedDataMap.get(SIMPLE_TRANSACTION.getName());
+    //when
+    Optional<BlockTx> blockTx =
+        ledgerBlockService.findTransactionByBlock(otherTx.blockNumber(), otherTx.blockHash(), tx.txHash());
+    //then
+    assertThat(blockTx).isEmpty();
+  }
+
   @Test
   void findTransactionsByBlock_Test_pool_reg_tx() {
     //given
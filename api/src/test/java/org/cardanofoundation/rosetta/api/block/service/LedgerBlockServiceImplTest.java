@@ -102,7 +102,7 @@ class LedgerBlockServiceImplTest {
 
     val utxoMap = new HashMap<LedgerBlockServiceImpl.UtxoKey, AddressUtxoEntity>();
 
-    ledgerBlockService.populateTransaction(transaction, transactionInfo, utxoMap);
+    ledgerBlockService.populateTransaction(transaction, transactionInfo.index(), utxoMap);
     assertThat(transaction.isInvalid()).isTrue();
   }
 
@@ -126,7 +126,7 @@ class LedgerBlockServiceImplTest {
     );
 
     val utxoMap = new HashMap<LedgerBlockServiceImpl.UtxoKey, AddressUtxoEntity>();
-    ledgerBlockService.populateTransaction(transaction, transactionInfo, utxoMap);
+    ledgerBlockService.populateTransaction(transaction, transactionInfo.index(), utxoMap);
     assertThat(transaction.isInvalid()).isFalse();
   }
 
@@ -161,7 +161,7 @@ class LedgerBlockServiceImplTest {
             Collections.emptyList()
     );
 
-    ledgerBlockService.populateTransaction(transaction, transactionInfo, utxoMap);
+    ledgerBlockService.populateTransaction(transaction, transactionInfo.index(), utxoMap);
 
     assertThat(transaction.getStakeRegistrations().size()).isEqualTo(1);
   }
@@ -197,7 +197,7 @@ class LedgerBlockServiceImplTest {
             Collections.emptyList()
     );
 
-    ledgerBlockService.populateTransaction(transaction, transactionInfo, utxoMap);
+    ledgerBlockService.populateTransaction(transaction, transactionInfo.index(), utxoMap);
     assertThat(transaction.getStakePoolDelegations().size()).isEqualTo(1);
   }
 
@@ -233,7 +233,7 @@ class LedgerBlockServiceImplTest {
             Collections.emptyList()
     );
 
-    ledgerBlockService.populateTransaction(transaction, transactionInfo, utxoMap);
+    ledgerBlockService.populateTransaction(transaction, transactionInfo.index(), utxoMap);
     assertThat(transaction.getWithdrawals().size()).isEqualTo(1);
   }
 
@@ -268,7 +268,7 @@ class LedgerBlockServiceImplTest {
             Collections.emptyList()
     );
 
-    ledgerBlockService.populateTransaction(transaction, transactionInfo, utxoMap);
+    ledgerBlockService.populateTransaction(transaction, transactionInfo.index(), utxoMap);
     assertThat(transaction.getPoolRegistrations().size()).isEqualTo(1);
   }
 
@@ -303,10 +303,61 @@ class LedgerBlockServiceImplTest {
             Collections.emptyList()
     );
 
-    ledgerBlockService.populateTransaction(transaction, transactionInfo, utxoMap);
+    ledgerBlockService.populateTransaction(transaction, transactionInfo.index(), utxoMap);
     assertThat(transaction.getPoolRetirements().size()).isEqualTo(1);
   }
 
+  @Test
+  void populateTransaction_attachesChildrenOnlyToOwningTransaction_whenBlockHasManyTransactions() {
+    val utxoMap = new HashMap<LedgerBlockServiceImpl.UtxoKey, AddressUtxoEntity>();
+
+    WithdrawalEntity withdrawal1 = new WithdrawalEntity();
+    withdrawal1.setTxHash("txHash1");
+    WithdrawalEntity withdrawal2 = new WithdrawalEntity();
+    withdrawal2.setTxHash("txHash2");
+    WithdrawalEntity withdrawal3 = new WithdrawalEntity();
+    withdrawal3.setTxHash("txHash2");
+
+    InvalidTransactionEntity invalidTransaction = new InvalidTransactionEntity();
+    invalidTransaction.setTxHash("txHash2");
+
+    when(transactionMapper.mapWithdrawalEntityToWithdrawal(withdrawal1)).thenReturn(new Withdrawal());
+    when(transactionMapper.mapWithdrawalEntityToWithdrawal(withdrawal2)).thenReturn(new Withdrawal());
+    when(transactionMapper.mapWithdrawalEntityToWithdrawal(withdrawal3)).thenReturn(new Withdrawal());
+
+    val transactionInfo = new LedgerBlockServiceImpl.TransactionInfo(
+            Collections.emptyList(),
+            Collections.emptyList(),
+            Collections.emptyList(),
+            Collections.emptyList(),
+            Collections.emptyList(),
+            Collections.emptyList(),
+            Collections.emptyList(),
+            List.of(withdrawal1, withdrawal2, withdrawal3),
+            List.of(invalidTransaction)
+    );
+    val index = transactionInfo.index();
+
+    val transactions = List.of("txHash1", "txHash2", "txHash3").stream()
+            .map(hash -> {
+              BlockTx tx = new BlockTx();
+              tx.setHash(hash);
+              tx.setInputs(Collections.emptyList());
+              tx.setOutputs(Collections.emptyList());
+              return tx;
+            })
+            .toList();
+
+    transactions.forEach(tx -> ledgerBlockService.populateTransaction(tx, index, utxoMap));
+
+    assertThat(transactions.get(0).getWithdrawals().size()).isEqualTo(1);
+    assertThat(transactions.get(0).isInvalid()).isFalse();
+    assertThat(transactions.get(1).getWithdrawals().size()).isEqualTo(2);
+    assertThat(transactions.get(1).isInvalid()).isTrue();
+    assertThat(transactions.get(2).getWithdrawals().size()).isEqualTo(0);
+    assertThat(transactions.get(2).getStakeRegistrations().size()).isEqualTo(0);
+  }
+
   @Test
   void findOldestBlockIdentifier_throwsException_whenPruningIsEnabled() {
     // Given
@@ -0,0 +1,259 @@
+package org.cardanofoundation.rosetta.api.common.service;
+
+import com.google.common.cache.CacheBuilder;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.cardanofoundation.rosetta.api.common.model.repository.TokenMetadataRepository;
+import org.cardanofoundation.rosetta.client.CachingTokenRegistryHttpGatewayImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRegistryMirrorSync Tests")
+class TokenRegistryMirrorSyncTest {
+
+    private static final String SUBJECT = "577f0b1342f8f8f4aed3388b80a8535812950c7a892495c0ecdf0f1e0014df10464c4454";
+    private static final String UNKNOWN_SUBJECT = "29d222ce763455e3d7a09a665ce554f00ac89d2e99a1a83d267170c64d494e";
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    @Mock
+    private TokenMetadataRepository tokenMetadataRepository;
+
+    @TempDir
+    Path mirrorDirectory;
+
+    private HttpServer registry;
+    private final AtomicInteger registryStatus = new AtomicInteger(200);
+    private final AtomicInteger registryRequests = new AtomicInteger();
+    private final AtomicReference<String> lastRegistryRequest = new AtomicReference<>();
+
+    private TokenRegistryMirror tokenRegistryMirror;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // stand-in for the token registry batch endpoint, knows only SUBJECT
+        registry = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        registry.createContext("/api/v2/subjects/query", exchange -> {
+            registryRequests.incrementAndGet();
+            lastRegistryRequest.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+
+            byte[] body = registryResponse().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(registryStatus.get(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        registry.start();
+
+        tokenRegistryMirror = new TokenRegistryMirror(tokenMetadataRepository, CLOCK, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should import mapping files from the registry directory")
+    void shouldImportMappingFiles() throws IOException {
+        // given
+        Files.writeString(mirrorDirectory.resolve(SUBJECT + ".json"), mappingJson(SUBJECT));
+        Files.writeString(mirrorDirectory.resolve("incomplete.json"), """
+                { "subject": "%s", "ticker": { "value": "NONAME" } }
+                """.formatted(UNKNOWN_SUBJECT));
+        Files.writeString(mirrorDirectory.resolve("README.md"), "not a mapping");
+
+        // when
+        createSync(mirrorDirectory.toString()).importDirectory();
+
+        // then
+        Map<String, String> saved = captureUpserts();
+        assertThat(saved).containsOnlyKeys(SUBJECT);
+        assertThat(saved.get(SUBJECT))
+                .contains("\"value\":\"FLDT\"")
+                .contains("\"source\":\"CIP_26\"")
+                .doesNotContain("logo");
+        assertThat(registryRequests).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should not import unchanged mapping files again")
+    void shouldNotImportUnchangedFilesAgain() throws IOException {
+        // given
+        Files.writeString(mirrorDirectory.resolve(SUBJECT + ".json"), mappingJson(SUBJECT));
+        TokenRegistryMirrorSync sync = createSync(mirrorDirectory.toString());
+        sync.importDirectory();
+        clearInvocations(tokenMetadataRepository);
+
+        // when
+        sync.importDirectory();
+
+        // then
+        verify(tokenMetadataRepository, never()).upsert(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should fetch subjects missing from the mirror from the registry and store unknown ones")
+    void shouldFetchPendingSubjects() {
+        // given
+        tokenRegistryMirror.markMissing(Set.of(SUBJECT, UNKNOWN_SUBJECT));
+
+        // when
+        createSync("").fetchPending();
+
+        // then
+        assertThat(registryRequests).hasValue(1);
+        assertThat(lastRegistryRequest.get()).contains(SUBJECT).contains(UNKNOWN_SUBJECT);
+        assertThat(captureUpserts()).containsOnlyKeys(SUBJECT);
+        verify(tokenMetadataRepository).insertUnknown(List.of(UNKNOWN_SUBJECT), NOW);
+        assertThat(tokenRegistryMirror.drainPendingSubjects()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not store pending subjects as unknown when the registry is unavailable")
+    void shouldNotStoreUnknownSubjectsWhenRegistryFails() {
+        // given
+        registryStatus.set(503);
+        tokenRegistryMirror.markMissing(Set.of(SUBJECT, UNKNOWN_SUBJECT));
+
+        // when
+        createSync("").fetchPending();
+
+        // then
+        verify(tokenMetadataRepository, never()).upsert(any(), any());
+        verify(tokenMetadataRepository, never()).insertUnknown(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should refresh stale subjects and touch the ones the registry does not return")
+    void shouldRefreshStaleSubjects() {
+        // given
+        when(tokenMetadataRepository.findSubjectsUpdatedBefore(any(), anyInt()))
+                .thenReturn(List.of(SUBJECT, UNKNOWN_SUBJECT));
+
+        // when
+        createSync("").refreshStale();
+
+        // then
+        assertThat(captureUpserts()).containsOnlyKeys(SUBJECT);
+        verify(tokenMetadataRepository).touch(List.of(UNKNOWN_SUBJECT), NOW);
+    }
+
+    @Test
+    @DisplayName("Should refresh mirrored subjects after the refresh interval and unknown ones after the cache TTL")
+    void shouldRefreshUnknownSubjectsAfterCacheTtl() {
+        // given
+        when(tokenMetadataRepository.findUnknownSubjectsUpdatedBefore(NOW.minusHours(12), 10_000))
+                .thenReturn(List.of(SUBJECT));
+
+        // when
+        createSync("").refreshStale();
+
+        // then
+        verify(tokenMetadataRepository).findSubjectsUpdatedBefore(NOW.minusHours(168), 10_000);
+        assertThat(captureUpserts()).containsOnlyKeys(SUBJECT);
+        verify(tokenMetadataRepository, never()).touch(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep stale subjects when the registry is unavailable")
+    void shouldKeepStaleSubjectsWhenRegistryFails() {
+        // given
+        registryStatus.set(503);
+        when(tokenMetadataRepository.findSubjectsUpdatedBefore(any(), anyInt()))
+                .thenReturn(List.of(SUBJECT, UNKNOWN_SUBJECT));
+
+        // when
+        createSync("").refreshStale();
+
+        // then
+        assertThat(registryRequests).hasValue(1);
+        verify(tokenMetadataRepository, never()).upsert(any(), any());
+        verify(tokenMetadataRepository, never()).touch(any(), any());
+    }
+
+    private TokenRegistryMirrorSync createSync(String directory) {
+        CachingTokenRegistryHttpGatewayImpl gateway = new CachingTokenRegistryHttpGatewayImpl(
+                HttpClient.newHttpClient(), CacheBuilder.newBuilder().build(), new SimpleMeterRegistry(), Clock.systemUTC());
+        ReflectionTestUtils.setField(gateway, "enabled", true);
+        ReflectionTestUtils.setField(gateway, "tokenRegistryBaseUrl", "http://127.0.0.1:" + registry.getAddress().getPort() + "/api");
+        ReflectionTestUtils.setField(gateway, "httpRequestTimeoutSeconds", 2);
+        gateway.init();
+
+        return new TokenRegistryMirrorSync(tokenRegistryMirror, gateway, CLOCK, directory, 168, 12, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> captureUpserts() {
+        ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(tokenMetadataRepository, atLeastOnce()).upsert(captor.capture(), any());
+
+        return captor.getAllValues().stream()
+                .flatMap(metadata -> metadata.entrySet().stream())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private static String registryResponse() {
+        return """
+                {
+                  "subjects": [
+                    {
+                      "subject": "%s",
+                      "metadata": {
+                        "name": { "value": "FLDT", "source": "CIP_68" },
+                        "description": { "value": "FLDT Token", "source": "CIP_68" },
+                        "decimals": { "value": 6, "source": "CIP_68" }
+                      }
+                    }
+                  ]
+                }
+                """.formatted(SUBJECT);
+    }
+
+    private static String mappingJson(String subject) {
+        return """
+                {
+                  "subject": "%s",
+                  "name": { "sequenceNumber": 0, "value": "FLDT", "signatures": [] },
+                  "description": { "sequenceNumber": 0, "value": "FLDT Token", "signatures": [] },
+                  "ticker": { "sequenceNumber": 0, "value": "FLDT", "signatures": [] },
+                  "decimals": { "sequenceNumber": 0, "value": 6, "signatures": [] },
+                  "logo": { "sequenceNumber": 0, "value": "iVBORw0KGgo=", "signatures": [] }
+                }
+                """.formatted(subject);
+    }
+
+}
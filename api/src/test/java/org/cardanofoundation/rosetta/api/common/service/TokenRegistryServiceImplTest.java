@@ -37,6 +37,9 @@ class TokenRegistryServiceImplTest {
     @Mock
     private TokenRegistryHttpGateway tokenRegistryHttpGateway;
 
+    @Mock
+    private TokenRegistryMirror tokenRegistryMirror;
+
     private TokenRegistryServiceImpl tokenRegistryService;
 
     private static final String POLICY_ID = "a0b1c2d3e4f5a0b1c2d3e4f5a0b1c2d3e4f5a0b1c2d3e4f5a0b1c2d3";
@@ -46,7 +49,7 @@ class TokenRegistryServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        tokenRegistryService = new TokenRegistryServiceImpl(tokenRegistryHttpGateway);
+        tokenRegistryService = new TokenRegistryServiceImpl(tokenRegistryHttpGateway, tokenRegistryMirror);
     }
 
     @Nested
@@ -136,6 +139,26 @@ class TokenRegistryServiceImplTest {
             assertThat(metadata.getPolicyId()).isEqualTo(POLICY_ID);
         }
 
+        @Test
+        @DisplayName("Should mark fallback metadata as degraded when gateway could not resolve the subject in time")
+        void shouldMarkFallbackMetadataDegradedWhenSubjectUnresolved() {
+            // given
+            AssetFingerprint unresolved = createAsset(POLICY_ID, ASSET_SYMBOL_HEX);
+            AssetFingerprint unknown = createAsset(POLICY_ID, "");
+
+            when(tokenRegistryHttpGateway.isEnabled()).thenReturn(true);
+            when(tokenRegistryHttpGateway.getTokenMetadataBatch(anySet()))
+                .thenReturn(Map.of(unknown.toSubject(), Optional.empty())); // unresolved subject left out
+
+            // when
+            Map<AssetFingerprint, TokenRegistryCurrencyData> result = tokenRegistryService.getTokenMetadataBatch(Set.of(unresolved, unknown));
+
+            // then
+            assertThat(result.get(unresolved).isDegraded()).isTrue();
+            assertThat(result.get(unknown).isDegraded()).isFalse();
+            assertThat(TokenRegistryCurrencyData.anyDegraded(result.values())).isTrue();
+        }
+
         @Test
         @DisplayName("Should extract complete metadata when gateway returns full token data")
         void shouldExtractCompleteMetadataWhenFullDataAvailable() {
@@ -236,6 +259,75 @@ class TokenRegistryServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("Token Registry Mirror Tests")
+    class TokenRegistryMirrorTests {
+
+        @Test
+        @DisplayName("Should read mirrored subjects without calling the gateway")
+        void shouldReadMirroredSubjectsWithoutGateway() {
+            // given
+            AssetFingerprint assetFingerprint = createAsset(POLICY_ID, ASSET_SYMBOL_HEX);
+
+            when(tokenRegistryMirror.isEnabled()).thenReturn(true);
+            when(tokenRegistryMirror.findBySubjects(Set.of(SUBJECT)))
+                .thenReturn(Map.of(SUBJECT, Optional.of(createCompleteTokenSubject())));
+
+            // when
+            Map<AssetFingerprint, TokenRegistryCurrencyData> result = tokenRegistryService.getTokenMetadataBatch(Set.of(assetFingerprint));
+
+            // then
+            assertThat(result.get(assetFingerprint).getName()).isEqualTo("Test Token");
+            verifyNoInteractions(tokenRegistryHttpGateway);
+            verify(tokenRegistryMirror, never()).markMissing(anySet());
+        }
+
+        @Test
+        @DisplayName("Should fetch subjects missing from the mirror through the gateway and queue them")
+        void shouldFetchMissingSubjectsThroughGateway() {
+            // given
+            AssetFingerprint mirrored = createAsset(POLICY_ID, ASSET_SYMBOL_HEX);
+            AssetFingerprint missing = createAsset("policy2", "417373657432");
+            String missingSubject = missing.toSubject();
+
+            when(tokenRegistryMirror.isEnabled()).thenReturn(true);
+            when(tokenRegistryMirror.findBySubjects(Set.of(SUBJECT, missingSubject)))
+                .thenReturn(Map.of(SUBJECT, Optional.of(createCompleteTokenSubject())));
+            when(tokenRegistryHttpGateway.getTokenMetadataBatch(Set.of(missingSubject)))
+                .thenReturn(Map.of(missingSubject, Optional.empty()));
+
+            // when
+            Map<AssetFingerprint, TokenRegistryCurrencyData> result = tokenRegistryService.getTokenMetadataBatch(Set.of(mirrored, missing));
+
+            // then
+            assertThat(result.get(mirrored).getName()).isEqualTo("Test Token");
+            assertThat(result.get(missing).getName()).isNull();
+            assertThat(result.get(missing).getPolicyId()).isEqualTo("policy2");
+            verify(tokenRegistryMirror).markMissing(Set.of(missingSubject));
+        }
+
+        @Test
+        @DisplayName("Should not fetch subjects mirrored as unknown to the registry")
+        void shouldNotFetchSubjectsMirroredAsUnknown() {
+            // given
+            AssetFingerprint assetFingerprint = createAsset(POLICY_ID, ASSET_SYMBOL_HEX);
+
+            when(tokenRegistryMirror.isEnabled()).thenReturn(true);
+            when(tokenRegistryMirror.findBySubjects(Set.of(SUBJECT)))
+                .thenReturn(Map.of(SUBJECT, Optional.empty()));
+
+            // when
+            Map<AssetFingerprint, TokenRegistryCurrencyData> result = tokenRegistryService.getTokenMetadataBatch(Set.of(assetFingerprint));
+
+            // then
+            assertThat(result.get(assetFingerprint).getName()).isNull();
+            assertThat(result.get(assetFingerprint).getPolicyId()).isEqualTo(POLICY_ID);
+            assertThat(result.get(assetFingerprint).isDegraded()).isFalse();
+            verifyNoInteractions(tokenRegistryHttpGateway);
+            verify(tokenRegistryMirror, never()).markMissing(anySet());
+        }
+    }
+
     @Nested
     @DisplayName("Logo Conversion Tests")
     class LogoConversionTests {
@@ -822,6 +914,23 @@ class TokenRegistryServiceImplTest {
             verify(tokenRegistryHttpGateway).getTokenMetadataBatch(anySet());
         }
 
+        @Test
+        @DisplayName("awaitMetadataForBlockTxList should wait for the registry instead of the enrichment deadline")
+        void awaitMetadataForBlockTxListShouldUseAwaitingGatewayCall() {
+            // given
+            List<BlockTx> blockTxList = List.of(createBlockTxWithInputs());
+            when(tokenRegistryHttpGateway.awaitTokenMetadataBatch(anySet()))
+                .thenReturn(Map.of());
+
+            // when
+            Map<AssetFingerprint, TokenRegistryCurrencyData> result = tokenRegistryService.awaitMetadataForBlockTxList(blockTxList);
+
+            // then
+            assertThat(result).hasSize(2);
+            verify(tokenRegistryHttpGateway).awaitTokenMetadataBatch(anySet());
+            verify(tokenRegistryHttpGateway, never()).getTokenMetadataBatch(anySet());
+        }
+
 
         @Test
         @DisplayName("fetchMetadataForAddressBalances should return empty map for empty balances")
@@ -0,0 +1,98 @@
+package org.cardanofoundation.rosetta.api.network.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.cardanofoundation.rosetta.api.network.service.IndexCreationMonitor.IndexCreationProgress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IndexReadinessTrackerTest {
+
+    @Mock
+    private IndexCreationMonitor indexCreationMonitor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private IndexReadinessTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new IndexReadinessTracker(indexCreationMonitor, meterRegistry, 5, 60, 600, false);
+    }
+
+    @Test
+    @DisplayName("Should check the database only once and then serve the cached state")
+    void shouldServeCachedStateAfterFirstCheck() {
+        // Given
+        when(indexCreationMonitor.isCreatingIndexes()).thenReturn(false);
+
+        // When
+        boolean first = tracker.isCreatingIndexes();
+        boolean second = tracker.isCreatingIndexes();
+
+        // Then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        assertThat(tracker.getState()).isEqualTo(IndexReadinessTracker.State.READY);
+        verify(indexCreationMonitor, times(1)).isCreatingIndexes();
+        verify(indexCreationMonitor, never()).getIndexCreationProgress();
+        assertThat(meterRegistry.get("rosetta.index.readiness").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should expose per-index progress while indexes are building")
+    void shouldExposeProgressWhileBuilding() {
+        // Given
+        IndexCreationProgress building = new IndexCreationProgress("idx_test_1", "building index", 100L, 50L, 1000L, 250L);
+        when(indexCreationMonitor.isCreatingIndexes()).thenReturn(true);
+        when(indexCreationMonitor.getIndexCreationProgress()).thenReturn(List.of(building));
+
+        // When
+        IndexReadinessTracker.State state = tracker.check();
+
+        // Then
+        assertThat(state).isEqualTo(IndexReadinessTracker.State.BUILDING);
+        assertThat(tracker.isCreatingIndexes()).isTrue();
+        assertThat(tracker.getIndexCreationProgress()).containsExactly(building);
+        assertThat(meterRegistry.get("rosetta.index.creation.progress").tag("index", "idx_test_1").gauge().value())
+            .isEqualTo(25.0);
+        assertThat(meterRegistry.get("rosetta.index.readiness").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should switch back to BUILDING when a verification finds an index missing")
+    void shouldLeaveReadyWhenIndexDisappears() {
+        // Given
+        when(indexCreationMonitor.isCreatingIndexes()).thenReturn(false, true);
+
+        // When
+        tracker.check();
+        tracker.check();
+
+        // Then
+        assertThat(tracker.getState()).isEqualTo(IndexReadinessTracker.State.BUILDING);
+        assertThat(tracker.isCreatingIndexes()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should double the poll interval up to the configured maximum")
+    void shouldBackOffUpToMaximum() {
+        assertThat(tracker.nextBackoff(Duration.ofSeconds(5))).isEqualTo(Duration.ofSeconds(10));
+        assertThat(tracker.nextBackoff(Duration.ofSeconds(40))).isEqualTo(Duration.ofSeconds(60));
+        assertThat(tracker.nextBackoff(Duration.ofSeconds(60))).isEqualTo(Duration.ofSeconds(60));
+    }
+
+}
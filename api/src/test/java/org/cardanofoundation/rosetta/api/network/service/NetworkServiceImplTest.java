@@ -21,11 +21,14 @@ import org.junit.jupiter.api.Test;
 import org.cardanofoundation.rosetta.EntityGenerator;
 import org.cardanofoundation.rosetta.api.IntegrationTest;
 import org.cardanofoundation.rosetta.common.exception.ApiException;
+import org.cardanofoundation.rosetta.common.spring.PreSerializedJson;
 import org.cardanofoundation.rosetta.common.util.Constants;
 import org.cardanofoundation.rosetta.common.util.RosettaConstants.RosettaErrorType;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class NetworkServiceImplTest extends IntegrationTest {
@@ -33,6 +36,9 @@ class NetworkServiceImplTest extends IntegrationTest {
   @Autowired
   private NetworkService networkService;
 
+  @Autowired
+  private ObjectMapper objectMapper;
+
   private NetworkRequest getNetworkRequest() throws IOException {
     File file = new File(this.getClass().getClassLoader()
         .getResource("testdata/networkIdentifier.json").getFile());
@@ -148,6 +154,20 @@ class NetworkServiceImplTest extends IntegrationTest {
       assertEquals("get_parse_error_blocks", networkOptions.getAllow().getCallMethods().get(0));
       assertEquals("mark_parse_error_block_checked", networkOptions.getAllow().getCallMethods().get(1));
     }
+
+    @Test
+    void shouldServeSnapshotSerializedAtStartup() throws IOException {
+      // given
+      NetworkRequest networkRequest = getNetworkRequest();
+      // when
+      NetworkOptionsResponse networkOptions = networkService.getNetworkOptions(networkRequest);
+      // then
+      assertSame(networkOptions, networkService.getNetworkOptions(networkRequest));
+      PreSerializedJson preSerialized = assertInstanceOf(PreSerializedJson.class, networkOptions);
+      NetworkOptionsResponse deserialized = objectMapper.readValue(preSerialized.getJsonBytes(), NetworkOptionsResponse.class);
+      assertEquals(networkOptions.getAllow(), deserialized.getAllow());
+      assertEquals(networkOptions.getVersion(), deserialized.getVersion());
+    }
   }
 
   @Nested
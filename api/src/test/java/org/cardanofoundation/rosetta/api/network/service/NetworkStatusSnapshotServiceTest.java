@@ -0,0 +1,183 @@
+package org.cardanofoundation.rosetta.api.network.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jooq.DSLContext;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openapitools.client.model.Peer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.cardanofoundation.rosetta.api.block.mapper.BlockMapper;
+import org.cardanofoundation.rosetta.api.block.model.domain.BlockIdentifierExtended;
+import org.cardanofoundation.rosetta.api.block.model.domain.NetworkStatus;
+import org.cardanofoundation.rosetta.api.block.model.repository.BlockRepository;
+import org.cardanofoundation.rosetta.api.block.service.ChainTipTracker;
+import org.cardanofoundation.rosetta.api.block.service.LedgerBlockService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NetworkStatusSnapshotServiceTest {
+
+  private static final BlockIdentifierExtended GENESIS = block(0L, "genesis");
+  private static final Peer PEER = new Peer("relay:3001", Map.of("type", "IPv4"));
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+  private static final long REFRESH_INTERVAL_MS = 1000;
+
+  @Mock
+  private LedgerBlockService ledgerBlockService;
+
+  @Mock
+  private TopologyConfigService topologyConfigService;
+
+  @Mock
+  private SyncStatusService syncStatusService;
+
+  @Mock
+  private Clock clock;
+
+  private ChainTipTracker chainTipTracker;
+
+  private NetworkStatusSnapshotService service;
+
+  @BeforeEach
+  void setUp() {
+    chainTipTracker = new ChainTipTracker(mock(BlockRepository.class), mock(BlockMapper.class), mock(DSLContext.class),
+        clock, new SimpleMeterRegistry(), REFRESH_INTERVAL_MS, false);
+    service = new NetworkStatusSnapshotService(ledgerBlockService, topologyConfigService, syncStatusService,
+        chainTipTracker, clock, false, false);
+    lenient().when(clock.instant()).thenReturn(NOW);
+  }
+
+  @Test
+  void getNetworkStatus_servesSnapshotWithoutQueries() {
+    givenChain(block(10L, "hash10"));
+    service.scheduledRefresh();
+
+    NetworkStatus networkStatus = service.getNetworkStatus();
+    service.getNetworkStatus();
+
+    assertThat(networkStatus.getLatestBlock()).isEqualTo(block(10L, "hash10"));
+    assertThat(networkStatus.getGenesisBlock()).isEqualTo(GENESIS);
+    assertThat(networkStatus.getPeers()).containsExactly(PEER);
+    verify(ledgerBlockService, times(1)).findLatestBlockIdentifier();
+    verify(topologyConfigService, times(1)).getPeers();
+  }
+
+  @Test
+  void getNetworkStatus_rebuildsStaleSnapshot() {
+    givenChain(block(10L, "hash10"));
+    service.scheduledRefresh();
+
+    // the background refresh stopped while the chain moved on
+    when(ledgerBlockService.findLatestBlockIdentifier()).thenReturn(block(12L, "hash12"));
+    when(clock.instant()).thenReturn(NOW.plusMillis(REFRESH_INTERVAL_MS * 5));
+    assertThat(service.getNetworkStatus().getLatestBlock()).isEqualTo(block(10L, "hash10"));
+
+    when(clock.instant()).thenReturn(NOW.plusMillis(REFRESH_INTERVAL_MS * 5 + 1));
+    assertThat(service.getNetworkStatus().getLatestBlock()).isEqualTo(block(12L, "hash12"));
+    verify(ledgerBlockService, times(2)).findLatestBlockIdentifier();
+  }
+
+  @Test
+  void getNetworkStatus_servesStaleSnapshot_whenRebuildFails() {
+    givenChain(block(10L, "hash10"));
+    service.scheduledRefresh();
+
+    when(ledgerBlockService.findLatestBlockIdentifier()).thenThrow(new IllegalStateException("database unavailable"));
+    when(clock.instant()).thenReturn(NOW.plusSeconds(60));
+
+    assertThat(service.getNetworkStatus().getLatestBlock()).isEqualTo(block(10L, "hash10"));
+  }
+
+  @Test
+  void getNetworkStatus_servesStaleSnapshot_whileAnotherCallerRebuildsIt() throws Exception {
+    givenChain(block(10L, "hash10"));
+    service.scheduledRefresh();
+
+    CountDownLatch rebuildStarted = new CountDownLatch(1);
+    CountDownLatch releaseRebuild = new CountDownLatch(1);
+    when(ledgerBlockService.findLatestBlockIdentifier()).thenAnswer(invocation -> {
+      rebuildStarted.countDown();
+      releaseRebuild.await();
+      return block(12L, "hash12");
+    });
+    when(clock.instant()).thenReturn(NOW.plusSeconds(60));
+
+    CompletableFuture<NetworkStatus> rebuild = CompletableFuture.supplyAsync(service::getNetworkStatus);
+    assertThat(rebuildStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(service.getNetworkStatus().getLatestBlock()).isEqualTo(block(10L, "hash10"));
+
+    releaseRebuild.countDown();
+    assertThat(rebuild.get(5, TimeUnit.SECONDS).getLatestBlock()).isEqualTo(block(12L, "hash12"));
+    verify(ledgerBlockService, times(2)).findLatestBlockIdentifier();
+  }
+
+  @Test
+  void scheduledRefresh_reusesBlockIdentifiers_untilTipChanges() {
+    givenChain(block(10L, "hash10"));
+    service.scheduledRefresh();
+    service.scheduledRefresh();
+    verify(ledgerBlockService, times(1)).findGenesisBlockIdentifier();
+
+    when(ledgerBlockService.findLatestBlockIdentifier()).thenReturn(block(11L, "hash11"));
+    service.scheduledRefresh();
+
+    assertThat(service.getNetworkStatus().getLatestBlock()).isEqualTo(block(11L, "hash11"));
+    verify(ledgerBlockService, times(2)).findGenesisBlockIdentifier();
+  }
+
+  @Test
+  void scheduledRefresh_picksUpChangedPeers() {
+    givenChain(block(10L, "hash10"));
+    service.scheduledRefresh();
+
+    Peer discovered = new Peer("discovered:3001", Map.of("type", "IPv6"));
+    when(topologyConfigService.getPeers()).thenReturn(List.of(discovered));
+    service.scheduledRefresh();
+
+    assertThat(service.getNetworkStatus().getPeers()).containsExactly(discovered);
+  }
+
+  @Test
+  void scheduledRefresh_doesNothing_inOfflineMode() {
+    service = new NetworkStatusSnapshotService(ledgerBlockService, topologyConfigService, syncStatusService,
+        chainTipTracker, clock, false, true);
+
+    service.scheduledRefresh();
+
+    verifyNoInteractions(ledgerBlockService, topologyConfigService, syncStatusService);
+  }
+
+  private void givenChain(BlockIdentifierExtended tip) {
+    when(ledgerBlockService.findLatestBlockIdentifier()).thenReturn(tip);
+    when(ledgerBlockService.findGenesisBlockIdentifier()).thenReturn(GENESIS);
+    when(topologyConfigService.getPeers()).thenReturn(List.of(PEER));
+    when(syncStatusService.calculateSyncStatus(any())).thenReturn(Optional.empty());
+  }
+
+  private static BlockIdentifierExtended block(long number, String hash) {
+    return BlockIdentifierExtended.builder().number(number).hash(hash).build();
+  }
+
+}
@@ -29,7 +29,7 @@ class SyncStatusServiceTest {
     private SlotRangeChecker slotRangeChecker;
 
     @Mock
-    private IndexCreationMonitor indexCreationMonitor;
+    private IndexReadinessTracker indexReadinessTracker;
 
     private SyncStatusService syncStatusService;
 
@@ -40,7 +40,7 @@ class SyncStatusServiceTest {
         syncStatusService = new SyncStatusService(
             offlineSlotService,
             slotRangeChecker,
-            indexCreationMonitor
+            indexReadinessTracker
         );
         ReflectionTestUtils.setField(syncStatusService, "allowedSlotsDelta", ALLOWED_SLOTS_DELTA);
     }
@@ -62,7 +62,7 @@ class SyncStatusServiceTest {
             when(offlineSlotService.getCurrentSlotBasedOnTime()).thenReturn(Optional.of(currentSlot));
             when(slotRangeChecker.isSlotWithinEpsilon(currentSlot, latestBlockSlot, ALLOWED_SLOTS_DELTA))
                 .thenReturn(true);
-            when(indexCreationMonitor.isCreatingIndexes()).thenReturn(false); // All indexes ready
+            when(indexReadinessTracker.isCreatingIndexes()).thenReturn(false); // All indexes ready
 
             // When
             Optional<SyncStatus> result = syncStatusService.calculateSyncStatus(latestBlock);
@@ -88,7 +88,7 @@ class SyncStatusServiceTest {
             when(offlineSlotService.getCurrentSlotBasedOnTime()).thenReturn(Optional.of(currentSlot));
             when(slotRangeChecker.isSlotWithinEpsilon(currentSlot, latestBlockSlot, ALLOWED_SLOTS_DELTA))
                 .thenReturn(true);
-            when(indexCreationMonitor.isCreatingIndexes()).thenReturn(true); // Indexes not ready yet
+            when(indexReadinessTracker.isCreatingIndexes()).thenReturn(true); // Indexes not ready yet
 
             // When
             Optional<SyncStatus> result = syncStatusService.calculateSyncStatus(latestBlock);
@@ -114,7 +114,7 @@ class SyncStatusServiceTest {
             when(offlineSlotService.getCurrentSlotBasedOnTime()).thenReturn(Optional.of(currentSlot));
             when(slotRangeChecker.isSlotWithinEpsilon(currentSlot, latestBlockSlot, ALLOWED_SLOTS_DELTA))
                 .thenReturn(false);
-            when(indexCreationMonitor.isCreatingIndexes()).thenReturn(false);
+            when(indexReadinessTracker.isCreatingIndexes()).thenReturn(false);
 
             // When
             Optional<SyncStatus> result = syncStatusService.calculateSyncStatus(latestBlock);
@@ -157,7 +157,7 @@ class SyncStatusServiceTest {
             when(offlineSlotService.getCurrentSlotBasedOnTime()).thenReturn(Optional.of(currentSlot));
             when(slotRangeChecker.isSlotWithinEpsilon(currentSlot, latestBlockSlot, ALLOWED_SLOTS_DELTA))
                 .thenReturn(false);
-            when(indexCreationMonitor.isCreatingIndexes()).thenReturn(true); // Indexes not ready
+            when(indexReadinessTracker.isCreatingIndexes()).thenReturn(true); // Indexes not ready
 
             // When
             Optional<SyncStatus> result = syncStatusService.calculateSyncStatus(latestBlock);
@@ -1,10 +1,13 @@
 package org.cardanofoundation.rosetta.api.network.service;
 
 import java.io.FileNotFoundException;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.test.util.ReflectionTestUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -17,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import org.cardanofoundation.rosetta.client.YaciHttpGateway;
+import org.cardanofoundation.rosetta.client.model.domain.DiscoveredPeer;
 import org.cardanofoundation.rosetta.common.exception.ApiException;
 import org.cardanofoundation.rosetta.common.util.FileUtils;
 import org.cardanofoundation.rosetta.common.util.RosettaConstants.RosettaErrorType;
@@ -26,21 +30,32 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class TopologyConfigServiceTest {
 
+  private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
   @Mock
   private YaciHttpGateway yaciHttpGateway;
 
   @Mock
   private PeerSnapshotService peerSnapshotService;
 
+  @Mock
+  private Clock clock;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
   private TopologyConfigServiceImpl topologyConfigService;
 
   @BeforeEach
   void setup() {
-    topologyConfigService = new TopologyConfigServiceImpl(yaciHttpGateway, peerSnapshotService);
+    lenient().when(clock.instant()).thenReturn(NOW);
+    topologyConfigService = new TopologyConfigServiceImpl(yaciHttpGateway, peerSnapshotService,
+        meterRegistry, clock);
     ReflectionTestUtils.setField(topologyConfigService, "topologyFilepath",
         "../config/node/devkit/topology.json");
   }
@@ -133,4 +148,55 @@ class TopologyConfigServiceTest {
         .containsExactlyInAnyOrder("test1.cardano.org:3001", "test2.cardano.org:3002");
   }
 
+  @Test
+  void getPeers_servesCachedDiscoveredPeers() {
+    // given
+    topologyConfigService.init();
+    when(yaciHttpGateway.getDiscoveredPeers())
+        .thenReturn(List.of(new DiscoveredPeer("IPv4", "10.0.0.1", 3001)));
+
+    // when
+    topologyConfigService.refreshDiscoveredPeers();
+    List<Peer> peers = topologyConfigService.getPeers();
+
+    // then
+    assertEquals(1, peers.size());
+    assertEquals("10.0.0.1:3001", peers.getFirst().getPeerId());
+    assertEquals(1.0, meterRegistry.get("rosetta.peers.cache.size").gauge().value());
+  }
+
+  @Test
+  void getPeers_fallsBackToStaticPeers_whenDiscoveredPeersAreTooOld() {
+    // given
+    topologyConfigService.init();
+    when(yaciHttpGateway.getDiscoveredPeers())
+        .thenReturn(List.of(new DiscoveredPeer("IPv4", "10.0.0.1", 3001)));
+    topologyConfigService.refreshDiscoveredPeers();
+
+    when(clock.instant()).thenReturn(NOW.plusSeconds(601));
+    assertEquals(601.0, meterRegistry.get("rosetta.peers.cache.age").gauge().value());
+
+    // when
+    List<Peer> peers = topologyConfigService.getPeers();
+
+    // then
+    assertEquals(topologyConfigService.getStaticPeers(), peers);
+  }
+
+  @Test
+  void refreshDiscoveredPeers_keepsCachedPeers_onFailure() {
+    // given
+    topologyConfigService.init();
+    when(yaciHttpGateway.getDiscoveredPeers())
+        .thenReturn(List.of(new DiscoveredPeer("IPv4", "10.0.0.1", 3001)))
+        .thenThrow(new IllegalStateException("yaci-indexer unavailable"));
+    topologyConfigService.refreshDiscoveredPeers();
+
+    // when
+    topologyConfigService.refreshDiscoveredPeers();
+
+    // then
+    assertEquals("10.0.0.1:3001", topologyConfigService.getPeers().getFirst().getPeerId());
+  }
+
 }
@@ -32,7 +32,7 @@ class BlockTransactionsToSearchTransactionsResponseTest extends BaseMapperSetup
           .build())
         .build());
 
-    SearchTransactionsResponse searchTransactionsResponse = my.mapToSearchTransactionsResponse(blockTransactions, 1L, 1);
+    SearchTransactionsResponse searchTransactionsResponse = my.mapToSearchTransactionsResponse(blockTransactions, 1L, 1, null);
 
     assertEquals(1, searchTransactionsResponse.getTransactions().size());
     assertEquals(1, searchTransactionsResponse.getNextOffset());
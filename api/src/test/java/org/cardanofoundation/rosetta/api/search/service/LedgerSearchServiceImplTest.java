@@ -2,6 +2,8 @@ package org.cardanofoundation.rosetta.api.search.service;
 
 import org.cardanofoundation.rosetta.api.account.model.repository.AddressUtxoRepository;
 import org.cardanofoundation.rosetta.api.account.service.AddressHistoryService;
+import org.cardanofoundation.rosetta.api.block.model.domain.BlockTx;
+import org.cardanofoundation.rosetta.api.block.model.entity.TxnEntity;
 import org.cardanofoundation.rosetta.api.block.model.repository.TxInputRepository;
 import org.cardanofoundation.rosetta.api.block.model.repository.TxRepository;
 import org.cardanofoundation.rosetta.api.block.service.LedgerBlockService;
@@ -13,7 +15,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.cardanofoundation.rosetta.api.search.model.CountMode;
 import org.cardanofoundation.rosetta.api.search.model.Operator;
+import org.cardanofoundation.rosetta.api.search.model.TxCursor;
+import org.cardanofoundation.rosetta.api.search.model.TxPage;
+import org.cardanofoundation.rosetta.common.spring.SimpleOffsetBasedPageRequest;
 import org.springframework.data.domain.Page;
 
 import java.util.ArrayList;
@@ -23,6 +29,14 @@ import java.util.stream.IntStream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,7 +72,7 @@ class LedgerSearchServiceImplTest {
             Long negativeMaxBlock = -1L;
 
             // Mock the repository calls to avoid NullPointerException
-            when(txRepository.searchTxnEntitiesAND(any(), any(), any(), any(), any(), any(), any(), any()))
+            when(txRepository.searchTxnEntitiesAND(any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                     .thenReturn(Page.empty());
             when(ledgerBlockService.mapTxnEntitiesToBlockTxList(any(Page.class)))
                     .thenReturn(Page.empty());
@@ -74,6 +88,8 @@ class LedgerSearchServiceImplTest {
                     null,  // blockIndex
                     negativeMaxBlock,  // negative maxBlock
                     null,  // isSuccess
+                    null,  // before
+                    CountMode.EXACT,
                     0L,    // offset
                     10L    // limit
             );
@@ -89,7 +105,7 @@ class LedgerSearchServiceImplTest {
             Long nullMaxBlock = null;
 
             // Mock the repository calls to avoid NullPointerException
-            when(txRepository.searchTxnEntitiesAND(any(), any(), any(), any(), any(), any(), any(), any()))
+            when(txRepository.searchTxnEntitiesAND(any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                     .thenReturn(Page.empty());
             when(ledgerBlockService.mapTxnEntitiesToBlockTxList(any(Page.class)))
                     .thenReturn(Page.empty());
@@ -105,6 +121,8 @@ class LedgerSearchServiceImplTest {
                     null,  // blockIndex
                     nullMaxBlock,  // null maxBlock
                     null,  // isSuccess
+                    null,  // before
+                    CountMode.EXACT,
                     0L,    // offset
                     10L    // limit
             );
@@ -120,7 +138,7 @@ class LedgerSearchServiceImplTest {
             Long positiveMaxBlock = 100L;
 
             // Mock the repository calls to avoid NullPointerException
-            when(txRepository.searchTxnEntitiesAND(any(), any(), any(), any(), any(), any(), any(), any()))
+            when(txRepository.searchTxnEntitiesAND(any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                     .thenReturn(Page.empty());
             when(ledgerBlockService.mapTxnEntitiesToBlockTxList(any(Page.class)))
                     .thenReturn(Page.empty());
@@ -136,6 +154,8 @@ class LedgerSearchServiceImplTest {
                     null,  // blockIndex
                     positiveMaxBlock,  // positive maxBlock
                     null,  // isSuccess
+                    null,  // before
+                    CountMode.EXACT,
                     0L,    // offset
                     10L    // limit
             );
@@ -151,7 +171,7 @@ class LedgerSearchServiceImplTest {
             Long zeroMaxBlock = 0L;
 
             // Mock the repository calls to avoid NullPointerException
-            when(txRepository.searchTxnEntitiesAND(any(), any(), any(), any(), any(), any(), any(), any()))
+            when(txRepository.searchTxnEntitiesAND(any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                     .thenReturn(Page.empty());
             when(ledgerBlockService.mapTxnEntitiesToBlockTxList(any(Page.class)))
                     .thenReturn(Page.empty());
@@ -167,6 +187,8 @@ class LedgerSearchServiceImplTest {
                     null,  // blockIndex
                     zeroMaxBlock,  // zero maxBlock
                     null,  // isSuccess
+                    null,  // before
+                    CountMode.EXACT,
                     0L,    // offset
                     10L    // limit
             );
@@ -181,26 +203,17 @@ class LedgerSearchServiceImplTest {
     class LargeDatasetHandlingTests {
 
         @Test
-        @DisplayName("Should handle address search with many UTXOs using temporary tables")
-        void shouldHandleAddressSearchWithManyUtxos() {
+        @DisplayName("Should page address-only searches in the database without loading the address history")
+        void shouldPageAddressOnlySearchInDatabase() {
             // Given
             String address = "addr1_test_address_with_many_utxos";
-            
-            // Create a list with more than 10000 UTXOs (to trigger temp table usage)
-            List<String> manyUtxos = new ArrayList<>();
-            IntStream.range(0, 15000)
-                    .forEach(i -> manyUtxos.add("tx_hash_" + i));
-            
-            when(addressHistoryService.findCompleteTransactionHistoryByAddress(address))
-                    .thenReturn(manyUtxos);
 
-            // Mock the repository calls to avoid NullPointerException
-            when(txRepository.searchTxnEntitiesAND(any(), any(), any(), any(), any(), any(), any(), any()))
+            when(txRepository.findTransactionsByAddress(eq(address), isNull(), isNull(), eq(CountMode.EXACT), any()))
                     .thenReturn(Page.empty());
             when(ledgerBlockService.mapTxnEntitiesToBlockTxList(any(Page.class)))
                     .thenReturn(Page.empty());
 
-            // When & Then - should handle gracefully without throwing exception
+            // When
             var result = ledgerSearchService.searchTransaction(
                     Operator.AND,
                     null,
@@ -211,114 +224,110 @@ class LedgerSearchServiceImplTest {
                     null,
                     null,
                     null,
-                    0L,
+                    null,
+                    CountMode.EXACT,
+                    20L,
                     10L
             );
 
-            // Should successfully return result without throwing exception
-            // The large transaction hash set should be handled via temporary tables
+            // Then
+            assertThat(result).isEmpty();
+            verify(txRepository).findTransactionsByAddress(eq(address), isNull(), isNull(), eq(CountMode.EXACT),
+                    argThat(pageable -> pageable.getOffset() == 20L && pageable.getLimit() == 10L));
+            verifyNoInteractions(addressHistoryService);
         }
 
         @Test
-        @DisplayName("Should handle combined hash sources with large datasets")
-        void shouldHandleCombinedHashSourcesWithLargeDatasets() {
+        @DisplayName("Should pass maxBlock to the address history when combined with AND")
+        void shouldPassMaxBlockToAddressHistoryWithAnd() {
             // Given
             String address = "addr1_test_address";
-            String txHash = "single_tx_hash";
-            
-            // Create a list that when combined with txHash will be very large
-            List<String> manyUtxos = new ArrayList<>();
-            IntStream.range(0, 20000)
-                    .forEach(i -> manyUtxos.add("tx_hash_" + i));
-            
-            when(addressHistoryService.findCompleteTransactionHistoryByAddress(address))
-                    .thenReturn(manyUtxos);
 
-            // Mock the repository calls to avoid NullPointerException
-            when(txRepository.searchTxnEntitiesOR(any(), any(), any(), any(), any(), any(), any(), any()))
+            when(txRepository.findTransactionsByAddress(eq(address), eq(100L), isNull(), eq(CountMode.EXACT), any()))
                     .thenReturn(Page.empty());
             when(ledgerBlockService.mapTxnEntitiesToBlockTxList(any(Page.class)))
                     .thenReturn(Page.empty());
 
-            // When & Then - should handle gracefully without throwing exception
-            var result = ledgerSearchService.searchTransaction(
-                    Operator.OR,
-                    txHash, // This will be added to the 20000 hashes
+            // When
+            ledgerSearchService.searchTransaction(
+                    Operator.AND,
+                    null,
                     address,
                     null,
                     null,
                     null,
                     null,
+                    100L,
                     null,
                     null,
+                    CountMode.EXACT,
                     0L,
                     10L
             );
 
-            // Should successfully return result without throwing exception
-            // The large transaction hash set should be handled via temporary tables
+            // Then
+            verifyNoInteractions(addressHistoryService);
         }
 
         @Test
-        @DisplayName("Should handle very large datasets gracefully")
-        void shouldHandleVeryLargeDatasetsGracefully() {
+        @DisplayName("Should fall back to the hash set search when address and maxBlock are ORed")
+        void shouldFallBackToHashSetSearchForOrWithMaxBlock() {
             // Given
             String address = "addr1_test_address";
-            
-            // Create a list with 50000 UTXOs (well above temp table threshold)
-            List<String> veryLargeList = new ArrayList<>();
-            IntStream.range(0, 50000)
-                    .forEach(i -> veryLargeList.add("tx_hash_" + i));
-            
-            when(addressHistoryService.findCompleteTransactionHistoryByAddress(address))
-                    .thenReturn(veryLargeList);
 
-            // Mock the repository calls to avoid NullPointerException
-            when(txRepository.searchTxnEntitiesAND(any(), any(), any(), any(), any(), any(), any(), any()))
+            when(addressHistoryService.findCompleteTransactionHistoryByAddress(address))
+                    .thenReturn(List.of("tx_hash_1", "tx_hash_2", "tx_hash_3"));
+            when(txRepository.searchTxnEntitiesOR(any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                     .thenReturn(Page.empty());
             when(ledgerBlockService.mapTxnEntitiesToBlockTxList(any(Page.class)))
                     .thenReturn(Page.empty());
 
-            // When & Then - should not throw exception
+            // When
             ledgerSearchService.searchTransaction(
-                    Operator.AND,
+                    Operator.OR,
                     null,
                     address,
                     null,
                     null,
                     null,
                     null,
+                    100L,
                     null,
                     null,
+                    CountMode.EXACT,
                     0L,
                     10L
             );
-            // Should handle gracefully using temporary tables
+
+            // Then
+            verify(txRepository, never()).findTransactionsByAddress(any(), any(), any(), any(), any());
         }
 
         @Test
-        @DisplayName("Should handle small number of UTXOs without validation issues")
-        void shouldHandleSmallNumberOfUtxosWithoutValidationIssues() {
+        @DisplayName("Should handle combined hash sources with large datasets")
+        void shouldHandleCombinedHashSourcesWithLargeDatasets() {
             // Given
             String address = "addr1_test_address";
+            String txHash = "single_tx_hash";
             
-            // Create a small list of UTXOs
-            List<String> smallList = List.of("tx_hash_1", "tx_hash_2", "tx_hash_3");
+            // Create a list that when combined with txHash will be very large
+            List<String> manyUtxos = new ArrayList<>();
+            IntStream.range(0, 20000)
+                    .forEach(i -> manyUtxos.add("tx_hash_" + i));
             
             when(addressHistoryService.findCompleteTransactionHistoryByAddress(address))
-                    .thenReturn(smallList);
+                    .thenReturn(manyUtxos);
 
             // Mock the repository calls to avoid NullPointerException
-            when(txRepository.searchTxnEntitiesOR(any(), any(), any(), any(), any(), any(), any(), any()))
+            when(txRepository.searchTxnEntitiesOR(any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                     .thenReturn(Page.empty());
-
             when(ledgerBlockService.mapTxnEntitiesToBlockTxList(any(Page.class)))
                     .thenReturn(Page.empty());
 
-            // When & Then - should not throw exception
-            ledgerSearchService.searchTransaction(
+            // When & Then - should handle gracefully without throwing exception
+            var result = ledgerSearchService.searchTransaction(
                     Operator.OR,
-                    null,
+                    txHash, // This will be added to the 20000 hashes
                     address,
                     null,
                     null,
@@ -326,38 +335,95 @@ class LedgerSearchServiceImplTest {
                     null,
                     null,
                     null,
+                    null,
+                    CountMode.EXACT,
                     0L,
                     10L
             );
-            // If we reach here, no exception was thrown
+
+            // Should successfully return result without throwing exception
+            // The large transaction hash set should be handled via temporary tables
         }
+    }
+
+    @Nested
+    @DisplayName("Export Tests")
+    class ExportTests {
+
+        private final SimpleOffsetBasedPageRequest batch = new SimpleOffsetBasedPageRequest(0, 2);
 
         @Test
-        @DisplayName("Should handle empty UTXO set without validation issues")
-        void shouldHandleEmptyUtxoSetWithoutValidationIssues() {
+        @DisplayName("Should continue each batch from the cursor of the previous one without counting")
+        void shouldContinueFromCursorOfPreviousBatch() {
             // Given
-            String address = "addr1_test_address_with_no_utxos";
-            
+            String address = "addr1_test_address";
+            TxCursor cursor = new TxCursor(100L, 1, "tx2");
+            TxnEntity tx1 = TxnEntity.builder().txHash("tx1").build();
+            TxnEntity tx2 = TxnEntity.builder().txHash("tx2").build();
+            TxnEntity tx3 = TxnEntity.builder().txHash("tx3").build();
+
+            when(txRepository.findTransactionsByAddress(eq(address), isNull(), isNull(), eq(CountMode.NONE), any()))
+                    .thenReturn(new TxPage<>(List.of(tx1, tx2), batch, 3, cursor));
+            when(txRepository.findTransactionsByAddress(eq(address), isNull(), eq(cursor), eq(CountMode.NONE), any()))
+                    .thenReturn(new TxPage<>(List.of(tx3), batch, 3, null));
+            when(ledgerBlockService.mapTxnEntitiesToBlockTxList(anyList()))
+                    .thenAnswer(invocation -> invocation.<List<TxnEntity>>getArgument(0).stream()
+                            .map(tx -> BlockTx.builder().hash(tx.getTxHash()).build())
+                            .toList());
+
+            // When
+            List<List<String>> batches = ledgerSearchService.exportTransactions(
+                            Operator.AND, null, address, null, null, null, null, null, null, null, 2)
+                    .map(txs -> txs.stream().map(BlockTx::getHash).toList())
+                    .toList();
+
+            // Then
+            assertThat(batches).containsExactly(List.of("tx1", "tx2"), List.of("tx3"));
+        }
+
+        @Test
+        @DisplayName("Should resolve the address history once for all batches")
+        void shouldResolveAddressHistoryOnce() {
+            // Given
+            String address = "addr1_test_address";
+            TxCursor cursor = new TxCursor(100L, 1, "tx2");
+
             when(addressHistoryService.findCompleteTransactionHistoryByAddress(address))
+                    .thenReturn(List.of("tx1", "tx2", "tx3"));
+            when(txRepository.searchTxnEntitiesAND(any(), any(), any(), any(), any(), eq(true), any(), isNull(), eq(CountMode.NONE), any()))
+                    .thenReturn(new TxPage<>(List.of(TxnEntity.builder().txHash("tx1").build(),
+                            TxnEntity.builder().txHash("tx2").build()), batch, 3, cursor));
+            when(txRepository.searchTxnEntitiesAND(any(), any(), any(), any(), any(), eq(true), any(), eq(cursor), eq(CountMode.NONE), any()))
+                    .thenReturn(new TxPage<>(List.of(TxnEntity.builder().txHash("tx3").build()), batch, 3, null));
+            when(ledgerBlockService.mapTxnEntitiesToBlockTxList(anyList()))
                     .thenReturn(List.of());
 
-            // When & Then - should return empty page without validation
-            var result = ledgerSearchService.searchTransaction(
-                    Operator.AND,
-                    null,
-                    address,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    0L,
-                    10L
-            );
+            // When
+            long batches = ledgerSearchService.exportTransactions(
+                            Operator.AND, null, address, null, null, null, null, null, true, null, 2)
+                    .count();
+
+            // Then
+            assertThat(batches).isEqualTo(2);
+            verify(addressHistoryService, times(1)).findCompleteTransactionHistoryByAddress(address);
+        }
+
+        @Test
+        @DisplayName("Should not query transactions when the address has no history")
+        void shouldReturnNothingWhenAddressHasNoHistory() {
+            // Given
+            String address = "addr1_test_address";
+            when(addressHistoryService.findCompleteTransactionHistoryByAddress(address))
+                    .thenReturn(List.of());
+
+            // When
+            long batches = ledgerSearchService.exportTransactions(
+                            Operator.AND, null, address, null, null, null, null, null, true, null, 2)
+                    .count();
 
-            // Should return empty page when no UTXOs found for address
-            // (this is handled by the early return in the service)
+            // Then
+            assertThat(batches).isZero();
+            verifyNoInteractions(txRepository);
         }
     }
-}
\ No newline at end of file
+}
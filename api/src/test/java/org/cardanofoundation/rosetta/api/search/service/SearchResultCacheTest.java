@@ -0,0 +1,121 @@
+package org.cardanofoundation.rosetta.api.search.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openapitools.client.model.BlockTransaction;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.cardanofoundation.rosetta.api.block.model.domain.BlockIdentifierExtended;
+import org.cardanofoundation.rosetta.api.block.service.LedgerBlockService;
+import org.cardanofoundation.rosetta.api.search.model.CountMode;
+import org.cardanofoundation.rosetta.api.search.model.Operator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SearchResultCacheTest {
+
+  @Mock
+  private LedgerBlockService ledgerBlockService;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger searches = new AtomicInteger();
+
+  private SearchResultCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new SearchResultCache(ledgerBlockService, meterRegistry, true, 1_000, 20);
+  }
+
+  @Test
+  void get_servesRepeatedSearches_whileTipIsUnchanged() {
+    givenTip("tip1");
+
+    Page<BlockTransaction> first = cache.get(newKey("addr1", 0), this::search);
+    Page<BlockTransaction> second = cache.get(newKey("addr1", 0), this::search);
+
+    assertThat(second).isSameAs(first);
+    assertThat(searches).hasValue(1);
+    assertThat(meterRegistry.get("cache.gets").tag("cache", SearchResultCache.CACHE_NAME)
+        .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+  }
+
+  @Test
+  void get_keysBySearchParameters() {
+    givenTip("tip1");
+
+    cache.get(newKey("addr1", 0), this::search);
+    cache.get(newKey("addr1", 10), this::search);
+    cache.get(newKey("addr2", 0), this::search);
+
+    assertThat(searches).hasValue(3);
+  }
+
+  @Test
+  void get_dropsCachedSearches_whenTipMoves() {
+    givenTip("tip1");
+    Page<BlockTransaction> first = cache.get(newKey("addr1", 0), this::search);
+
+    givenTip("tip2");
+    Page<BlockTransaction> second = cache.get(newKey("addr1", 0), this::search);
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(searches).hasValue(2);
+  }
+
+  @Test
+  void get_doesNotCacheUncacheablePages() {
+    givenTip("tip1");
+
+    cache.get(newKey("addr1", 0), this::degradedSearch);
+    cache.get(newKey("addr1", 0), this::search);
+
+    assertThat(searches).hasValue(2);
+  }
+
+  @Test
+  void disabledCache_alwaysSearches() {
+    SearchResultCache disabled = new SearchResultCache(ledgerBlockService,
+        new SimpleMeterRegistry(), false, 1_000, 20);
+
+    disabled.get(newKey("addr1", 0), this::search);
+    disabled.get(newKey("addr1", 0), this::search);
+
+    assertThat(searches).hasValue(2);
+    verifyNoInteractions(ledgerBlockService);
+  }
+
+  private SearchResultCache.SearchResult search() {
+    searches.incrementAndGet();
+    return new SearchResultCache.SearchResult(new PageImpl<>(List.of(new BlockTransaction())), true);
+  }
+
+  private SearchResultCache.SearchResult degradedSearch() {
+    searches.incrementAndGet();
+    return new SearchResultCache.SearchResult(new PageImpl<>(List.of(new BlockTransaction())), false);
+  }
+
+  private void givenTip(String hash) {
+    BlockIdentifierExtended tip = new BlockIdentifierExtended();
+    tip.setHash(hash);
+    when(ledgerBlockService.findLatestBlockIdentifier()).thenReturn(tip);
+  }
+
+  private static SearchResultCache.SearchKey newKey(String address, long offset) {
+    return new SearchResultCache.SearchKey(Operator.AND, null, address, null, null, null, null,
+        null, null, null, null, null, CountMode.EXACT, offset, 10);
+  }
+
+}
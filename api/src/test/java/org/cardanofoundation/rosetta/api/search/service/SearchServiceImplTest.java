@@ -3,7 +3,11 @@ package org.cardanofoundation.rosetta.api.search.service;
 import org.cardanofoundation.rosetta.api.block.mapper.BlockMapper;
 import org.cardanofoundation.rosetta.api.block.model.domain.BlockTx;
 import org.cardanofoundation.rosetta.api.block.model.entity.UtxoKey;
+import org.cardanofoundation.rosetta.api.common.model.AssetFingerprint;
+import org.cardanofoundation.rosetta.api.common.model.TokenRegistryCurrencyData;
 import org.cardanofoundation.rosetta.api.common.service.TokenRegistryService;
+import org.cardanofoundation.rosetta.api.search.model.CountMode;
+import org.cardanofoundation.rosetta.api.search.model.TxCursor;
 import org.cardanofoundation.rosetta.common.exception.ApiException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -18,7 +22,11 @@ import org.springframework.data.domain.PageImpl;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -38,6 +46,9 @@ class SearchServiceImplTest {
     @Mock
     private TokenRegistryService tokenRegistryService;
 
+    @Mock
+    private SearchResultCache searchResultCache;
+
     @InjectMocks
     private SearchServiceImpl searchService;
 
@@ -57,6 +68,10 @@ class SearchServiceImplTest {
 
         // Mock tokenRegistryService to return empty map (no native tokens) - lenient for tests that don't use it
         lenient().when(tokenRegistryService.fetchMetadataForBlockTxList(any())).thenReturn(Collections.emptyMap());
+
+        // Result cache always misses and runs the search
+        lenient().when(searchResultCache.get(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<SearchResultCache.SearchResult>>getArgument(1).get().page());
     }
 
     @Nested
@@ -110,7 +125,7 @@ class SearchServiceImplTest {
 
             Page<BlockTx> mockBlockTxPage = new PageImpl<>(List.of());
 
-            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()))
+            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()))
                     .thenReturn(mockBlockTxPage);
 
             // When
@@ -119,7 +134,7 @@ class SearchServiceImplTest {
             // Then
             assertThat(result).isNotNull();
             verify(ledgerSearchService, times(1)).searchTransaction(
-                    any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()
+                    any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()
             );
         }
     }
@@ -154,7 +169,7 @@ class SearchServiceImplTest {
 
             Page<BlockTx> mockBlockTxPage = new PageImpl<>(List.of());
 
-            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), eq(true), anyLong(), anyLong()))
+            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), eq(true), any(), any(), anyLong(), anyLong()))
                     .thenReturn(mockBlockTxPage);
 
             // When
@@ -164,7 +179,7 @@ class SearchServiceImplTest {
             verify(ledgerSearchService).searchTransaction(
                     any(), any(), any(), any(), any(), any(), any(), any(),
                     eq(true), // isSuccess should be true
-                    eq(0L), eq(10L)
+                    any(), any(), eq(0L), eq(10L)
             );
             assertThat(result).isNotNull();
         }
@@ -179,7 +194,7 @@ class SearchServiceImplTest {
 
             Page<BlockTx> mockBlockTxPage = new PageImpl<>(List.of());
 
-            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), eq(true), anyLong(), anyLong()))
+            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), eq(true), any(), any(), anyLong(), anyLong()))
                     .thenReturn(mockBlockTxPage);
 
             // When
@@ -189,7 +204,7 @@ class SearchServiceImplTest {
             verify(ledgerSearchService).searchTransaction(
                     any(), any(), any(), any(), any(), any(), any(), any(),
                     eq(true), // status "success" should convert to isSuccess = true
-                    eq(0L), eq(10L)
+                    any(), any(), eq(0L), eq(10L)
             );
         }
 
@@ -203,7 +218,7 @@ class SearchServiceImplTest {
 
             Page<BlockTx> mockBlockTxPage = new PageImpl<>(List.of());
 
-            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), eq(false), anyLong(), anyLong()))
+            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), eq(false), any(), any(), anyLong(), anyLong()))
                     .thenReturn(mockBlockTxPage);
 
             // When
@@ -213,7 +228,7 @@ class SearchServiceImplTest {
             verify(ledgerSearchService).searchTransaction(
                     any(), any(), any(), any(), any(), any(), any(), any(),
                     eq(false), // status "invalid" should convert to isSuccess = false
-                    eq(0L), eq(10L)
+                    any(), any(), eq(0L), eq(10L)
             );
         }
 
@@ -245,7 +260,7 @@ class SearchServiceImplTest {
 
             Page<BlockTx> mockBlockTxPage = new PageImpl<>(List.of());
 
-            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), eq(true), anyLong(), anyLong()))
+            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), eq(true), any(), any(), anyLong(), anyLong()))
                     .thenReturn(mockBlockTxPage);
 
             // When
@@ -255,7 +270,7 @@ class SearchServiceImplTest {
             verify(ledgerSearchService).searchTransaction(
                     any(), any(), any(), any(), any(), any(), any(), any(),
                     eq(true), // status "true" should convert to isSuccess = true
-                    eq(0L), eq(10L)
+                    any(), any(), eq(0L), eq(10L)
             );
         }
 
@@ -269,7 +284,7 @@ class SearchServiceImplTest {
 
             Page<BlockTx> mockBlockTxPage = new PageImpl<>(List.of());
 
-            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), eq(false), anyLong(), anyLong()))
+            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), eq(false), any(), any(), anyLong(), anyLong()))
                     .thenReturn(mockBlockTxPage);
 
             // When
@@ -279,7 +294,7 @@ class SearchServiceImplTest {
             verify(ledgerSearchService).searchTransaction(
                     any(), any(), any(), any(), any(), any(), any(), any(),
                     eq(false), // status "false" should convert to isSuccess = false
-                    eq(0L), eq(10L)
+                    any(), any(), eq(0L), eq(10L)
             );
         }
 
@@ -293,7 +308,7 @@ class SearchServiceImplTest {
 
             Page<BlockTx> mockBlockTxPage = new PageImpl<>(List.of());
 
-            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), eq(true), anyLong(), anyLong()))
+            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), eq(true), any(), any(), anyLong(), anyLong()))
                     .thenReturn(mockBlockTxPage);
 
             // When
@@ -303,7 +318,7 @@ class SearchServiceImplTest {
             verify(ledgerSearchService).searchTransaction(
                     any(), any(), any(), any(), any(), any(), any(), any(),
                     eq(true), // "TRUE" should convert to isSuccess = true
-                    eq(0L), eq(10L)
+                    any(), any(), eq(0L), eq(10L)
             );
         }
 
@@ -317,7 +332,7 @@ class SearchServiceImplTest {
 
             Page<BlockTx> mockBlockTxPage = new PageImpl<>(List.of());
 
-            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), eq(true), anyLong(), anyLong()))
+            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), eq(true), any(), any(), anyLong(), anyLong()))
                     .thenReturn(mockBlockTxPage);
 
             // When
@@ -327,7 +342,7 @@ class SearchServiceImplTest {
             verify(ledgerSearchService).searchTransaction(
                     any(), any(), any(), any(), any(), any(), any(), any(),
                     eq(true), // "SUCCESS" should convert to isSuccess = true
-                    eq(0L), eq(10L)
+                    any(), any(), eq(0L), eq(10L)
             );
         }
 
@@ -340,7 +355,7 @@ class SearchServiceImplTest {
 
             Page<BlockTx> mockBlockTxPage = new PageImpl<>(List.of());
 
-            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), isNull(), anyLong(), anyLong()))
+            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), isNull(), any(), any(), anyLong(), anyLong()))
                     .thenReturn(mockBlockTxPage);
 
             // When
@@ -350,7 +365,7 @@ class SearchServiceImplTest {
             verify(ledgerSearchService).searchTransaction(
                     any(), any(), any(), any(), any(), any(), any(), any(),
                     isNull(), // should pass null when neither parameter is provided
-                    eq(0L), eq(10L)
+                    any(), any(), eq(0L), eq(10L)
             );
         }
     }
@@ -387,7 +402,7 @@ class SearchServiceImplTest {
 
             Page<BlockTx> mockBlockTxPage = new PageImpl<>(List.of());
 
-            when(ledgerSearchService.searchTransaction(any(), any(), eq("test_address"), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()))
+            when(ledgerSearchService.searchTransaction(any(), any(), eq("test_address"), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()))
                     .thenReturn(mockBlockTxPage);
 
             // When
@@ -398,7 +413,7 @@ class SearchServiceImplTest {
                     any(), any(),
                     eq("test_address"), // Should use the address parameter
                     any(), any(), any(), any(), any(), any(),
-                    anyLong(), anyLong()
+                    any(), any(), anyLong(), anyLong()
             );
         }
 
@@ -414,7 +429,7 @@ class SearchServiceImplTest {
 
             Page<BlockTx> mockBlockTxPage = new PageImpl<>(List.of());
 
-            when(ledgerSearchService.searchTransaction(any(), any(), eq("account_address"), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()))
+            when(ledgerSearchService.searchTransaction(any(), any(), eq("account_address"), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()))
                     .thenReturn(mockBlockTxPage);
 
             // When
@@ -425,7 +440,7 @@ class SearchServiceImplTest {
                     any(), any(),
                     eq("account_address"), // Should use address from accountIdentifier
                     any(), any(), any(), any(), any(), any(),
-                    anyLong(), anyLong()
+                    any(), any(), anyLong(), anyLong()
             );
         }
 
@@ -438,7 +453,7 @@ class SearchServiceImplTest {
 
             Page<BlockTx> mockBlockTxPage = new PageImpl<>(List.of());
 
-            when(ledgerSearchService.searchTransaction(any(), any(), isNull(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()))
+            when(ledgerSearchService.searchTransaction(any(), any(), isNull(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()))
                     .thenReturn(mockBlockTxPage);
 
             // When
@@ -449,7 +464,7 @@ class SearchServiceImplTest {
                     any(), any(),
                     isNull(), // Should pass null when neither is provided
                     any(), any(), any(), any(), any(), any(),
-                    anyLong(), anyLong()
+                    any(), any(), anyLong(), anyLong()
             );
         }
     }
@@ -479,6 +494,8 @@ class SearchServiceImplTest {
                     any(), // blockIndex
                     any(), // maxBlock
                     any(), // isSuccess
+                    any(), // before
+                    any(), // countMode
                     anyLong(), // offset
                     anyLong() // limit
             )).thenReturn(emptyPage);
@@ -492,7 +509,7 @@ class SearchServiceImplTest {
 
             // Verify that ledgerSearchService was called (currency search is now supported)
             verify(ledgerSearchService).searchTransaction(
-                    any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()
+                    any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()
             );
         }
 
@@ -510,7 +527,7 @@ class SearchServiceImplTest {
 
             Page<BlockTx> emptyPage = new PageImpl<>(List.of());
             when(ledgerSearchService.searchTransaction(
-                    any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()
+                    any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()
             )).thenReturn(emptyPage);
 
             // When
@@ -519,7 +536,7 @@ class SearchServiceImplTest {
             // Then - should not throw exception
             assertThat(result).isNotNull();
             verify(ledgerSearchService).searchTransaction(
-                    any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()
+                    any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()
             );
         }
 
@@ -537,7 +554,7 @@ class SearchServiceImplTest {
 
             Page<BlockTx> emptyPage = new PageImpl<>(List.of());
             when(ledgerSearchService.searchTransaction(
-                    any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()
+                    any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()
             )).thenReturn(emptyPage);
 
             // When
@@ -623,7 +640,7 @@ class SearchServiceImplTest {
 
             Page<BlockTx> emptyPage = new PageImpl<>(List.of());
             when(ledgerSearchService.searchTransaction(
-                    any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()
+                    any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()
             )).thenReturn(emptyPage);
 
             // When
@@ -918,7 +935,7 @@ class SearchServiceImplTest {
 
             Page<BlockTx> mockBlockTxPage = new PageImpl<>(List.of());
 
-            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()))
+            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()))
                     .thenReturn(mockBlockTxPage);
 
             // When
@@ -935,7 +952,7 @@ class SearchServiceImplTest {
                     eq(100L),
                     eq(200L),
                     eq(false),
-                    eq(5L),
+                    any(), any(), eq(5L),
                     eq(15L)
             );
         }
@@ -957,7 +974,7 @@ class SearchServiceImplTest {
 
             when(ledgerSearchService.searchTransaction(
                     eq(org.cardanofoundation.rosetta.api.search.model.Operator.AND),
-                    any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()))
+                    any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()))
                     .thenReturn(mockBlockTxPage);
 
             // When
@@ -967,7 +984,7 @@ class SearchServiceImplTest {
             verify(ledgerSearchService).searchTransaction(
                     eq(org.cardanofoundation.rosetta.api.search.model.Operator.AND),
                     any(), any(), any(), any(), any(), any(), any(), any(),
-                    eq(0L), eq(10L)
+                    any(), any(), eq(0L), eq(10L)
             );
         }
 
@@ -983,7 +1000,7 @@ class SearchServiceImplTest {
 
             when(ledgerSearchService.searchTransaction(
                     eq(org.cardanofoundation.rosetta.api.search.model.Operator.OR),
-                    any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()))
+                    any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()))
                     .thenReturn(mockBlockTxPage);
 
             // When
@@ -993,7 +1010,7 @@ class SearchServiceImplTest {
             verify(ledgerSearchService).searchTransaction(
                     eq(org.cardanofoundation.rosetta.api.search.model.Operator.OR),
                     any(), any(), any(), any(), any(), any(), any(), any(),
-                    eq(0L), eq(10L)
+                    any(), any(), eq(0L), eq(10L)
             );
         }
 
@@ -1009,7 +1026,7 @@ class SearchServiceImplTest {
 
             when(ledgerSearchService.searchTransaction(
                     eq(org.cardanofoundation.rosetta.api.search.model.Operator.AND),
-                    any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()))
+                    any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()))
                     .thenReturn(mockBlockTxPage);
 
             // When
@@ -1019,9 +1036,169 @@ class SearchServiceImplTest {
             verify(ledgerSearchService).searchTransaction(
                     eq(org.cardanofoundation.rosetta.api.search.model.Operator.AND),
                     any(), any(), any(), any(), any(), any(), any(), any(),
-                    eq(0L), eq(10L)
+                    any(), any(), eq(0L), eq(10L)
+            );
+        }
+
+    }
+
+    @Nested
+    class CursorAndCountModeTests {
+
+        @Test
+        void shouldPassDecodedCursorAndCountMode() {
+            // Given
+            TxCursor cursor = new TxCursor(100L, 2, "a".repeat(64));
+            SearchTransactionsRequest request = SearchTransactionsRequest.builder()
+                    .networkIdentifier(networkIdentifier)
+                    .cursor(cursor.encode())
+                    .countMode("capped")
+                    .build();
+
+            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()))
+                    .thenReturn(new PageImpl<>(List.of()));
+
+            // When
+            searchService.searchTransaction(request, 0L, 10L);
+
+            // Then
+            verify(ledgerSearchService).searchTransaction(
+                    any(), any(), any(), any(), any(), any(), any(), any(), any(),
+                    eq(cursor), eq(CountMode.CAPPED), eq(0L), eq(10L)
+            );
+        }
+
+        @Test
+        void shouldDefaultToExactCount_whenCountModeNotProvided() {
+            // Given
+            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()))
+                    .thenReturn(new PageImpl<>(List.of()));
+
+            // When
+            searchService.searchTransaction(baseRequest, 0L, 10L);
+
+            // Then
+            verify(ledgerSearchService).searchTransaction(
+                    any(), any(), any(), any(), any(), any(), any(), any(), any(),
+                    isNull(), eq(CountMode.EXACT), eq(0L), eq(10L)
             );
         }
 
+        @Test
+        void shouldThrowException_whenCursorIsInvalid() {
+            // Given
+            SearchTransactionsRequest request = SearchTransactionsRequest.builder()
+                    .networkIdentifier(networkIdentifier)
+                    .cursor("not-a-cursor")
+                    .build();
+
+            // When & Then
+            assertThatThrownBy(() -> searchService.searchTransaction(request, 0L, 10L))
+                    .isInstanceOf(ApiException.class)
+                    .extracting("error.details.message")
+                    .isEqualTo("Invalid cursor: 'not-a-cursor'. Use the next_cursor of a previous response");
+
+            verifyNoInteractions(ledgerSearchService);
+        }
+
+        @Test
+        void shouldThrowException_whenCountModeIsUnknown() {
+            // Given
+            SearchTransactionsRequest request = SearchTransactionsRequest.builder()
+                    .networkIdentifier(networkIdentifier)
+                    .countMode("approximate")
+                    .build();
+
+            // When & Then
+            assertThatThrownBy(() -> searchService.searchTransaction(request, 0L, 10L))
+                    .isInstanceOf(ApiException.class)
+                    .extracting("error.details.message")
+                    .isEqualTo("Unknown count_mode: 'approximate'. Supported values are: 'exact', 'capped', 'none'");
+
+            verifyNoInteractions(ledgerSearchService);
+        }
+    }
+
+    @Nested
+    class ResultCacheTests {
+
+        @Test
+        void shouldNotCachePage_whenTokenMetadataIsDegraded() {
+            // Given
+            AssetFingerprint asset = AssetFingerprint.of("b".repeat(56), "");
+            when(tokenRegistryService.fetchMetadataForBlockTxList(any()))
+                    .thenReturn(Map.of(asset, TokenRegistryCurrencyData.builder().policyId(asset.getPolicyId()).degraded(true).build()));
+
+            // When & Then
+            assertThat(searchResult().cacheable()).isFalse();
+        }
+
+        @Test
+        void shouldCachePage_whenTokenMetadataIsComplete() {
+            // Given
+            AssetFingerprint asset = AssetFingerprint.of("b".repeat(56), "");
+            when(tokenRegistryService.fetchMetadataForBlockTxList(any()))
+                    .thenReturn(Map.of(asset, TokenRegistryCurrencyData.builder().policyId(asset.getPolicyId()).build()));
+
+            // When & Then
+            assertThat(searchResult().cacheable()).isTrue();
+        }
+
+        private SearchResultCache.SearchResult searchResult() {
+            AtomicReference<SearchResultCache.SearchResult> result = new AtomicReference<>();
+            when(searchResultCache.get(any(), any())).thenAnswer(invocation -> {
+                result.set(invocation.<Supplier<SearchResultCache.SearchResult>>getArgument(1).get());
+                return result.get().page();
+            });
+            when(ledgerSearchService.searchTransaction(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong(), anyLong()))
+                    .thenReturn(new PageImpl<>(List.of(BlockTx.builder().hash("tx1").build())));
+
+            searchService.searchTransaction(baseRequest, 0L, 10L);
+
+            return result.get();
+        }
+    }
+
+    @Nested
+    class ExportTests {
+
+        @Test
+        void shouldExportBatchesFromCursor() {
+            // Given
+            TxCursor cursor = new TxCursor(100L, 2, "a".repeat(64));
+            SearchTransactionsRequest request = SearchTransactionsRequest.builder()
+                    .networkIdentifier(networkIdentifier)
+                    .cursor(cursor.encode())
+                    .build();
+            BlockTx blockTx = BlockTx.builder().hash("tx1").build();
+            BlockTransaction blockTransaction = new BlockTransaction();
+
+            when(ledgerSearchService.exportTransactions(any(), any(), any(), any(), any(), any(), any(), any(), any(), eq(cursor), eq(50)))
+                    .thenReturn(Stream.of(List.of(blockTx)));
+            when(blockMapper.mapToBlockTransactionWithMetadata(eq(blockTx), any()))
+                    .thenReturn(blockTransaction);
+
+            // When
+            List<List<BlockTransaction>> batches = searchService.exportTransactions(request, 50).toList();
+
+            // Then
+            assertThat(batches).containsExactly(List.of(blockTransaction));
+            verify(tokenRegistryService).fetchMetadataForBlockTxList(List.of(blockTx));
+        }
+
+        @Test
+        void shouldValidateBeforeExporting() {
+            // Given
+            SearchTransactionsRequest request = SearchTransactionsRequest.builder()
+                    .networkIdentifier(networkIdentifier)
+                    .operator("XOR")
+                    .build();
+
+            // When & Then
+            assertThatThrownBy(() -> searchService.exportTransactions(request, 50))
+                    .isInstanceOf(ApiException.class);
+
+            verifyNoInteractions(ledgerSearchService);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,8 @@
 package org.cardanofoundation.rosetta.client;
 
 import com.google.common.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.cardanofoundation.rosetta.client.model.domain.TokenCacheEntry;
 import org.cardanofoundation.rosetta.client.model.domain.TokenMetadata;
 import org.cardanofoundation.rosetta.client.model.domain.TokenProperty;
@@ -13,13 +15,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -38,9 +46,17 @@ class CachingTokenRegistryHttpGatewayImplTest {
     @Mock
     private HttpResponse<String> httpResponse;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private Clock clock;
+
     @InjectMocks
     private CachingTokenRegistryHttpGatewayImpl tokenRegistryHttpGateway;
 
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
     private final String testSubject = "577f0b1342f8f8f4aed3388b80a8535812950c7a892495c0ecdf0f1e0014df10464c4454";
     private final String testSubject2 = "29d222ce763455e3d7a09a665ce554f00ac89d2e99a1a83d267170c64d494e";
 
@@ -96,6 +112,7 @@ class CachingTokenRegistryHttpGatewayImplTest {
         tokenRegistryHttpGateway.tokenRegistryBaseUrl = "https://tokens.cardano.org/api";
         tokenRegistryHttpGateway.httpRequestTimeoutSeconds = 5;
         tokenRegistryHttpGateway.init();
+        lenient().when(clock.instant()).thenReturn(NOW);
     }
 
 
@@ -136,8 +153,8 @@ class CachingTokenRegistryHttpGatewayImplTest {
             TokenSubject cached1 = createTestTokenSubject(testSubject, "FLDT", "FLDT", 6L);
             TokenSubject cached2 = createTestTokenSubject(testSubject2, "MIN", "MIN", 6L);
             
-            when(tokenMetadataCache.getIfPresent(testSubject)).thenReturn(TokenCacheEntry.found(cached1));
-            when(tokenMetadataCache.getIfPresent(testSubject2)).thenReturn(TokenCacheEntry.found(cached2));
+            when(tokenMetadataCache.getIfPresent(testSubject)).thenReturn(TokenCacheEntry.found(cached1, NOW));
+            when(tokenMetadataCache.getIfPresent(testSubject2)).thenReturn(TokenCacheEntry.found(cached2, NOW));
 
             Map<String, Optional<TokenSubject>> result = tokenRegistryHttpGateway.getTokenMetadataBatch(subjects);
 
@@ -178,7 +195,7 @@ class CachingTokenRegistryHttpGatewayImplTest {
             Set<String> subjects = Set.of(testSubject, testSubject2);
             TokenSubject cached1 = createTestTokenSubject(testSubject, "FLDT", "FLDT", 6L);
             
-            when(tokenMetadataCache.getIfPresent(testSubject)).thenReturn(TokenCacheEntry.found(cached1));
+            when(tokenMetadataCache.getIfPresent(testSubject)).thenReturn(TokenCacheEntry.found(cached1, NOW));
             when(tokenMetadataCache.getIfPresent(testSubject2)).thenReturn(null);
             when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
                     .thenReturn(httpResponse);
@@ -257,7 +274,7 @@ class CachingTokenRegistryHttpGatewayImplTest {
             Set<String> subjects = Set.of("nonexistent_subject");
             
             // Token is cached as not found
-            when(tokenMetadataCache.getIfPresent("nonexistent_subject")).thenReturn(TokenCacheEntry.notFound());
+            when(tokenMetadataCache.getIfPresent("nonexistent_subject")).thenReturn(TokenCacheEntry.notFound(NOW));
 
             Map<String, Optional<TokenSubject>> result = tokenRegistryHttpGateway.getTokenMetadataBatch(subjects);
 
@@ -319,7 +336,7 @@ class CachingTokenRegistryHttpGatewayImplTest {
             Set<String> subjects = Set.of(testSubject, testSubject2);
             TokenSubject cached1 = createTestTokenSubject(testSubject, "FLDT", "FLDT", 6L);
             
-            when(tokenMetadataCache.getIfPresent(testSubject)).thenReturn(TokenCacheEntry.found(cached1));
+            when(tokenMetadataCache.getIfPresent(testSubject)).thenReturn(TokenCacheEntry.found(cached1, NOW));
             when(tokenMetadataCache.getIfPresent(testSubject2)).thenReturn(null);
             when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
                     .thenThrow(new IOException("Network error"));
@@ -345,4 +362,131 @@ class CachingTokenRegistryHttpGatewayImplTest {
         }
     }
 
-}
\ No newline at end of file
+    @Nested
+    class CoalescingAndStalenessTests {
+
+        @Test
+        void getTokenMetadataBatch_WhenConcurrentMisses_SendsOneRequest() throws Exception {
+            CountDownLatch sending = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(tokenMetadataCache.getIfPresent(anyString())).thenReturn(null);
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenAnswer(invocation -> {
+                        sending.countDown();
+                        release.await();
+                        return httpResponse;
+                    });
+            when(httpResponse.statusCode()).thenReturn(200);
+            when(httpResponse.body()).thenReturn(createTestBatchResponseJson());
+
+            CompletableFuture<Map<String, Optional<TokenSubject>>> first = CompletableFuture.supplyAsync(
+                    () -> tokenRegistryHttpGateway.getTokenMetadataBatch(Set.of(testSubject)));
+            sending.await();
+            CompletableFuture<Map<String, Optional<TokenSubject>>> second = CompletableFuture.supplyAsync(
+                    () -> tokenRegistryHttpGateway.getTokenMetadataBatch(Set.of(testSubject)));
+            // the second request joins the request of the first one, which is still waiting for the registry
+            while (meterRegistry.get("cache.coalesced").counter().count() < 1.0) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertThat(first.get().get(testSubject)).isPresent();
+            assertThat(second.get().get(testSubject)).isPresent();
+            verify(httpClient, times(1)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+        }
+
+        @Test
+        void getTokenMetadataBatch_WhenEntryIsStale_ServesItAndRefreshesInBackground() throws Exception {
+            TokenSubject stale = createTestTokenSubject(testSubject, "OLD", "OLD", 6L);
+            when(tokenMetadataCache.getIfPresent(testSubject))
+                    .thenReturn(new TokenCacheEntry(Optional.of(stale), true, NOW.minus(Duration.ofHours(13))));
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenReturn(httpResponse);
+            when(httpResponse.statusCode()).thenReturn(200);
+            when(httpResponse.body()).thenReturn(createTestBatchResponseJson());
+
+            Map<String, Optional<TokenSubject>> result = tokenRegistryHttpGateway.getTokenMetadataBatch(Set.of(testSubject));
+
+            assertThat(result.get(testSubject)).contains(stale);
+            verify(tokenMetadataCache, timeout(1000)).put(eq(testSubject), argThat(entry -> entry.isFound()
+                    && entry.fetchedAt().equals(NOW)
+                    && entry.getTokenSubject().get().getMetadata().getName().getValue().equals("FLDT")));
+            assertThat(meterRegistry.get("cache.stale").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        void getTokenMetadataBatch_WhenStaleRefreshFails_KeepsStaleEntry() throws Exception {
+            TokenSubject stale = createTestTokenSubject(testSubject, "OLD", "OLD", 6L);
+            when(tokenMetadataCache.getIfPresent(testSubject))
+                    .thenReturn(new TokenCacheEntry(Optional.of(stale), true, NOW.minus(Duration.ofHours(13))));
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenThrow(new IOException("Network error"));
+
+            Map<String, Optional<TokenSubject>> result = tokenRegistryHttpGateway.getTokenMetadataBatch(Set.of(testSubject));
+
+            assertThat(result.get(testSubject)).contains(stale);
+            verify(httpClient, timeout(1000)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+            verify(tokenMetadataCache, never()).put(anyString(), any());
+        }
+    }
+
+    @Nested
+    class DeadlineAndCircuitBreakerTests {
+
+        @Test
+        void getTokenMetadataBatch_WhenRegistryMissesDeadline_ReturnsWithoutSubjectAndCachesItLater() throws Exception {
+            tokenRegistryHttpGateway.enrichmentDeadlineMillis = 50;
+            CountDownLatch release = new CountDownLatch(1);
+            when(tokenMetadataCache.getIfPresent(anyString())).thenReturn(null);
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenAnswer(invocation -> {
+                        release.await();
+                        return httpResponse;
+                    });
+            when(httpResponse.statusCode()).thenReturn(200);
+            when(httpResponse.body()).thenReturn(createTestBatchResponseJson());
+
+            Map<String, Optional<TokenSubject>> result = tokenRegistryHttpGateway.getTokenMetadataBatch(Set.of(testSubject));
+            release.countDown();
+
+            assertThat(result).doesNotContainKey(testSubject);
+            verify(tokenMetadataCache, timeout(1000)).put(eq(testSubject), argThat(TokenCacheEntry::isFound));
+        }
+
+        @Test
+        void awaitTokenMetadataBatch_WhenRegistryIsSlowerThanDeadline_WaitsForIt() throws Exception {
+            tokenRegistryHttpGateway.enrichmentDeadlineMillis = 50;
+            when(tokenMetadataCache.getIfPresent(anyString())).thenReturn(null);
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenAnswer(invocation -> {
+                        Thread.sleep(200);
+                        return httpResponse;
+                    });
+            when(httpResponse.statusCode()).thenReturn(200);
+            when(httpResponse.body()).thenReturn(createTestBatchResponseJson());
+
+            Map<String, Optional<TokenSubject>> result = tokenRegistryHttpGateway.awaitTokenMetadataBatch(Set.of(testSubject));
+
+            assertThat(result.get(testSubject)).isPresent();
+            verify(tokenMetadataCache).put(eq(testSubject), argThat(TokenCacheEntry::isFound));
+        }
+
+        @Test
+        void getTokenMetadataBatch_WhenRegistryFailsRepeatedly_StopsCallingIt() throws Exception {
+            tokenRegistryHttpGateway.circuitBreakerFailureThreshold = 2;
+            tokenRegistryHttpGateway.init();
+            when(tokenMetadataCache.getIfPresent(anyString())).thenReturn(null);
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenThrow(new IOException("Network error"));
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(tokenRegistryHttpGateway.getTokenMetadataBatch(Set.of(testSubject))).isEmpty();
+            }
+
+            verify(httpClient, times(2)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+            assertThat(meterRegistry.get("cache.rejected").counter().count()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("cache.circuit.open").gauge().value()).isEqualTo(1.0);
+        }
+    }
+
+}
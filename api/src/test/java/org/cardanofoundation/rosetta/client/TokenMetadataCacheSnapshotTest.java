@@ -0,0 +1,111 @@
+package org.cardanofoundation.rosetta.client;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.cardanofoundation.rosetta.client.model.domain.TokenCacheEntry;
+import org.cardanofoundation.rosetta.client.model.domain.TokenMetadata;
+import org.cardanofoundation.rosetta.client.model.domain.TokenProperty;
+import org.cardanofoundation.rosetta.client.model.domain.TokenPropertyNumber;
+import org.cardanofoundation.rosetta.client.model.domain.TokenSubject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenMetadataCacheSnapshotTest {
+
+    private static final String FOUND_SUBJECT = "577f0b1342f8f8f4aed3388b80a8535812950c7a892495c0ecdf0f1e0014df10464c4454";
+    private static final String NOT_FOUND_SUBJECT = "29d222ce763455e3d7a09a665ce554f00ac89d2e99a1a83d267170c64d494e";
+    private static final String EXPIRED_SUBJECT = "e4214b7cce62ac6fbba385d164df48e157eae5863521b4b67ca71d8645524f4e";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void save_thenLoad_restoresFoundAndNotFoundEntriesWithFetchTime() throws Exception {
+        Instant fetchedAt = Instant.now().minus(Duration.ofHours(2)).truncatedTo(ChronoUnit.MILLIS);
+        Cache<String, TokenCacheEntry> cache = newCache();
+        cache.put(FOUND_SUBJECT, new TokenCacheEntry(Optional.of(tokenSubject(FOUND_SUBJECT)), true, fetchedAt));
+        cache.put(NOT_FOUND_SUBJECT, new TokenCacheEntry(Optional.empty(), false, fetchedAt));
+        newSnapshot(cache).save();
+
+        Cache<String, TokenCacheEntry> restored = newCache();
+        newSnapshot(restored).load();
+
+        TokenCacheEntry found = restored.getIfPresent(FOUND_SUBJECT);
+        assertThat(found).isNotNull();
+        assertThat(found.isFound()).isTrue();
+        assertThat(found.fetchedAt()).isEqualTo(fetchedAt);
+        assertThat(found.getTokenSubject()).contains(tokenSubject(FOUND_SUBJECT));
+
+        TokenCacheEntry notFound = restored.getIfPresent(NOT_FOUND_SUBJECT);
+        assertThat(notFound).isNotNull();
+        assertThat(notFound.isFound()).isFalse();
+        assertThat(notFound.fetchedAt()).isEqualTo(fetchedAt);
+    }
+
+    @Test
+    void save_skipsEntriesOlderThanTtlPlusStaleness() throws Exception {
+        Cache<String, TokenCacheEntry> cache = newCache();
+        cache.put(FOUND_SUBJECT, TokenCacheEntry.found(tokenSubject(FOUND_SUBJECT), Instant.now()));
+        cache.put(EXPIRED_SUBJECT, new TokenCacheEntry(Optional.empty(), false, Instant.now().minus(Duration.ofHours(4))));
+        newSnapshot(cache).save();
+
+        Cache<String, TokenCacheEntry> restored = newCache();
+        newSnapshot(restored).load();
+
+        assertThat(restored.asMap()).containsOnlyKeys(FOUND_SUBJECT);
+    }
+
+    @Test
+    void load_whenSnapshotIsMissingOrUnreadable_leavesCacheEmpty() throws Exception {
+        Cache<String, TokenCacheEntry> cache = newCache();
+        newSnapshot(cache).load();
+        assertThat(cache.size()).isZero();
+
+        Files.writeString(directory.resolve("snapshot.json.gz"), "not a snapshot");
+        newSnapshot(cache).load();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void estimatedSizeBytes_growsWithMetadata() {
+        TokenSubject withLogo = tokenSubject(FOUND_SUBJECT);
+        withLogo.getMetadata().setLogo(new TokenProperty("x".repeat(10_000), "CIP_26"));
+
+        int notFound = TokenCacheEntry.notFound(Instant.now()).estimatedSizeBytes();
+        int found = TokenCacheEntry.found(tokenSubject(FOUND_SUBJECT), Instant.now()).estimatedSizeBytes();
+        int foundWithLogo = TokenCacheEntry.found(withLogo, Instant.now()).estimatedSizeBytes();
+
+        assertThat(found).isGreaterThan(notFound);
+        assertThat(foundWithLogo).isGreaterThan(found + 10_000);
+    }
+
+    private TokenMetadataCacheSnapshot newSnapshot(Cache<String, TokenCacheEntry> cache) {
+        // TTL of one hour plus two hours of staleness
+        return new TokenMetadataCacheSnapshot(cache, directory.resolve("snapshot.json.gz").toString(), 1, 2);
+    }
+
+    private static Cache<String, TokenCacheEntry> newCache() {
+        return CacheBuilder.newBuilder().build();
+    }
+
+    private static TokenSubject tokenSubject(String subject) {
+        return TokenSubject.builder()
+                .subject(subject)
+                .metadata(TokenMetadata.builder()
+                        .name(new TokenProperty("FLDT", "CIP_68"))
+                        .description(new TokenProperty("FLDT Token", "CIP_68"))
+                        .decimals(new TokenPropertyNumber(6L, "CIP_68"))
+                        .build())
+                .build();
+    }
+
+}
@@ -0,0 +1,103 @@
+package org.cardanofoundation.rosetta.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRegistryCircuitBreakerTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private Clock clock;
+
+    private TokenRegistryCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.instant()).thenReturn(NOW);
+        circuitBreaker = new TokenRegistryCircuitBreaker(3, Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    void tryAcquire_WhenFailuresBelowThreshold_StaysClosed() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.isOpen()).isFalse();
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void tryAcquire_WhenSuccessBetweenFailures_ResetsFailureCount() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void tryAcquire_WhenThresholdReached_RejectsUntilOpenDurationPassed() {
+        openCircuitBreaker();
+
+        assertThat(circuitBreaker.isOpen()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(29));
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void tryAcquire_AfterOpenDuration_LetsSingleTrialThrough() {
+        openCircuitBreaker();
+        when(clock.instant()).thenReturn(NOW.plusSeconds(31));
+
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void onSuccess_AfterTrial_ClosesCircuitBreaker() {
+        openCircuitBreaker();
+        when(clock.instant()).thenReturn(NOW.plusSeconds(31));
+        circuitBreaker.tryAcquire();
+
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.isOpen()).isFalse();
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void onFailure_AfterTrial_OpensCircuitBreakerAgain() {
+        openCircuitBreaker();
+        when(clock.instant()).thenReturn(NOW.plusSeconds(31));
+        circuitBreaker.tryAcquire();
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.isOpen()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    private void openCircuitBreaker() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+    }
+
+}
@@ -2,11 +2,13 @@ package org.cardanofoundation.rosetta.client;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.cardanofoundation.rosetta.client.model.domain.TokenCacheEntry;
 import org.cardanofoundation.rosetta.client.model.domain.TokenSubject;
 import org.junit.jupiter.api.Test;
 
 import java.net.http.HttpClient;
+import java.time.Clock;
 import java.util.List;
 import java.util.Optional;
 
@@ -56,7 +58,7 @@ class TokenRegistryPropertiesFetchTest {
         private final boolean testLogoFetchEnabled;
 
         public TestableTokenRegistryGateway(HttpClient httpClient, Cache<String, TokenCacheEntry> cache, boolean logoFetchEnabled) {
-            super(httpClient, cache);
+            super(httpClient, cache, new SimpleMeterRegistry(), Clock.systemUTC());
             this.testLogoFetchEnabled = logoFetchEnabled;
         }
 
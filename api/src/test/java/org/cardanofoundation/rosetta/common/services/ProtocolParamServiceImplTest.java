@@ -1,47 +1,142 @@
 package org.cardanofoundation.rosetta.common.services;
 
 import java.math.BigInteger;
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.jooq.DSLContext;
+import org.jooq.Record1;
+import org.jooq.Record2;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import org.cardanofoundation.rosetta.api.block.model.domain.ProtocolParams;
 import org.cardanofoundation.rosetta.api.block.model.entity.LocalProtocolParamsEntity;
+import org.cardanofoundation.rosetta.api.block.model.entity.ProtocolParamsEntity;
+import org.cardanofoundation.rosetta.api.block.model.repository.EpochParamRepository;
 import org.cardanofoundation.rosetta.api.block.model.repository.LocalProtocolParamsRepository;
+import org.cardanofoundation.rosetta.common.mapper.ProtocolParamsMapper;
 
+import static org.cardanofoundation.rosetta.api.jooq.Tables.BLOCK;
+import static org.cardanofoundation.rosetta.api.jooq.Tables.LOCAL_EPOCH_PARAM;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ProtocolParamServiceImplTest {
 
+  private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+
   @Mock
   LocalProtocolParamsRepository protocolParamsRepository;
-  @InjectMocks
+  @Mock
+  EpochParamRepository epochParamRepository;
+  @Mock
+  ProtocolParamsMapper protocolParamsMapper;
+
+  private final AtomicInteger tipEpoch = new AtomicInteger(5);
+  private final AtomicReference<LocalDateTime> localParamsUpdatedAt = new AtomicReference<>(UPDATED_AT);
+
   ProtocolParamServiceImpl genesisService;
 
+  @BeforeEach
+  void setUp() {
+    DSLContext dsl = DSL.using(new MockConnection(ctx -> {
+      DSLContext create = DSL.using(SQLDialect.POSTGRES);
+      if (ctx.sql().contains(LOCAL_EPOCH_PARAM.getName())) {
+        Record2<Integer, LocalDateTime> record = create.newRecord(LOCAL_EPOCH_PARAM.EPOCH, LOCAL_EPOCH_PARAM.UPDATE_DATETIME);
+        record.values(5, localParamsUpdatedAt.get());
+        Result<Record2<Integer, LocalDateTime>> result = create.newResult(LOCAL_EPOCH_PARAM.EPOCH, LOCAL_EPOCH_PARAM.UPDATE_DATETIME);
+        result.add(record);
+
+        return new MockResult[] {new MockResult(1, result)};
+      }
+
+      Record1<Integer> record = create.newRecord(BLOCK.EPOCH);
+      record.value1(tipEpoch.get());
+      Result<Record1<Integer>> result = create.newResult(BLOCK.EPOCH);
+      result.add(record);
+
+      return new MockResult[] {new MockResult(1, result)};
+    }), SQLDialect.POSTGRES);
+
+    genesisService = new ProtocolParamServiceImpl(protocolParamsRepository, protocolParamsMapper, epochParamRepository, dsl);
+  }
+
   @Test
   void findProtocolParametersFromIndexerTest() {
     //given
-    when(protocolParamsRepository.getLocalProtocolParams()).thenReturn(Optional.of(
-        LocalProtocolParamsEntity.builder()
-            .epoch(5L)
-            .protocolParams(
-                ProtocolParams.builder().build())
-            .build()));
+    givenLocalProtocolParams(ProtocolParams.builder().build());
     //when
     ProtocolParams protocolParameters = genesisService.findProtocolParameters();
     //then
     assertNotNull(protocolParameters);
   }
 
+  @Test
+  void findProtocolParameters_fallsBackToLatestEpochParams() {
+    ProtocolParamsEntity paramsEntity = new ProtocolParamsEntity();
+    ProtocolParams protocolParams = ProtocolParams.builder().minFeeA(1).build();
+    when(protocolParamsRepository.getLocalProtocolParams()).thenReturn(Optional.empty());
+    when(epochParamRepository.findLatestProtocolParams()).thenReturn(paramsEntity);
+    when(protocolParamsMapper.mapProtocolParamsToEntity(paramsEntity)).thenReturn(protocolParams);
+
+    assertSame(protocolParams, genesisService.findProtocolParameters());
+  }
+
+  @Test
+  void findProtocolParameters_servesHeldParametersWithoutQueryingAgain() {
+    ProtocolParams protocolParams = ProtocolParams.builder().minFeeA(1).build();
+    givenLocalProtocolParams(protocolParams);
+
+    ProtocolParams first = genesisService.findProtocolParameters();
+    genesisService.scheduledRefresh();
+    ProtocolParams second = genesisService.findProtocolParameters();
+
+    assertSame(first, second);
+    verify(protocolParamsRepository, times(1)).getLocalProtocolParams();
+  }
+
+  @Test
+  void scheduledRefresh_reloadsWhenTipCrossesEpoch() {
+    givenLocalProtocolParams(ProtocolParams.builder().minFeeA(1).build());
+    genesisService.scheduledRefresh();
+
+    tipEpoch.set(6);
+    genesisService.scheduledRefresh();
+    genesisService.scheduledRefresh();
+
+    verify(protocolParamsRepository, times(2)).getLocalProtocolParams();
+  }
+
+  @Test
+  void scheduledRefresh_reloadsWhenLocalParamsChange() {
+    givenLocalProtocolParams(ProtocolParams.builder().minFeeA(1).build());
+    genesisService.scheduledRefresh();
+
+    localParamsUpdatedAt.set(UPDATED_AT.plusMinutes(10));
+    genesisService.scheduledRefresh();
+
+    verify(protocolParamsRepository, times(2)).getLocalProtocolParams();
+  }
+
   @Test
   void findProtocolParametersFromFile() {
     ReflectionTestUtils.setField(genesisService, "offlineMode", true);
@@ -50,7 +145,10 @@ class ProtocolParamServiceImplTest {
     ReflectionTestUtils.setField(genesisService, "genesisConwayPath", "src/test/resources/network-config/conway-genesis.json");
 
     ProtocolParams protocolParameters = genesisService.findProtocolParameters();
+    genesisService.scheduledRefresh();
 
+    assertSame(protocolParameters, genesisService.findProtocolParameters());
+    verifyNoInteractions(protocolParamsRepository, epochParamRepository);
     assertNotNull(protocolParameters);
     assertEquals(44, protocolParameters.getMinFeeA());
     assertEquals(155381, protocolParameters.getMinFeeB());
@@ -61,4 +159,12 @@ class ProtocolParamServiceImplTest {
     assertEquals(5000L, protocolParameters.getMaxValSize());
     assertEquals(3, protocolParameters.getMaxCollateralInputs());
   }
+
+  private void givenLocalProtocolParams(ProtocolParams protocolParams) {
+    when(protocolParamsRepository.getLocalProtocolParams()).thenReturn(Optional.of(
+        LocalProtocolParamsEntity.builder()
+            .epoch(5L)
+            .protocolParams(protocolParams)
+            .build()));
+  }
 }
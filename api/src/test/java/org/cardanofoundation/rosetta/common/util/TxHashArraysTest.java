@@ -0,0 +1,80 @@
+package org.cardanofoundation.rosetta.common.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TxHashArraysTest {
+
+    private static final Field<String> TX_HASH = DSL.field(DSL.name("transaction", "tx_hash"), String.class);
+
+    @Test
+    void chunks_deduplicatesKeepingOrder() {
+        List<String[]> chunks = TxHashArrays.chunks(Arrays.asList("tx2", "tx1", "tx2", null, "tx1", "tx3"));
+
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.getFirst()).containsExactly("tx2", "tx1", "tx3");
+    }
+
+    @Test
+    void chunks_splitsLargeListsIntoBoundedArrays() {
+        List<String> hashes = IntStream.range(0, TxHashArrays.CHUNK_SIZE * 2 + 1)
+                .mapToObj(i -> "tx" + i)
+                .toList();
+
+        List<String[]> chunks = TxHashArrays.chunks(hashes);
+
+        assertThat(chunks).extracting(chunk -> chunk.length)
+                .containsExactly(TxHashArrays.CHUNK_SIZE, TxHashArrays.CHUNK_SIZE, 1);
+    }
+
+    @Test
+    void fetch_runsOneQueryPerChunkAndNoneForEmptyLists() {
+        List<Integer> chunkSizes = new ArrayList<>();
+        List<String> hashes = IntStream.range(0, TxHashArrays.CHUNK_SIZE + 10)
+                .mapToObj(i -> "tx" + i)
+                .toList();
+
+        List<String> results = TxHashArrays.fetch(hashes, chunk -> {
+            chunkSizes.add(chunk.length);
+            return List.of(chunk);
+        });
+        List<String> noResults = TxHashArrays.fetch(List.of(), chunk -> {
+            throw new AssertionError("no query expected");
+        });
+
+        assertThat(chunkSizes).containsExactly(TxHashArrays.CHUNK_SIZE, 10);
+        assertThat(results).containsExactlyElementsOf(hashes);
+        assertThat(noResults).isEmpty();
+    }
+
+    @Test
+    void anyOf_rendersTheSameStatementForEveryListSize() {
+        Condition few = TxHashArrays.anyOf(TX_HASH, List.of("tx1", "tx2"));
+        Condition many = TxHashArrays.anyOf(TX_HASH, List.of("tx1", "tx2", "tx3", "tx4", "tx2"));
+
+        String fewSql = DSL.using(SQLDialect.POSTGRES).render(few);
+        String manySql = DSL.using(SQLDialect.POSTGRES).render(many);
+
+        assertThat(fewSql).isEqualTo(manySql).contains("any");
+        assertThat(DSL.using(SQLDialect.POSTGRES).extractBindValues(many))
+                .hasSize(1)
+                .first()
+                .satisfies(value -> assertThat((String[]) value).containsExactly("tx1", "tx2", "tx3", "tx4"));
+    }
+
+    @Test
+    void anyOf_matchesNothingForEmptyLists() {
+        assertThat(TxHashArrays.anyOf(TX_HASH, List.of())).isEqualTo(DSL.falseCondition());
+    }
+
+}
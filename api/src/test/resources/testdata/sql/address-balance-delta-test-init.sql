@@ -0,0 +1,17 @@
+-- address_balance_delta is written by the indexer, it is not part of the devkit snapshot
+CREATE TABLE IF NOT EXISTS address_balance_delta (
+    address VARCHAR(500) NOT NULL,
+    unit VARCHAR(255) NOT NULL,
+    block_number BIGINT NOT NULL,
+    slot BIGINT NOT NULL,
+    quantity NUMERIC(38) NOT NULL,
+    balance NUMERIC(38) NOT NULL,
+    PRIMARY KEY (address, unit, block_number)
+);
+
+-- lovelace paid at block 10 and 20, the token is received at block 15 and sent away at block 25
+INSERT INTO address_balance_delta (address, unit, block_number, slot, quantity, balance) VALUES ('addr_delta', 'lovelace', 10, 100, 5000000, 5000000);
+INSERT INTO address_balance_delta (address, unit, block_number, slot, quantity, balance) VALUES ('addr_delta', 'lovelace', 20, 200, 3000000, 8000000);
+INSERT INTO address_balance_delta (address, unit, block_number, slot, quantity, balance) VALUES ('addr_delta', 'policy1token1', 15, 150, 100, 100);
+INSERT INTO address_balance_delta (address, unit, block_number, slot, quantity, balance) VALUES ('addr_delta', 'policy1token1', 25, 250, -100, 0);
+INSERT INTO address_balance_delta (address, unit, block_number, slot, quantity, balance) VALUES ('addr_delta_other', 'lovelace', 12, 120, 7000000, 7000000);
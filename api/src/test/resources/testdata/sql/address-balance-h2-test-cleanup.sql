@@ -0,0 +1,5 @@
+DELETE FROM tx_input
+WHERE tx_hash = 'balanceTx2';
+
+DELETE FROM address_utxo
+WHERE tx_hash IN ('balanceTx1', 'balanceTx2', 'balanceTx4');
@@ -0,0 +1,18 @@
+-- two unspent multi-asset outputs
+INSERT INTO address_utxo (tx_hash, output_index, owner_addr, block, amounts)
+VALUES ('balanceTx1', 0, 'addr_balance', 4001, '[{"unit": "lovelace", "quantity": "5000000"}, {"unit": "bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb746f6b656e", "quantity": "100"}]');
+INSERT INTO address_utxo (tx_hash, output_index, owner_addr, block, amounts)
+VALUES ('balanceTx1', 1, 'addr_balance', 4001, '[{"unit": "lovelace", "quantity": "2000000"}, {"unit": "bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb746f6b656e", "quantity": "50"}, {"unit": "cccccccccccccccccccccccccccccccccccccccccccccccccccccccc", "quantity": "7"}]');
+
+-- spent at block 4003 and at block 4002
+INSERT INTO address_utxo (tx_hash, output_index, owner_addr, block, amounts)
+VALUES ('balanceTx2', 0, 'addr_balance', 4002, '[{"unit": "lovelace", "quantity": "1000000"}]');
+INSERT INTO address_utxo (tx_hash, output_index, owner_addr, block, amounts)
+VALUES ('balanceTx2', 1, 'addr_balance', 4002, '[{"unit": "lovelace", "quantity": "3000000"}]');
+
+-- created after the queried blocks
+INSERT INTO address_utxo (tx_hash, output_index, owner_addr, block, amounts)
+VALUES ('balanceTx4', 0, 'addr_balance', 4005, '[{"unit": "lovelace", "quantity": "9000000"}]');
+
+INSERT INTO tx_input (tx_hash, output_index, spent_tx_hash, spent_at_block, spent_at_slot) VALUES ('balanceTx2', 0, 'balanceTx3', 4003, 40030);
+INSERT INTO tx_input (tx_hash, output_index, spent_tx_hash, spent_at_block, spent_at_slot) VALUES ('balanceTx2', 1, 'balanceTx2b', 4002, 40020);
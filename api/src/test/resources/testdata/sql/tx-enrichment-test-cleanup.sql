@@ -0,0 +1,4 @@
+DELETE FROM address_utxo WHERE tx_hash = 'enrichUtxoTx';
+DELETE FROM stake_registration WHERE tx_hash = 'enrichTx1';
+DELETE FROM withdrawal WHERE tx_hash = 'enrichTx1';
+DELETE FROM invalid_transaction WHERE tx_hash = 'enrichTx2';
@@ -0,0 +1,8 @@
+INSERT INTO address_utxo (tx_hash, output_index, owner_addr, owner_stake_addr, block) VALUES ('enrichUtxoTx', 0, 'addr_enrich', 'stake_enrich', 3001);
+INSERT INTO address_utxo (tx_hash, output_index, owner_addr, block) VALUES ('enrichUtxoTx', 1, 'addr_enrich_change', 3001);
+
+INSERT INTO stake_registration (tx_hash, cert_index, type, address) VALUES ('enrichTx1', 0, 'STAKE_REGISTRATION', 'stake_enrich');
+
+INSERT INTO withdrawal (tx_hash, address, amount) VALUES ('enrichTx1', 'stake_enrich', 5000000);
+
+INSERT INTO invalid_transaction (tx_hash, slot, block_hash) VALUES ('enrichTx2', 30010, 'enrichBlockHash');
@@ -0,0 +1,11 @@
+DELETE FROM tx_input
+WHERE tx_hash = 'historyTx1';
+
+DELETE FROM address_utxo
+WHERE tx_hash IN ('historyTx1', 'historyTx2', 'historyTx3', 'historyTx4');
+
+DELETE FROM transaction
+WHERE tx_hash IN ('historyTx1', 'historyTx2', 'historyTx3', 'historyTx4');
+
+DELETE FROM block
+WHERE hash IN ('historyBlock1', 'historyBlock2');
@@ -0,0 +1,16 @@
+INSERT INTO block (hash, number, slot) VALUES ('historyBlock1', 1001, 10010);
+INSERT INTO block (hash, number, slot) VALUES ('historyBlock2', 1002, 10020);
+
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('historyTx1', 'historyBlock1', 1001, 10010, 0, 1000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('historyTx2', 'historyBlock1', 1001, 10010, 1, 1000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('historyTx3', 'historyBlock2', 1002, 10020, 0, 1000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('historyTx4', 'historyBlock2', 1002, 10020, 1, 1000000);
+
+-- historyTx1 and historyTx2 pay the address, historyTx3 spends the output of historyTx1
+INSERT INTO address_utxo (tx_hash, output_index, owner_addr, block, slot) VALUES ('historyTx1', 0, 'addr_history', 1001, 10010);
+INSERT INTO address_utxo (tx_hash, output_index, owner_addr, block, slot) VALUES ('historyTx2', 0, 'addr_history', 1001, 10010);
+INSERT INTO address_utxo (tx_hash, output_index, owner_addr, block, slot) VALUES ('historyTx2', 1, 'addr_history', 1001, 10010);
+INSERT INTO address_utxo (tx_hash, output_index, owner_addr, block, slot) VALUES ('historyTx3', 0, 'addr_history_other', 1002, 10020);
+INSERT INTO address_utxo (tx_hash, output_index, owner_addr, block, slot) VALUES ('historyTx4', 0, 'addr_history_other', 1002, 10020);
+
+INSERT INTO tx_input (tx_hash, output_index, spent_tx_hash, spent_at_block, spent_at_slot) VALUES ('historyTx1', 0, 'historyTx3', 1002, 10020);
@@ -0,0 +1,7 @@
+DROP TABLE IF EXISTS address_tx;
+
+DELETE FROM transaction
+WHERE tx_hash IN ('addressTxTx1', 'addressTxTx2', 'addressTxTx3', 'addressTxTx4');
+
+DELETE FROM block
+WHERE hash IN ('addressTxBlock1', 'addressTxBlock2');
@@ -0,0 +1,27 @@
+-- address_tx is written by the indexer, it is not part of the devkit snapshot
+CREATE TABLE IF NOT EXISTS address_tx (
+    address VARCHAR(500) NOT NULL,
+    stake_address VARCHAR(255),
+    tx_hash VARCHAR(64) NOT NULL,
+    direction VARCHAR(10) NOT NULL,
+    slot BIGINT NOT NULL,
+    tx_index INT NOT NULL,
+    block_number BIGINT NOT NULL,
+    PRIMARY KEY (address, tx_hash, direction)
+);
+
+INSERT INTO block (hash, number, slot) VALUES ('addressTxBlock1', 2001, 20010);
+INSERT INTO block (hash, number, slot) VALUES ('addressTxBlock2', 2002, 20020);
+
+-- the transactions of other addresses fill the gaps between the indexes
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('addressTxTx1', 'addressTxBlock1', 2001, 20010, 0, 1000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('addressTxTx2', 'addressTxBlock1', 2001, 20010, 3, 1000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('addressTxTx3', 'addressTxBlock2', 2002, 20020, 1, 1000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('addressTxTx4', 'addressTxBlock2', 2002, 20020, 2, 1000000);
+
+-- addressTxTx3 spends from addr_tx_history and pays change back, addressTxTx4 pays another address of the same stake key
+INSERT INTO address_tx (address, stake_address, tx_hash, direction, slot, tx_index, block_number) VALUES ('addr_tx_history', 'stake_tx_history', 'addressTxTx1', 'OUTPUT', 20010, 0, 2001);
+INSERT INTO address_tx (address, stake_address, tx_hash, direction, slot, tx_index, block_number) VALUES ('addr_tx_history', 'stake_tx_history', 'addressTxTx2', 'OUTPUT', 20010, 3, 2001);
+INSERT INTO address_tx (address, stake_address, tx_hash, direction, slot, tx_index, block_number) VALUES ('addr_tx_history', 'stake_tx_history', 'addressTxTx3', 'INPUT', 20020, 1, 2002);
+INSERT INTO address_tx (address, stake_address, tx_hash, direction, slot, tx_index, block_number) VALUES ('addr_tx_history', 'stake_tx_history', 'addressTxTx3', 'OUTPUT', 20020, 1, 2002);
+INSERT INTO address_tx (address, stake_address, tx_hash, direction, slot, tx_index, block_number) VALUES ('addr_tx_other', 'stake_tx_history', 'addressTxTx4', 'OUTPUT', 20020, 2, 2002);
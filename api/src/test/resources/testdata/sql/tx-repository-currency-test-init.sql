@@ -4,12 +4,12 @@ INSERT INTO block (hash, number, slot) VALUES ('currency_block_2', 101, 1100);
 INSERT INTO block (hash, number, slot) VALUES ('currency_block_3', 102, 1200);
 
 -- Insert test transactions
-INSERT INTO transaction (tx_hash, block_hash, fee) VALUES ('tx_lovelace_1', 'currency_block_1', 1000000);
-INSERT INTO transaction (tx_hash, block_hash, fee) VALUES ('tx_lovelace_2', 'currency_block_1', 2000000);
-INSERT INTO transaction (tx_hash, block_hash, fee) VALUES ('tx_native_asset_1', 'currency_block_2', 3000000);
-INSERT INTO transaction (tx_hash, block_hash, fee) VALUES ('tx_mixed_assets_1', 'currency_block_2', 4000000);
-INSERT INTO transaction (tx_hash, block_hash, fee) VALUES ('tx_policy_specific_1', 'currency_block_3', 5000000);
-INSERT INTO transaction (tx_hash, block_hash, fee) VALUES ('tx_min_token_1', 'currency_block_3', 6000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('tx_lovelace_1', 'currency_block_1', 100, 1000, 0, 1000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('tx_lovelace_2', 'currency_block_1', 100, 1000, 1, 2000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('tx_native_asset_1', 'currency_block_2', 101, 1100, 0, 3000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('tx_mixed_assets_1', 'currency_block_2', 101, 1100, 1, 4000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('tx_policy_specific_1', 'currency_block_3', 102, 1200, 0, 5000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('tx_min_token_1', 'currency_block_3', 102, 1200, 1, 6000000);
 
 -- Insert address_utxo records with JSONB amounts for different currency scenarios
 
@@ -4,11 +4,11 @@ INSERT INTO block (hash, number, slot) VALUES ('blockHash2', 2, 200); -- middle
 INSERT INTO block (hash, number, slot) VALUES ('blockHash3', 3, 300); -- newest
 
 -- Insert transactions into blocks (txs in later blocks should appear first due to DESC ordering)
-INSERT INTO transaction (tx_hash, block_hash, fee) VALUES ('txHash1', 'blockHash1', 1000000);
-INSERT INTO transaction (tx_hash, block_hash, fee) VALUES ('txHash2', 'blockHash1', 2000000);
-INSERT INTO transaction (tx_hash, block_hash, fee) VALUES ('txHash3', 'blockHash2', 3000000);
-INSERT INTO transaction (tx_hash, block_hash, fee) VALUES ('txHash4', 'blockHash3', 4000000);
-INSERT INTO transaction (tx_hash, block_hash, fee) VALUES ('txHash5', 'blockHash3', 5000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('txHash1', 'blockHash1', 1, 100, 0, 1000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('txHash2', 'blockHash1', 1, 100, 1, 2000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('txHash3', 'blockHash2', 2, 200, 0, 3000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('txHash4', 'blockHash3', 3, 300, 0, 4000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('txHash5', 'blockHash3', 3, 300, 1, 5000000);
 
 -- Insert some address UTXOs for the OR query join
 INSERT INTO address_utxo (tx_hash, output_index, owner_addr, block) VALUES ('txHash1', 0, 'addr1', 1);
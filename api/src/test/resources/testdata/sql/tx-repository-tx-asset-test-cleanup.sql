@@ -0,0 +1,10 @@
+DROP TABLE IF EXISTS tx_asset;
+
+DELETE FROM address_utxo
+WHERE tx_hash IN ('txAssetTx1', 'txAssetTx2', 'txAssetTx3', 'txAssetTx4');
+
+DELETE FROM transaction
+WHERE tx_hash IN ('txAssetTx1', 'txAssetTx2', 'txAssetTx3', 'txAssetTx4');
+
+DELETE FROM block
+WHERE hash IN ('txAssetBlock1', 'txAssetBlock2');
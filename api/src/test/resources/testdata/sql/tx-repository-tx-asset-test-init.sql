@@ -0,0 +1,42 @@
+-- tx_asset is written by the indexer, it is not part of the devkit snapshot
+CREATE TABLE IF NOT EXISTS tx_asset (
+    tx_hash VARCHAR(64) NOT NULL,
+    policy_id VARCHAR(56) NOT NULL,
+    asset_name VARCHAR(64) NOT NULL,
+    slot BIGINT NOT NULL,
+    tx_index INT NOT NULL,
+    PRIMARY KEY (tx_hash, policy_id, asset_name)
+);
+
+INSERT INTO block (hash, number, slot) VALUES ('txAssetBlock1', 3001, 30010);
+INSERT INTO block (hash, number, slot) VALUES ('txAssetBlock2', 3002, 30020);
+
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('txAssetTx1', 'txAssetBlock1', 3001, 30010, 0, 1000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('txAssetTx2', 'txAssetBlock1', 3001, 30010, 2, 1000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('txAssetTx3', 'txAssetBlock2', 3002, 30020, 1, 1000000);
+INSERT INTO transaction (tx_hash, block_hash, block, slot, tx_index, fee) VALUES ('txAssetTx4', 'txAssetBlock2', 3002, 30020, 0, 1000000);
+
+-- assets and lovelace are paid in separate outputs, the legacy H2 symbol condition skips outputs holding lovelace
+-- assetOne in hex: 61737365744f6e65, assetTwo in hex: 617373657454776f
+INSERT INTO address_utxo (tx_hash, output_index, owner_addr, block, amounts)
+VALUES ('txAssetTx1', 0, 'addr_tx_asset', 3001, '[{"unit":"lovelace","quantity":"1000000"}]');
+INSERT INTO address_utxo (tx_hash, output_index, owner_addr, block, amounts)
+VALUES ('txAssetTx1', 1, 'addr_tx_asset', 3001, '[{"unit":"abababababababababababababababababababababababababababab61737365744f6e65","policy_id":"abababababababababababababababababababababababababababab","asset_name":"assetOne","quantity":"10"}]');
+
+-- pays the second asset of the first policy and the first asset of the second policy, but not the first asset of the first policy
+INSERT INTO address_utxo (tx_hash, output_index, owner_addr, block, amounts)
+VALUES ('txAssetTx2', 0, 'addr_tx_asset', 3001, '[{"unit":"abababababababababababababababababababababababababababab617373657454776f","policy_id":"abababababababababababababababababababababababababababab","asset_name":"assetTwo","quantity":"20"}]');
+INSERT INTO address_utxo (tx_hash, output_index, owner_addr, block, amounts)
+VALUES ('txAssetTx2', 1, 'addr_tx_asset', 3001, '[{"unit":"cdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcd61737365744f6e65","policy_id":"cdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcd","asset_name":"assetOne","quantity":"30"}]');
+
+INSERT INTO address_utxo (tx_hash, output_index, owner_addr, block, amounts)
+VALUES ('txAssetTx3', 0, 'addr_tx_asset', 3002, '[{"unit":"cdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcd617373657454776f","policy_id":"cdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcd","asset_name":"assetTwo","quantity":"40"}]');
+
+INSERT INTO address_utxo (tx_hash, output_index, owner_addr, block, amounts)
+VALUES ('txAssetTx4', 0, 'addr_tx_asset', 3002, '[{"unit":"lovelace","quantity":"2000000"}]');
+
+-- the rows the indexer writes for the outputs above
+INSERT INTO tx_asset (tx_hash, policy_id, asset_name, slot, tx_index) VALUES ('txAssetTx1', 'abababababababababababababababababababababababababababab', '61737365744f6e65', 30010, 0);
+INSERT INTO tx_asset (tx_hash, policy_id, asset_name, slot, tx_index) VALUES ('txAssetTx2', 'abababababababababababababababababababababababababababab', '617373657454776f', 30010, 2);
+INSERT INTO tx_asset (tx_hash, policy_id, asset_name, slot, tx_index) VALUES ('txAssetTx2', 'cdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcd', '61737365744f6e65', 30010, 2);
+INSERT INTO tx_asset (tx_hash, policy_id, asset_name, slot, tx_index) VALUES ('txAssetTx3', 'cdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcdcd', '617373657454776f', 30020, 1);
@@ -16,15 +16,24 @@ import org.cardanofoundation.rosetta.yaciindexer.config.ConfigurationH2;
 @EnableScheduling
 @Import(ConfigurationH2.class)
 @EntityScan({
-    "org.cardanofoundation.rosetta.yaciindexer.stores.txsize.model"
+    "org.cardanofoundation.rosetta.yaciindexer.stores.txsize.model",
+    "org.cardanofoundation.rosetta.yaciindexer.stores.balance.model",
+    "org.cardanofoundation.rosetta.yaciindexer.stores.addresstx.model",
+    "org.cardanofoundation.rosetta.yaciindexer.stores.txasset.model"
 })
 @EnableJpaRepositories({
-    "org.cardanofoundation.rosetta.yaciindexer.stores.txsize.model"
+    "org.cardanofoundation.rosetta.yaciindexer.stores.txsize.model",
+    "org.cardanofoundation.rosetta.yaciindexer.stores.balance.model",
+    "org.cardanofoundation.rosetta.yaciindexer.stores.addresstx.model",
+    "org.cardanofoundation.rosetta.yaciindexer.stores.txasset.model"
 })
 @ComponentScans({
     @ComponentScan("org.cardanofoundation.rosetta.yaciindexer.service"),
     @ComponentScan("org.cardanofoundation.rosetta.yaciindexer.job"),
     @ComponentScan("org.cardanofoundation.rosetta.yaciindexer.stores.txsize"),
+    @ComponentScan("org.cardanofoundation.rosetta.yaciindexer.stores.balance"),
+    @ComponentScan("org.cardanofoundation.rosetta.yaciindexer.stores.addresstx"),
+    @ComponentScan("org.cardanofoundation.rosetta.yaciindexer.stores.txasset"),
     @ComponentScan("org.cardanofoundation.rosetta.yaciindexer.resource")
 })
 public class YaciIndexerApplication {
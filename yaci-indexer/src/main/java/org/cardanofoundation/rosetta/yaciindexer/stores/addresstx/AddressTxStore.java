@@ -0,0 +1,186 @@
+package org.cardanofoundation.rosetta.yaciindexer.stores.addresstx;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.bloxbean.cardano.yaci.helper.model.Transaction;
+import com.bloxbean.cardano.yaci.store.client.utxo.UtxoClient;
+import com.bloxbean.cardano.yaci.store.common.domain.AddressUtxo;
+import com.bloxbean.cardano.yaci.store.common.domain.UtxoKey;
+import com.bloxbean.cardano.yaci.store.events.EventMetadata;
+import com.bloxbean.cardano.yaci.store.events.RollbackEvent;
+import com.bloxbean.cardano.yaci.store.events.TransactionEvent;
+import com.bloxbean.cardano.yaci.store.events.internal.CommitEvent;
+import com.bloxbean.cardano.yaci.store.utxo.domain.AddressUtxoEvent;
+import com.bloxbean.cardano.yaci.store.utxo.domain.TxInputOutput;
+
+import org.cardanofoundation.rosetta.yaciindexer.stores.addresstx.model.AddressTxDirection;
+import org.cardanofoundation.rosetta.yaciindexer.stores.addresstx.model.AddressTxEntity;
+import org.cardanofoundation.rosetta.yaciindexer.stores.addresstx.model.AddressTxId;
+import org.cardanofoundation.rosetta.yaciindexer.stores.addresstx.model.AddressTxRepository;
+
+/**
+ * Writes one row per (address, transaction, direction) at block time, so the API lists the
+ * transactions of an address with an index range scan instead of joining the utxo and input
+ * tables.
+ * The index of a transaction in its block is recorded from the transaction event, which lists
+ * every transaction of the block in block order and is handled before the utxo processor turns it
+ * into the address utxo event. Spent outputs are resolved through the utxo store, a block fails
+ * if its rows cannot be collected or saved. In parallel mode blocks are buffered until the batch
+ * is committed, rollbacks delete every row past the rollback point.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "stores.address-tx.enabled", havingValue = "true")
+public class AddressTxStore {
+
+  private final AddressTxRepository addressTxRepository;
+  private final UtxoClient utxoClient;
+
+  private final List<AddressUtxoEvent> pendingEvents = new ArrayList<>();
+
+  // block number -> tx hash -> index of the transaction in the block, until the block is applied
+  private final NavigableMap<Long, Map<String, Integer>> txIndexesByBlock = new ConcurrentSkipListMap<>();
+
+  @EventListener
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public void handleTransactionEvent(TransactionEvent transactionEvent) {
+    Map<String, Integer> txIndexes = new HashMap<>();
+    List<Transaction> transactions = transactionEvent.getTransactions();
+    for (int txIndex = 0; txIndex < transactions.size(); txIndex++) {
+      txIndexes.put(transactions.get(txIndex).getTxHash(), txIndex);
+    }
+
+    txIndexesByBlock.put(transactionEvent.getMetadata().getBlock(), txIndexes);
+  }
+
+  @EventListener
+  @Transactional
+  public void handleAddressUtxoEvent(AddressUtxoEvent addressUtxoEvent) {
+    if (addressUtxoEvent.getEventMetadata().isParallelMode()) {
+      // outputs spent within the same batch may not be visible yet
+      synchronized (pendingEvents) {
+        pendingEvents.add(addressUtxoEvent);
+      }
+      return;
+    }
+
+    applyBlock(addressUtxoEvent);
+  }
+
+  @EventListener
+  @Transactional
+  public void handleCommitEvent(CommitEvent commitEvent) {
+    List<AddressUtxoEvent> events;
+    synchronized (pendingEvents) {
+      events = new ArrayList<>(pendingEvents);
+      pendingEvents.clear();
+    }
+
+    events.stream()
+        .sorted(Comparator.comparingLong(event -> event.getEventMetadata().getBlock()))
+        .forEach(this::applyBlock);
+  }
+
+  @EventListener
+  @Transactional
+  public void handleRollbackEvent(RollbackEvent rollbackEvent) {
+    long rollbackSlot = rollbackEvent.getRollbackTo().getSlot();
+    int deleted = addressTxRepository.deleteBySlotGreaterThan(rollbackSlot);
+
+    log.info("Rolled back {} address transactions after slot {}", deleted, rollbackSlot);
+  }
+
+  void applyBlock(AddressUtxoEvent addressUtxoEvent) {
+    EventMetadata metadata = addressUtxoEvent.getEventMetadata();
+
+    // the API reads address history only from this table, so a failure must fail the block
+    try {
+      addressTxRepository.saveAll(collectRows(addressUtxoEvent));
+    } finally {
+      txIndexesByBlock.headMap(metadata.getBlock(), true).clear();
+    }
+  }
+
+  private List<AddressTxEntity> collectRows(AddressUtxoEvent addressUtxoEvent) {
+    EventMetadata metadata = addressUtxoEvent.getEventMetadata();
+    Map<AddressTxId, AddressTxEntity> rows = new LinkedHashMap<>();
+    Map<UtxoKey, String> spendingTxHashes = new HashMap<>();
+    Map<String, Integer> txIndexes = txIndexesByBlock.get(metadata.getBlock());
+    if (txIndexes == null) {
+      throw new IllegalStateException("No transaction event recorded for block " + metadata.getBlock());
+    }
+
+    for (TxInputOutput txInputOutput : addressUtxoEvent.getTxInputOutputs()) {
+      int txIndex = txIndex(txIndexes, txInputOutput.getTxHash());
+      if (txInputOutput.getOutputs() != null) {
+        for (AddressUtxo output : txInputOutput.getOutputs()) {
+          addRow(rows, output, txInputOutput.getTxHash(), txIndex, AddressTxDirection.OUTPUT, metadata);
+        }
+      }
+      if (txInputOutput.getInputs() != null) {
+        txInputOutput.getInputs().forEach(input -> spendingTxHashes.put(UtxoKey.builder()
+            .txHash(input.getTxHash())
+            .outputIndex(input.getOutputIndex())
+            .build(), txInputOutput.getTxHash()));
+      }
+    }
+
+    if (!spendingTxHashes.isEmpty()) {
+      for (AddressUtxo spentOutput : utxoClient.getUtxosByIds(new ArrayList<>(spendingTxHashes.keySet()))) {
+        String txHash = spendingTxHashes.get(UtxoKey.builder()
+            .txHash(spentOutput.getTxHash())
+            .outputIndex(spentOutput.getOutputIndex())
+            .build());
+        if (txHash != null) {
+          addRow(rows, spentOutput, txHash, txIndex(txIndexes, txHash), AddressTxDirection.INPUT, metadata);
+        }
+      }
+    }
+
+    return new ArrayList<>(rows.values());
+  }
+
+  private static int txIndex(Map<String, Integer> txIndexes, String txHash) {
+    Integer txIndex = txIndexes.get(txHash);
+    if (txIndex == null) {
+      throw new IllegalStateException("Transaction " + txHash + " is missing from its transaction event");
+    }
+
+    return txIndex;
+  }
+
+  private static void addRow(Map<AddressTxId, AddressTxEntity> rows, AddressUtxo utxo, String txHash,
+                             int txIndex, AddressTxDirection direction, EventMetadata metadata) {
+    if (utxo.getOwnerAddr() == null) {
+      return;
+    }
+
+    rows.putIfAbsent(new AddressTxId(utxo.getOwnerAddr(), txHash, direction), AddressTxEntity.builder()
+        .address(utxo.getOwnerAddr())
+        .stakeAddress(utxo.getOwnerStakeAddr())
+        .txHash(txHash)
+        .direction(direction)
+        .slot(metadata.getSlot())
+        .txIndex(txIndex)
+        .blockNumber(metadata.getBlock())
+        .build());
+  }
+
+}
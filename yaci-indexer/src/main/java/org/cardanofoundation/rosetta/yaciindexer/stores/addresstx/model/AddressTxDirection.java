@@ -0,0 +1,15 @@
+package org.cardanofoundation.rosetta.yaciindexer.stores.addresstx.model;
+
+public enum AddressTxDirection {
+
+  /**
+   * The transaction created an output owned by the address.
+   */
+  OUTPUT,
+
+  /**
+   * The transaction spent an output owned by the address.
+   */
+  INPUT
+
+}
@@ -0,0 +1,55 @@
+package org.cardanofoundation.rosetta.yaciindexer.stores.addresstx.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One transaction that touched an address, either by paying to it or by spending one of its
+ * outputs. Rows are ordered by (slot, tx_index) per address and per stake address, so the history
+ * of an address is a single index range scan.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "address_tx")
+@IdClass(AddressTxId.class)
+public class AddressTxEntity {
+
+  @Id
+  @Column(name = "address")
+  private String address;
+
+  @Id
+  @Column(name = "tx_hash")
+  private String txHash;
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  @Column(name = "direction")
+  private AddressTxDirection direction;
+
+  @Column(name = "stake_address")
+  private String stakeAddress;
+
+  @Column(name = "slot")
+  private long slot;
+
+  @Column(name = "tx_index")
+  private int txIndex;
+
+  @Column(name = "block_number")
+  private long blockNumber;
+
+}
@@ -0,0 +1,20 @@
+package org.cardanofoundation.rosetta.yaciindexer.stores.addresstx.model;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AddressTxId implements Serializable {
+
+  private String address;
+
+  private String txHash;
+
+  private AddressTxDirection direction;
+
+}
@@ -0,0 +1,16 @@
+package org.cardanofoundation.rosetta.yaciindexer.stores.addresstx.model;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AddressTxRepository extends JpaRepository<AddressTxEntity, AddressTxId> {
+
+  @Modifying
+  @Query("DELETE FROM AddressTxEntity a WHERE a.slot > :slot")
+  int deleteBySlotGreaterThan(@Param("slot") long slot);
+
+}
@@ -0,0 +1,207 @@
+package org.cardanofoundation.rosetta.yaciindexer.stores.balance;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.bloxbean.cardano.yaci.store.client.utxo.UtxoClient;
+import com.bloxbean.cardano.yaci.store.common.domain.AddressUtxo;
+import com.bloxbean.cardano.yaci.store.common.domain.UtxoKey;
+import com.bloxbean.cardano.yaci.store.events.EventMetadata;
+import com.bloxbean.cardano.yaci.store.events.RollbackEvent;
+import com.bloxbean.cardano.yaci.store.events.internal.CommitEvent;
+import com.bloxbean.cardano.yaci.store.utxo.domain.AddressUtxoEvent;
+import com.bloxbean.cardano.yaci.store.utxo.domain.TxInputOutput;
+
+import org.cardanofoundation.rosetta.yaciindexer.stores.balance.model.AddressBalanceDeltaEntity;
+import org.cardanofoundation.rosetta.yaciindexer.stores.balance.model.AddressBalanceDeltaRepository;
+
+/**
+ * Writes the net change of every (address, unit) pair per block, together with the running
+ * balance after that block, so the API answers balance-at-block with one index lookup per unit
+ * instead of scanning every output the address ever held.
+ * Spent outputs are resolved through the utxo store, a block fails if any of them cannot be
+ * resolved or its deltas cannot be saved. In parallel mode blocks are buffered until
+ * the batch is committed and then applied in block order, rollbacks delete every row past the
+ * rollback point. The balances before a block or batch are loaded for all of its pairs at once
+ * and carried forward in memory from block to block.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "stores.balance-delta.enabled", havingValue = "true")
+public class AddressBalanceDeltaStore {
+
+  // pairs per previous balance lookup, keeps the bind parameters of one query in the low thousands
+  private static final int LOOKUP_CHUNK_SIZE = 500;
+
+  private final AddressBalanceDeltaRepository addressBalanceDeltaRepository;
+  private final UtxoClient utxoClient;
+
+  private final List<AddressUtxoEvent> pendingEvents = new ArrayList<>();
+
+  @EventListener
+  @Transactional
+  public void handleAddressUtxoEvent(AddressUtxoEvent addressUtxoEvent) {
+    if (addressUtxoEvent.getEventMetadata().isParallelMode()) {
+      // outputs spent within the same batch may not be visible yet
+      synchronized (pendingEvents) {
+        pendingEvents.add(addressUtxoEvent);
+      }
+      return;
+    }
+
+    applyBlocks(List.of(addressUtxoEvent));
+  }
+
+  @EventListener
+  @Transactional
+  public void handleCommitEvent(CommitEvent commitEvent) {
+    List<AddressUtxoEvent> events;
+    synchronized (pendingEvents) {
+      events = new ArrayList<>(pendingEvents);
+      pendingEvents.clear();
+    }
+
+    applyBlocks(events.stream()
+        .sorted(Comparator.comparingLong(event -> event.getEventMetadata().getBlock()))
+        .toList());
+  }
+
+  @EventListener
+  @Transactional
+  public void handleRollbackEvent(RollbackEvent rollbackEvent) {
+    long rollbackSlot = rollbackEvent.getRollbackTo().getSlot();
+    int deleted = addressBalanceDeltaRepository.deleteBySlotGreaterThan(rollbackSlot);
+
+    log.info("Rolled back {} address balance deltas after slot {}", deleted, rollbackSlot);
+  }
+
+  /**
+   * Applies the blocks in block order. Later blocks build on the balances of earlier ones, so only
+   * the balances before the first block are read from the database.
+   */
+  void applyBlocks(List<AddressUtxoEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+
+    // every later running balance builds on these blocks, so a failure must fail them
+    List<BlockDeltas> blocks = events.stream()
+        .map(event -> new BlockDeltas(event.getEventMetadata(), calculateDeltas(event)))
+        .toList();
+    Set<BalanceKey> keys = blocks.stream()
+        .flatMap(block -> block.deltas().entrySet().stream())
+        .filter(entry -> entry.getValue().signum() != 0)
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+    Map<BalanceKey, BigInteger> balances = findBalancesBefore(keys, blocks.getFirst().metadata().getBlock());
+
+    List<AddressBalanceDeltaEntity> entities = new ArrayList<>();
+    for (BlockDeltas block : blocks) {
+      block.deltas().forEach((key, delta) -> {
+        if (delta.signum() != 0) {
+          BigInteger balance = balances.getOrDefault(key, BigInteger.ZERO).add(delta);
+          balances.put(key, balance);
+          entities.add(toEntity(key, block.metadata(), delta, balance));
+        }
+      });
+    }
+
+    addressBalanceDeltaRepository.saveAll(entities);
+  }
+
+  private Map<BalanceKey, BigInteger> findBalancesBefore(Set<BalanceKey> keys, long blockNumber) {
+    Map<BalanceKey, BigInteger> balances = new HashMap<>();
+    List<BalanceKey> pending = new ArrayList<>(keys);
+
+    for (int from = 0; from < pending.size(); from += LOOKUP_CHUNK_SIZE) {
+      List<BalanceKey> chunk = pending.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, pending.size()));
+      Set<String> addresses = chunk.stream().map(BalanceKey::address).collect(Collectors.toSet());
+      Set<String> units = chunk.stream().map(BalanceKey::unit).collect(Collectors.toSet());
+
+      // the query matches every combination of the addresses and units, only the requested pairs are kept
+      for (AddressBalanceDeltaEntity row : addressBalanceDeltaRepository.findLatestBefore(addresses, units, blockNumber)) {
+        BalanceKey key = new BalanceKey(row.getAddress(), row.getUnit());
+        if (keys.contains(key)) {
+          balances.put(key, row.getBalance());
+        }
+      }
+    }
+
+    return balances;
+  }
+
+  private Map<BalanceKey, BigInteger> calculateDeltas(AddressUtxoEvent addressUtxoEvent) {
+    Map<BalanceKey, BigInteger> deltas = new LinkedHashMap<>();
+    List<UtxoKey> spentOutputs = new ArrayList<>();
+
+    for (TxInputOutput txInputOutput : addressUtxoEvent.getTxInputOutputs()) {
+      if (txInputOutput.getOutputs() != null) {
+        txInputOutput.getOutputs().forEach(output -> addAmounts(deltas, output, false));
+      }
+      if (txInputOutput.getInputs() != null) {
+        txInputOutput.getInputs().forEach(input -> spentOutputs.add(UtxoKey.builder()
+            .txHash(input.getTxHash())
+            .outputIndex(input.getOutputIndex())
+            .build()));
+      }
+    }
+
+    if (!spentOutputs.isEmpty()) {
+      List<AddressUtxo> resolvedOutputs = utxoClient.getUtxosByIds(spentOutputs);
+      if (resolvedOutputs.size() != spentOutputs.size()) {
+        throw new IllegalStateException("Resolved %d of %d spent outputs in block %d"
+            .formatted(resolvedOutputs.size(), spentOutputs.size(), addressUtxoEvent.getEventMetadata().getBlock()));
+      }
+
+      resolvedOutputs.forEach(spentOutput -> addAmounts(deltas, spentOutput, true));
+    }
+
+    return deltas;
+  }
+
+  private static void addAmounts(Map<BalanceKey, BigInteger> deltas, AddressUtxo utxo, boolean spent) {
+    if (utxo.getAmounts() == null) {
+      return;
+    }
+
+    utxo.getAmounts().forEach(amt -> deltas.merge(
+        new BalanceKey(utxo.getOwnerAddr(), amt.getUnit()),
+        spent ? amt.getQuantity().negate() : amt.getQuantity(),
+        BigInteger::add));
+  }
+
+  private static AddressBalanceDeltaEntity toEntity(BalanceKey key, EventMetadata metadata, BigInteger delta,
+                                                   BigInteger balance) {
+    return AddressBalanceDeltaEntity.builder()
+        .address(key.address())
+        .unit(key.unit())
+        .blockNumber(metadata.getBlock())
+        .slot(metadata.getSlot())
+        .quantity(delta)
+        .balance(balance)
+        .build();
+  }
+
+  private record BalanceKey(String address, String unit) {
+  }
+
+  private record BlockDeltas(EventMetadata metadata, Map<BalanceKey, BigInteger> deltas) {
+  }
+
+}
@@ -0,0 +1,50 @@
+package org.cardanofoundation.rosetta.yaciindexer.stores.balance.model;
+
+import java.math.BigInteger;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Net change of one unit held by an address within one block. The balance column carries the
+ * running balance after that block, so every row doubles as a checkpoint and the balance at any
+ * block is the latest row at or below it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "address_balance_delta")
+@IdClass(AddressBalanceDeltaId.class)
+public class AddressBalanceDeltaEntity {
+
+  @Id
+  @Column(name = "address")
+  private String address;
+
+  @Id
+  @Column(name = "unit")
+  private String unit;
+
+  @Id
+  @Column(name = "block_number")
+  private long blockNumber;
+
+  @Column(name = "slot")
+  private long slot;
+
+  @Column(name = "quantity")
+  private BigInteger quantity;
+
+  @Column(name = "balance")
+  private BigInteger balance;
+
+}
@@ -0,0 +1,20 @@
+package org.cardanofoundation.rosetta.yaciindexer.stores.balance.model;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AddressBalanceDeltaId implements Serializable {
+
+  private String address;
+
+  private String unit;
+
+  private long blockNumber;
+
+}
@@ -0,0 +1,33 @@
+package org.cardanofoundation.rosetta.yaciindexer.stores.balance.model;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AddressBalanceDeltaRepository extends JpaRepository<AddressBalanceDeltaEntity, AddressBalanceDeltaId> {
+
+  /**
+   * Latest row before the block of every (address, unit) pair, for any combination of the given
+   * addresses and units. Callers pick the pairs they asked for.
+   */
+  @Query("""
+      SELECT d FROM AddressBalanceDeltaEntity d
+      WHERE d.address IN :addresses AND d.unit IN :units
+        AND d.blockNumber = (SELECT MAX(p.blockNumber) FROM AddressBalanceDeltaEntity p
+                             WHERE p.address = d.address AND p.unit = d.unit AND p.blockNumber < :blockNumber)
+      """)
+  List<AddressBalanceDeltaEntity> findLatestBefore(@Param("addresses") Collection<String> addresses,
+                                                   @Param("units") Collection<String> units,
+                                                   @Param("blockNumber") long blockNumber);
+
+  @Modifying
+  @Query("DELETE FROM AddressBalanceDeltaEntity d WHERE d.slot > :slot")
+  int deleteBySlotGreaterThan(@Param("slot") long slot);
+
+}
@@ -0,0 +1,148 @@
+package org.cardanofoundation.rosetta.yaciindexer.stores.txasset;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.bloxbean.cardano.yaci.helper.model.Transaction;
+import com.bloxbean.cardano.yaci.store.common.domain.AddressUtxo;
+import com.bloxbean.cardano.yaci.store.common.domain.Amt;
+import com.bloxbean.cardano.yaci.store.events.EventMetadata;
+import com.bloxbean.cardano.yaci.store.events.RollbackEvent;
+import com.bloxbean.cardano.yaci.store.events.TransactionEvent;
+import com.bloxbean.cardano.yaci.store.events.internal.CommitEvent;
+import com.bloxbean.cardano.yaci.store.utxo.domain.AddressUtxoEvent;
+import com.bloxbean.cardano.yaci.store.utxo.domain.TxInputOutput;
+
+import org.cardanofoundation.rosetta.yaciindexer.stores.txasset.model.TxAssetEntity;
+import org.cardanofoundation.rosetta.yaciindexer.stores.txasset.model.TxAssetId;
+import org.cardanofoundation.rosetta.yaciindexer.stores.txasset.model.TxAssetRepository;
+
+/**
+ * Writes one row per (transaction, native asset) paid out by the transaction, so the API filters
+ * transactions by currency with an index range scan instead of scanning the amounts json of every
+ * output. Only the outputs of the event are needed, so blocks are written as they arrive in
+ * parallel mode as well. The index of a transaction in its block is recorded from the transaction
+ * event, the address utxo event only lists the transactions that have outputs or inputs. A block
+ * fails if its rows cannot be collected or saved, rollbacks delete every row past the rollback
+ * point.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "stores.tx-asset.enabled", havingValue = "true")
+public class TxAssetStore {
+
+  private static final String LOVELACE = "lovelace";
+
+  private final TxAssetRepository txAssetRepository;
+
+  // block number -> tx hash -> index of the transaction in the block, until the block is written
+  private final Map<Long, Map<String, Integer>> txIndexesByBlock = new ConcurrentHashMap<>();
+
+  @EventListener
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public void handleTransactionEvent(TransactionEvent transactionEvent) {
+    Map<String, Integer> txIndexes = new HashMap<>();
+    List<Transaction> transactions = transactionEvent.getTransactions();
+    for (int txIndex = 0; txIndex < transactions.size(); txIndex++) {
+      txIndexes.put(transactions.get(txIndex).getTxHash(), txIndex);
+    }
+
+    txIndexesByBlock.put(transactionEvent.getMetadata().getBlock(), txIndexes);
+  }
+
+  @EventListener
+  @Transactional
+  public void handleAddressUtxoEvent(AddressUtxoEvent addressUtxoEvent) {
+    EventMetadata metadata = addressUtxoEvent.getEventMetadata();
+
+    // currency search reads only this table when it is enabled, so a failure must fail the block
+    try {
+      List<TxAssetEntity> rows = collectRows(addressUtxoEvent);
+      if (!rows.isEmpty()) {
+        txAssetRepository.saveAll(rows);
+      }
+    } finally {
+      // blocks of a parallel batch are written concurrently, only this block is done
+      txIndexesByBlock.remove(metadata.getBlock());
+    }
+  }
+
+  @EventListener
+  public void handleCommitEvent(CommitEvent commitEvent) {
+    // every block of the batch has been written, drop indexes of blocks without an address utxo event
+    txIndexesByBlock.clear();
+  }
+
+  @EventListener
+  @Transactional
+  public void handleRollbackEvent(RollbackEvent rollbackEvent) {
+    long rollbackSlot = rollbackEvent.getRollbackTo().getSlot();
+    int deleted = txAssetRepository.deleteBySlotGreaterThan(rollbackSlot);
+
+    log.info("Rolled back {} transaction assets after slot {}", deleted, rollbackSlot);
+  }
+
+  private List<TxAssetEntity> collectRows(AddressUtxoEvent addressUtxoEvent) {
+    EventMetadata metadata = addressUtxoEvent.getEventMetadata();
+    Map<TxAssetId, TxAssetEntity> rows = new LinkedHashMap<>();
+    Map<String, Integer> txIndexes = txIndexesByBlock.get(metadata.getBlock());
+    if (txIndexes == null) {
+      throw new IllegalStateException("No transaction event recorded for block " + metadata.getBlock());
+    }
+
+    for (TxInputOutput txInputOutput : addressUtxoEvent.getTxInputOutputs()) {
+      if (txInputOutput.getOutputs() == null) {
+        continue;
+      }
+      for (AddressUtxo output : txInputOutput.getOutputs()) {
+        if (output.getAmounts() == null) {
+          continue;
+        }
+        for (Amt amt : output.getAmounts()) {
+          addRow(rows, amt, txInputOutput.getTxHash(), txIndexes, metadata);
+        }
+      }
+    }
+
+    return new ArrayList<>(rows.values());
+  }
+
+  private static void addRow(Map<TxAssetId, TxAssetEntity> rows, Amt amt, String txHash,
+                             Map<String, Integer> txIndexes, EventMetadata metadata) {
+    String unit = amt.getUnit();
+    String policyId = amt.getPolicyId();
+    if (unit == null || LOVELACE.equals(unit) || policyId == null || !unit.startsWith(policyId)) {
+      return;
+    }
+
+    Integer txIndex = txIndexes.get(txHash);
+    if (txIndex == null) {
+      throw new IllegalStateException("Transaction " + txHash + " is missing from its transaction event");
+    }
+
+    // the asset name of the amount is decoded, the unit keeps it hex-encoded like the search symbol
+    String assetName = unit.substring(policyId.length());
+    rows.putIfAbsent(new TxAssetId(txHash, policyId, assetName), TxAssetEntity.builder()
+        .txHash(txHash)
+        .policyId(policyId)
+        .assetName(assetName)
+        .slot(metadata.getSlot())
+        .txIndex(txIndex)
+        .build());
+  }
+
+}
@@ -0,0 +1,45 @@
+package org.cardanofoundation.rosetta.yaciindexer.stores.txasset.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One native asset paid out by a transaction. The asset name is kept hex-encoded, as in the unit,
+ * so currency searches by policy id, asset name or both are index range scans.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "tx_asset")
+@IdClass(TxAssetId.class)
+public class TxAssetEntity {
+
+  @Id
+  @Column(name = "tx_hash")
+  private String txHash;
+
+  @Id
+  @Column(name = "policy_id")
+  private String policyId;
+
+  @Id
+  @Column(name = "asset_name")
+  private String assetName;
+
+  @Column(name = "slot")
+  private long slot;
+
+  @Column(name = "tx_index")
+  private int txIndex;
+
+}
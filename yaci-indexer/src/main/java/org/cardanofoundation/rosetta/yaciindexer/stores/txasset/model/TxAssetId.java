@@ -0,0 +1,20 @@
+package org.cardanofoundation.rosetta.yaciindexer.stores.txasset.model;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TxAssetId implements Serializable {
+
+  private String txHash;
+
+  private String policyId;
+
+  private String assetName;
+
+}
@@ -0,0 +1,16 @@
+package org.cardanofoundation.rosetta.yaciindexer.stores.txasset.model;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TxAssetRepository extends JpaRepository<TxAssetEntity, TxAssetId> {
+
+  @Modifying
+  @Query("DELETE FROM TxAssetEntity a WHERE a.slot > :slot")
+  int deleteBySlotGreaterThan(@Param("slot") long slot);
+
+}
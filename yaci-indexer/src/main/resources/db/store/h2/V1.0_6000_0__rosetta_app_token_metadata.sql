@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS token_metadata (
+    subject VARCHAR(255) NOT NULL PRIMARY KEY,
+    -- NULL for subjects the registry does not know
+    metadata TEXT,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_token_metadata_updated_at ON token_metadata (updated_at);
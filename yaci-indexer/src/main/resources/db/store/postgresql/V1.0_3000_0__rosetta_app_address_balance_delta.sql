@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS address_balance_delta (
+    address VARCHAR(500) NOT NULL,
+    unit VARCHAR(255) NOT NULL,
+    block_number BIGINT NOT NULL,
+    slot BIGINT NOT NULL,
+    quantity NUMERIC(38) NOT NULL,
+    balance NUMERIC(38) NOT NULL,
+    PRIMARY KEY (address, unit, block_number)
+);
+
+CREATE INDEX IF NOT EXISTS idx_address_balance_delta_slot ON address_balance_delta (slot);
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS address_tx (
+    address VARCHAR(500) NOT NULL,
+    stake_address VARCHAR(255),
+    tx_hash VARCHAR(64) NOT NULL,
+    direction VARCHAR(10) NOT NULL,
+    slot BIGINT NOT NULL,
+    tx_index INT NOT NULL,
+    block_number BIGINT NOT NULL,
+    PRIMARY KEY (address, tx_hash, direction)
+);
+
+CREATE INDEX IF NOT EXISTS idx_address_tx_address_slot ON address_tx (address, slot DESC, tx_index DESC);
+CREATE INDEX IF NOT EXISTS idx_address_tx_stake_address_slot ON address_tx (stake_address, slot DESC, tx_index DESC);
+CREATE INDEX IF NOT EXISTS idx_address_tx_slot ON address_tx (slot);
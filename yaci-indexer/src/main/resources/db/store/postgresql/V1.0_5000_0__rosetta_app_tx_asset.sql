@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS tx_asset (
+    tx_hash VARCHAR(64) NOT NULL,
+    policy_id VARCHAR(56) NOT NULL,
+    asset_name VARCHAR(64) NOT NULL,
+    slot BIGINT NOT NULL,
+    tx_index INT NOT NULL,
+    PRIMARY KEY (tx_hash, policy_id, asset_name)
+);
+
+CREATE INDEX IF NOT EXISTS idx_tx_asset_policy_id ON tx_asset (policy_id, asset_name, slot DESC, tx_index DESC);
+CREATE INDEX IF NOT EXISTS idx_tx_asset_asset_name ON tx_asset (asset_name, slot DESC, tx_index DESC);
+CREATE INDEX IF NOT EXISTS idx_tx_asset_slot ON tx_asset (slot);
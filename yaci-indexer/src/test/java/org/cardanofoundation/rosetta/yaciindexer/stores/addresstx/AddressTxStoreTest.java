@@ -0,0 +1,148 @@
+package org.cardanofoundation.rosetta.yaciindexer.stores.addresstx;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.bloxbean.cardano.yaci.core.protocol.chainsync.messages.Point;
+import com.bloxbean.cardano.yaci.helper.model.Transaction;
+import com.bloxbean.cardano.yaci.store.client.utxo.UtxoClient;
+import com.bloxbean.cardano.yaci.store.common.domain.AddressUtxo;
+import com.bloxbean.cardano.yaci.store.common.domain.TxInput;
+import com.bloxbean.cardano.yaci.store.events.EventMetadata;
+import com.bloxbean.cardano.yaci.store.events.RollbackEvent;
+import com.bloxbean.cardano.yaci.store.events.TransactionEvent;
+import com.bloxbean.cardano.yaci.store.utxo.domain.AddressUtxoEvent;
+import com.bloxbean.cardano.yaci.store.utxo.domain.TxInputOutput;
+import org.assertj.core.api.Assertions;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.cardanofoundation.rosetta.yaciindexer.stores.addresstx.model.AddressTxDirection;
+import org.cardanofoundation.rosetta.yaciindexer.stores.addresstx.model.AddressTxEntity;
+import org.cardanofoundation.rosetta.yaciindexer.stores.addresstx.model.AddressTxRepository;
+
+import static org.mockito.ArgumentMatchers.anyList;
+
+@ExtendWith(MockitoExtension.class)
+class AddressTxStoreTest {
+
+  private static final String SENDER = "addr_sender";
+  private static final String RECEIVER = "addr_receiver";
+  private static final String STAKE = "stake_sender";
+
+  private AddressTxStore addressTxStore;
+
+  @Mock
+  private AddressTxRepository addressTxRepository;
+
+  @Mock
+  private UtxoClient utxoClient;
+
+  @Captor
+  private ArgumentCaptor<List<AddressTxEntity>> captor;
+
+  @BeforeEach
+  void setup() {
+    addressTxStore = new AddressTxStore(addressTxRepository, utxoClient);
+  }
+
+  @Test
+  void handleAddressUtxoEventTest() {
+    Mockito.when(utxoClient.getUtxosByIds(anyList()))
+        .thenReturn(List.of(utxo("txHash0", 0, SENDER, STAKE)));
+    // txHashX pays no address of the block, so the event positions differ from the block positions
+    addressTxStore.handleTransactionEvent(transactionEvent(metadata(100L, 1000L, false), "txHashX", "txHash1", "txHash2"));
+
+    TxInputOutput first = new TxInputOutput("txHash1", List.of(),
+        List.of(utxo("txHash1", 0, RECEIVER, null)));
+    TxInputOutput second = new TxInputOutput("txHash2",
+        List.of(TxInput.builder().txHash("txHash0").outputIndex(0).build()),
+        List.of(utxo("txHash2", 0, RECEIVER, null), utxo("txHash2", 1, RECEIVER, null), utxo("txHash2", 2, SENDER, STAKE)));
+    addressTxStore.handleAddressUtxoEvent(new AddressUtxoEvent(metadata(100L, 1000L, false), List.of(first, second)));
+
+    Mockito.verify(addressTxRepository).saveAll(captor.capture());
+    Assertions.assertThat(captor.getValue())
+        .containsExactlyInAnyOrder(
+            new AddressTxEntity(RECEIVER, "txHash1", AddressTxDirection.OUTPUT, null, 1000L, 1, 100L),
+            new AddressTxEntity(RECEIVER, "txHash2", AddressTxDirection.OUTPUT, null, 1000L, 2, 100L),
+            new AddressTxEntity(SENDER, "txHash2", AddressTxDirection.OUTPUT, STAKE, 1000L, 2, 100L),
+            new AddressTxEntity(SENDER, "txHash2", AddressTxDirection.INPUT, STAKE, 1000L, 2, 100L)
+        );
+  }
+
+  @Test
+  void handleAddressUtxoEvent_buffersUntilCommitInParallelMode() {
+    TxInputOutput txInputOutput = new TxInputOutput("txHash1", List.of(), List.of(utxo("txHash1", 0, RECEIVER, null)));
+
+    addressTxStore.handleTransactionEvent(transactionEvent(metadata(100L, 1000L, true), "txHash1"));
+    addressTxStore.handleAddressUtxoEvent(new AddressUtxoEvent(metadata(100L, 1000L, true), List.of(txInputOutput)));
+    Mockito.verifyNoInteractions(addressTxRepository);
+
+    addressTxStore.handleCommitEvent(null);
+    Mockito.verify(addressTxRepository).saveAll(captor.capture());
+    Assertions.assertThat(captor.getValue()).hasSize(1);
+  }
+
+  @Test
+  void handleAddressUtxoEvent_failsBlockWithoutTransactionEvent() {
+    TxInputOutput txInputOutput = new TxInputOutput("txHash1", List.of(), List.of(utxo("txHash1", 0, RECEIVER, null)));
+    AddressUtxoEvent event = new AddressUtxoEvent(metadata(100L, 1000L, false), List.of(txInputOutput));
+
+    Assertions.assertThatThrownBy(() -> addressTxStore.handleAddressUtxoEvent(event))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("No transaction event recorded for block 100");
+    Mockito.verifyNoInteractions(addressTxRepository);
+  }
+
+  @Test
+  void handleAddressUtxoEvent_propagatesSaveFailure() {
+    Mockito.when(addressTxRepository.saveAll(anyList())).thenThrow(new IllegalStateException("db down"));
+    TxInputOutput txInputOutput = new TxInputOutput("txHash1", List.of(), List.of(utxo("txHash1", 0, RECEIVER, null)));
+    AddressUtxoEvent event = new AddressUtxoEvent(metadata(100L, 1000L, false), List.of(txInputOutput));
+    addressTxStore.handleTransactionEvent(transactionEvent(metadata(100L, 1000L, false), "txHash1"));
+
+    Assertions.assertThatThrownBy(() -> addressTxStore.handleAddressUtxoEvent(event))
+        .hasMessage("db down");
+  }
+
+  @Test
+  void handleRollbackEventTest() {
+    RollbackEvent rollbackEvent = Mockito.mock(RollbackEvent.class);
+    Mockito.when(rollbackEvent.getRollbackTo()).thenReturn(new Point(1000L, "blockHash"));
+
+    addressTxStore.handleRollbackEvent(rollbackEvent);
+
+    Mockito.verify(addressTxRepository).deleteBySlotGreaterThan(1000L);
+  }
+
+  private static AddressUtxo utxo(String txHash, int outputIndex, String ownerAddr, String ownerStakeAddr) {
+    return AddressUtxo.builder()
+        .txHash(txHash)
+        .outputIndex(outputIndex)
+        .ownerAddr(ownerAddr)
+        .ownerStakeAddr(ownerStakeAddr)
+        .build();
+  }
+
+  private static TransactionEvent transactionEvent(EventMetadata metadata, String... txHashes) {
+    return TransactionEvent.builder()
+        .metadata(metadata)
+        .transactions(Stream.of(txHashes)
+            .map(txHash -> Transaction.builder().txHash(txHash).build())
+            .toList())
+        .build();
+  }
+
+  private static EventMetadata metadata(long block, long slot, boolean parallelMode) {
+    return EventMetadata.builder()
+        .block(block)
+        .slot(slot)
+        .parallelMode(parallelMode)
+        .build();
+  }
+
+}
@@ -0,0 +1,165 @@
+package org.cardanofoundation.rosetta.yaciindexer.stores.balance;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Set;
+
+import com.bloxbean.cardano.yaci.core.protocol.chainsync.messages.Point;
+import com.bloxbean.cardano.yaci.store.client.utxo.UtxoClient;
+import com.bloxbean.cardano.yaci.store.common.domain.AddressUtxo;
+import com.bloxbean.cardano.yaci.store.common.domain.Amt;
+import com.bloxbean.cardano.yaci.store.common.domain.TxInput;
+import com.bloxbean.cardano.yaci.store.events.EventMetadata;
+import com.bloxbean.cardano.yaci.store.events.RollbackEvent;
+import com.bloxbean.cardano.yaci.store.utxo.domain.AddressUtxoEvent;
+import com.bloxbean.cardano.yaci.store.utxo.domain.TxInputOutput;
+import org.assertj.core.api.Assertions;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.cardanofoundation.rosetta.yaciindexer.stores.balance.model.AddressBalanceDeltaEntity;
+import org.cardanofoundation.rosetta.yaciindexer.stores.balance.model.AddressBalanceDeltaRepository;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+@ExtendWith(MockitoExtension.class)
+class AddressBalanceDeltaStoreTest {
+
+  private static final String SENDER = "addr_sender";
+  private static final String RECEIVER = "addr_receiver";
+
+  private AddressBalanceDeltaStore addressBalanceDeltaStore;
+
+  @Mock
+  private AddressBalanceDeltaRepository addressBalanceDeltaRepository;
+
+  @Mock
+  private UtxoClient utxoClient;
+
+  @Captor
+  private ArgumentCaptor<List<AddressBalanceDeltaEntity>> captor;
+
+  @BeforeEach
+  void setup() {
+    addressBalanceDeltaStore = new AddressBalanceDeltaStore(addressBalanceDeltaRepository, utxoClient);
+  }
+
+  @Test
+  void handleAddressUtxoEventTest() {
+    Mockito.when(utxoClient.getUtxosByIds(anyList()))
+        .thenReturn(List.of(utxo(SENDER, 0, "lovelace", 10_000_000L)));
+    Mockito.when(addressBalanceDeltaRepository.findLatestBefore(Set.of(RECEIVER, SENDER), Set.of("lovelace"), 100L))
+        .thenReturn(List.of(delta(SENDER, 90L, 10_000_000L, 25_000_000L)));
+
+    TxInputOutput txInputOutput = new TxInputOutput("txHash2",
+        List.of(TxInput.builder().txHash("txHash1").outputIndex(0).build()),
+        List.of(utxo(RECEIVER, 0, "lovelace", 3_000_000L), utxo(SENDER, 1, "lovelace", 6_800_000L)));
+    addressBalanceDeltaStore.handleAddressUtxoEvent(new AddressUtxoEvent(metadata(100L, 1000L, false), List.of(txInputOutput)));
+
+    Mockito.verify(addressBalanceDeltaRepository).saveAll(captor.capture());
+    Assertions.assertThat(captor.getValue())
+        .containsExactlyInAnyOrder(
+            new AddressBalanceDeltaEntity(RECEIVER, "lovelace", 100L, 1000L, BigInteger.valueOf(3_000_000L), BigInteger.valueOf(3_000_000L)),
+            new AddressBalanceDeltaEntity(SENDER, "lovelace", 100L, 1000L, BigInteger.valueOf(-3_200_000L), BigInteger.valueOf(21_800_000L))
+        );
+  }
+
+  @Test
+  void handleAddressUtxoEvent_buffersUntilCommitInParallelMode() {
+    TxInputOutput txInputOutput = new TxInputOutput("txHash1", List.of(), List.of(utxo(RECEIVER, 0, "lovelace", 1L)));
+
+    addressBalanceDeltaStore.handleAddressUtxoEvent(new AddressUtxoEvent(metadata(100L, 1000L, true), List.of(txInputOutput)));
+    Mockito.verifyNoInteractions(addressBalanceDeltaRepository);
+
+    addressBalanceDeltaStore.handleCommitEvent(null);
+    Mockito.verify(addressBalanceDeltaRepository).saveAll(captor.capture());
+    Assertions.assertThat(captor.getValue()).hasSize(1);
+  }
+
+  @Test
+  void handleCommitEvent_carriesBalancesForwardThroughTheBatch() {
+    Mockito.when(addressBalanceDeltaRepository.findLatestBefore(Set.of(RECEIVER), Set.of("lovelace"), 100L))
+        .thenReturn(List.of(delta(RECEIVER, 90L, 1L, 5L)));
+    TxInputOutput first = new TxInputOutput("txHash1", List.of(), List.of(utxo(RECEIVER, 0, "lovelace", 2L)));
+    TxInputOutput second = new TxInputOutput("txHash2", List.of(), List.of(utxo(RECEIVER, 0, "lovelace", 3L)));
+
+    // handed over out of order, applied in block order
+    addressBalanceDeltaStore.handleAddressUtxoEvent(new AddressUtxoEvent(metadata(101L, 1010L, true), List.of(second)));
+    addressBalanceDeltaStore.handleAddressUtxoEvent(new AddressUtxoEvent(metadata(100L, 1000L, true), List.of(first)));
+    addressBalanceDeltaStore.handleCommitEvent(null);
+
+    Mockito.verify(addressBalanceDeltaRepository).findLatestBefore(anyCollection(), anyCollection(), anyLong());
+    Mockito.verify(addressBalanceDeltaRepository).saveAll(captor.capture());
+    Assertions.assertThat(captor.getValue())
+        .containsExactly(
+            new AddressBalanceDeltaEntity(RECEIVER, "lovelace", 100L, 1000L, BigInteger.valueOf(2L), BigInteger.valueOf(7L)),
+            new AddressBalanceDeltaEntity(RECEIVER, "lovelace", 101L, 1010L, BigInteger.valueOf(3L), BigInteger.valueOf(10L))
+        );
+  }
+
+  @Test
+  void handleAddressUtxoEvent_failsBlockWhenSpentOutputIsNotResolved() {
+    Mockito.when(utxoClient.getUtxosByIds(anyList())).thenReturn(List.of());
+    TxInputOutput txInputOutput = new TxInputOutput("txHash2",
+        List.of(TxInput.builder().txHash("txHash1").outputIndex(0).build()),
+        List.of(utxo(RECEIVER, 0, "lovelace", 3_000_000L)));
+    AddressUtxoEvent event = new AddressUtxoEvent(metadata(100L, 1000L, false), List.of(txInputOutput));
+
+    Assertions.assertThatThrownBy(() -> addressBalanceDeltaStore.handleAddressUtxoEvent(event))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("Resolved 0 of 1 spent outputs in block 100");
+    Mockito.verify(addressBalanceDeltaRepository, Mockito.never()).saveAll(anyList());
+  }
+
+  @Test
+  void handleAddressUtxoEvent_propagatesSaveFailure() {
+    Mockito.when(addressBalanceDeltaRepository.saveAll(anyList())).thenThrow(new IllegalStateException("db down"));
+    TxInputOutput txInputOutput = new TxInputOutput("txHash1", List.of(), List.of(utxo(RECEIVER, 0, "lovelace", 1L)));
+    AddressUtxoEvent event = new AddressUtxoEvent(metadata(100L, 1000L, false), List.of(txInputOutput));
+
+    Assertions.assertThatThrownBy(() -> addressBalanceDeltaStore.handleAddressUtxoEvent(event))
+        .hasMessage("db down");
+  }
+
+  @Test
+  void handleRollbackEventTest() {
+    RollbackEvent rollbackEvent = Mockito.mock(RollbackEvent.class);
+    Mockito.when(rollbackEvent.getRollbackTo()).thenReturn(new Point(1000L, "blockHash"));
+
+    addressBalanceDeltaStore.handleRollbackEvent(rollbackEvent);
+
+    Mockito.verify(addressBalanceDeltaRepository).deleteBySlotGreaterThan(1000L);
+  }
+
+  private static AddressUtxo utxo(String ownerAddr, int outputIndex, String unit, long quantity) {
+    return AddressUtxo.builder()
+        .txHash("txHash")
+        .outputIndex(outputIndex)
+        .ownerAddr(ownerAddr)
+        .amounts(List.of(Amt.builder()
+            .unit(unit)
+            .quantity(BigInteger.valueOf(quantity))
+            .build()))
+        .build();
+  }
+
+  private static AddressBalanceDeltaEntity delta(String address, long blockNumber, long quantity, long balance) {
+    return new AddressBalanceDeltaEntity(address, "lovelace", blockNumber, blockNumber * 10,
+        BigInteger.valueOf(quantity), BigInteger.valueOf(balance));
+  }
+
+  private static EventMetadata metadata(long block, long slot, boolean parallelMode) {
+    return EventMetadata.builder()
+        .block(block)
+        .slot(slot)
+        .parallelMode(parallelMode)
+        .build();
+  }
+
+}
@@ -0,0 +1,159 @@
+package org.cardanofoundation.rosetta.yaciindexer.stores.txasset;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.bloxbean.cardano.yaci.core.protocol.chainsync.messages.Point;
+import com.bloxbean.cardano.yaci.helper.model.Transaction;
+import com.bloxbean.cardano.yaci.store.common.domain.AddressUtxo;
+import com.bloxbean.cardano.yaci.store.common.domain.Amt;
+import com.bloxbean.cardano.yaci.store.events.EventMetadata;
+import com.bloxbean.cardano.yaci.store.events.RollbackEvent;
+import com.bloxbean.cardano.yaci.store.events.TransactionEvent;
+import com.bloxbean.cardano.yaci.store.utxo.domain.AddressUtxoEvent;
+import com.bloxbean.cardano.yaci.store.utxo.domain.TxInputOutput;
+import org.assertj.core.api.Assertions;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.cardanofoundation.rosetta.yaciindexer.stores.txasset.model.TxAssetEntity;
+import org.cardanofoundation.rosetta.yaciindexer.stores.txasset.model.TxAssetRepository;
+
+import static org.mockito.ArgumentMatchers.anyList;
+
+@ExtendWith(MockitoExtension.class)
+class TxAssetStoreTest {
+
+  private static final String POLICY_ID = "29d222ce763455e3d7a09a665ce554f00ac89d2e99a1a83d267170c6";
+  private static final String MIN_HEX = "4d494e";
+
+  private TxAssetStore txAssetStore;
+
+  @Mock
+  private TxAssetRepository txAssetRepository;
+
+  @Captor
+  private ArgumentCaptor<List<TxAssetEntity>> captor;
+
+  @BeforeEach
+  void setup() {
+    txAssetStore = new TxAssetStore(txAssetRepository);
+  }
+
+  @Test
+  void handleAddressUtxoEventTest() {
+    // txHashX pays no address of the block, so the event positions differ from the block positions
+    txAssetStore.handleTransactionEvent(transactionEvent(metadata(1000L), "txHashX", "txHash1", "txHash2"));
+    TxInputOutput first = new TxInputOutput("txHash1", List.of(),
+        List.of(utxo("txHash1", 0, lovelace())));
+    TxInputOutput second = new TxInputOutput("txHash2", List.of(),
+        List.of(utxo("txHash2", 0, lovelace(), min()), utxo("txHash2", 1, min())));
+    txAssetStore.handleAddressUtxoEvent(new AddressUtxoEvent(metadata(1000L), List.of(first, second)));
+
+    Mockito.verify(txAssetRepository).saveAll(captor.capture());
+    Assertions.assertThat(captor.getValue())
+        .containsExactly(new TxAssetEntity("txHash2", POLICY_ID, MIN_HEX, 1000L, 2));
+  }
+
+  @Test
+  void handleAddressUtxoEvent_failsBlockWithoutTransactionEvent() {
+    TxInputOutput txInputOutput = new TxInputOutput("txHash1", List.of(), List.of(utxo("txHash1", 0, min())));
+    AddressUtxoEvent event = new AddressUtxoEvent(metadata(1000L), List.of(txInputOutput));
+
+    Assertions.assertThatThrownBy(() -> txAssetStore.handleAddressUtxoEvent(event))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("No transaction event recorded for block 100");
+    Mockito.verifyNoInteractions(txAssetRepository);
+  }
+
+  @Test
+  void handleAddressUtxoEvent_propagatesSaveFailure() {
+    Mockito.when(txAssetRepository.saveAll(anyList())).thenThrow(new IllegalStateException("db down"));
+    txAssetStore.handleTransactionEvent(transactionEvent(metadata(1000L), "txHash1"));
+    TxInputOutput txInputOutput = new TxInputOutput("txHash1", List.of(), List.of(utxo("txHash1", 0, min())));
+    AddressUtxoEvent event = new AddressUtxoEvent(metadata(1000L), List.of(txInputOutput));
+
+    Assertions.assertThatThrownBy(() -> txAssetStore.handleAddressUtxoEvent(event))
+        .hasMessage("db down");
+  }
+
+  @Test
+  void handleCommitEvent_dropsIndexesOfBlocksWithoutAddressUtxoEvent() {
+    TxInputOutput txInputOutput = new TxInputOutput("txHash1", List.of(), List.of(utxo("txHash1", 0, min())));
+    txAssetStore.handleTransactionEvent(transactionEvent(metadata(1000L), "txHash1"));
+
+    txAssetStore.handleCommitEvent(null);
+    AddressUtxoEvent event = new AddressUtxoEvent(metadata(1000L), List.of(txInputOutput));
+
+    Assertions.assertThatThrownBy(() -> txAssetStore.handleAddressUtxoEvent(event))
+        .isInstanceOf(IllegalStateException.class);
+    Mockito.verifyNoInteractions(txAssetRepository);
+  }
+
+  @Test
+  void handleAddressUtxoEvent_skipsBlocksWithoutNativeAssets() {
+    txAssetStore.handleTransactionEvent(transactionEvent(metadata(1000L), "txHash1"));
+    TxInputOutput txInputOutput = new TxInputOutput("txHash1", List.of(), List.of(utxo("txHash1", 0, lovelace())));
+
+    txAssetStore.handleAddressUtxoEvent(new AddressUtxoEvent(metadata(1000L), List.of(txInputOutput)));
+
+    Mockito.verifyNoInteractions(txAssetRepository);
+  }
+
+  @Test
+  void handleRollbackEventTest() {
+    RollbackEvent rollbackEvent = Mockito.mock(RollbackEvent.class);
+    Mockito.when(rollbackEvent.getRollbackTo()).thenReturn(new Point(1000L, "blockHash"));
+
+    txAssetStore.handleRollbackEvent(rollbackEvent);
+
+    Mockito.verify(txAssetRepository).deleteBySlotGreaterThan(1000L);
+  }
+
+  private static Amt lovelace() {
+    return Amt.builder()
+        .unit("lovelace")
+        .quantity(BigInteger.valueOf(1_000_000))
+        .build();
+  }
+
+  private static Amt min() {
+    return Amt.builder()
+        .unit(POLICY_ID + MIN_HEX)
+        .policyId(POLICY_ID)
+        .assetName("MIN")
+        .quantity(BigInteger.TEN)
+        .build();
+  }
+
+  private static AddressUtxo utxo(String txHash, int outputIndex, Amt... amounts) {
+    return AddressUtxo.builder()
+        .txHash(txHash)
+        .outputIndex(outputIndex)
+        .ownerAddr("addr_receiver")
+        .amounts(List.of(amounts))
+        .build();
+  }
+
+  private static TransactionEvent transactionEvent(EventMetadata metadata, String... txHashes) {
+    return TransactionEvent.builder()
+        .metadata(metadata)
+        .transactions(Stream.of(txHashes)
+            .map(txHash -> Transaction.builder().txHash(txHash).build())
+            .toList())
+        .build();
+  }
+
+  private static EventMetadata metadata(long slot) {
+    return EventMetadata.builder()
+        .block(100L)
+        .slot(slot)
+        .build();
+  }
+
+}